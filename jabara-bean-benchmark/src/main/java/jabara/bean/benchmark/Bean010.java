@@ -0,0 +1,107 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.annotation.Hidden;
+
+/**
+ * プロパティが10個のベンチマーク用のBeanです. <br>
+ * 型はint、long、double、{@link String}の順に繰り返し、10個に1個には{@link Hidden}が付与されています. <br>
+ * 
+ * @author jabaraster
+ */
+@SuppressWarnings("javadoc")
+public class Bean010 {
+    private int    p000;
+    private long   p001;
+    private double p002;
+    private String p003;
+    private int    p004;
+    private long   p005;
+    private double p006;
+    private String p007;
+    private int    p008;
+    private long   p009;
+
+    public int getP000() {
+        return this.p000;
+    }
+
+    public void setP000(final int pValue) {
+        this.p000 = pValue;
+    }
+
+    public long getP001() {
+        return this.p001;
+    }
+
+    public void setP001(final long pValue) {
+        this.p001 = pValue;
+    }
+
+    public double getP002() {
+        return this.p002;
+    }
+
+    public void setP002(final double pValue) {
+        this.p002 = pValue;
+    }
+
+    public String getP003() {
+        return this.p003;
+    }
+
+    public void setP003(final String pValue) {
+        this.p003 = pValue;
+    }
+
+    public int getP004() {
+        return this.p004;
+    }
+
+    public void setP004(final int pValue) {
+        this.p004 = pValue;
+    }
+
+    public long getP005() {
+        return this.p005;
+    }
+
+    public void setP005(final long pValue) {
+        this.p005 = pValue;
+    }
+
+    public double getP006() {
+        return this.p006;
+    }
+
+    public void setP006(final double pValue) {
+        this.p006 = pValue;
+    }
+
+    public String getP007() {
+        return this.p007;
+    }
+
+    public void setP007(final String pValue) {
+        this.p007 = pValue;
+    }
+
+    public int getP008() {
+        return this.p008;
+    }
+
+    public void setP008(final int pValue) {
+        this.p008 = pValue;
+    }
+
+    @Hidden
+    public long getP009() {
+        return this.p009;
+    }
+
+    public void setP009(final long pValue) {
+        this.p009 = pValue;
+    }
+}
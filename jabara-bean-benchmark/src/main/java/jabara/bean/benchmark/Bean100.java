@@ -0,0 +1,926 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.annotation.Hidden;
+
+/**
+ * プロパティが100個のベンチマーク用のBeanです. <br>
+ * 型はint、long、double、{@link String}の順に繰り返し、10個に1個には{@link Hidden}が付与されています. <br>
+ * 
+ * @author jabaraster
+ */
+@SuppressWarnings("javadoc")
+public class Bean100 {
+    private int    p000;
+    private long   p001;
+    private double p002;
+    private String p003;
+    private int    p004;
+    private long   p005;
+    private double p006;
+    private String p007;
+    private int    p008;
+    private long   p009;
+    private double p010;
+    private String p011;
+    private int    p012;
+    private long   p013;
+    private double p014;
+    private String p015;
+    private int    p016;
+    private long   p017;
+    private double p018;
+    private String p019;
+    private int    p020;
+    private long   p021;
+    private double p022;
+    private String p023;
+    private int    p024;
+    private long   p025;
+    private double p026;
+    private String p027;
+    private int    p028;
+    private long   p029;
+    private double p030;
+    private String p031;
+    private int    p032;
+    private long   p033;
+    private double p034;
+    private String p035;
+    private int    p036;
+    private long   p037;
+    private double p038;
+    private String p039;
+    private int    p040;
+    private long   p041;
+    private double p042;
+    private String p043;
+    private int    p044;
+    private long   p045;
+    private double p046;
+    private String p047;
+    private int    p048;
+    private long   p049;
+    private double p050;
+    private String p051;
+    private int    p052;
+    private long   p053;
+    private double p054;
+    private String p055;
+    private int    p056;
+    private long   p057;
+    private double p058;
+    private String p059;
+    private int    p060;
+    private long   p061;
+    private double p062;
+    private String p063;
+    private int    p064;
+    private long   p065;
+    private double p066;
+    private String p067;
+    private int    p068;
+    private long   p069;
+    private double p070;
+    private String p071;
+    private int    p072;
+    private long   p073;
+    private double p074;
+    private String p075;
+    private int    p076;
+    private long   p077;
+    private double p078;
+    private String p079;
+    private int    p080;
+    private long   p081;
+    private double p082;
+    private String p083;
+    private int    p084;
+    private long   p085;
+    private double p086;
+    private String p087;
+    private int    p088;
+    private long   p089;
+    private double p090;
+    private String p091;
+    private int    p092;
+    private long   p093;
+    private double p094;
+    private String p095;
+    private int    p096;
+    private long   p097;
+    private double p098;
+    private String p099;
+
+    public int getP000() {
+        return this.p000;
+    }
+
+    public void setP000(final int pValue) {
+        this.p000 = pValue;
+    }
+
+    public long getP001() {
+        return this.p001;
+    }
+
+    public void setP001(final long pValue) {
+        this.p001 = pValue;
+    }
+
+    public double getP002() {
+        return this.p002;
+    }
+
+    public void setP002(final double pValue) {
+        this.p002 = pValue;
+    }
+
+    public String getP003() {
+        return this.p003;
+    }
+
+    public void setP003(final String pValue) {
+        this.p003 = pValue;
+    }
+
+    public int getP004() {
+        return this.p004;
+    }
+
+    public void setP004(final int pValue) {
+        this.p004 = pValue;
+    }
+
+    public long getP005() {
+        return this.p005;
+    }
+
+    public void setP005(final long pValue) {
+        this.p005 = pValue;
+    }
+
+    public double getP006() {
+        return this.p006;
+    }
+
+    public void setP006(final double pValue) {
+        this.p006 = pValue;
+    }
+
+    public String getP007() {
+        return this.p007;
+    }
+
+    public void setP007(final String pValue) {
+        this.p007 = pValue;
+    }
+
+    public int getP008() {
+        return this.p008;
+    }
+
+    public void setP008(final int pValue) {
+        this.p008 = pValue;
+    }
+
+    @Hidden
+    public long getP009() {
+        return this.p009;
+    }
+
+    public void setP009(final long pValue) {
+        this.p009 = pValue;
+    }
+
+    public double getP010() {
+        return this.p010;
+    }
+
+    public void setP010(final double pValue) {
+        this.p010 = pValue;
+    }
+
+    public String getP011() {
+        return this.p011;
+    }
+
+    public void setP011(final String pValue) {
+        this.p011 = pValue;
+    }
+
+    public int getP012() {
+        return this.p012;
+    }
+
+    public void setP012(final int pValue) {
+        this.p012 = pValue;
+    }
+
+    public long getP013() {
+        return this.p013;
+    }
+
+    public void setP013(final long pValue) {
+        this.p013 = pValue;
+    }
+
+    public double getP014() {
+        return this.p014;
+    }
+
+    public void setP014(final double pValue) {
+        this.p014 = pValue;
+    }
+
+    public String getP015() {
+        return this.p015;
+    }
+
+    public void setP015(final String pValue) {
+        this.p015 = pValue;
+    }
+
+    public int getP016() {
+        return this.p016;
+    }
+
+    public void setP016(final int pValue) {
+        this.p016 = pValue;
+    }
+
+    public long getP017() {
+        return this.p017;
+    }
+
+    public void setP017(final long pValue) {
+        this.p017 = pValue;
+    }
+
+    public double getP018() {
+        return this.p018;
+    }
+
+    public void setP018(final double pValue) {
+        this.p018 = pValue;
+    }
+
+    @Hidden
+    public String getP019() {
+        return this.p019;
+    }
+
+    public void setP019(final String pValue) {
+        this.p019 = pValue;
+    }
+
+    public int getP020() {
+        return this.p020;
+    }
+
+    public void setP020(final int pValue) {
+        this.p020 = pValue;
+    }
+
+    public long getP021() {
+        return this.p021;
+    }
+
+    public void setP021(final long pValue) {
+        this.p021 = pValue;
+    }
+
+    public double getP022() {
+        return this.p022;
+    }
+
+    public void setP022(final double pValue) {
+        this.p022 = pValue;
+    }
+
+    public String getP023() {
+        return this.p023;
+    }
+
+    public void setP023(final String pValue) {
+        this.p023 = pValue;
+    }
+
+    public int getP024() {
+        return this.p024;
+    }
+
+    public void setP024(final int pValue) {
+        this.p024 = pValue;
+    }
+
+    public long getP025() {
+        return this.p025;
+    }
+
+    public void setP025(final long pValue) {
+        this.p025 = pValue;
+    }
+
+    public double getP026() {
+        return this.p026;
+    }
+
+    public void setP026(final double pValue) {
+        this.p026 = pValue;
+    }
+
+    public String getP027() {
+        return this.p027;
+    }
+
+    public void setP027(final String pValue) {
+        this.p027 = pValue;
+    }
+
+    public int getP028() {
+        return this.p028;
+    }
+
+    public void setP028(final int pValue) {
+        this.p028 = pValue;
+    }
+
+    @Hidden
+    public long getP029() {
+        return this.p029;
+    }
+
+    public void setP029(final long pValue) {
+        this.p029 = pValue;
+    }
+
+    public double getP030() {
+        return this.p030;
+    }
+
+    public void setP030(final double pValue) {
+        this.p030 = pValue;
+    }
+
+    public String getP031() {
+        return this.p031;
+    }
+
+    public void setP031(final String pValue) {
+        this.p031 = pValue;
+    }
+
+    public int getP032() {
+        return this.p032;
+    }
+
+    public void setP032(final int pValue) {
+        this.p032 = pValue;
+    }
+
+    public long getP033() {
+        return this.p033;
+    }
+
+    public void setP033(final long pValue) {
+        this.p033 = pValue;
+    }
+
+    public double getP034() {
+        return this.p034;
+    }
+
+    public void setP034(final double pValue) {
+        this.p034 = pValue;
+    }
+
+    public String getP035() {
+        return this.p035;
+    }
+
+    public void setP035(final String pValue) {
+        this.p035 = pValue;
+    }
+
+    public int getP036() {
+        return this.p036;
+    }
+
+    public void setP036(final int pValue) {
+        this.p036 = pValue;
+    }
+
+    public long getP037() {
+        return this.p037;
+    }
+
+    public void setP037(final long pValue) {
+        this.p037 = pValue;
+    }
+
+    public double getP038() {
+        return this.p038;
+    }
+
+    public void setP038(final double pValue) {
+        this.p038 = pValue;
+    }
+
+    @Hidden
+    public String getP039() {
+        return this.p039;
+    }
+
+    public void setP039(final String pValue) {
+        this.p039 = pValue;
+    }
+
+    public int getP040() {
+        return this.p040;
+    }
+
+    public void setP040(final int pValue) {
+        this.p040 = pValue;
+    }
+
+    public long getP041() {
+        return this.p041;
+    }
+
+    public void setP041(final long pValue) {
+        this.p041 = pValue;
+    }
+
+    public double getP042() {
+        return this.p042;
+    }
+
+    public void setP042(final double pValue) {
+        this.p042 = pValue;
+    }
+
+    public String getP043() {
+        return this.p043;
+    }
+
+    public void setP043(final String pValue) {
+        this.p043 = pValue;
+    }
+
+    public int getP044() {
+        return this.p044;
+    }
+
+    public void setP044(final int pValue) {
+        this.p044 = pValue;
+    }
+
+    public long getP045() {
+        return this.p045;
+    }
+
+    public void setP045(final long pValue) {
+        this.p045 = pValue;
+    }
+
+    public double getP046() {
+        return this.p046;
+    }
+
+    public void setP046(final double pValue) {
+        this.p046 = pValue;
+    }
+
+    public String getP047() {
+        return this.p047;
+    }
+
+    public void setP047(final String pValue) {
+        this.p047 = pValue;
+    }
+
+    public int getP048() {
+        return this.p048;
+    }
+
+    public void setP048(final int pValue) {
+        this.p048 = pValue;
+    }
+
+    @Hidden
+    public long getP049() {
+        return this.p049;
+    }
+
+    public void setP049(final long pValue) {
+        this.p049 = pValue;
+    }
+
+    public double getP050() {
+        return this.p050;
+    }
+
+    public void setP050(final double pValue) {
+        this.p050 = pValue;
+    }
+
+    public String getP051() {
+        return this.p051;
+    }
+
+    public void setP051(final String pValue) {
+        this.p051 = pValue;
+    }
+
+    public int getP052() {
+        return this.p052;
+    }
+
+    public void setP052(final int pValue) {
+        this.p052 = pValue;
+    }
+
+    public long getP053() {
+        return this.p053;
+    }
+
+    public void setP053(final long pValue) {
+        this.p053 = pValue;
+    }
+
+    public double getP054() {
+        return this.p054;
+    }
+
+    public void setP054(final double pValue) {
+        this.p054 = pValue;
+    }
+
+    public String getP055() {
+        return this.p055;
+    }
+
+    public void setP055(final String pValue) {
+        this.p055 = pValue;
+    }
+
+    public int getP056() {
+        return this.p056;
+    }
+
+    public void setP056(final int pValue) {
+        this.p056 = pValue;
+    }
+
+    public long getP057() {
+        return this.p057;
+    }
+
+    public void setP057(final long pValue) {
+        this.p057 = pValue;
+    }
+
+    public double getP058() {
+        return this.p058;
+    }
+
+    public void setP058(final double pValue) {
+        this.p058 = pValue;
+    }
+
+    @Hidden
+    public String getP059() {
+        return this.p059;
+    }
+
+    public void setP059(final String pValue) {
+        this.p059 = pValue;
+    }
+
+    public int getP060() {
+        return this.p060;
+    }
+
+    public void setP060(final int pValue) {
+        this.p060 = pValue;
+    }
+
+    public long getP061() {
+        return this.p061;
+    }
+
+    public void setP061(final long pValue) {
+        this.p061 = pValue;
+    }
+
+    public double getP062() {
+        return this.p062;
+    }
+
+    public void setP062(final double pValue) {
+        this.p062 = pValue;
+    }
+
+    public String getP063() {
+        return this.p063;
+    }
+
+    public void setP063(final String pValue) {
+        this.p063 = pValue;
+    }
+
+    public int getP064() {
+        return this.p064;
+    }
+
+    public void setP064(final int pValue) {
+        this.p064 = pValue;
+    }
+
+    public long getP065() {
+        return this.p065;
+    }
+
+    public void setP065(final long pValue) {
+        this.p065 = pValue;
+    }
+
+    public double getP066() {
+        return this.p066;
+    }
+
+    public void setP066(final double pValue) {
+        this.p066 = pValue;
+    }
+
+    public String getP067() {
+        return this.p067;
+    }
+
+    public void setP067(final String pValue) {
+        this.p067 = pValue;
+    }
+
+    public int getP068() {
+        return this.p068;
+    }
+
+    public void setP068(final int pValue) {
+        this.p068 = pValue;
+    }
+
+    @Hidden
+    public long getP069() {
+        return this.p069;
+    }
+
+    public void setP069(final long pValue) {
+        this.p069 = pValue;
+    }
+
+    public double getP070() {
+        return this.p070;
+    }
+
+    public void setP070(final double pValue) {
+        this.p070 = pValue;
+    }
+
+    public String getP071() {
+        return this.p071;
+    }
+
+    public void setP071(final String pValue) {
+        this.p071 = pValue;
+    }
+
+    public int getP072() {
+        return this.p072;
+    }
+
+    public void setP072(final int pValue) {
+        this.p072 = pValue;
+    }
+
+    public long getP073() {
+        return this.p073;
+    }
+
+    public void setP073(final long pValue) {
+        this.p073 = pValue;
+    }
+
+    public double getP074() {
+        return this.p074;
+    }
+
+    public void setP074(final double pValue) {
+        this.p074 = pValue;
+    }
+
+    public String getP075() {
+        return this.p075;
+    }
+
+    public void setP075(final String pValue) {
+        this.p075 = pValue;
+    }
+
+    public int getP076() {
+        return this.p076;
+    }
+
+    public void setP076(final int pValue) {
+        this.p076 = pValue;
+    }
+
+    public long getP077() {
+        return this.p077;
+    }
+
+    public void setP077(final long pValue) {
+        this.p077 = pValue;
+    }
+
+    public double getP078() {
+        return this.p078;
+    }
+
+    public void setP078(final double pValue) {
+        this.p078 = pValue;
+    }
+
+    @Hidden
+    public String getP079() {
+        return this.p079;
+    }
+
+    public void setP079(final String pValue) {
+        this.p079 = pValue;
+    }
+
+    public int getP080() {
+        return this.p080;
+    }
+
+    public void setP080(final int pValue) {
+        this.p080 = pValue;
+    }
+
+    public long getP081() {
+        return this.p081;
+    }
+
+    public void setP081(final long pValue) {
+        this.p081 = pValue;
+    }
+
+    public double getP082() {
+        return this.p082;
+    }
+
+    public void setP082(final double pValue) {
+        this.p082 = pValue;
+    }
+
+    public String getP083() {
+        return this.p083;
+    }
+
+    public void setP083(final String pValue) {
+        this.p083 = pValue;
+    }
+
+    public int getP084() {
+        return this.p084;
+    }
+
+    public void setP084(final int pValue) {
+        this.p084 = pValue;
+    }
+
+    public long getP085() {
+        return this.p085;
+    }
+
+    public void setP085(final long pValue) {
+        this.p085 = pValue;
+    }
+
+    public double getP086() {
+        return this.p086;
+    }
+
+    public void setP086(final double pValue) {
+        this.p086 = pValue;
+    }
+
+    public String getP087() {
+        return this.p087;
+    }
+
+    public void setP087(final String pValue) {
+        this.p087 = pValue;
+    }
+
+    public int getP088() {
+        return this.p088;
+    }
+
+    public void setP088(final int pValue) {
+        this.p088 = pValue;
+    }
+
+    @Hidden
+    public long getP089() {
+        return this.p089;
+    }
+
+    public void setP089(final long pValue) {
+        this.p089 = pValue;
+    }
+
+    public double getP090() {
+        return this.p090;
+    }
+
+    public void setP090(final double pValue) {
+        this.p090 = pValue;
+    }
+
+    public String getP091() {
+        return this.p091;
+    }
+
+    public void setP091(final String pValue) {
+        this.p091 = pValue;
+    }
+
+    public int getP092() {
+        return this.p092;
+    }
+
+    public void setP092(final int pValue) {
+        this.p092 = pValue;
+    }
+
+    public long getP093() {
+        return this.p093;
+    }
+
+    public void setP093(final long pValue) {
+        this.p093 = pValue;
+    }
+
+    public double getP094() {
+        return this.p094;
+    }
+
+    public void setP094(final double pValue) {
+        this.p094 = pValue;
+    }
+
+    public String getP095() {
+        return this.p095;
+    }
+
+    public void setP095(final String pValue) {
+        this.p095 = pValue;
+    }
+
+    public int getP096() {
+        return this.p096;
+    }
+
+    public void setP096(final int pValue) {
+        this.p096 = pValue;
+    }
+
+    public long getP097() {
+        return this.p097;
+    }
+
+    public void setP097(final long pValue) {
+        this.p097 = pValue;
+    }
+
+    public double getP098() {
+        return this.p098;
+    }
+
+    public void setP098(final double pValue) {
+        this.p098 = pValue;
+    }
+
+    @Hidden
+    public String getP099() {
+        return this.p099;
+    }
+
+    public void setP099(final String pValue) {
+        this.p099 = pValue;
+    }
+}
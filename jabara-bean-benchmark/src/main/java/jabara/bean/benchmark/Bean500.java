@@ -0,0 +1,4566 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.annotation.Hidden;
+
+/**
+ * プロパティが500個のベンチマーク用のBeanです. <br>
+ * 型はint、long、double、{@link String}の順に繰り返し、10個に1個には{@link Hidden}が付与されています. <br>
+ * 
+ * @author jabaraster
+ */
+@SuppressWarnings("javadoc")
+public class Bean500 {
+    private int    p000;
+    private long   p001;
+    private double p002;
+    private String p003;
+    private int    p004;
+    private long   p005;
+    private double p006;
+    private String p007;
+    private int    p008;
+    private long   p009;
+    private double p010;
+    private String p011;
+    private int    p012;
+    private long   p013;
+    private double p014;
+    private String p015;
+    private int    p016;
+    private long   p017;
+    private double p018;
+    private String p019;
+    private int    p020;
+    private long   p021;
+    private double p022;
+    private String p023;
+    private int    p024;
+    private long   p025;
+    private double p026;
+    private String p027;
+    private int    p028;
+    private long   p029;
+    private double p030;
+    private String p031;
+    private int    p032;
+    private long   p033;
+    private double p034;
+    private String p035;
+    private int    p036;
+    private long   p037;
+    private double p038;
+    private String p039;
+    private int    p040;
+    private long   p041;
+    private double p042;
+    private String p043;
+    private int    p044;
+    private long   p045;
+    private double p046;
+    private String p047;
+    private int    p048;
+    private long   p049;
+    private double p050;
+    private String p051;
+    private int    p052;
+    private long   p053;
+    private double p054;
+    private String p055;
+    private int    p056;
+    private long   p057;
+    private double p058;
+    private String p059;
+    private int    p060;
+    private long   p061;
+    private double p062;
+    private String p063;
+    private int    p064;
+    private long   p065;
+    private double p066;
+    private String p067;
+    private int    p068;
+    private long   p069;
+    private double p070;
+    private String p071;
+    private int    p072;
+    private long   p073;
+    private double p074;
+    private String p075;
+    private int    p076;
+    private long   p077;
+    private double p078;
+    private String p079;
+    private int    p080;
+    private long   p081;
+    private double p082;
+    private String p083;
+    private int    p084;
+    private long   p085;
+    private double p086;
+    private String p087;
+    private int    p088;
+    private long   p089;
+    private double p090;
+    private String p091;
+    private int    p092;
+    private long   p093;
+    private double p094;
+    private String p095;
+    private int    p096;
+    private long   p097;
+    private double p098;
+    private String p099;
+    private int    p100;
+    private long   p101;
+    private double p102;
+    private String p103;
+    private int    p104;
+    private long   p105;
+    private double p106;
+    private String p107;
+    private int    p108;
+    private long   p109;
+    private double p110;
+    private String p111;
+    private int    p112;
+    private long   p113;
+    private double p114;
+    private String p115;
+    private int    p116;
+    private long   p117;
+    private double p118;
+    private String p119;
+    private int    p120;
+    private long   p121;
+    private double p122;
+    private String p123;
+    private int    p124;
+    private long   p125;
+    private double p126;
+    private String p127;
+    private int    p128;
+    private long   p129;
+    private double p130;
+    private String p131;
+    private int    p132;
+    private long   p133;
+    private double p134;
+    private String p135;
+    private int    p136;
+    private long   p137;
+    private double p138;
+    private String p139;
+    private int    p140;
+    private long   p141;
+    private double p142;
+    private String p143;
+    private int    p144;
+    private long   p145;
+    private double p146;
+    private String p147;
+    private int    p148;
+    private long   p149;
+    private double p150;
+    private String p151;
+    private int    p152;
+    private long   p153;
+    private double p154;
+    private String p155;
+    private int    p156;
+    private long   p157;
+    private double p158;
+    private String p159;
+    private int    p160;
+    private long   p161;
+    private double p162;
+    private String p163;
+    private int    p164;
+    private long   p165;
+    private double p166;
+    private String p167;
+    private int    p168;
+    private long   p169;
+    private double p170;
+    private String p171;
+    private int    p172;
+    private long   p173;
+    private double p174;
+    private String p175;
+    private int    p176;
+    private long   p177;
+    private double p178;
+    private String p179;
+    private int    p180;
+    private long   p181;
+    private double p182;
+    private String p183;
+    private int    p184;
+    private long   p185;
+    private double p186;
+    private String p187;
+    private int    p188;
+    private long   p189;
+    private double p190;
+    private String p191;
+    private int    p192;
+    private long   p193;
+    private double p194;
+    private String p195;
+    private int    p196;
+    private long   p197;
+    private double p198;
+    private String p199;
+    private int    p200;
+    private long   p201;
+    private double p202;
+    private String p203;
+    private int    p204;
+    private long   p205;
+    private double p206;
+    private String p207;
+    private int    p208;
+    private long   p209;
+    private double p210;
+    private String p211;
+    private int    p212;
+    private long   p213;
+    private double p214;
+    private String p215;
+    private int    p216;
+    private long   p217;
+    private double p218;
+    private String p219;
+    private int    p220;
+    private long   p221;
+    private double p222;
+    private String p223;
+    private int    p224;
+    private long   p225;
+    private double p226;
+    private String p227;
+    private int    p228;
+    private long   p229;
+    private double p230;
+    private String p231;
+    private int    p232;
+    private long   p233;
+    private double p234;
+    private String p235;
+    private int    p236;
+    private long   p237;
+    private double p238;
+    private String p239;
+    private int    p240;
+    private long   p241;
+    private double p242;
+    private String p243;
+    private int    p244;
+    private long   p245;
+    private double p246;
+    private String p247;
+    private int    p248;
+    private long   p249;
+    private double p250;
+    private String p251;
+    private int    p252;
+    private long   p253;
+    private double p254;
+    private String p255;
+    private int    p256;
+    private long   p257;
+    private double p258;
+    private String p259;
+    private int    p260;
+    private long   p261;
+    private double p262;
+    private String p263;
+    private int    p264;
+    private long   p265;
+    private double p266;
+    private String p267;
+    private int    p268;
+    private long   p269;
+    private double p270;
+    private String p271;
+    private int    p272;
+    private long   p273;
+    private double p274;
+    private String p275;
+    private int    p276;
+    private long   p277;
+    private double p278;
+    private String p279;
+    private int    p280;
+    private long   p281;
+    private double p282;
+    private String p283;
+    private int    p284;
+    private long   p285;
+    private double p286;
+    private String p287;
+    private int    p288;
+    private long   p289;
+    private double p290;
+    private String p291;
+    private int    p292;
+    private long   p293;
+    private double p294;
+    private String p295;
+    private int    p296;
+    private long   p297;
+    private double p298;
+    private String p299;
+    private int    p300;
+    private long   p301;
+    private double p302;
+    private String p303;
+    private int    p304;
+    private long   p305;
+    private double p306;
+    private String p307;
+    private int    p308;
+    private long   p309;
+    private double p310;
+    private String p311;
+    private int    p312;
+    private long   p313;
+    private double p314;
+    private String p315;
+    private int    p316;
+    private long   p317;
+    private double p318;
+    private String p319;
+    private int    p320;
+    private long   p321;
+    private double p322;
+    private String p323;
+    private int    p324;
+    private long   p325;
+    private double p326;
+    private String p327;
+    private int    p328;
+    private long   p329;
+    private double p330;
+    private String p331;
+    private int    p332;
+    private long   p333;
+    private double p334;
+    private String p335;
+    private int    p336;
+    private long   p337;
+    private double p338;
+    private String p339;
+    private int    p340;
+    private long   p341;
+    private double p342;
+    private String p343;
+    private int    p344;
+    private long   p345;
+    private double p346;
+    private String p347;
+    private int    p348;
+    private long   p349;
+    private double p350;
+    private String p351;
+    private int    p352;
+    private long   p353;
+    private double p354;
+    private String p355;
+    private int    p356;
+    private long   p357;
+    private double p358;
+    private String p359;
+    private int    p360;
+    private long   p361;
+    private double p362;
+    private String p363;
+    private int    p364;
+    private long   p365;
+    private double p366;
+    private String p367;
+    private int    p368;
+    private long   p369;
+    private double p370;
+    private String p371;
+    private int    p372;
+    private long   p373;
+    private double p374;
+    private String p375;
+    private int    p376;
+    private long   p377;
+    private double p378;
+    private String p379;
+    private int    p380;
+    private long   p381;
+    private double p382;
+    private String p383;
+    private int    p384;
+    private long   p385;
+    private double p386;
+    private String p387;
+    private int    p388;
+    private long   p389;
+    private double p390;
+    private String p391;
+    private int    p392;
+    private long   p393;
+    private double p394;
+    private String p395;
+    private int    p396;
+    private long   p397;
+    private double p398;
+    private String p399;
+    private int    p400;
+    private long   p401;
+    private double p402;
+    private String p403;
+    private int    p404;
+    private long   p405;
+    private double p406;
+    private String p407;
+    private int    p408;
+    private long   p409;
+    private double p410;
+    private String p411;
+    private int    p412;
+    private long   p413;
+    private double p414;
+    private String p415;
+    private int    p416;
+    private long   p417;
+    private double p418;
+    private String p419;
+    private int    p420;
+    private long   p421;
+    private double p422;
+    private String p423;
+    private int    p424;
+    private long   p425;
+    private double p426;
+    private String p427;
+    private int    p428;
+    private long   p429;
+    private double p430;
+    private String p431;
+    private int    p432;
+    private long   p433;
+    private double p434;
+    private String p435;
+    private int    p436;
+    private long   p437;
+    private double p438;
+    private String p439;
+    private int    p440;
+    private long   p441;
+    private double p442;
+    private String p443;
+    private int    p444;
+    private long   p445;
+    private double p446;
+    private String p447;
+    private int    p448;
+    private long   p449;
+    private double p450;
+    private String p451;
+    private int    p452;
+    private long   p453;
+    private double p454;
+    private String p455;
+    private int    p456;
+    private long   p457;
+    private double p458;
+    private String p459;
+    private int    p460;
+    private long   p461;
+    private double p462;
+    private String p463;
+    private int    p464;
+    private long   p465;
+    private double p466;
+    private String p467;
+    private int    p468;
+    private long   p469;
+    private double p470;
+    private String p471;
+    private int    p472;
+    private long   p473;
+    private double p474;
+    private String p475;
+    private int    p476;
+    private long   p477;
+    private double p478;
+    private String p479;
+    private int    p480;
+    private long   p481;
+    private double p482;
+    private String p483;
+    private int    p484;
+    private long   p485;
+    private double p486;
+    private String p487;
+    private int    p488;
+    private long   p489;
+    private double p490;
+    private String p491;
+    private int    p492;
+    private long   p493;
+    private double p494;
+    private String p495;
+    private int    p496;
+    private long   p497;
+    private double p498;
+    private String p499;
+
+    public int getP000() {
+        return this.p000;
+    }
+
+    public void setP000(final int pValue) {
+        this.p000 = pValue;
+    }
+
+    public long getP001() {
+        return this.p001;
+    }
+
+    public void setP001(final long pValue) {
+        this.p001 = pValue;
+    }
+
+    public double getP002() {
+        return this.p002;
+    }
+
+    public void setP002(final double pValue) {
+        this.p002 = pValue;
+    }
+
+    public String getP003() {
+        return this.p003;
+    }
+
+    public void setP003(final String pValue) {
+        this.p003 = pValue;
+    }
+
+    public int getP004() {
+        return this.p004;
+    }
+
+    public void setP004(final int pValue) {
+        this.p004 = pValue;
+    }
+
+    public long getP005() {
+        return this.p005;
+    }
+
+    public void setP005(final long pValue) {
+        this.p005 = pValue;
+    }
+
+    public double getP006() {
+        return this.p006;
+    }
+
+    public void setP006(final double pValue) {
+        this.p006 = pValue;
+    }
+
+    public String getP007() {
+        return this.p007;
+    }
+
+    public void setP007(final String pValue) {
+        this.p007 = pValue;
+    }
+
+    public int getP008() {
+        return this.p008;
+    }
+
+    public void setP008(final int pValue) {
+        this.p008 = pValue;
+    }
+
+    @Hidden
+    public long getP009() {
+        return this.p009;
+    }
+
+    public void setP009(final long pValue) {
+        this.p009 = pValue;
+    }
+
+    public double getP010() {
+        return this.p010;
+    }
+
+    public void setP010(final double pValue) {
+        this.p010 = pValue;
+    }
+
+    public String getP011() {
+        return this.p011;
+    }
+
+    public void setP011(final String pValue) {
+        this.p011 = pValue;
+    }
+
+    public int getP012() {
+        return this.p012;
+    }
+
+    public void setP012(final int pValue) {
+        this.p012 = pValue;
+    }
+
+    public long getP013() {
+        return this.p013;
+    }
+
+    public void setP013(final long pValue) {
+        this.p013 = pValue;
+    }
+
+    public double getP014() {
+        return this.p014;
+    }
+
+    public void setP014(final double pValue) {
+        this.p014 = pValue;
+    }
+
+    public String getP015() {
+        return this.p015;
+    }
+
+    public void setP015(final String pValue) {
+        this.p015 = pValue;
+    }
+
+    public int getP016() {
+        return this.p016;
+    }
+
+    public void setP016(final int pValue) {
+        this.p016 = pValue;
+    }
+
+    public long getP017() {
+        return this.p017;
+    }
+
+    public void setP017(final long pValue) {
+        this.p017 = pValue;
+    }
+
+    public double getP018() {
+        return this.p018;
+    }
+
+    public void setP018(final double pValue) {
+        this.p018 = pValue;
+    }
+
+    @Hidden
+    public String getP019() {
+        return this.p019;
+    }
+
+    public void setP019(final String pValue) {
+        this.p019 = pValue;
+    }
+
+    public int getP020() {
+        return this.p020;
+    }
+
+    public void setP020(final int pValue) {
+        this.p020 = pValue;
+    }
+
+    public long getP021() {
+        return this.p021;
+    }
+
+    public void setP021(final long pValue) {
+        this.p021 = pValue;
+    }
+
+    public double getP022() {
+        return this.p022;
+    }
+
+    public void setP022(final double pValue) {
+        this.p022 = pValue;
+    }
+
+    public String getP023() {
+        return this.p023;
+    }
+
+    public void setP023(final String pValue) {
+        this.p023 = pValue;
+    }
+
+    public int getP024() {
+        return this.p024;
+    }
+
+    public void setP024(final int pValue) {
+        this.p024 = pValue;
+    }
+
+    public long getP025() {
+        return this.p025;
+    }
+
+    public void setP025(final long pValue) {
+        this.p025 = pValue;
+    }
+
+    public double getP026() {
+        return this.p026;
+    }
+
+    public void setP026(final double pValue) {
+        this.p026 = pValue;
+    }
+
+    public String getP027() {
+        return this.p027;
+    }
+
+    public void setP027(final String pValue) {
+        this.p027 = pValue;
+    }
+
+    public int getP028() {
+        return this.p028;
+    }
+
+    public void setP028(final int pValue) {
+        this.p028 = pValue;
+    }
+
+    @Hidden
+    public long getP029() {
+        return this.p029;
+    }
+
+    public void setP029(final long pValue) {
+        this.p029 = pValue;
+    }
+
+    public double getP030() {
+        return this.p030;
+    }
+
+    public void setP030(final double pValue) {
+        this.p030 = pValue;
+    }
+
+    public String getP031() {
+        return this.p031;
+    }
+
+    public void setP031(final String pValue) {
+        this.p031 = pValue;
+    }
+
+    public int getP032() {
+        return this.p032;
+    }
+
+    public void setP032(final int pValue) {
+        this.p032 = pValue;
+    }
+
+    public long getP033() {
+        return this.p033;
+    }
+
+    public void setP033(final long pValue) {
+        this.p033 = pValue;
+    }
+
+    public double getP034() {
+        return this.p034;
+    }
+
+    public void setP034(final double pValue) {
+        this.p034 = pValue;
+    }
+
+    public String getP035() {
+        return this.p035;
+    }
+
+    public void setP035(final String pValue) {
+        this.p035 = pValue;
+    }
+
+    public int getP036() {
+        return this.p036;
+    }
+
+    public void setP036(final int pValue) {
+        this.p036 = pValue;
+    }
+
+    public long getP037() {
+        return this.p037;
+    }
+
+    public void setP037(final long pValue) {
+        this.p037 = pValue;
+    }
+
+    public double getP038() {
+        return this.p038;
+    }
+
+    public void setP038(final double pValue) {
+        this.p038 = pValue;
+    }
+
+    @Hidden
+    public String getP039() {
+        return this.p039;
+    }
+
+    public void setP039(final String pValue) {
+        this.p039 = pValue;
+    }
+
+    public int getP040() {
+        return this.p040;
+    }
+
+    public void setP040(final int pValue) {
+        this.p040 = pValue;
+    }
+
+    public long getP041() {
+        return this.p041;
+    }
+
+    public void setP041(final long pValue) {
+        this.p041 = pValue;
+    }
+
+    public double getP042() {
+        return this.p042;
+    }
+
+    public void setP042(final double pValue) {
+        this.p042 = pValue;
+    }
+
+    public String getP043() {
+        return this.p043;
+    }
+
+    public void setP043(final String pValue) {
+        this.p043 = pValue;
+    }
+
+    public int getP044() {
+        return this.p044;
+    }
+
+    public void setP044(final int pValue) {
+        this.p044 = pValue;
+    }
+
+    public long getP045() {
+        return this.p045;
+    }
+
+    public void setP045(final long pValue) {
+        this.p045 = pValue;
+    }
+
+    public double getP046() {
+        return this.p046;
+    }
+
+    public void setP046(final double pValue) {
+        this.p046 = pValue;
+    }
+
+    public String getP047() {
+        return this.p047;
+    }
+
+    public void setP047(final String pValue) {
+        this.p047 = pValue;
+    }
+
+    public int getP048() {
+        return this.p048;
+    }
+
+    public void setP048(final int pValue) {
+        this.p048 = pValue;
+    }
+
+    @Hidden
+    public long getP049() {
+        return this.p049;
+    }
+
+    public void setP049(final long pValue) {
+        this.p049 = pValue;
+    }
+
+    public double getP050() {
+        return this.p050;
+    }
+
+    public void setP050(final double pValue) {
+        this.p050 = pValue;
+    }
+
+    public String getP051() {
+        return this.p051;
+    }
+
+    public void setP051(final String pValue) {
+        this.p051 = pValue;
+    }
+
+    public int getP052() {
+        return this.p052;
+    }
+
+    public void setP052(final int pValue) {
+        this.p052 = pValue;
+    }
+
+    public long getP053() {
+        return this.p053;
+    }
+
+    public void setP053(final long pValue) {
+        this.p053 = pValue;
+    }
+
+    public double getP054() {
+        return this.p054;
+    }
+
+    public void setP054(final double pValue) {
+        this.p054 = pValue;
+    }
+
+    public String getP055() {
+        return this.p055;
+    }
+
+    public void setP055(final String pValue) {
+        this.p055 = pValue;
+    }
+
+    public int getP056() {
+        return this.p056;
+    }
+
+    public void setP056(final int pValue) {
+        this.p056 = pValue;
+    }
+
+    public long getP057() {
+        return this.p057;
+    }
+
+    public void setP057(final long pValue) {
+        this.p057 = pValue;
+    }
+
+    public double getP058() {
+        return this.p058;
+    }
+
+    public void setP058(final double pValue) {
+        this.p058 = pValue;
+    }
+
+    @Hidden
+    public String getP059() {
+        return this.p059;
+    }
+
+    public void setP059(final String pValue) {
+        this.p059 = pValue;
+    }
+
+    public int getP060() {
+        return this.p060;
+    }
+
+    public void setP060(final int pValue) {
+        this.p060 = pValue;
+    }
+
+    public long getP061() {
+        return this.p061;
+    }
+
+    public void setP061(final long pValue) {
+        this.p061 = pValue;
+    }
+
+    public double getP062() {
+        return this.p062;
+    }
+
+    public void setP062(final double pValue) {
+        this.p062 = pValue;
+    }
+
+    public String getP063() {
+        return this.p063;
+    }
+
+    public void setP063(final String pValue) {
+        this.p063 = pValue;
+    }
+
+    public int getP064() {
+        return this.p064;
+    }
+
+    public void setP064(final int pValue) {
+        this.p064 = pValue;
+    }
+
+    public long getP065() {
+        return this.p065;
+    }
+
+    public void setP065(final long pValue) {
+        this.p065 = pValue;
+    }
+
+    public double getP066() {
+        return this.p066;
+    }
+
+    public void setP066(final double pValue) {
+        this.p066 = pValue;
+    }
+
+    public String getP067() {
+        return this.p067;
+    }
+
+    public void setP067(final String pValue) {
+        this.p067 = pValue;
+    }
+
+    public int getP068() {
+        return this.p068;
+    }
+
+    public void setP068(final int pValue) {
+        this.p068 = pValue;
+    }
+
+    @Hidden
+    public long getP069() {
+        return this.p069;
+    }
+
+    public void setP069(final long pValue) {
+        this.p069 = pValue;
+    }
+
+    public double getP070() {
+        return this.p070;
+    }
+
+    public void setP070(final double pValue) {
+        this.p070 = pValue;
+    }
+
+    public String getP071() {
+        return this.p071;
+    }
+
+    public void setP071(final String pValue) {
+        this.p071 = pValue;
+    }
+
+    public int getP072() {
+        return this.p072;
+    }
+
+    public void setP072(final int pValue) {
+        this.p072 = pValue;
+    }
+
+    public long getP073() {
+        return this.p073;
+    }
+
+    public void setP073(final long pValue) {
+        this.p073 = pValue;
+    }
+
+    public double getP074() {
+        return this.p074;
+    }
+
+    public void setP074(final double pValue) {
+        this.p074 = pValue;
+    }
+
+    public String getP075() {
+        return this.p075;
+    }
+
+    public void setP075(final String pValue) {
+        this.p075 = pValue;
+    }
+
+    public int getP076() {
+        return this.p076;
+    }
+
+    public void setP076(final int pValue) {
+        this.p076 = pValue;
+    }
+
+    public long getP077() {
+        return this.p077;
+    }
+
+    public void setP077(final long pValue) {
+        this.p077 = pValue;
+    }
+
+    public double getP078() {
+        return this.p078;
+    }
+
+    public void setP078(final double pValue) {
+        this.p078 = pValue;
+    }
+
+    @Hidden
+    public String getP079() {
+        return this.p079;
+    }
+
+    public void setP079(final String pValue) {
+        this.p079 = pValue;
+    }
+
+    public int getP080() {
+        return this.p080;
+    }
+
+    public void setP080(final int pValue) {
+        this.p080 = pValue;
+    }
+
+    public long getP081() {
+        return this.p081;
+    }
+
+    public void setP081(final long pValue) {
+        this.p081 = pValue;
+    }
+
+    public double getP082() {
+        return this.p082;
+    }
+
+    public void setP082(final double pValue) {
+        this.p082 = pValue;
+    }
+
+    public String getP083() {
+        return this.p083;
+    }
+
+    public void setP083(final String pValue) {
+        this.p083 = pValue;
+    }
+
+    public int getP084() {
+        return this.p084;
+    }
+
+    public void setP084(final int pValue) {
+        this.p084 = pValue;
+    }
+
+    public long getP085() {
+        return this.p085;
+    }
+
+    public void setP085(final long pValue) {
+        this.p085 = pValue;
+    }
+
+    public double getP086() {
+        return this.p086;
+    }
+
+    public void setP086(final double pValue) {
+        this.p086 = pValue;
+    }
+
+    public String getP087() {
+        return this.p087;
+    }
+
+    public void setP087(final String pValue) {
+        this.p087 = pValue;
+    }
+
+    public int getP088() {
+        return this.p088;
+    }
+
+    public void setP088(final int pValue) {
+        this.p088 = pValue;
+    }
+
+    @Hidden
+    public long getP089() {
+        return this.p089;
+    }
+
+    public void setP089(final long pValue) {
+        this.p089 = pValue;
+    }
+
+    public double getP090() {
+        return this.p090;
+    }
+
+    public void setP090(final double pValue) {
+        this.p090 = pValue;
+    }
+
+    public String getP091() {
+        return this.p091;
+    }
+
+    public void setP091(final String pValue) {
+        this.p091 = pValue;
+    }
+
+    public int getP092() {
+        return this.p092;
+    }
+
+    public void setP092(final int pValue) {
+        this.p092 = pValue;
+    }
+
+    public long getP093() {
+        return this.p093;
+    }
+
+    public void setP093(final long pValue) {
+        this.p093 = pValue;
+    }
+
+    public double getP094() {
+        return this.p094;
+    }
+
+    public void setP094(final double pValue) {
+        this.p094 = pValue;
+    }
+
+    public String getP095() {
+        return this.p095;
+    }
+
+    public void setP095(final String pValue) {
+        this.p095 = pValue;
+    }
+
+    public int getP096() {
+        return this.p096;
+    }
+
+    public void setP096(final int pValue) {
+        this.p096 = pValue;
+    }
+
+    public long getP097() {
+        return this.p097;
+    }
+
+    public void setP097(final long pValue) {
+        this.p097 = pValue;
+    }
+
+    public double getP098() {
+        return this.p098;
+    }
+
+    public void setP098(final double pValue) {
+        this.p098 = pValue;
+    }
+
+    @Hidden
+    public String getP099() {
+        return this.p099;
+    }
+
+    public void setP099(final String pValue) {
+        this.p099 = pValue;
+    }
+
+    public int getP100() {
+        return this.p100;
+    }
+
+    public void setP100(final int pValue) {
+        this.p100 = pValue;
+    }
+
+    public long getP101() {
+        return this.p101;
+    }
+
+    public void setP101(final long pValue) {
+        this.p101 = pValue;
+    }
+
+    public double getP102() {
+        return this.p102;
+    }
+
+    public void setP102(final double pValue) {
+        this.p102 = pValue;
+    }
+
+    public String getP103() {
+        return this.p103;
+    }
+
+    public void setP103(final String pValue) {
+        this.p103 = pValue;
+    }
+
+    public int getP104() {
+        return this.p104;
+    }
+
+    public void setP104(final int pValue) {
+        this.p104 = pValue;
+    }
+
+    public long getP105() {
+        return this.p105;
+    }
+
+    public void setP105(final long pValue) {
+        this.p105 = pValue;
+    }
+
+    public double getP106() {
+        return this.p106;
+    }
+
+    public void setP106(final double pValue) {
+        this.p106 = pValue;
+    }
+
+    public String getP107() {
+        return this.p107;
+    }
+
+    public void setP107(final String pValue) {
+        this.p107 = pValue;
+    }
+
+    public int getP108() {
+        return this.p108;
+    }
+
+    public void setP108(final int pValue) {
+        this.p108 = pValue;
+    }
+
+    @Hidden
+    public long getP109() {
+        return this.p109;
+    }
+
+    public void setP109(final long pValue) {
+        this.p109 = pValue;
+    }
+
+    public double getP110() {
+        return this.p110;
+    }
+
+    public void setP110(final double pValue) {
+        this.p110 = pValue;
+    }
+
+    public String getP111() {
+        return this.p111;
+    }
+
+    public void setP111(final String pValue) {
+        this.p111 = pValue;
+    }
+
+    public int getP112() {
+        return this.p112;
+    }
+
+    public void setP112(final int pValue) {
+        this.p112 = pValue;
+    }
+
+    public long getP113() {
+        return this.p113;
+    }
+
+    public void setP113(final long pValue) {
+        this.p113 = pValue;
+    }
+
+    public double getP114() {
+        return this.p114;
+    }
+
+    public void setP114(final double pValue) {
+        this.p114 = pValue;
+    }
+
+    public String getP115() {
+        return this.p115;
+    }
+
+    public void setP115(final String pValue) {
+        this.p115 = pValue;
+    }
+
+    public int getP116() {
+        return this.p116;
+    }
+
+    public void setP116(final int pValue) {
+        this.p116 = pValue;
+    }
+
+    public long getP117() {
+        return this.p117;
+    }
+
+    public void setP117(final long pValue) {
+        this.p117 = pValue;
+    }
+
+    public double getP118() {
+        return this.p118;
+    }
+
+    public void setP118(final double pValue) {
+        this.p118 = pValue;
+    }
+
+    @Hidden
+    public String getP119() {
+        return this.p119;
+    }
+
+    public void setP119(final String pValue) {
+        this.p119 = pValue;
+    }
+
+    public int getP120() {
+        return this.p120;
+    }
+
+    public void setP120(final int pValue) {
+        this.p120 = pValue;
+    }
+
+    public long getP121() {
+        return this.p121;
+    }
+
+    public void setP121(final long pValue) {
+        this.p121 = pValue;
+    }
+
+    public double getP122() {
+        return this.p122;
+    }
+
+    public void setP122(final double pValue) {
+        this.p122 = pValue;
+    }
+
+    public String getP123() {
+        return this.p123;
+    }
+
+    public void setP123(final String pValue) {
+        this.p123 = pValue;
+    }
+
+    public int getP124() {
+        return this.p124;
+    }
+
+    public void setP124(final int pValue) {
+        this.p124 = pValue;
+    }
+
+    public long getP125() {
+        return this.p125;
+    }
+
+    public void setP125(final long pValue) {
+        this.p125 = pValue;
+    }
+
+    public double getP126() {
+        return this.p126;
+    }
+
+    public void setP126(final double pValue) {
+        this.p126 = pValue;
+    }
+
+    public String getP127() {
+        return this.p127;
+    }
+
+    public void setP127(final String pValue) {
+        this.p127 = pValue;
+    }
+
+    public int getP128() {
+        return this.p128;
+    }
+
+    public void setP128(final int pValue) {
+        this.p128 = pValue;
+    }
+
+    @Hidden
+    public long getP129() {
+        return this.p129;
+    }
+
+    public void setP129(final long pValue) {
+        this.p129 = pValue;
+    }
+
+    public double getP130() {
+        return this.p130;
+    }
+
+    public void setP130(final double pValue) {
+        this.p130 = pValue;
+    }
+
+    public String getP131() {
+        return this.p131;
+    }
+
+    public void setP131(final String pValue) {
+        this.p131 = pValue;
+    }
+
+    public int getP132() {
+        return this.p132;
+    }
+
+    public void setP132(final int pValue) {
+        this.p132 = pValue;
+    }
+
+    public long getP133() {
+        return this.p133;
+    }
+
+    public void setP133(final long pValue) {
+        this.p133 = pValue;
+    }
+
+    public double getP134() {
+        return this.p134;
+    }
+
+    public void setP134(final double pValue) {
+        this.p134 = pValue;
+    }
+
+    public String getP135() {
+        return this.p135;
+    }
+
+    public void setP135(final String pValue) {
+        this.p135 = pValue;
+    }
+
+    public int getP136() {
+        return this.p136;
+    }
+
+    public void setP136(final int pValue) {
+        this.p136 = pValue;
+    }
+
+    public long getP137() {
+        return this.p137;
+    }
+
+    public void setP137(final long pValue) {
+        this.p137 = pValue;
+    }
+
+    public double getP138() {
+        return this.p138;
+    }
+
+    public void setP138(final double pValue) {
+        this.p138 = pValue;
+    }
+
+    @Hidden
+    public String getP139() {
+        return this.p139;
+    }
+
+    public void setP139(final String pValue) {
+        this.p139 = pValue;
+    }
+
+    public int getP140() {
+        return this.p140;
+    }
+
+    public void setP140(final int pValue) {
+        this.p140 = pValue;
+    }
+
+    public long getP141() {
+        return this.p141;
+    }
+
+    public void setP141(final long pValue) {
+        this.p141 = pValue;
+    }
+
+    public double getP142() {
+        return this.p142;
+    }
+
+    public void setP142(final double pValue) {
+        this.p142 = pValue;
+    }
+
+    public String getP143() {
+        return this.p143;
+    }
+
+    public void setP143(final String pValue) {
+        this.p143 = pValue;
+    }
+
+    public int getP144() {
+        return this.p144;
+    }
+
+    public void setP144(final int pValue) {
+        this.p144 = pValue;
+    }
+
+    public long getP145() {
+        return this.p145;
+    }
+
+    public void setP145(final long pValue) {
+        this.p145 = pValue;
+    }
+
+    public double getP146() {
+        return this.p146;
+    }
+
+    public void setP146(final double pValue) {
+        this.p146 = pValue;
+    }
+
+    public String getP147() {
+        return this.p147;
+    }
+
+    public void setP147(final String pValue) {
+        this.p147 = pValue;
+    }
+
+    public int getP148() {
+        return this.p148;
+    }
+
+    public void setP148(final int pValue) {
+        this.p148 = pValue;
+    }
+
+    @Hidden
+    public long getP149() {
+        return this.p149;
+    }
+
+    public void setP149(final long pValue) {
+        this.p149 = pValue;
+    }
+
+    public double getP150() {
+        return this.p150;
+    }
+
+    public void setP150(final double pValue) {
+        this.p150 = pValue;
+    }
+
+    public String getP151() {
+        return this.p151;
+    }
+
+    public void setP151(final String pValue) {
+        this.p151 = pValue;
+    }
+
+    public int getP152() {
+        return this.p152;
+    }
+
+    public void setP152(final int pValue) {
+        this.p152 = pValue;
+    }
+
+    public long getP153() {
+        return this.p153;
+    }
+
+    public void setP153(final long pValue) {
+        this.p153 = pValue;
+    }
+
+    public double getP154() {
+        return this.p154;
+    }
+
+    public void setP154(final double pValue) {
+        this.p154 = pValue;
+    }
+
+    public String getP155() {
+        return this.p155;
+    }
+
+    public void setP155(final String pValue) {
+        this.p155 = pValue;
+    }
+
+    public int getP156() {
+        return this.p156;
+    }
+
+    public void setP156(final int pValue) {
+        this.p156 = pValue;
+    }
+
+    public long getP157() {
+        return this.p157;
+    }
+
+    public void setP157(final long pValue) {
+        this.p157 = pValue;
+    }
+
+    public double getP158() {
+        return this.p158;
+    }
+
+    public void setP158(final double pValue) {
+        this.p158 = pValue;
+    }
+
+    @Hidden
+    public String getP159() {
+        return this.p159;
+    }
+
+    public void setP159(final String pValue) {
+        this.p159 = pValue;
+    }
+
+    public int getP160() {
+        return this.p160;
+    }
+
+    public void setP160(final int pValue) {
+        this.p160 = pValue;
+    }
+
+    public long getP161() {
+        return this.p161;
+    }
+
+    public void setP161(final long pValue) {
+        this.p161 = pValue;
+    }
+
+    public double getP162() {
+        return this.p162;
+    }
+
+    public void setP162(final double pValue) {
+        this.p162 = pValue;
+    }
+
+    public String getP163() {
+        return this.p163;
+    }
+
+    public void setP163(final String pValue) {
+        this.p163 = pValue;
+    }
+
+    public int getP164() {
+        return this.p164;
+    }
+
+    public void setP164(final int pValue) {
+        this.p164 = pValue;
+    }
+
+    public long getP165() {
+        return this.p165;
+    }
+
+    public void setP165(final long pValue) {
+        this.p165 = pValue;
+    }
+
+    public double getP166() {
+        return this.p166;
+    }
+
+    public void setP166(final double pValue) {
+        this.p166 = pValue;
+    }
+
+    public String getP167() {
+        return this.p167;
+    }
+
+    public void setP167(final String pValue) {
+        this.p167 = pValue;
+    }
+
+    public int getP168() {
+        return this.p168;
+    }
+
+    public void setP168(final int pValue) {
+        this.p168 = pValue;
+    }
+
+    @Hidden
+    public long getP169() {
+        return this.p169;
+    }
+
+    public void setP169(final long pValue) {
+        this.p169 = pValue;
+    }
+
+    public double getP170() {
+        return this.p170;
+    }
+
+    public void setP170(final double pValue) {
+        this.p170 = pValue;
+    }
+
+    public String getP171() {
+        return this.p171;
+    }
+
+    public void setP171(final String pValue) {
+        this.p171 = pValue;
+    }
+
+    public int getP172() {
+        return this.p172;
+    }
+
+    public void setP172(final int pValue) {
+        this.p172 = pValue;
+    }
+
+    public long getP173() {
+        return this.p173;
+    }
+
+    public void setP173(final long pValue) {
+        this.p173 = pValue;
+    }
+
+    public double getP174() {
+        return this.p174;
+    }
+
+    public void setP174(final double pValue) {
+        this.p174 = pValue;
+    }
+
+    public String getP175() {
+        return this.p175;
+    }
+
+    public void setP175(final String pValue) {
+        this.p175 = pValue;
+    }
+
+    public int getP176() {
+        return this.p176;
+    }
+
+    public void setP176(final int pValue) {
+        this.p176 = pValue;
+    }
+
+    public long getP177() {
+        return this.p177;
+    }
+
+    public void setP177(final long pValue) {
+        this.p177 = pValue;
+    }
+
+    public double getP178() {
+        return this.p178;
+    }
+
+    public void setP178(final double pValue) {
+        this.p178 = pValue;
+    }
+
+    @Hidden
+    public String getP179() {
+        return this.p179;
+    }
+
+    public void setP179(final String pValue) {
+        this.p179 = pValue;
+    }
+
+    public int getP180() {
+        return this.p180;
+    }
+
+    public void setP180(final int pValue) {
+        this.p180 = pValue;
+    }
+
+    public long getP181() {
+        return this.p181;
+    }
+
+    public void setP181(final long pValue) {
+        this.p181 = pValue;
+    }
+
+    public double getP182() {
+        return this.p182;
+    }
+
+    public void setP182(final double pValue) {
+        this.p182 = pValue;
+    }
+
+    public String getP183() {
+        return this.p183;
+    }
+
+    public void setP183(final String pValue) {
+        this.p183 = pValue;
+    }
+
+    public int getP184() {
+        return this.p184;
+    }
+
+    public void setP184(final int pValue) {
+        this.p184 = pValue;
+    }
+
+    public long getP185() {
+        return this.p185;
+    }
+
+    public void setP185(final long pValue) {
+        this.p185 = pValue;
+    }
+
+    public double getP186() {
+        return this.p186;
+    }
+
+    public void setP186(final double pValue) {
+        this.p186 = pValue;
+    }
+
+    public String getP187() {
+        return this.p187;
+    }
+
+    public void setP187(final String pValue) {
+        this.p187 = pValue;
+    }
+
+    public int getP188() {
+        return this.p188;
+    }
+
+    public void setP188(final int pValue) {
+        this.p188 = pValue;
+    }
+
+    @Hidden
+    public long getP189() {
+        return this.p189;
+    }
+
+    public void setP189(final long pValue) {
+        this.p189 = pValue;
+    }
+
+    public double getP190() {
+        return this.p190;
+    }
+
+    public void setP190(final double pValue) {
+        this.p190 = pValue;
+    }
+
+    public String getP191() {
+        return this.p191;
+    }
+
+    public void setP191(final String pValue) {
+        this.p191 = pValue;
+    }
+
+    public int getP192() {
+        return this.p192;
+    }
+
+    public void setP192(final int pValue) {
+        this.p192 = pValue;
+    }
+
+    public long getP193() {
+        return this.p193;
+    }
+
+    public void setP193(final long pValue) {
+        this.p193 = pValue;
+    }
+
+    public double getP194() {
+        return this.p194;
+    }
+
+    public void setP194(final double pValue) {
+        this.p194 = pValue;
+    }
+
+    public String getP195() {
+        return this.p195;
+    }
+
+    public void setP195(final String pValue) {
+        this.p195 = pValue;
+    }
+
+    public int getP196() {
+        return this.p196;
+    }
+
+    public void setP196(final int pValue) {
+        this.p196 = pValue;
+    }
+
+    public long getP197() {
+        return this.p197;
+    }
+
+    public void setP197(final long pValue) {
+        this.p197 = pValue;
+    }
+
+    public double getP198() {
+        return this.p198;
+    }
+
+    public void setP198(final double pValue) {
+        this.p198 = pValue;
+    }
+
+    @Hidden
+    public String getP199() {
+        return this.p199;
+    }
+
+    public void setP199(final String pValue) {
+        this.p199 = pValue;
+    }
+
+    public int getP200() {
+        return this.p200;
+    }
+
+    public void setP200(final int pValue) {
+        this.p200 = pValue;
+    }
+
+    public long getP201() {
+        return this.p201;
+    }
+
+    public void setP201(final long pValue) {
+        this.p201 = pValue;
+    }
+
+    public double getP202() {
+        return this.p202;
+    }
+
+    public void setP202(final double pValue) {
+        this.p202 = pValue;
+    }
+
+    public String getP203() {
+        return this.p203;
+    }
+
+    public void setP203(final String pValue) {
+        this.p203 = pValue;
+    }
+
+    public int getP204() {
+        return this.p204;
+    }
+
+    public void setP204(final int pValue) {
+        this.p204 = pValue;
+    }
+
+    public long getP205() {
+        return this.p205;
+    }
+
+    public void setP205(final long pValue) {
+        this.p205 = pValue;
+    }
+
+    public double getP206() {
+        return this.p206;
+    }
+
+    public void setP206(final double pValue) {
+        this.p206 = pValue;
+    }
+
+    public String getP207() {
+        return this.p207;
+    }
+
+    public void setP207(final String pValue) {
+        this.p207 = pValue;
+    }
+
+    public int getP208() {
+        return this.p208;
+    }
+
+    public void setP208(final int pValue) {
+        this.p208 = pValue;
+    }
+
+    @Hidden
+    public long getP209() {
+        return this.p209;
+    }
+
+    public void setP209(final long pValue) {
+        this.p209 = pValue;
+    }
+
+    public double getP210() {
+        return this.p210;
+    }
+
+    public void setP210(final double pValue) {
+        this.p210 = pValue;
+    }
+
+    public String getP211() {
+        return this.p211;
+    }
+
+    public void setP211(final String pValue) {
+        this.p211 = pValue;
+    }
+
+    public int getP212() {
+        return this.p212;
+    }
+
+    public void setP212(final int pValue) {
+        this.p212 = pValue;
+    }
+
+    public long getP213() {
+        return this.p213;
+    }
+
+    public void setP213(final long pValue) {
+        this.p213 = pValue;
+    }
+
+    public double getP214() {
+        return this.p214;
+    }
+
+    public void setP214(final double pValue) {
+        this.p214 = pValue;
+    }
+
+    public String getP215() {
+        return this.p215;
+    }
+
+    public void setP215(final String pValue) {
+        this.p215 = pValue;
+    }
+
+    public int getP216() {
+        return this.p216;
+    }
+
+    public void setP216(final int pValue) {
+        this.p216 = pValue;
+    }
+
+    public long getP217() {
+        return this.p217;
+    }
+
+    public void setP217(final long pValue) {
+        this.p217 = pValue;
+    }
+
+    public double getP218() {
+        return this.p218;
+    }
+
+    public void setP218(final double pValue) {
+        this.p218 = pValue;
+    }
+
+    @Hidden
+    public String getP219() {
+        return this.p219;
+    }
+
+    public void setP219(final String pValue) {
+        this.p219 = pValue;
+    }
+
+    public int getP220() {
+        return this.p220;
+    }
+
+    public void setP220(final int pValue) {
+        this.p220 = pValue;
+    }
+
+    public long getP221() {
+        return this.p221;
+    }
+
+    public void setP221(final long pValue) {
+        this.p221 = pValue;
+    }
+
+    public double getP222() {
+        return this.p222;
+    }
+
+    public void setP222(final double pValue) {
+        this.p222 = pValue;
+    }
+
+    public String getP223() {
+        return this.p223;
+    }
+
+    public void setP223(final String pValue) {
+        this.p223 = pValue;
+    }
+
+    public int getP224() {
+        return this.p224;
+    }
+
+    public void setP224(final int pValue) {
+        this.p224 = pValue;
+    }
+
+    public long getP225() {
+        return this.p225;
+    }
+
+    public void setP225(final long pValue) {
+        this.p225 = pValue;
+    }
+
+    public double getP226() {
+        return this.p226;
+    }
+
+    public void setP226(final double pValue) {
+        this.p226 = pValue;
+    }
+
+    public String getP227() {
+        return this.p227;
+    }
+
+    public void setP227(final String pValue) {
+        this.p227 = pValue;
+    }
+
+    public int getP228() {
+        return this.p228;
+    }
+
+    public void setP228(final int pValue) {
+        this.p228 = pValue;
+    }
+
+    @Hidden
+    public long getP229() {
+        return this.p229;
+    }
+
+    public void setP229(final long pValue) {
+        this.p229 = pValue;
+    }
+
+    public double getP230() {
+        return this.p230;
+    }
+
+    public void setP230(final double pValue) {
+        this.p230 = pValue;
+    }
+
+    public String getP231() {
+        return this.p231;
+    }
+
+    public void setP231(final String pValue) {
+        this.p231 = pValue;
+    }
+
+    public int getP232() {
+        return this.p232;
+    }
+
+    public void setP232(final int pValue) {
+        this.p232 = pValue;
+    }
+
+    public long getP233() {
+        return this.p233;
+    }
+
+    public void setP233(final long pValue) {
+        this.p233 = pValue;
+    }
+
+    public double getP234() {
+        return this.p234;
+    }
+
+    public void setP234(final double pValue) {
+        this.p234 = pValue;
+    }
+
+    public String getP235() {
+        return this.p235;
+    }
+
+    public void setP235(final String pValue) {
+        this.p235 = pValue;
+    }
+
+    public int getP236() {
+        return this.p236;
+    }
+
+    public void setP236(final int pValue) {
+        this.p236 = pValue;
+    }
+
+    public long getP237() {
+        return this.p237;
+    }
+
+    public void setP237(final long pValue) {
+        this.p237 = pValue;
+    }
+
+    public double getP238() {
+        return this.p238;
+    }
+
+    public void setP238(final double pValue) {
+        this.p238 = pValue;
+    }
+
+    @Hidden
+    public String getP239() {
+        return this.p239;
+    }
+
+    public void setP239(final String pValue) {
+        this.p239 = pValue;
+    }
+
+    public int getP240() {
+        return this.p240;
+    }
+
+    public void setP240(final int pValue) {
+        this.p240 = pValue;
+    }
+
+    public long getP241() {
+        return this.p241;
+    }
+
+    public void setP241(final long pValue) {
+        this.p241 = pValue;
+    }
+
+    public double getP242() {
+        return this.p242;
+    }
+
+    public void setP242(final double pValue) {
+        this.p242 = pValue;
+    }
+
+    public String getP243() {
+        return this.p243;
+    }
+
+    public void setP243(final String pValue) {
+        this.p243 = pValue;
+    }
+
+    public int getP244() {
+        return this.p244;
+    }
+
+    public void setP244(final int pValue) {
+        this.p244 = pValue;
+    }
+
+    public long getP245() {
+        return this.p245;
+    }
+
+    public void setP245(final long pValue) {
+        this.p245 = pValue;
+    }
+
+    public double getP246() {
+        return this.p246;
+    }
+
+    public void setP246(final double pValue) {
+        this.p246 = pValue;
+    }
+
+    public String getP247() {
+        return this.p247;
+    }
+
+    public void setP247(final String pValue) {
+        this.p247 = pValue;
+    }
+
+    public int getP248() {
+        return this.p248;
+    }
+
+    public void setP248(final int pValue) {
+        this.p248 = pValue;
+    }
+
+    @Hidden
+    public long getP249() {
+        return this.p249;
+    }
+
+    public void setP249(final long pValue) {
+        this.p249 = pValue;
+    }
+
+    public double getP250() {
+        return this.p250;
+    }
+
+    public void setP250(final double pValue) {
+        this.p250 = pValue;
+    }
+
+    public String getP251() {
+        return this.p251;
+    }
+
+    public void setP251(final String pValue) {
+        this.p251 = pValue;
+    }
+
+    public int getP252() {
+        return this.p252;
+    }
+
+    public void setP252(final int pValue) {
+        this.p252 = pValue;
+    }
+
+    public long getP253() {
+        return this.p253;
+    }
+
+    public void setP253(final long pValue) {
+        this.p253 = pValue;
+    }
+
+    public double getP254() {
+        return this.p254;
+    }
+
+    public void setP254(final double pValue) {
+        this.p254 = pValue;
+    }
+
+    public String getP255() {
+        return this.p255;
+    }
+
+    public void setP255(final String pValue) {
+        this.p255 = pValue;
+    }
+
+    public int getP256() {
+        return this.p256;
+    }
+
+    public void setP256(final int pValue) {
+        this.p256 = pValue;
+    }
+
+    public long getP257() {
+        return this.p257;
+    }
+
+    public void setP257(final long pValue) {
+        this.p257 = pValue;
+    }
+
+    public double getP258() {
+        return this.p258;
+    }
+
+    public void setP258(final double pValue) {
+        this.p258 = pValue;
+    }
+
+    @Hidden
+    public String getP259() {
+        return this.p259;
+    }
+
+    public void setP259(final String pValue) {
+        this.p259 = pValue;
+    }
+
+    public int getP260() {
+        return this.p260;
+    }
+
+    public void setP260(final int pValue) {
+        this.p260 = pValue;
+    }
+
+    public long getP261() {
+        return this.p261;
+    }
+
+    public void setP261(final long pValue) {
+        this.p261 = pValue;
+    }
+
+    public double getP262() {
+        return this.p262;
+    }
+
+    public void setP262(final double pValue) {
+        this.p262 = pValue;
+    }
+
+    public String getP263() {
+        return this.p263;
+    }
+
+    public void setP263(final String pValue) {
+        this.p263 = pValue;
+    }
+
+    public int getP264() {
+        return this.p264;
+    }
+
+    public void setP264(final int pValue) {
+        this.p264 = pValue;
+    }
+
+    public long getP265() {
+        return this.p265;
+    }
+
+    public void setP265(final long pValue) {
+        this.p265 = pValue;
+    }
+
+    public double getP266() {
+        return this.p266;
+    }
+
+    public void setP266(final double pValue) {
+        this.p266 = pValue;
+    }
+
+    public String getP267() {
+        return this.p267;
+    }
+
+    public void setP267(final String pValue) {
+        this.p267 = pValue;
+    }
+
+    public int getP268() {
+        return this.p268;
+    }
+
+    public void setP268(final int pValue) {
+        this.p268 = pValue;
+    }
+
+    @Hidden
+    public long getP269() {
+        return this.p269;
+    }
+
+    public void setP269(final long pValue) {
+        this.p269 = pValue;
+    }
+
+    public double getP270() {
+        return this.p270;
+    }
+
+    public void setP270(final double pValue) {
+        this.p270 = pValue;
+    }
+
+    public String getP271() {
+        return this.p271;
+    }
+
+    public void setP271(final String pValue) {
+        this.p271 = pValue;
+    }
+
+    public int getP272() {
+        return this.p272;
+    }
+
+    public void setP272(final int pValue) {
+        this.p272 = pValue;
+    }
+
+    public long getP273() {
+        return this.p273;
+    }
+
+    public void setP273(final long pValue) {
+        this.p273 = pValue;
+    }
+
+    public double getP274() {
+        return this.p274;
+    }
+
+    public void setP274(final double pValue) {
+        this.p274 = pValue;
+    }
+
+    public String getP275() {
+        return this.p275;
+    }
+
+    public void setP275(final String pValue) {
+        this.p275 = pValue;
+    }
+
+    public int getP276() {
+        return this.p276;
+    }
+
+    public void setP276(final int pValue) {
+        this.p276 = pValue;
+    }
+
+    public long getP277() {
+        return this.p277;
+    }
+
+    public void setP277(final long pValue) {
+        this.p277 = pValue;
+    }
+
+    public double getP278() {
+        return this.p278;
+    }
+
+    public void setP278(final double pValue) {
+        this.p278 = pValue;
+    }
+
+    @Hidden
+    public String getP279() {
+        return this.p279;
+    }
+
+    public void setP279(final String pValue) {
+        this.p279 = pValue;
+    }
+
+    public int getP280() {
+        return this.p280;
+    }
+
+    public void setP280(final int pValue) {
+        this.p280 = pValue;
+    }
+
+    public long getP281() {
+        return this.p281;
+    }
+
+    public void setP281(final long pValue) {
+        this.p281 = pValue;
+    }
+
+    public double getP282() {
+        return this.p282;
+    }
+
+    public void setP282(final double pValue) {
+        this.p282 = pValue;
+    }
+
+    public String getP283() {
+        return this.p283;
+    }
+
+    public void setP283(final String pValue) {
+        this.p283 = pValue;
+    }
+
+    public int getP284() {
+        return this.p284;
+    }
+
+    public void setP284(final int pValue) {
+        this.p284 = pValue;
+    }
+
+    public long getP285() {
+        return this.p285;
+    }
+
+    public void setP285(final long pValue) {
+        this.p285 = pValue;
+    }
+
+    public double getP286() {
+        return this.p286;
+    }
+
+    public void setP286(final double pValue) {
+        this.p286 = pValue;
+    }
+
+    public String getP287() {
+        return this.p287;
+    }
+
+    public void setP287(final String pValue) {
+        this.p287 = pValue;
+    }
+
+    public int getP288() {
+        return this.p288;
+    }
+
+    public void setP288(final int pValue) {
+        this.p288 = pValue;
+    }
+
+    @Hidden
+    public long getP289() {
+        return this.p289;
+    }
+
+    public void setP289(final long pValue) {
+        this.p289 = pValue;
+    }
+
+    public double getP290() {
+        return this.p290;
+    }
+
+    public void setP290(final double pValue) {
+        this.p290 = pValue;
+    }
+
+    public String getP291() {
+        return this.p291;
+    }
+
+    public void setP291(final String pValue) {
+        this.p291 = pValue;
+    }
+
+    public int getP292() {
+        return this.p292;
+    }
+
+    public void setP292(final int pValue) {
+        this.p292 = pValue;
+    }
+
+    public long getP293() {
+        return this.p293;
+    }
+
+    public void setP293(final long pValue) {
+        this.p293 = pValue;
+    }
+
+    public double getP294() {
+        return this.p294;
+    }
+
+    public void setP294(final double pValue) {
+        this.p294 = pValue;
+    }
+
+    public String getP295() {
+        return this.p295;
+    }
+
+    public void setP295(final String pValue) {
+        this.p295 = pValue;
+    }
+
+    public int getP296() {
+        return this.p296;
+    }
+
+    public void setP296(final int pValue) {
+        this.p296 = pValue;
+    }
+
+    public long getP297() {
+        return this.p297;
+    }
+
+    public void setP297(final long pValue) {
+        this.p297 = pValue;
+    }
+
+    public double getP298() {
+        return this.p298;
+    }
+
+    public void setP298(final double pValue) {
+        this.p298 = pValue;
+    }
+
+    @Hidden
+    public String getP299() {
+        return this.p299;
+    }
+
+    public void setP299(final String pValue) {
+        this.p299 = pValue;
+    }
+
+    public int getP300() {
+        return this.p300;
+    }
+
+    public void setP300(final int pValue) {
+        this.p300 = pValue;
+    }
+
+    public long getP301() {
+        return this.p301;
+    }
+
+    public void setP301(final long pValue) {
+        this.p301 = pValue;
+    }
+
+    public double getP302() {
+        return this.p302;
+    }
+
+    public void setP302(final double pValue) {
+        this.p302 = pValue;
+    }
+
+    public String getP303() {
+        return this.p303;
+    }
+
+    public void setP303(final String pValue) {
+        this.p303 = pValue;
+    }
+
+    public int getP304() {
+        return this.p304;
+    }
+
+    public void setP304(final int pValue) {
+        this.p304 = pValue;
+    }
+
+    public long getP305() {
+        return this.p305;
+    }
+
+    public void setP305(final long pValue) {
+        this.p305 = pValue;
+    }
+
+    public double getP306() {
+        return this.p306;
+    }
+
+    public void setP306(final double pValue) {
+        this.p306 = pValue;
+    }
+
+    public String getP307() {
+        return this.p307;
+    }
+
+    public void setP307(final String pValue) {
+        this.p307 = pValue;
+    }
+
+    public int getP308() {
+        return this.p308;
+    }
+
+    public void setP308(final int pValue) {
+        this.p308 = pValue;
+    }
+
+    @Hidden
+    public long getP309() {
+        return this.p309;
+    }
+
+    public void setP309(final long pValue) {
+        this.p309 = pValue;
+    }
+
+    public double getP310() {
+        return this.p310;
+    }
+
+    public void setP310(final double pValue) {
+        this.p310 = pValue;
+    }
+
+    public String getP311() {
+        return this.p311;
+    }
+
+    public void setP311(final String pValue) {
+        this.p311 = pValue;
+    }
+
+    public int getP312() {
+        return this.p312;
+    }
+
+    public void setP312(final int pValue) {
+        this.p312 = pValue;
+    }
+
+    public long getP313() {
+        return this.p313;
+    }
+
+    public void setP313(final long pValue) {
+        this.p313 = pValue;
+    }
+
+    public double getP314() {
+        return this.p314;
+    }
+
+    public void setP314(final double pValue) {
+        this.p314 = pValue;
+    }
+
+    public String getP315() {
+        return this.p315;
+    }
+
+    public void setP315(final String pValue) {
+        this.p315 = pValue;
+    }
+
+    public int getP316() {
+        return this.p316;
+    }
+
+    public void setP316(final int pValue) {
+        this.p316 = pValue;
+    }
+
+    public long getP317() {
+        return this.p317;
+    }
+
+    public void setP317(final long pValue) {
+        this.p317 = pValue;
+    }
+
+    public double getP318() {
+        return this.p318;
+    }
+
+    public void setP318(final double pValue) {
+        this.p318 = pValue;
+    }
+
+    @Hidden
+    public String getP319() {
+        return this.p319;
+    }
+
+    public void setP319(final String pValue) {
+        this.p319 = pValue;
+    }
+
+    public int getP320() {
+        return this.p320;
+    }
+
+    public void setP320(final int pValue) {
+        this.p320 = pValue;
+    }
+
+    public long getP321() {
+        return this.p321;
+    }
+
+    public void setP321(final long pValue) {
+        this.p321 = pValue;
+    }
+
+    public double getP322() {
+        return this.p322;
+    }
+
+    public void setP322(final double pValue) {
+        this.p322 = pValue;
+    }
+
+    public String getP323() {
+        return this.p323;
+    }
+
+    public void setP323(final String pValue) {
+        this.p323 = pValue;
+    }
+
+    public int getP324() {
+        return this.p324;
+    }
+
+    public void setP324(final int pValue) {
+        this.p324 = pValue;
+    }
+
+    public long getP325() {
+        return this.p325;
+    }
+
+    public void setP325(final long pValue) {
+        this.p325 = pValue;
+    }
+
+    public double getP326() {
+        return this.p326;
+    }
+
+    public void setP326(final double pValue) {
+        this.p326 = pValue;
+    }
+
+    public String getP327() {
+        return this.p327;
+    }
+
+    public void setP327(final String pValue) {
+        this.p327 = pValue;
+    }
+
+    public int getP328() {
+        return this.p328;
+    }
+
+    public void setP328(final int pValue) {
+        this.p328 = pValue;
+    }
+
+    @Hidden
+    public long getP329() {
+        return this.p329;
+    }
+
+    public void setP329(final long pValue) {
+        this.p329 = pValue;
+    }
+
+    public double getP330() {
+        return this.p330;
+    }
+
+    public void setP330(final double pValue) {
+        this.p330 = pValue;
+    }
+
+    public String getP331() {
+        return this.p331;
+    }
+
+    public void setP331(final String pValue) {
+        this.p331 = pValue;
+    }
+
+    public int getP332() {
+        return this.p332;
+    }
+
+    public void setP332(final int pValue) {
+        this.p332 = pValue;
+    }
+
+    public long getP333() {
+        return this.p333;
+    }
+
+    public void setP333(final long pValue) {
+        this.p333 = pValue;
+    }
+
+    public double getP334() {
+        return this.p334;
+    }
+
+    public void setP334(final double pValue) {
+        this.p334 = pValue;
+    }
+
+    public String getP335() {
+        return this.p335;
+    }
+
+    public void setP335(final String pValue) {
+        this.p335 = pValue;
+    }
+
+    public int getP336() {
+        return this.p336;
+    }
+
+    public void setP336(final int pValue) {
+        this.p336 = pValue;
+    }
+
+    public long getP337() {
+        return this.p337;
+    }
+
+    public void setP337(final long pValue) {
+        this.p337 = pValue;
+    }
+
+    public double getP338() {
+        return this.p338;
+    }
+
+    public void setP338(final double pValue) {
+        this.p338 = pValue;
+    }
+
+    @Hidden
+    public String getP339() {
+        return this.p339;
+    }
+
+    public void setP339(final String pValue) {
+        this.p339 = pValue;
+    }
+
+    public int getP340() {
+        return this.p340;
+    }
+
+    public void setP340(final int pValue) {
+        this.p340 = pValue;
+    }
+
+    public long getP341() {
+        return this.p341;
+    }
+
+    public void setP341(final long pValue) {
+        this.p341 = pValue;
+    }
+
+    public double getP342() {
+        return this.p342;
+    }
+
+    public void setP342(final double pValue) {
+        this.p342 = pValue;
+    }
+
+    public String getP343() {
+        return this.p343;
+    }
+
+    public void setP343(final String pValue) {
+        this.p343 = pValue;
+    }
+
+    public int getP344() {
+        return this.p344;
+    }
+
+    public void setP344(final int pValue) {
+        this.p344 = pValue;
+    }
+
+    public long getP345() {
+        return this.p345;
+    }
+
+    public void setP345(final long pValue) {
+        this.p345 = pValue;
+    }
+
+    public double getP346() {
+        return this.p346;
+    }
+
+    public void setP346(final double pValue) {
+        this.p346 = pValue;
+    }
+
+    public String getP347() {
+        return this.p347;
+    }
+
+    public void setP347(final String pValue) {
+        this.p347 = pValue;
+    }
+
+    public int getP348() {
+        return this.p348;
+    }
+
+    public void setP348(final int pValue) {
+        this.p348 = pValue;
+    }
+
+    @Hidden
+    public long getP349() {
+        return this.p349;
+    }
+
+    public void setP349(final long pValue) {
+        this.p349 = pValue;
+    }
+
+    public double getP350() {
+        return this.p350;
+    }
+
+    public void setP350(final double pValue) {
+        this.p350 = pValue;
+    }
+
+    public String getP351() {
+        return this.p351;
+    }
+
+    public void setP351(final String pValue) {
+        this.p351 = pValue;
+    }
+
+    public int getP352() {
+        return this.p352;
+    }
+
+    public void setP352(final int pValue) {
+        this.p352 = pValue;
+    }
+
+    public long getP353() {
+        return this.p353;
+    }
+
+    public void setP353(final long pValue) {
+        this.p353 = pValue;
+    }
+
+    public double getP354() {
+        return this.p354;
+    }
+
+    public void setP354(final double pValue) {
+        this.p354 = pValue;
+    }
+
+    public String getP355() {
+        return this.p355;
+    }
+
+    public void setP355(final String pValue) {
+        this.p355 = pValue;
+    }
+
+    public int getP356() {
+        return this.p356;
+    }
+
+    public void setP356(final int pValue) {
+        this.p356 = pValue;
+    }
+
+    public long getP357() {
+        return this.p357;
+    }
+
+    public void setP357(final long pValue) {
+        this.p357 = pValue;
+    }
+
+    public double getP358() {
+        return this.p358;
+    }
+
+    public void setP358(final double pValue) {
+        this.p358 = pValue;
+    }
+
+    @Hidden
+    public String getP359() {
+        return this.p359;
+    }
+
+    public void setP359(final String pValue) {
+        this.p359 = pValue;
+    }
+
+    public int getP360() {
+        return this.p360;
+    }
+
+    public void setP360(final int pValue) {
+        this.p360 = pValue;
+    }
+
+    public long getP361() {
+        return this.p361;
+    }
+
+    public void setP361(final long pValue) {
+        this.p361 = pValue;
+    }
+
+    public double getP362() {
+        return this.p362;
+    }
+
+    public void setP362(final double pValue) {
+        this.p362 = pValue;
+    }
+
+    public String getP363() {
+        return this.p363;
+    }
+
+    public void setP363(final String pValue) {
+        this.p363 = pValue;
+    }
+
+    public int getP364() {
+        return this.p364;
+    }
+
+    public void setP364(final int pValue) {
+        this.p364 = pValue;
+    }
+
+    public long getP365() {
+        return this.p365;
+    }
+
+    public void setP365(final long pValue) {
+        this.p365 = pValue;
+    }
+
+    public double getP366() {
+        return this.p366;
+    }
+
+    public void setP366(final double pValue) {
+        this.p366 = pValue;
+    }
+
+    public String getP367() {
+        return this.p367;
+    }
+
+    public void setP367(final String pValue) {
+        this.p367 = pValue;
+    }
+
+    public int getP368() {
+        return this.p368;
+    }
+
+    public void setP368(final int pValue) {
+        this.p368 = pValue;
+    }
+
+    @Hidden
+    public long getP369() {
+        return this.p369;
+    }
+
+    public void setP369(final long pValue) {
+        this.p369 = pValue;
+    }
+
+    public double getP370() {
+        return this.p370;
+    }
+
+    public void setP370(final double pValue) {
+        this.p370 = pValue;
+    }
+
+    public String getP371() {
+        return this.p371;
+    }
+
+    public void setP371(final String pValue) {
+        this.p371 = pValue;
+    }
+
+    public int getP372() {
+        return this.p372;
+    }
+
+    public void setP372(final int pValue) {
+        this.p372 = pValue;
+    }
+
+    public long getP373() {
+        return this.p373;
+    }
+
+    public void setP373(final long pValue) {
+        this.p373 = pValue;
+    }
+
+    public double getP374() {
+        return this.p374;
+    }
+
+    public void setP374(final double pValue) {
+        this.p374 = pValue;
+    }
+
+    public String getP375() {
+        return this.p375;
+    }
+
+    public void setP375(final String pValue) {
+        this.p375 = pValue;
+    }
+
+    public int getP376() {
+        return this.p376;
+    }
+
+    public void setP376(final int pValue) {
+        this.p376 = pValue;
+    }
+
+    public long getP377() {
+        return this.p377;
+    }
+
+    public void setP377(final long pValue) {
+        this.p377 = pValue;
+    }
+
+    public double getP378() {
+        return this.p378;
+    }
+
+    public void setP378(final double pValue) {
+        this.p378 = pValue;
+    }
+
+    @Hidden
+    public String getP379() {
+        return this.p379;
+    }
+
+    public void setP379(final String pValue) {
+        this.p379 = pValue;
+    }
+
+    public int getP380() {
+        return this.p380;
+    }
+
+    public void setP380(final int pValue) {
+        this.p380 = pValue;
+    }
+
+    public long getP381() {
+        return this.p381;
+    }
+
+    public void setP381(final long pValue) {
+        this.p381 = pValue;
+    }
+
+    public double getP382() {
+        return this.p382;
+    }
+
+    public void setP382(final double pValue) {
+        this.p382 = pValue;
+    }
+
+    public String getP383() {
+        return this.p383;
+    }
+
+    public void setP383(final String pValue) {
+        this.p383 = pValue;
+    }
+
+    public int getP384() {
+        return this.p384;
+    }
+
+    public void setP384(final int pValue) {
+        this.p384 = pValue;
+    }
+
+    public long getP385() {
+        return this.p385;
+    }
+
+    public void setP385(final long pValue) {
+        this.p385 = pValue;
+    }
+
+    public double getP386() {
+        return this.p386;
+    }
+
+    public void setP386(final double pValue) {
+        this.p386 = pValue;
+    }
+
+    public String getP387() {
+        return this.p387;
+    }
+
+    public void setP387(final String pValue) {
+        this.p387 = pValue;
+    }
+
+    public int getP388() {
+        return this.p388;
+    }
+
+    public void setP388(final int pValue) {
+        this.p388 = pValue;
+    }
+
+    @Hidden
+    public long getP389() {
+        return this.p389;
+    }
+
+    public void setP389(final long pValue) {
+        this.p389 = pValue;
+    }
+
+    public double getP390() {
+        return this.p390;
+    }
+
+    public void setP390(final double pValue) {
+        this.p390 = pValue;
+    }
+
+    public String getP391() {
+        return this.p391;
+    }
+
+    public void setP391(final String pValue) {
+        this.p391 = pValue;
+    }
+
+    public int getP392() {
+        return this.p392;
+    }
+
+    public void setP392(final int pValue) {
+        this.p392 = pValue;
+    }
+
+    public long getP393() {
+        return this.p393;
+    }
+
+    public void setP393(final long pValue) {
+        this.p393 = pValue;
+    }
+
+    public double getP394() {
+        return this.p394;
+    }
+
+    public void setP394(final double pValue) {
+        this.p394 = pValue;
+    }
+
+    public String getP395() {
+        return this.p395;
+    }
+
+    public void setP395(final String pValue) {
+        this.p395 = pValue;
+    }
+
+    public int getP396() {
+        return this.p396;
+    }
+
+    public void setP396(final int pValue) {
+        this.p396 = pValue;
+    }
+
+    public long getP397() {
+        return this.p397;
+    }
+
+    public void setP397(final long pValue) {
+        this.p397 = pValue;
+    }
+
+    public double getP398() {
+        return this.p398;
+    }
+
+    public void setP398(final double pValue) {
+        this.p398 = pValue;
+    }
+
+    @Hidden
+    public String getP399() {
+        return this.p399;
+    }
+
+    public void setP399(final String pValue) {
+        this.p399 = pValue;
+    }
+
+    public int getP400() {
+        return this.p400;
+    }
+
+    public void setP400(final int pValue) {
+        this.p400 = pValue;
+    }
+
+    public long getP401() {
+        return this.p401;
+    }
+
+    public void setP401(final long pValue) {
+        this.p401 = pValue;
+    }
+
+    public double getP402() {
+        return this.p402;
+    }
+
+    public void setP402(final double pValue) {
+        this.p402 = pValue;
+    }
+
+    public String getP403() {
+        return this.p403;
+    }
+
+    public void setP403(final String pValue) {
+        this.p403 = pValue;
+    }
+
+    public int getP404() {
+        return this.p404;
+    }
+
+    public void setP404(final int pValue) {
+        this.p404 = pValue;
+    }
+
+    public long getP405() {
+        return this.p405;
+    }
+
+    public void setP405(final long pValue) {
+        this.p405 = pValue;
+    }
+
+    public double getP406() {
+        return this.p406;
+    }
+
+    public void setP406(final double pValue) {
+        this.p406 = pValue;
+    }
+
+    public String getP407() {
+        return this.p407;
+    }
+
+    public void setP407(final String pValue) {
+        this.p407 = pValue;
+    }
+
+    public int getP408() {
+        return this.p408;
+    }
+
+    public void setP408(final int pValue) {
+        this.p408 = pValue;
+    }
+
+    @Hidden
+    public long getP409() {
+        return this.p409;
+    }
+
+    public void setP409(final long pValue) {
+        this.p409 = pValue;
+    }
+
+    public double getP410() {
+        return this.p410;
+    }
+
+    public void setP410(final double pValue) {
+        this.p410 = pValue;
+    }
+
+    public String getP411() {
+        return this.p411;
+    }
+
+    public void setP411(final String pValue) {
+        this.p411 = pValue;
+    }
+
+    public int getP412() {
+        return this.p412;
+    }
+
+    public void setP412(final int pValue) {
+        this.p412 = pValue;
+    }
+
+    public long getP413() {
+        return this.p413;
+    }
+
+    public void setP413(final long pValue) {
+        this.p413 = pValue;
+    }
+
+    public double getP414() {
+        return this.p414;
+    }
+
+    public void setP414(final double pValue) {
+        this.p414 = pValue;
+    }
+
+    public String getP415() {
+        return this.p415;
+    }
+
+    public void setP415(final String pValue) {
+        this.p415 = pValue;
+    }
+
+    public int getP416() {
+        return this.p416;
+    }
+
+    public void setP416(final int pValue) {
+        this.p416 = pValue;
+    }
+
+    public long getP417() {
+        return this.p417;
+    }
+
+    public void setP417(final long pValue) {
+        this.p417 = pValue;
+    }
+
+    public double getP418() {
+        return this.p418;
+    }
+
+    public void setP418(final double pValue) {
+        this.p418 = pValue;
+    }
+
+    @Hidden
+    public String getP419() {
+        return this.p419;
+    }
+
+    public void setP419(final String pValue) {
+        this.p419 = pValue;
+    }
+
+    public int getP420() {
+        return this.p420;
+    }
+
+    public void setP420(final int pValue) {
+        this.p420 = pValue;
+    }
+
+    public long getP421() {
+        return this.p421;
+    }
+
+    public void setP421(final long pValue) {
+        this.p421 = pValue;
+    }
+
+    public double getP422() {
+        return this.p422;
+    }
+
+    public void setP422(final double pValue) {
+        this.p422 = pValue;
+    }
+
+    public String getP423() {
+        return this.p423;
+    }
+
+    public void setP423(final String pValue) {
+        this.p423 = pValue;
+    }
+
+    public int getP424() {
+        return this.p424;
+    }
+
+    public void setP424(final int pValue) {
+        this.p424 = pValue;
+    }
+
+    public long getP425() {
+        return this.p425;
+    }
+
+    public void setP425(final long pValue) {
+        this.p425 = pValue;
+    }
+
+    public double getP426() {
+        return this.p426;
+    }
+
+    public void setP426(final double pValue) {
+        this.p426 = pValue;
+    }
+
+    public String getP427() {
+        return this.p427;
+    }
+
+    public void setP427(final String pValue) {
+        this.p427 = pValue;
+    }
+
+    public int getP428() {
+        return this.p428;
+    }
+
+    public void setP428(final int pValue) {
+        this.p428 = pValue;
+    }
+
+    @Hidden
+    public long getP429() {
+        return this.p429;
+    }
+
+    public void setP429(final long pValue) {
+        this.p429 = pValue;
+    }
+
+    public double getP430() {
+        return this.p430;
+    }
+
+    public void setP430(final double pValue) {
+        this.p430 = pValue;
+    }
+
+    public String getP431() {
+        return this.p431;
+    }
+
+    public void setP431(final String pValue) {
+        this.p431 = pValue;
+    }
+
+    public int getP432() {
+        return this.p432;
+    }
+
+    public void setP432(final int pValue) {
+        this.p432 = pValue;
+    }
+
+    public long getP433() {
+        return this.p433;
+    }
+
+    public void setP433(final long pValue) {
+        this.p433 = pValue;
+    }
+
+    public double getP434() {
+        return this.p434;
+    }
+
+    public void setP434(final double pValue) {
+        this.p434 = pValue;
+    }
+
+    public String getP435() {
+        return this.p435;
+    }
+
+    public void setP435(final String pValue) {
+        this.p435 = pValue;
+    }
+
+    public int getP436() {
+        return this.p436;
+    }
+
+    public void setP436(final int pValue) {
+        this.p436 = pValue;
+    }
+
+    public long getP437() {
+        return this.p437;
+    }
+
+    public void setP437(final long pValue) {
+        this.p437 = pValue;
+    }
+
+    public double getP438() {
+        return this.p438;
+    }
+
+    public void setP438(final double pValue) {
+        this.p438 = pValue;
+    }
+
+    @Hidden
+    public String getP439() {
+        return this.p439;
+    }
+
+    public void setP439(final String pValue) {
+        this.p439 = pValue;
+    }
+
+    public int getP440() {
+        return this.p440;
+    }
+
+    public void setP440(final int pValue) {
+        this.p440 = pValue;
+    }
+
+    public long getP441() {
+        return this.p441;
+    }
+
+    public void setP441(final long pValue) {
+        this.p441 = pValue;
+    }
+
+    public double getP442() {
+        return this.p442;
+    }
+
+    public void setP442(final double pValue) {
+        this.p442 = pValue;
+    }
+
+    public String getP443() {
+        return this.p443;
+    }
+
+    public void setP443(final String pValue) {
+        this.p443 = pValue;
+    }
+
+    public int getP444() {
+        return this.p444;
+    }
+
+    public void setP444(final int pValue) {
+        this.p444 = pValue;
+    }
+
+    public long getP445() {
+        return this.p445;
+    }
+
+    public void setP445(final long pValue) {
+        this.p445 = pValue;
+    }
+
+    public double getP446() {
+        return this.p446;
+    }
+
+    public void setP446(final double pValue) {
+        this.p446 = pValue;
+    }
+
+    public String getP447() {
+        return this.p447;
+    }
+
+    public void setP447(final String pValue) {
+        this.p447 = pValue;
+    }
+
+    public int getP448() {
+        return this.p448;
+    }
+
+    public void setP448(final int pValue) {
+        this.p448 = pValue;
+    }
+
+    @Hidden
+    public long getP449() {
+        return this.p449;
+    }
+
+    public void setP449(final long pValue) {
+        this.p449 = pValue;
+    }
+
+    public double getP450() {
+        return this.p450;
+    }
+
+    public void setP450(final double pValue) {
+        this.p450 = pValue;
+    }
+
+    public String getP451() {
+        return this.p451;
+    }
+
+    public void setP451(final String pValue) {
+        this.p451 = pValue;
+    }
+
+    public int getP452() {
+        return this.p452;
+    }
+
+    public void setP452(final int pValue) {
+        this.p452 = pValue;
+    }
+
+    public long getP453() {
+        return this.p453;
+    }
+
+    public void setP453(final long pValue) {
+        this.p453 = pValue;
+    }
+
+    public double getP454() {
+        return this.p454;
+    }
+
+    public void setP454(final double pValue) {
+        this.p454 = pValue;
+    }
+
+    public String getP455() {
+        return this.p455;
+    }
+
+    public void setP455(final String pValue) {
+        this.p455 = pValue;
+    }
+
+    public int getP456() {
+        return this.p456;
+    }
+
+    public void setP456(final int pValue) {
+        this.p456 = pValue;
+    }
+
+    public long getP457() {
+        return this.p457;
+    }
+
+    public void setP457(final long pValue) {
+        this.p457 = pValue;
+    }
+
+    public double getP458() {
+        return this.p458;
+    }
+
+    public void setP458(final double pValue) {
+        this.p458 = pValue;
+    }
+
+    @Hidden
+    public String getP459() {
+        return this.p459;
+    }
+
+    public void setP459(final String pValue) {
+        this.p459 = pValue;
+    }
+
+    public int getP460() {
+        return this.p460;
+    }
+
+    public void setP460(final int pValue) {
+        this.p460 = pValue;
+    }
+
+    public long getP461() {
+        return this.p461;
+    }
+
+    public void setP461(final long pValue) {
+        this.p461 = pValue;
+    }
+
+    public double getP462() {
+        return this.p462;
+    }
+
+    public void setP462(final double pValue) {
+        this.p462 = pValue;
+    }
+
+    public String getP463() {
+        return this.p463;
+    }
+
+    public void setP463(final String pValue) {
+        this.p463 = pValue;
+    }
+
+    public int getP464() {
+        return this.p464;
+    }
+
+    public void setP464(final int pValue) {
+        this.p464 = pValue;
+    }
+
+    public long getP465() {
+        return this.p465;
+    }
+
+    public void setP465(final long pValue) {
+        this.p465 = pValue;
+    }
+
+    public double getP466() {
+        return this.p466;
+    }
+
+    public void setP466(final double pValue) {
+        this.p466 = pValue;
+    }
+
+    public String getP467() {
+        return this.p467;
+    }
+
+    public void setP467(final String pValue) {
+        this.p467 = pValue;
+    }
+
+    public int getP468() {
+        return this.p468;
+    }
+
+    public void setP468(final int pValue) {
+        this.p468 = pValue;
+    }
+
+    @Hidden
+    public long getP469() {
+        return this.p469;
+    }
+
+    public void setP469(final long pValue) {
+        this.p469 = pValue;
+    }
+
+    public double getP470() {
+        return this.p470;
+    }
+
+    public void setP470(final double pValue) {
+        this.p470 = pValue;
+    }
+
+    public String getP471() {
+        return this.p471;
+    }
+
+    public void setP471(final String pValue) {
+        this.p471 = pValue;
+    }
+
+    public int getP472() {
+        return this.p472;
+    }
+
+    public void setP472(final int pValue) {
+        this.p472 = pValue;
+    }
+
+    public long getP473() {
+        return this.p473;
+    }
+
+    public void setP473(final long pValue) {
+        this.p473 = pValue;
+    }
+
+    public double getP474() {
+        return this.p474;
+    }
+
+    public void setP474(final double pValue) {
+        this.p474 = pValue;
+    }
+
+    public String getP475() {
+        return this.p475;
+    }
+
+    public void setP475(final String pValue) {
+        this.p475 = pValue;
+    }
+
+    public int getP476() {
+        return this.p476;
+    }
+
+    public void setP476(final int pValue) {
+        this.p476 = pValue;
+    }
+
+    public long getP477() {
+        return this.p477;
+    }
+
+    public void setP477(final long pValue) {
+        this.p477 = pValue;
+    }
+
+    public double getP478() {
+        return this.p478;
+    }
+
+    public void setP478(final double pValue) {
+        this.p478 = pValue;
+    }
+
+    @Hidden
+    public String getP479() {
+        return this.p479;
+    }
+
+    public void setP479(final String pValue) {
+        this.p479 = pValue;
+    }
+
+    public int getP480() {
+        return this.p480;
+    }
+
+    public void setP480(final int pValue) {
+        this.p480 = pValue;
+    }
+
+    public long getP481() {
+        return this.p481;
+    }
+
+    public void setP481(final long pValue) {
+        this.p481 = pValue;
+    }
+
+    public double getP482() {
+        return this.p482;
+    }
+
+    public void setP482(final double pValue) {
+        this.p482 = pValue;
+    }
+
+    public String getP483() {
+        return this.p483;
+    }
+
+    public void setP483(final String pValue) {
+        this.p483 = pValue;
+    }
+
+    public int getP484() {
+        return this.p484;
+    }
+
+    public void setP484(final int pValue) {
+        this.p484 = pValue;
+    }
+
+    public long getP485() {
+        return this.p485;
+    }
+
+    public void setP485(final long pValue) {
+        this.p485 = pValue;
+    }
+
+    public double getP486() {
+        return this.p486;
+    }
+
+    public void setP486(final double pValue) {
+        this.p486 = pValue;
+    }
+
+    public String getP487() {
+        return this.p487;
+    }
+
+    public void setP487(final String pValue) {
+        this.p487 = pValue;
+    }
+
+    public int getP488() {
+        return this.p488;
+    }
+
+    public void setP488(final int pValue) {
+        this.p488 = pValue;
+    }
+
+    @Hidden
+    public long getP489() {
+        return this.p489;
+    }
+
+    public void setP489(final long pValue) {
+        this.p489 = pValue;
+    }
+
+    public double getP490() {
+        return this.p490;
+    }
+
+    public void setP490(final double pValue) {
+        this.p490 = pValue;
+    }
+
+    public String getP491() {
+        return this.p491;
+    }
+
+    public void setP491(final String pValue) {
+        this.p491 = pValue;
+    }
+
+    public int getP492() {
+        return this.p492;
+    }
+
+    public void setP492(final int pValue) {
+        this.p492 = pValue;
+    }
+
+    public long getP493() {
+        return this.p493;
+    }
+
+    public void setP493(final long pValue) {
+        this.p493 = pValue;
+    }
+
+    public double getP494() {
+        return this.p494;
+    }
+
+    public void setP494(final double pValue) {
+        this.p494 = pValue;
+    }
+
+    public String getP495() {
+        return this.p495;
+    }
+
+    public void setP495(final String pValue) {
+        this.p495 = pValue;
+    }
+
+    public int getP496() {
+        return this.p496;
+    }
+
+    public void setP496(final int pValue) {
+        this.p496 = pValue;
+    }
+
+    public long getP497() {
+        return this.p497;
+    }
+
+    public void setP497(final long pValue) {
+        this.p497 = pValue;
+    }
+
+    public double getP498() {
+        return this.p498;
+    }
+
+    public void setP498(final double pValue) {
+        this.p498 = pValue;
+    }
+
+    @Hidden
+    public String getP499() {
+        return this.p499;
+    }
+
+    public void setP499(final String pValue) {
+        this.p499 = pValue;
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+/**
+ * ベンチマークの{@link org.openjdk.jmh.annotations.Param}の値から、対象のBeanの型を引きます. <br>
+ * 値は"10"、"100"、"500"(その数のプロパティを持つフラットなBean)と"deep"({@link DeepBeans#LEAF})です. <br>
+ * 
+ * @author jabaraster
+ */
+final class BenchmarkBeans {
+
+    private BenchmarkBeans() {
+        //
+    }
+
+    @SuppressWarnings("nls")
+    static Class<?> get(final String pName) {
+        switch (pName) {
+        case "10":
+            return Bean010.class;
+        case "100":
+            return Bean100.class;
+        case "500":
+            return Bean500.class;
+        case "deep":
+            return DeepBeans.LEAF;
+        default:
+            throw new IllegalArgumentException("unknown bean '" + pName + "'.");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.annotation.Nullable;
+import jabara.bean.annotation.Order;
+
+/**
+ * 業務でよくある形の、文字列と数値が混在するベンチマーク用のBeanです.
+ * 
+ * @author jabaraster
+ */
+public class CustomerBean {
+
+    /**
+     * 状態.
+     */
+    public enum Status {
+        /**
+         * 
+         */
+        ACTIVE,
+        /**
+         * 
+         */
+        SUSPENDED
+    }
+
+    private long    id;
+    private String  name;
+    private String  email;
+    private int     age;
+    private double  balance;
+    private boolean premium;
+    private Status  status;
+    private String  note;
+
+    /**
+     * @return ageを返す.
+     */
+    @Order(40)
+    public int getAge() {
+        return this.age;
+    }
+
+    /**
+     * @return balanceを返す.
+     */
+    @Order(50)
+    public double getBalance() {
+        return this.balance;
+    }
+
+    /**
+     * @return emailを返す.
+     */
+    @Order(30)
+    public String getEmail() {
+        return this.email;
+    }
+
+    /**
+     * @return idを返す.
+     */
+    @Order(10)
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * @return nameを返す.
+     */
+    @Order(20)
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return noteを返す.
+     */
+    @Order(80)
+    @Nullable
+    public String getNote() {
+        return this.note;
+    }
+
+    /**
+     * @return statusを返す.
+     */
+    @Order(70)
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @return premiumを返す.
+     */
+    @Order(60)
+    public boolean isPremium() {
+        return this.premium;
+    }
+
+    /**
+     * @param pAge ageを設定.
+     */
+    public void setAge(final int pAge) {
+        this.age = pAge;
+    }
+
+    /**
+     * @param pBalance balanceを設定.
+     */
+    public void setBalance(final double pBalance) {
+        this.balance = pBalance;
+    }
+
+    /**
+     * @param pEmail emailを設定.
+     */
+    public void setEmail(final String pEmail) {
+        this.email = pEmail;
+    }
+
+    /**
+     * @param pId idを設定.
+     */
+    public void setId(final long pId) {
+        this.id = pId;
+    }
+
+    /**
+     * @param pName nameを設定.
+     */
+    public void setName(final String pName) {
+        this.name = pName;
+    }
+
+    /**
+     * @param pNote noteを設定.
+     */
+    public void setNote(final String pNote) {
+        this.note = pNote;
+    }
+
+    /**
+     * @param pPremium premiumを設定.
+     */
+    public void setPremium(final boolean pPremium) {
+        this.premium = pPremium;
+    }
+
+    /**
+     * @param pStatus statusを設定.
+     */
+    public void setStatus(final Status pStatus) {
+        this.status = pStatus;
+    }
+
+    /**
+     * @return 値を一通り設定したインスタンス.
+     */
+    @SuppressWarnings("nls")
+    public static CustomerBean sample() {
+        final CustomerBean ret = new CustomerBean();
+        ret.setId(1234567890L);
+        ret.setName("山田 太郎");
+        ret.setEmail("taro.yamada@example.com");
+        ret.setAge(42);
+        ret.setBalance(12345.67);
+        ret.setPremium(true);
+        ret.setStatus(Status.ACTIVE);
+        ret.setNote(null);
+        return ret;
+    }
+}
@@ -0,0 +1,1083 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+/**
+ * 継承の深いベンチマーク用のBeanです. <br>
+ * 20段の継承で、各段に5個のプロパティを宣言しています. 最も深い型は{@link #LEAF}です. <br>
+ * 
+ * @author jabaraster
+ */
+@SuppressWarnings("javadoc")
+public final class DeepBeans {
+
+    /**
+     * 最も深い型. プロパティは100個です.
+     */
+    public static final Class<?> LEAF = Level19.class;
+
+    private DeepBeans() {
+        //
+    }
+
+    /**
+     * 継承の1段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level00 {
+        private int    l00p0;
+        private long   l00p1;
+        private double l00p2;
+        private String l00p3;
+        private int    l00p4;
+
+        public int getL00p0() {
+            return this.l00p0;
+        }
+
+        public void setL00p0(final int pValue) {
+            this.l00p0 = pValue;
+        }
+
+        public long getL00p1() {
+            return this.l00p1;
+        }
+
+        public void setL00p1(final long pValue) {
+            this.l00p1 = pValue;
+        }
+
+        public double getL00p2() {
+            return this.l00p2;
+        }
+
+        public void setL00p2(final double pValue) {
+            this.l00p2 = pValue;
+        }
+
+        public String getL00p3() {
+            return this.l00p3;
+        }
+
+        public void setL00p3(final String pValue) {
+            this.l00p3 = pValue;
+        }
+
+        public int getL00p4() {
+            return this.l00p4;
+        }
+
+        public void setL00p4(final int pValue) {
+            this.l00p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の2段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level01 extends Level00 {
+        private int    l01p0;
+        private long   l01p1;
+        private double l01p2;
+        private String l01p3;
+        private int    l01p4;
+
+        public int getL01p0() {
+            return this.l01p0;
+        }
+
+        public void setL01p0(final int pValue) {
+            this.l01p0 = pValue;
+        }
+
+        public long getL01p1() {
+            return this.l01p1;
+        }
+
+        public void setL01p1(final long pValue) {
+            this.l01p1 = pValue;
+        }
+
+        public double getL01p2() {
+            return this.l01p2;
+        }
+
+        public void setL01p2(final double pValue) {
+            this.l01p2 = pValue;
+        }
+
+        public String getL01p3() {
+            return this.l01p3;
+        }
+
+        public void setL01p3(final String pValue) {
+            this.l01p3 = pValue;
+        }
+
+        public int getL01p4() {
+            return this.l01p4;
+        }
+
+        public void setL01p4(final int pValue) {
+            this.l01p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の3段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level02 extends Level01 {
+        private int    l02p0;
+        private long   l02p1;
+        private double l02p2;
+        private String l02p3;
+        private int    l02p4;
+
+        public int getL02p0() {
+            return this.l02p0;
+        }
+
+        public void setL02p0(final int pValue) {
+            this.l02p0 = pValue;
+        }
+
+        public long getL02p1() {
+            return this.l02p1;
+        }
+
+        public void setL02p1(final long pValue) {
+            this.l02p1 = pValue;
+        }
+
+        public double getL02p2() {
+            return this.l02p2;
+        }
+
+        public void setL02p2(final double pValue) {
+            this.l02p2 = pValue;
+        }
+
+        public String getL02p3() {
+            return this.l02p3;
+        }
+
+        public void setL02p3(final String pValue) {
+            this.l02p3 = pValue;
+        }
+
+        public int getL02p4() {
+            return this.l02p4;
+        }
+
+        public void setL02p4(final int pValue) {
+            this.l02p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の4段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level03 extends Level02 {
+        private int    l03p0;
+        private long   l03p1;
+        private double l03p2;
+        private String l03p3;
+        private int    l03p4;
+
+        public int getL03p0() {
+            return this.l03p0;
+        }
+
+        public void setL03p0(final int pValue) {
+            this.l03p0 = pValue;
+        }
+
+        public long getL03p1() {
+            return this.l03p1;
+        }
+
+        public void setL03p1(final long pValue) {
+            this.l03p1 = pValue;
+        }
+
+        public double getL03p2() {
+            return this.l03p2;
+        }
+
+        public void setL03p2(final double pValue) {
+            this.l03p2 = pValue;
+        }
+
+        public String getL03p3() {
+            return this.l03p3;
+        }
+
+        public void setL03p3(final String pValue) {
+            this.l03p3 = pValue;
+        }
+
+        public int getL03p4() {
+            return this.l03p4;
+        }
+
+        public void setL03p4(final int pValue) {
+            this.l03p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の5段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level04 extends Level03 {
+        private int    l04p0;
+        private long   l04p1;
+        private double l04p2;
+        private String l04p3;
+        private int    l04p4;
+
+        public int getL04p0() {
+            return this.l04p0;
+        }
+
+        public void setL04p0(final int pValue) {
+            this.l04p0 = pValue;
+        }
+
+        public long getL04p1() {
+            return this.l04p1;
+        }
+
+        public void setL04p1(final long pValue) {
+            this.l04p1 = pValue;
+        }
+
+        public double getL04p2() {
+            return this.l04p2;
+        }
+
+        public void setL04p2(final double pValue) {
+            this.l04p2 = pValue;
+        }
+
+        public String getL04p3() {
+            return this.l04p3;
+        }
+
+        public void setL04p3(final String pValue) {
+            this.l04p3 = pValue;
+        }
+
+        public int getL04p4() {
+            return this.l04p4;
+        }
+
+        public void setL04p4(final int pValue) {
+            this.l04p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の6段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level05 extends Level04 {
+        private int    l05p0;
+        private long   l05p1;
+        private double l05p2;
+        private String l05p3;
+        private int    l05p4;
+
+        public int getL05p0() {
+            return this.l05p0;
+        }
+
+        public void setL05p0(final int pValue) {
+            this.l05p0 = pValue;
+        }
+
+        public long getL05p1() {
+            return this.l05p1;
+        }
+
+        public void setL05p1(final long pValue) {
+            this.l05p1 = pValue;
+        }
+
+        public double getL05p2() {
+            return this.l05p2;
+        }
+
+        public void setL05p2(final double pValue) {
+            this.l05p2 = pValue;
+        }
+
+        public String getL05p3() {
+            return this.l05p3;
+        }
+
+        public void setL05p3(final String pValue) {
+            this.l05p3 = pValue;
+        }
+
+        public int getL05p4() {
+            return this.l05p4;
+        }
+
+        public void setL05p4(final int pValue) {
+            this.l05p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の7段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level06 extends Level05 {
+        private int    l06p0;
+        private long   l06p1;
+        private double l06p2;
+        private String l06p3;
+        private int    l06p4;
+
+        public int getL06p0() {
+            return this.l06p0;
+        }
+
+        public void setL06p0(final int pValue) {
+            this.l06p0 = pValue;
+        }
+
+        public long getL06p1() {
+            return this.l06p1;
+        }
+
+        public void setL06p1(final long pValue) {
+            this.l06p1 = pValue;
+        }
+
+        public double getL06p2() {
+            return this.l06p2;
+        }
+
+        public void setL06p2(final double pValue) {
+            this.l06p2 = pValue;
+        }
+
+        public String getL06p3() {
+            return this.l06p3;
+        }
+
+        public void setL06p3(final String pValue) {
+            this.l06p3 = pValue;
+        }
+
+        public int getL06p4() {
+            return this.l06p4;
+        }
+
+        public void setL06p4(final int pValue) {
+            this.l06p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の8段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level07 extends Level06 {
+        private int    l07p0;
+        private long   l07p1;
+        private double l07p2;
+        private String l07p3;
+        private int    l07p4;
+
+        public int getL07p0() {
+            return this.l07p0;
+        }
+
+        public void setL07p0(final int pValue) {
+            this.l07p0 = pValue;
+        }
+
+        public long getL07p1() {
+            return this.l07p1;
+        }
+
+        public void setL07p1(final long pValue) {
+            this.l07p1 = pValue;
+        }
+
+        public double getL07p2() {
+            return this.l07p2;
+        }
+
+        public void setL07p2(final double pValue) {
+            this.l07p2 = pValue;
+        }
+
+        public String getL07p3() {
+            return this.l07p3;
+        }
+
+        public void setL07p3(final String pValue) {
+            this.l07p3 = pValue;
+        }
+
+        public int getL07p4() {
+            return this.l07p4;
+        }
+
+        public void setL07p4(final int pValue) {
+            this.l07p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の9段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level08 extends Level07 {
+        private int    l08p0;
+        private long   l08p1;
+        private double l08p2;
+        private String l08p3;
+        private int    l08p4;
+
+        public int getL08p0() {
+            return this.l08p0;
+        }
+
+        public void setL08p0(final int pValue) {
+            this.l08p0 = pValue;
+        }
+
+        public long getL08p1() {
+            return this.l08p1;
+        }
+
+        public void setL08p1(final long pValue) {
+            this.l08p1 = pValue;
+        }
+
+        public double getL08p2() {
+            return this.l08p2;
+        }
+
+        public void setL08p2(final double pValue) {
+            this.l08p2 = pValue;
+        }
+
+        public String getL08p3() {
+            return this.l08p3;
+        }
+
+        public void setL08p3(final String pValue) {
+            this.l08p3 = pValue;
+        }
+
+        public int getL08p4() {
+            return this.l08p4;
+        }
+
+        public void setL08p4(final int pValue) {
+            this.l08p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の10段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level09 extends Level08 {
+        private int    l09p0;
+        private long   l09p1;
+        private double l09p2;
+        private String l09p3;
+        private int    l09p4;
+
+        public int getL09p0() {
+            return this.l09p0;
+        }
+
+        public void setL09p0(final int pValue) {
+            this.l09p0 = pValue;
+        }
+
+        public long getL09p1() {
+            return this.l09p1;
+        }
+
+        public void setL09p1(final long pValue) {
+            this.l09p1 = pValue;
+        }
+
+        public double getL09p2() {
+            return this.l09p2;
+        }
+
+        public void setL09p2(final double pValue) {
+            this.l09p2 = pValue;
+        }
+
+        public String getL09p3() {
+            return this.l09p3;
+        }
+
+        public void setL09p3(final String pValue) {
+            this.l09p3 = pValue;
+        }
+
+        public int getL09p4() {
+            return this.l09p4;
+        }
+
+        public void setL09p4(final int pValue) {
+            this.l09p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の11段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level10 extends Level09 {
+        private int    l10p0;
+        private long   l10p1;
+        private double l10p2;
+        private String l10p3;
+        private int    l10p4;
+
+        public int getL10p0() {
+            return this.l10p0;
+        }
+
+        public void setL10p0(final int pValue) {
+            this.l10p0 = pValue;
+        }
+
+        public long getL10p1() {
+            return this.l10p1;
+        }
+
+        public void setL10p1(final long pValue) {
+            this.l10p1 = pValue;
+        }
+
+        public double getL10p2() {
+            return this.l10p2;
+        }
+
+        public void setL10p2(final double pValue) {
+            this.l10p2 = pValue;
+        }
+
+        public String getL10p3() {
+            return this.l10p3;
+        }
+
+        public void setL10p3(final String pValue) {
+            this.l10p3 = pValue;
+        }
+
+        public int getL10p4() {
+            return this.l10p4;
+        }
+
+        public void setL10p4(final int pValue) {
+            this.l10p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の12段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level11 extends Level10 {
+        private int    l11p0;
+        private long   l11p1;
+        private double l11p2;
+        private String l11p3;
+        private int    l11p4;
+
+        public int getL11p0() {
+            return this.l11p0;
+        }
+
+        public void setL11p0(final int pValue) {
+            this.l11p0 = pValue;
+        }
+
+        public long getL11p1() {
+            return this.l11p1;
+        }
+
+        public void setL11p1(final long pValue) {
+            this.l11p1 = pValue;
+        }
+
+        public double getL11p2() {
+            return this.l11p2;
+        }
+
+        public void setL11p2(final double pValue) {
+            this.l11p2 = pValue;
+        }
+
+        public String getL11p3() {
+            return this.l11p3;
+        }
+
+        public void setL11p3(final String pValue) {
+            this.l11p3 = pValue;
+        }
+
+        public int getL11p4() {
+            return this.l11p4;
+        }
+
+        public void setL11p4(final int pValue) {
+            this.l11p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の13段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level12 extends Level11 {
+        private int    l12p0;
+        private long   l12p1;
+        private double l12p2;
+        private String l12p3;
+        private int    l12p4;
+
+        public int getL12p0() {
+            return this.l12p0;
+        }
+
+        public void setL12p0(final int pValue) {
+            this.l12p0 = pValue;
+        }
+
+        public long getL12p1() {
+            return this.l12p1;
+        }
+
+        public void setL12p1(final long pValue) {
+            this.l12p1 = pValue;
+        }
+
+        public double getL12p2() {
+            return this.l12p2;
+        }
+
+        public void setL12p2(final double pValue) {
+            this.l12p2 = pValue;
+        }
+
+        public String getL12p3() {
+            return this.l12p3;
+        }
+
+        public void setL12p3(final String pValue) {
+            this.l12p3 = pValue;
+        }
+
+        public int getL12p4() {
+            return this.l12p4;
+        }
+
+        public void setL12p4(final int pValue) {
+            this.l12p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の14段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level13 extends Level12 {
+        private int    l13p0;
+        private long   l13p1;
+        private double l13p2;
+        private String l13p3;
+        private int    l13p4;
+
+        public int getL13p0() {
+            return this.l13p0;
+        }
+
+        public void setL13p0(final int pValue) {
+            this.l13p0 = pValue;
+        }
+
+        public long getL13p1() {
+            return this.l13p1;
+        }
+
+        public void setL13p1(final long pValue) {
+            this.l13p1 = pValue;
+        }
+
+        public double getL13p2() {
+            return this.l13p2;
+        }
+
+        public void setL13p2(final double pValue) {
+            this.l13p2 = pValue;
+        }
+
+        public String getL13p3() {
+            return this.l13p3;
+        }
+
+        public void setL13p3(final String pValue) {
+            this.l13p3 = pValue;
+        }
+
+        public int getL13p4() {
+            return this.l13p4;
+        }
+
+        public void setL13p4(final int pValue) {
+            this.l13p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の15段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level14 extends Level13 {
+        private int    l14p0;
+        private long   l14p1;
+        private double l14p2;
+        private String l14p3;
+        private int    l14p4;
+
+        public int getL14p0() {
+            return this.l14p0;
+        }
+
+        public void setL14p0(final int pValue) {
+            this.l14p0 = pValue;
+        }
+
+        public long getL14p1() {
+            return this.l14p1;
+        }
+
+        public void setL14p1(final long pValue) {
+            this.l14p1 = pValue;
+        }
+
+        public double getL14p2() {
+            return this.l14p2;
+        }
+
+        public void setL14p2(final double pValue) {
+            this.l14p2 = pValue;
+        }
+
+        public String getL14p3() {
+            return this.l14p3;
+        }
+
+        public void setL14p3(final String pValue) {
+            this.l14p3 = pValue;
+        }
+
+        public int getL14p4() {
+            return this.l14p4;
+        }
+
+        public void setL14p4(final int pValue) {
+            this.l14p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の16段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level15 extends Level14 {
+        private int    l15p0;
+        private long   l15p1;
+        private double l15p2;
+        private String l15p3;
+        private int    l15p4;
+
+        public int getL15p0() {
+            return this.l15p0;
+        }
+
+        public void setL15p0(final int pValue) {
+            this.l15p0 = pValue;
+        }
+
+        public long getL15p1() {
+            return this.l15p1;
+        }
+
+        public void setL15p1(final long pValue) {
+            this.l15p1 = pValue;
+        }
+
+        public double getL15p2() {
+            return this.l15p2;
+        }
+
+        public void setL15p2(final double pValue) {
+            this.l15p2 = pValue;
+        }
+
+        public String getL15p3() {
+            return this.l15p3;
+        }
+
+        public void setL15p3(final String pValue) {
+            this.l15p3 = pValue;
+        }
+
+        public int getL15p4() {
+            return this.l15p4;
+        }
+
+        public void setL15p4(final int pValue) {
+            this.l15p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の17段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level16 extends Level15 {
+        private int    l16p0;
+        private long   l16p1;
+        private double l16p2;
+        private String l16p3;
+        private int    l16p4;
+
+        public int getL16p0() {
+            return this.l16p0;
+        }
+
+        public void setL16p0(final int pValue) {
+            this.l16p0 = pValue;
+        }
+
+        public long getL16p1() {
+            return this.l16p1;
+        }
+
+        public void setL16p1(final long pValue) {
+            this.l16p1 = pValue;
+        }
+
+        public double getL16p2() {
+            return this.l16p2;
+        }
+
+        public void setL16p2(final double pValue) {
+            this.l16p2 = pValue;
+        }
+
+        public String getL16p3() {
+            return this.l16p3;
+        }
+
+        public void setL16p3(final String pValue) {
+            this.l16p3 = pValue;
+        }
+
+        public int getL16p4() {
+            return this.l16p4;
+        }
+
+        public void setL16p4(final int pValue) {
+            this.l16p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の18段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level17 extends Level16 {
+        private int    l17p0;
+        private long   l17p1;
+        private double l17p2;
+        private String l17p3;
+        private int    l17p4;
+
+        public int getL17p0() {
+            return this.l17p0;
+        }
+
+        public void setL17p0(final int pValue) {
+            this.l17p0 = pValue;
+        }
+
+        public long getL17p1() {
+            return this.l17p1;
+        }
+
+        public void setL17p1(final long pValue) {
+            this.l17p1 = pValue;
+        }
+
+        public double getL17p2() {
+            return this.l17p2;
+        }
+
+        public void setL17p2(final double pValue) {
+            this.l17p2 = pValue;
+        }
+
+        public String getL17p3() {
+            return this.l17p3;
+        }
+
+        public void setL17p3(final String pValue) {
+            this.l17p3 = pValue;
+        }
+
+        public int getL17p4() {
+            return this.l17p4;
+        }
+
+        public void setL17p4(final int pValue) {
+            this.l17p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の19段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level18 extends Level17 {
+        private int    l18p0;
+        private long   l18p1;
+        private double l18p2;
+        private String l18p3;
+        private int    l18p4;
+
+        public int getL18p0() {
+            return this.l18p0;
+        }
+
+        public void setL18p0(final int pValue) {
+            this.l18p0 = pValue;
+        }
+
+        public long getL18p1() {
+            return this.l18p1;
+        }
+
+        public void setL18p1(final long pValue) {
+            this.l18p1 = pValue;
+        }
+
+        public double getL18p2() {
+            return this.l18p2;
+        }
+
+        public void setL18p2(final double pValue) {
+            this.l18p2 = pValue;
+        }
+
+        public String getL18p3() {
+            return this.l18p3;
+        }
+
+        public void setL18p3(final String pValue) {
+            this.l18p3 = pValue;
+        }
+
+        public int getL18p4() {
+            return this.l18p4;
+        }
+
+        public void setL18p4(final int pValue) {
+            this.l18p4 = pValue;
+        }
+    }
+
+    /**
+     * 継承の20段目です.
+     * 
+     * @author jabaraster
+     */
+    public static class Level19 extends Level18 {
+        private int    l19p0;
+        private long   l19p1;
+        private double l19p2;
+        private String l19p3;
+        private int    l19p4;
+
+        public int getL19p0() {
+            return this.l19p0;
+        }
+
+        public void setL19p0(final int pValue) {
+            this.l19p0 = pValue;
+        }
+
+        public long getL19p1() {
+            return this.l19p1;
+        }
+
+        public void setL19p1(final long pValue) {
+            this.l19p1 = pValue;
+        }
+
+        public double getL19p2() {
+            return this.l19p2;
+        }
+
+        public void setL19p2(final double pValue) {
+            this.l19p2 = pValue;
+        }
+
+        public String getL19p3() {
+            return this.l19p3;
+        }
+
+        public void setL19p3(final String pValue) {
+            this.l19p3 = pValue;
+        }
+
+        public int getL19p4() {
+            return this.l19p4;
+        }
+
+        public void setL19p4(final int pValue) {
+            this.l19p4 = pValue;
+        }
+    }
+}
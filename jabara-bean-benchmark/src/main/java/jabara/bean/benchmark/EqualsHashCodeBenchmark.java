@@ -0,0 +1,113 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.BeanProperties;
+import jabara.bean.BeanPropertiesCache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * プロパティ数の多いBean({@link WideBean})について、{@link BeanProperties}の{@link Object#equals(Object)}と{@link Object#hashCode()}を計測します. <br>
+ * {@link BeanProperties}をキーにしたキャッシュの検索を想定しています. <br>
+ * 
+ * @author jabaraster
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EqualsHashCodeBenchmark {
+
+    private BeanProperties              canonical;
+    private BeanProperties              another; // canonicalと等しいが別のインスタンス.
+    private BeanProperties              visible;
+    private BeanProperties              selected; // visibleと同じプロパティをselectで抽出したビュー.
+    private Map<BeanProperties, Object> cache;
+
+    /**
+     * 
+     */
+    @Setup
+    public void setUp() {
+        // キャッシュから外して作り直すことで、等しいが別のインスタンスを得る.
+        BeanPropertiesCache.remove(WideBean.class);
+        this.another = BeanProperties.getInstance(WideBean.class);
+        BeanPropertiesCache.remove(WideBean.class);
+        this.canonical = BeanProperties.getInstance(WideBean.class);
+
+        this.visible = this.canonical.toVisiblePropertiesOnly();
+        final String[] names = new String[this.visible.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = this.visible.get(i).getName();
+        }
+        this.selected = this.canonical.select(names);
+
+        this.cache = new HashMap<BeanProperties, Object>();
+        this.cache.put(this.canonical, this.canonical);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public boolean equals_distinctInstance() {
+        return this.canonical.equals(this.another);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public boolean equals_sameInstance() {
+        return this.canonical.equals(this.canonical);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public boolean equals_viewsOfSameInstance() {
+        return this.visible.equals(this.selected);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public int hashCode_() {
+        return this.canonical.hashCode();
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public Object mapGet_distinctInstance() {
+        return this.cache.get(this.another);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public Object mapGet_sameInstance() {
+        return this.cache.get(this.canonical);
+    }
+}
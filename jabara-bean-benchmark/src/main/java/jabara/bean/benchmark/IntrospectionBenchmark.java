@@ -0,0 +1,81 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.BeanProperties;
+import jabara.bean.BeanPropertiesCache;
+
+import java.beans.Introspector;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * キャッシュされていない状態からの{@link BeanProperties#getInstance(Class, BeanProperties.Resolution)}を計測します. <br>
+ * 毎回の呼び出しの前に{@link BeanPropertiesCache}と{@link Introspector}のキャッシュを破棄するので、イントロスペクションの全てのコストが含まれます. <br>
+ * キャッシュ済みの場合は{@link PropertyLookupBenchmark#getInstance_warm()}を見て下さい. <br>
+ * 
+ * @author jabaraster
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntrospectionBenchmark {
+
+    /**
+     * 対象のBean. {@link BenchmarkBeans#get(String)}を見て下さい.
+     */
+    @Param({ "10", "100", "500", "deep" })
+    public String    bean;
+
+    private Class<?> beanType;
+
+    /**
+     * 
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.beanType = BenchmarkBeans.get(this.bean);
+    }
+
+    /**
+     * 
+     */
+    @Setup(Level.Invocation)
+    public void evict() {
+        BeanPropertiesCache.remove(this.beanType);
+        // 継承の深いBeanでは親クラスのBeanInfoもキャッシュされるので、全て破棄する.
+        Introspector.flushCaches();
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public BeanProperties getInstance_cold_eager() {
+        return BeanProperties.getInstance(this.beanType, BeanProperties.Resolution.EAGER);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public BeanProperties getInstance_cold_lazy() {
+        return BeanProperties.getInstance(this.beanType, BeanProperties.Resolution.LAZY);
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.io.JsonCodec;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link JsonCodec}と、リフレクションでgetterを呼んで{@link StringBuilder}に組み立てる素朴な実装とを比較します. <br>
+ * 素朴な実装はプロパティの一覧だけを事前に取得し、値の取得と文字列化は毎回行います. <br>
+ * アロケーション量を比べるには -prof gc を付けて実行して下さい. <br>
+ * 
+ * @author jabaraster
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+
+    private CustomerBean            bean;
+    private JsonCodec<CustomerBean> codec;
+    private ByteBuffer              output;
+    private ByteBuffer              encoded;
+    private ReflectiveJsonWriter    reflective;
+
+    /**
+     * 
+     */
+    @Setup
+    public void setUp() {
+        this.bean = CustomerBean.sample();
+        this.codec = JsonCodec.getInstance(CustomerBean.class);
+        this.output = ByteBuffer.allocate(4096);
+        this.reflective = new ReflectiveJsonWriter(CustomerBean.class);
+
+        this.encoded = ByteBuffer.allocate(4096);
+        this.codec.write(this.bean, this.encoded);
+        this.encoded.flip();
+    }
+
+    /**
+     * @return -
+     * @throws Exception -
+     */
+    @Benchmark
+    public CustomerBean read_codec() throws Exception {
+        this.encoded.rewind();
+        return this.codec.read(this.encoded);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public int write_codec() {
+        this.output.clear();
+        this.codec.write(this.bean, this.output);
+        return this.output.position();
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public int write_reflective() {
+        this.output.clear();
+        this.output.put(this.reflective.write(this.bean));
+        return this.output.position();
+    }
+
+    /**
+     * リフレクションによる素朴なJSONの書き出し. 比較対象としてだけ使います.
+     */
+    static final class ReflectiveJsonWriter {
+        private final List<PropertyDescriptor> properties = new ArrayList<>();
+
+        ReflectiveJsonWriter(final Class<?> pBeanType) {
+            try {
+                for (final PropertyDescriptor property : Introspector.getBeanInfo(pBeanType, Object.class).getPropertyDescriptors()) {
+                    if (property.getReadMethod() != null) {
+                        this.properties.add(property);
+                    }
+                }
+            } catch (final IntrospectionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        byte[] write(final Object pBean) {
+            final StringBuilder sb = new StringBuilder();
+            sb.append('{');
+            boolean first = true;
+            for (final PropertyDescriptor property : this.properties) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                sb.append('"').append(property.getName()).append("\":"); //$NON-NLS-1$
+                appendValue(sb, invoke(property.getReadMethod(), pBean));
+            }
+            sb.append('}');
+            return sb.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static void appendValue(final StringBuilder pSb, final Object pValue) {
+            if (pValue == null || pValue instanceof Number || pValue instanceof Boolean) {
+                pSb.append(pValue);
+                return;
+            }
+            pSb.append('"');
+            final String s = pValue instanceof Enum<?> ? ((Enum<?>) pValue).name() : pValue.toString();
+            for (int i = 0; i < s.length(); i++) {
+                final char c = s.charAt(i);
+                if (c == '"' || c == '\\') {
+                    pSb.append('\\');
+                }
+                pSb.append(c);
+            }
+            pSb.append('"');
+        }
+
+        private static Object invoke(final Method pGetter, final Object pBean) {
+            try {
+                return pGetter.invoke(pBean);
+            } catch (final IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
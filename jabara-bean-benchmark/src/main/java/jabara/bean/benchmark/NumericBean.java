@@ -0,0 +1,72 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+/**
+ * 数値型のプロパティを持つベンチマーク用のBeanです.
+ * 
+ * @author jabaraster
+ */
+public class NumericBean {
+    private int     intValue;
+    private long    longValue;
+    private double  doubleValue;
+    private boolean booleanValue;
+
+    /**
+     * @return doubleValueを返す.
+     */
+    public double getDoubleValue() {
+        return this.doubleValue;
+    }
+
+    /**
+     * @return intValueを返す.
+     */
+    public int getIntValue() {
+        return this.intValue;
+    }
+
+    /**
+     * @return longValueを返す.
+     */
+    public long getLongValue() {
+        return this.longValue;
+    }
+
+    /**
+     * @return booleanValueを返す.
+     */
+    public boolean isBooleanValue() {
+        return this.booleanValue;
+    }
+
+    /**
+     * @param pBooleanValue booleanValueを設定.
+     */
+    public void setBooleanValue(final boolean pBooleanValue) {
+        this.booleanValue = pBooleanValue;
+    }
+
+    /**
+     * @param pDoubleValue doubleValueを設定.
+     */
+    public void setDoubleValue(final double pDoubleValue) {
+        this.doubleValue = pDoubleValue;
+    }
+
+    /**
+     * @param pIntValue intValueを設定.
+     */
+    public void setIntValue(final int pIntValue) {
+        this.intValue = pIntValue;
+    }
+
+    /**
+     * @param pLongValue longValueを設定.
+     */
+    public void setLongValue(final long pLongValue) {
+        this.longValue = pLongValue;
+    }
+}
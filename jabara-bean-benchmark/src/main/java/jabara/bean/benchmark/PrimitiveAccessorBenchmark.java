@@ -0,0 +1,110 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.BeanProperties;
+import jabara.bean.BeanProperty;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * プリミティブ型専用のアクセサ({@link BeanProperty#getLong(Object)}等)と、ボクシングを伴う{@link BeanProperty#getValue(Object)}を比較します. <br>
+ * アロケーション量を比べるには -prof gc を付けて実行して下さい. <br>
+ * 
+ * @author jabaraster
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveAccessorBenchmark {
+
+    private NumericBean  bean;
+    private BeanProperty longProperty;
+    private BeanProperty doubleProperty;
+    private long         counter;
+
+    /**
+     * 
+     */
+    @Setup
+    public void setUp() {
+        final BeanProperties properties = BeanProperties.getInstance(NumericBean.class);
+        this.longProperty = properties.get("longValue"); //$NON-NLS-1$
+        this.doubleProperty = properties.get("doubleValue"); //$NON-NLS-1$
+        this.bean = new NumericBean();
+        // ボクシングのキャッシュ範囲(-128～127)に入らない値にしておく.
+        this.bean.setLongValue(1000000L);
+        this.bean.setDoubleValue(1000000.5);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public double getDouble_boxed() {
+        return ((Double) this.doubleProperty.getValue(this.bean)).doubleValue();
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public double getDouble_primitive() {
+        return this.doubleProperty.getDouble(this.bean);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public long getLong_boxed() {
+        return ((Long) this.longProperty.getValue(this.bean)).longValue();
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public long getLong_direct() {
+        return this.bean.getLongValue();
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public long getLong_primitive() {
+        return this.longProperty.getLong(this.bean);
+    }
+
+    /**
+     * 
+     */
+    @Benchmark
+    public void setLong_boxed() {
+        this.longProperty.setValue(this.bean, Long.valueOf(this.counter++ + 1000));
+    }
+
+    /**
+     * 
+     */
+    @Benchmark
+    public void setLong_primitive() {
+        this.longProperty.setLong(this.bean, this.counter++ + 1000);
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.BeanProperties;
+import jabara.bean.BeanProperty;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * キャッシュ済みの{@link BeanProperties}に対する、取得、名前による検索、走査、ビューの取得を計測します. <br>
+ * 名前による検索は、プロパティ名そのままの場合と先頭を大文字にした場合の両方を計測します. 検索するのは並びの中央のプロパティです. <br>
+ * 
+ * @author jabaraster
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyLookupBenchmark {
+
+    /**
+     * 対象のBean. {@link BenchmarkBeans#get(String)}を見て下さい.
+     */
+    @Param({ "10", "100", "500", "deep" })
+    public String          bean;
+
+    private Class<?>       beanType;
+    private BeanProperties properties;
+    private String         name;
+    private String         capitalizedName;
+
+    /**
+     * 
+     */
+    @Setup
+    public void setUp() {
+        this.beanType = BenchmarkBeans.get(this.bean);
+        this.properties = BeanProperties.getInstance(this.beanType);
+        this.name = this.properties.get(this.properties.size() / 2).getName();
+        this.capitalizedName = Character.toUpperCase(this.name.charAt(0)) + this.name.substring(1);
+        this.properties.toVisiblePropertiesOnly();
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public BeanProperty get_capitalizedName() {
+        return this.properties.get(this.capitalizedName);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public BeanProperty get_exactName() {
+        return this.properties.get(this.name);
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public BeanProperties getInstance_warm() {
+        return BeanProperties.getInstance(this.beanType);
+    }
+
+    /**
+     * @param pBlackhole -
+     */
+    @Benchmark
+    public void iterate(final Blackhole pBlackhole) {
+        for (final BeanProperty property : this.properties) {
+            pBlackhole.consume(property);
+        }
+    }
+
+    /**
+     * @param pBlackhole -
+     */
+    @Benchmark
+    public void iterate_byIndex(final Blackhole pBlackhole) {
+        final BeanProperties p = this.properties;
+        for (int i = 0, n = p.size(); i < n; i++) {
+            pBlackhole.consume(p.get(i));
+        }
+    }
+
+    /**
+     * @return -
+     */
+    @Benchmark
+    public BeanProperties toVisiblePropertiesOnly() {
+        return this.properties.toVisiblePropertiesOnly();
+    }
+}
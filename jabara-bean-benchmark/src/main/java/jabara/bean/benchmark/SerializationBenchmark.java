@@ -0,0 +1,113 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+import jabara.bean.BeanProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BeanProperties}のJava直列化を計測します. <br>
+ * 直列化の形式はBeanの型(とビューのプロパティ名)だけで、復元時はキャッシュされたインスタンスに解決されます. <br>
+ * 
+ * @author jabaraster
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    /**
+     * 対象のBean. {@link BenchmarkBeans#get(String)}を見て下さい.
+     */
+    @Param({ "10", "100", "500", "deep" })
+    public String          bean;
+
+    private BeanProperties properties;
+    private BeanProperties visible;
+    private byte[]         serialized;
+
+    /**
+     * @throws IOException -
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.properties = BeanProperties.getInstance(BenchmarkBeans.get(this.bean));
+        this.visible = this.properties.toVisiblePropertiesOnly();
+        this.serialized = serialize(this.properties);
+    }
+
+    /**
+     * @return -
+     * @throws IOException -
+     * @throws ClassNotFoundException -
+     */
+    @Benchmark
+    public Object deserialize() throws IOException, ClassNotFoundException {
+        return deserialize(this.serialized);
+    }
+
+    /**
+     * @return -
+     * @throws IOException -
+     * @throws ClassNotFoundException -
+     */
+    @Benchmark
+    public Object roundTrip() throws IOException, ClassNotFoundException {
+        return deserialize(serialize(this.properties));
+    }
+
+    /**
+     * @return -
+     * @throws IOException -
+     * @throws ClassNotFoundException -
+     */
+    @Benchmark
+    public Object roundTrip_view() throws IOException, ClassNotFoundException {
+        return deserialize(serialize(this.visible));
+    }
+
+    /**
+     * @return -
+     * @throws IOException -
+     */
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return serialize(this.properties);
+    }
+
+    private static Object deserialize(final byte[] pBytes) throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(pBytes))) {
+            return in.readObject();
+        }
+    }
+
+    private static byte[] serialize(final Object pObject) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(pObject);
+        }
+        return bytes.toByteArray();
+    }
+}
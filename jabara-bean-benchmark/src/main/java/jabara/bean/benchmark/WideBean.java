@@ -0,0 +1,2174 @@
+/**
+ * 
+ */
+package jabara.bean.benchmark;
+
+/**
+ * プロパティ数の多い(240個)ベンチマーク用のBeanです. <br>
+ * 型はint、long、double、{@link String}の順に繰り返します. <br>
+ * 
+ * @author jabaraster
+ */
+@SuppressWarnings("javadoc")
+public class WideBean {
+    private int    p000;
+    private long   p001;
+    private double p002;
+    private String p003;
+    private int    p004;
+    private long   p005;
+    private double p006;
+    private String p007;
+    private int    p008;
+    private long   p009;
+    private double p010;
+    private String p011;
+    private int    p012;
+    private long   p013;
+    private double p014;
+    private String p015;
+    private int    p016;
+    private long   p017;
+    private double p018;
+    private String p019;
+    private int    p020;
+    private long   p021;
+    private double p022;
+    private String p023;
+    private int    p024;
+    private long   p025;
+    private double p026;
+    private String p027;
+    private int    p028;
+    private long   p029;
+    private double p030;
+    private String p031;
+    private int    p032;
+    private long   p033;
+    private double p034;
+    private String p035;
+    private int    p036;
+    private long   p037;
+    private double p038;
+    private String p039;
+    private int    p040;
+    private long   p041;
+    private double p042;
+    private String p043;
+    private int    p044;
+    private long   p045;
+    private double p046;
+    private String p047;
+    private int    p048;
+    private long   p049;
+    private double p050;
+    private String p051;
+    private int    p052;
+    private long   p053;
+    private double p054;
+    private String p055;
+    private int    p056;
+    private long   p057;
+    private double p058;
+    private String p059;
+    private int    p060;
+    private long   p061;
+    private double p062;
+    private String p063;
+    private int    p064;
+    private long   p065;
+    private double p066;
+    private String p067;
+    private int    p068;
+    private long   p069;
+    private double p070;
+    private String p071;
+    private int    p072;
+    private long   p073;
+    private double p074;
+    private String p075;
+    private int    p076;
+    private long   p077;
+    private double p078;
+    private String p079;
+    private int    p080;
+    private long   p081;
+    private double p082;
+    private String p083;
+    private int    p084;
+    private long   p085;
+    private double p086;
+    private String p087;
+    private int    p088;
+    private long   p089;
+    private double p090;
+    private String p091;
+    private int    p092;
+    private long   p093;
+    private double p094;
+    private String p095;
+    private int    p096;
+    private long   p097;
+    private double p098;
+    private String p099;
+    private int    p100;
+    private long   p101;
+    private double p102;
+    private String p103;
+    private int    p104;
+    private long   p105;
+    private double p106;
+    private String p107;
+    private int    p108;
+    private long   p109;
+    private double p110;
+    private String p111;
+    private int    p112;
+    private long   p113;
+    private double p114;
+    private String p115;
+    private int    p116;
+    private long   p117;
+    private double p118;
+    private String p119;
+    private int    p120;
+    private long   p121;
+    private double p122;
+    private String p123;
+    private int    p124;
+    private long   p125;
+    private double p126;
+    private String p127;
+    private int    p128;
+    private long   p129;
+    private double p130;
+    private String p131;
+    private int    p132;
+    private long   p133;
+    private double p134;
+    private String p135;
+    private int    p136;
+    private long   p137;
+    private double p138;
+    private String p139;
+    private int    p140;
+    private long   p141;
+    private double p142;
+    private String p143;
+    private int    p144;
+    private long   p145;
+    private double p146;
+    private String p147;
+    private int    p148;
+    private long   p149;
+    private double p150;
+    private String p151;
+    private int    p152;
+    private long   p153;
+    private double p154;
+    private String p155;
+    private int    p156;
+    private long   p157;
+    private double p158;
+    private String p159;
+    private int    p160;
+    private long   p161;
+    private double p162;
+    private String p163;
+    private int    p164;
+    private long   p165;
+    private double p166;
+    private String p167;
+    private int    p168;
+    private long   p169;
+    private double p170;
+    private String p171;
+    private int    p172;
+    private long   p173;
+    private double p174;
+    private String p175;
+    private int    p176;
+    private long   p177;
+    private double p178;
+    private String p179;
+    private int    p180;
+    private long   p181;
+    private double p182;
+    private String p183;
+    private int    p184;
+    private long   p185;
+    private double p186;
+    private String p187;
+    private int    p188;
+    private long   p189;
+    private double p190;
+    private String p191;
+    private int    p192;
+    private long   p193;
+    private double p194;
+    private String p195;
+    private int    p196;
+    private long   p197;
+    private double p198;
+    private String p199;
+    private int    p200;
+    private long   p201;
+    private double p202;
+    private String p203;
+    private int    p204;
+    private long   p205;
+    private double p206;
+    private String p207;
+    private int    p208;
+    private long   p209;
+    private double p210;
+    private String p211;
+    private int    p212;
+    private long   p213;
+    private double p214;
+    private String p215;
+    private int    p216;
+    private long   p217;
+    private double p218;
+    private String p219;
+    private int    p220;
+    private long   p221;
+    private double p222;
+    private String p223;
+    private int    p224;
+    private long   p225;
+    private double p226;
+    private String p227;
+    private int    p228;
+    private long   p229;
+    private double p230;
+    private String p231;
+    private int    p232;
+    private long   p233;
+    private double p234;
+    private String p235;
+    private int    p236;
+    private long   p237;
+    private double p238;
+    private String p239;
+
+    public int getP000() {
+        return this.p000;
+    }
+
+    public void setP000(final int pValue) {
+        this.p000 = pValue;
+    }
+
+    public long getP001() {
+        return this.p001;
+    }
+
+    public void setP001(final long pValue) {
+        this.p001 = pValue;
+    }
+
+    public double getP002() {
+        return this.p002;
+    }
+
+    public void setP002(final double pValue) {
+        this.p002 = pValue;
+    }
+
+    public String getP003() {
+        return this.p003;
+    }
+
+    public void setP003(final String pValue) {
+        this.p003 = pValue;
+    }
+
+    public int getP004() {
+        return this.p004;
+    }
+
+    public void setP004(final int pValue) {
+        this.p004 = pValue;
+    }
+
+    public long getP005() {
+        return this.p005;
+    }
+
+    public void setP005(final long pValue) {
+        this.p005 = pValue;
+    }
+
+    public double getP006() {
+        return this.p006;
+    }
+
+    public void setP006(final double pValue) {
+        this.p006 = pValue;
+    }
+
+    public String getP007() {
+        return this.p007;
+    }
+
+    public void setP007(final String pValue) {
+        this.p007 = pValue;
+    }
+
+    public int getP008() {
+        return this.p008;
+    }
+
+    public void setP008(final int pValue) {
+        this.p008 = pValue;
+    }
+
+    public long getP009() {
+        return this.p009;
+    }
+
+    public void setP009(final long pValue) {
+        this.p009 = pValue;
+    }
+
+    public double getP010() {
+        return this.p010;
+    }
+
+    public void setP010(final double pValue) {
+        this.p010 = pValue;
+    }
+
+    public String getP011() {
+        return this.p011;
+    }
+
+    public void setP011(final String pValue) {
+        this.p011 = pValue;
+    }
+
+    public int getP012() {
+        return this.p012;
+    }
+
+    public void setP012(final int pValue) {
+        this.p012 = pValue;
+    }
+
+    public long getP013() {
+        return this.p013;
+    }
+
+    public void setP013(final long pValue) {
+        this.p013 = pValue;
+    }
+
+    public double getP014() {
+        return this.p014;
+    }
+
+    public void setP014(final double pValue) {
+        this.p014 = pValue;
+    }
+
+    public String getP015() {
+        return this.p015;
+    }
+
+    public void setP015(final String pValue) {
+        this.p015 = pValue;
+    }
+
+    public int getP016() {
+        return this.p016;
+    }
+
+    public void setP016(final int pValue) {
+        this.p016 = pValue;
+    }
+
+    public long getP017() {
+        return this.p017;
+    }
+
+    public void setP017(final long pValue) {
+        this.p017 = pValue;
+    }
+
+    public double getP018() {
+        return this.p018;
+    }
+
+    public void setP018(final double pValue) {
+        this.p018 = pValue;
+    }
+
+    public String getP019() {
+        return this.p019;
+    }
+
+    public void setP019(final String pValue) {
+        this.p019 = pValue;
+    }
+
+    public int getP020() {
+        return this.p020;
+    }
+
+    public void setP020(final int pValue) {
+        this.p020 = pValue;
+    }
+
+    public long getP021() {
+        return this.p021;
+    }
+
+    public void setP021(final long pValue) {
+        this.p021 = pValue;
+    }
+
+    public double getP022() {
+        return this.p022;
+    }
+
+    public void setP022(final double pValue) {
+        this.p022 = pValue;
+    }
+
+    public String getP023() {
+        return this.p023;
+    }
+
+    public void setP023(final String pValue) {
+        this.p023 = pValue;
+    }
+
+    public int getP024() {
+        return this.p024;
+    }
+
+    public void setP024(final int pValue) {
+        this.p024 = pValue;
+    }
+
+    public long getP025() {
+        return this.p025;
+    }
+
+    public void setP025(final long pValue) {
+        this.p025 = pValue;
+    }
+
+    public double getP026() {
+        return this.p026;
+    }
+
+    public void setP026(final double pValue) {
+        this.p026 = pValue;
+    }
+
+    public String getP027() {
+        return this.p027;
+    }
+
+    public void setP027(final String pValue) {
+        this.p027 = pValue;
+    }
+
+    public int getP028() {
+        return this.p028;
+    }
+
+    public void setP028(final int pValue) {
+        this.p028 = pValue;
+    }
+
+    public long getP029() {
+        return this.p029;
+    }
+
+    public void setP029(final long pValue) {
+        this.p029 = pValue;
+    }
+
+    public double getP030() {
+        return this.p030;
+    }
+
+    public void setP030(final double pValue) {
+        this.p030 = pValue;
+    }
+
+    public String getP031() {
+        return this.p031;
+    }
+
+    public void setP031(final String pValue) {
+        this.p031 = pValue;
+    }
+
+    public int getP032() {
+        return this.p032;
+    }
+
+    public void setP032(final int pValue) {
+        this.p032 = pValue;
+    }
+
+    public long getP033() {
+        return this.p033;
+    }
+
+    public void setP033(final long pValue) {
+        this.p033 = pValue;
+    }
+
+    public double getP034() {
+        return this.p034;
+    }
+
+    public void setP034(final double pValue) {
+        this.p034 = pValue;
+    }
+
+    public String getP035() {
+        return this.p035;
+    }
+
+    public void setP035(final String pValue) {
+        this.p035 = pValue;
+    }
+
+    public int getP036() {
+        return this.p036;
+    }
+
+    public void setP036(final int pValue) {
+        this.p036 = pValue;
+    }
+
+    public long getP037() {
+        return this.p037;
+    }
+
+    public void setP037(final long pValue) {
+        this.p037 = pValue;
+    }
+
+    public double getP038() {
+        return this.p038;
+    }
+
+    public void setP038(final double pValue) {
+        this.p038 = pValue;
+    }
+
+    public String getP039() {
+        return this.p039;
+    }
+
+    public void setP039(final String pValue) {
+        this.p039 = pValue;
+    }
+
+    public int getP040() {
+        return this.p040;
+    }
+
+    public void setP040(final int pValue) {
+        this.p040 = pValue;
+    }
+
+    public long getP041() {
+        return this.p041;
+    }
+
+    public void setP041(final long pValue) {
+        this.p041 = pValue;
+    }
+
+    public double getP042() {
+        return this.p042;
+    }
+
+    public void setP042(final double pValue) {
+        this.p042 = pValue;
+    }
+
+    public String getP043() {
+        return this.p043;
+    }
+
+    public void setP043(final String pValue) {
+        this.p043 = pValue;
+    }
+
+    public int getP044() {
+        return this.p044;
+    }
+
+    public void setP044(final int pValue) {
+        this.p044 = pValue;
+    }
+
+    public long getP045() {
+        return this.p045;
+    }
+
+    public void setP045(final long pValue) {
+        this.p045 = pValue;
+    }
+
+    public double getP046() {
+        return this.p046;
+    }
+
+    public void setP046(final double pValue) {
+        this.p046 = pValue;
+    }
+
+    public String getP047() {
+        return this.p047;
+    }
+
+    public void setP047(final String pValue) {
+        this.p047 = pValue;
+    }
+
+    public int getP048() {
+        return this.p048;
+    }
+
+    public void setP048(final int pValue) {
+        this.p048 = pValue;
+    }
+
+    public long getP049() {
+        return this.p049;
+    }
+
+    public void setP049(final long pValue) {
+        this.p049 = pValue;
+    }
+
+    public double getP050() {
+        return this.p050;
+    }
+
+    public void setP050(final double pValue) {
+        this.p050 = pValue;
+    }
+
+    public String getP051() {
+        return this.p051;
+    }
+
+    public void setP051(final String pValue) {
+        this.p051 = pValue;
+    }
+
+    public int getP052() {
+        return this.p052;
+    }
+
+    public void setP052(final int pValue) {
+        this.p052 = pValue;
+    }
+
+    public long getP053() {
+        return this.p053;
+    }
+
+    public void setP053(final long pValue) {
+        this.p053 = pValue;
+    }
+
+    public double getP054() {
+        return this.p054;
+    }
+
+    public void setP054(final double pValue) {
+        this.p054 = pValue;
+    }
+
+    public String getP055() {
+        return this.p055;
+    }
+
+    public void setP055(final String pValue) {
+        this.p055 = pValue;
+    }
+
+    public int getP056() {
+        return this.p056;
+    }
+
+    public void setP056(final int pValue) {
+        this.p056 = pValue;
+    }
+
+    public long getP057() {
+        return this.p057;
+    }
+
+    public void setP057(final long pValue) {
+        this.p057 = pValue;
+    }
+
+    public double getP058() {
+        return this.p058;
+    }
+
+    public void setP058(final double pValue) {
+        this.p058 = pValue;
+    }
+
+    public String getP059() {
+        return this.p059;
+    }
+
+    public void setP059(final String pValue) {
+        this.p059 = pValue;
+    }
+
+    public int getP060() {
+        return this.p060;
+    }
+
+    public void setP060(final int pValue) {
+        this.p060 = pValue;
+    }
+
+    public long getP061() {
+        return this.p061;
+    }
+
+    public void setP061(final long pValue) {
+        this.p061 = pValue;
+    }
+
+    public double getP062() {
+        return this.p062;
+    }
+
+    public void setP062(final double pValue) {
+        this.p062 = pValue;
+    }
+
+    public String getP063() {
+        return this.p063;
+    }
+
+    public void setP063(final String pValue) {
+        this.p063 = pValue;
+    }
+
+    public int getP064() {
+        return this.p064;
+    }
+
+    public void setP064(final int pValue) {
+        this.p064 = pValue;
+    }
+
+    public long getP065() {
+        return this.p065;
+    }
+
+    public void setP065(final long pValue) {
+        this.p065 = pValue;
+    }
+
+    public double getP066() {
+        return this.p066;
+    }
+
+    public void setP066(final double pValue) {
+        this.p066 = pValue;
+    }
+
+    public String getP067() {
+        return this.p067;
+    }
+
+    public void setP067(final String pValue) {
+        this.p067 = pValue;
+    }
+
+    public int getP068() {
+        return this.p068;
+    }
+
+    public void setP068(final int pValue) {
+        this.p068 = pValue;
+    }
+
+    public long getP069() {
+        return this.p069;
+    }
+
+    public void setP069(final long pValue) {
+        this.p069 = pValue;
+    }
+
+    public double getP070() {
+        return this.p070;
+    }
+
+    public void setP070(final double pValue) {
+        this.p070 = pValue;
+    }
+
+    public String getP071() {
+        return this.p071;
+    }
+
+    public void setP071(final String pValue) {
+        this.p071 = pValue;
+    }
+
+    public int getP072() {
+        return this.p072;
+    }
+
+    public void setP072(final int pValue) {
+        this.p072 = pValue;
+    }
+
+    public long getP073() {
+        return this.p073;
+    }
+
+    public void setP073(final long pValue) {
+        this.p073 = pValue;
+    }
+
+    public double getP074() {
+        return this.p074;
+    }
+
+    public void setP074(final double pValue) {
+        this.p074 = pValue;
+    }
+
+    public String getP075() {
+        return this.p075;
+    }
+
+    public void setP075(final String pValue) {
+        this.p075 = pValue;
+    }
+
+    public int getP076() {
+        return this.p076;
+    }
+
+    public void setP076(final int pValue) {
+        this.p076 = pValue;
+    }
+
+    public long getP077() {
+        return this.p077;
+    }
+
+    public void setP077(final long pValue) {
+        this.p077 = pValue;
+    }
+
+    public double getP078() {
+        return this.p078;
+    }
+
+    public void setP078(final double pValue) {
+        this.p078 = pValue;
+    }
+
+    public String getP079() {
+        return this.p079;
+    }
+
+    public void setP079(final String pValue) {
+        this.p079 = pValue;
+    }
+
+    public int getP080() {
+        return this.p080;
+    }
+
+    public void setP080(final int pValue) {
+        this.p080 = pValue;
+    }
+
+    public long getP081() {
+        return this.p081;
+    }
+
+    public void setP081(final long pValue) {
+        this.p081 = pValue;
+    }
+
+    public double getP082() {
+        return this.p082;
+    }
+
+    public void setP082(final double pValue) {
+        this.p082 = pValue;
+    }
+
+    public String getP083() {
+        return this.p083;
+    }
+
+    public void setP083(final String pValue) {
+        this.p083 = pValue;
+    }
+
+    public int getP084() {
+        return this.p084;
+    }
+
+    public void setP084(final int pValue) {
+        this.p084 = pValue;
+    }
+
+    public long getP085() {
+        return this.p085;
+    }
+
+    public void setP085(final long pValue) {
+        this.p085 = pValue;
+    }
+
+    public double getP086() {
+        return this.p086;
+    }
+
+    public void setP086(final double pValue) {
+        this.p086 = pValue;
+    }
+
+    public String getP087() {
+        return this.p087;
+    }
+
+    public void setP087(final String pValue) {
+        this.p087 = pValue;
+    }
+
+    public int getP088() {
+        return this.p088;
+    }
+
+    public void setP088(final int pValue) {
+        this.p088 = pValue;
+    }
+
+    public long getP089() {
+        return this.p089;
+    }
+
+    public void setP089(final long pValue) {
+        this.p089 = pValue;
+    }
+
+    public double getP090() {
+        return this.p090;
+    }
+
+    public void setP090(final double pValue) {
+        this.p090 = pValue;
+    }
+
+    public String getP091() {
+        return this.p091;
+    }
+
+    public void setP091(final String pValue) {
+        this.p091 = pValue;
+    }
+
+    public int getP092() {
+        return this.p092;
+    }
+
+    public void setP092(final int pValue) {
+        this.p092 = pValue;
+    }
+
+    public long getP093() {
+        return this.p093;
+    }
+
+    public void setP093(final long pValue) {
+        this.p093 = pValue;
+    }
+
+    public double getP094() {
+        return this.p094;
+    }
+
+    public void setP094(final double pValue) {
+        this.p094 = pValue;
+    }
+
+    public String getP095() {
+        return this.p095;
+    }
+
+    public void setP095(final String pValue) {
+        this.p095 = pValue;
+    }
+
+    public int getP096() {
+        return this.p096;
+    }
+
+    public void setP096(final int pValue) {
+        this.p096 = pValue;
+    }
+
+    public long getP097() {
+        return this.p097;
+    }
+
+    public void setP097(final long pValue) {
+        this.p097 = pValue;
+    }
+
+    public double getP098() {
+        return this.p098;
+    }
+
+    public void setP098(final double pValue) {
+        this.p098 = pValue;
+    }
+
+    public String getP099() {
+        return this.p099;
+    }
+
+    public void setP099(final String pValue) {
+        this.p099 = pValue;
+    }
+
+    public int getP100() {
+        return this.p100;
+    }
+
+    public void setP100(final int pValue) {
+        this.p100 = pValue;
+    }
+
+    public long getP101() {
+        return this.p101;
+    }
+
+    public void setP101(final long pValue) {
+        this.p101 = pValue;
+    }
+
+    public double getP102() {
+        return this.p102;
+    }
+
+    public void setP102(final double pValue) {
+        this.p102 = pValue;
+    }
+
+    public String getP103() {
+        return this.p103;
+    }
+
+    public void setP103(final String pValue) {
+        this.p103 = pValue;
+    }
+
+    public int getP104() {
+        return this.p104;
+    }
+
+    public void setP104(final int pValue) {
+        this.p104 = pValue;
+    }
+
+    public long getP105() {
+        return this.p105;
+    }
+
+    public void setP105(final long pValue) {
+        this.p105 = pValue;
+    }
+
+    public double getP106() {
+        return this.p106;
+    }
+
+    public void setP106(final double pValue) {
+        this.p106 = pValue;
+    }
+
+    public String getP107() {
+        return this.p107;
+    }
+
+    public void setP107(final String pValue) {
+        this.p107 = pValue;
+    }
+
+    public int getP108() {
+        return this.p108;
+    }
+
+    public void setP108(final int pValue) {
+        this.p108 = pValue;
+    }
+
+    public long getP109() {
+        return this.p109;
+    }
+
+    public void setP109(final long pValue) {
+        this.p109 = pValue;
+    }
+
+    public double getP110() {
+        return this.p110;
+    }
+
+    public void setP110(final double pValue) {
+        this.p110 = pValue;
+    }
+
+    public String getP111() {
+        return this.p111;
+    }
+
+    public void setP111(final String pValue) {
+        this.p111 = pValue;
+    }
+
+    public int getP112() {
+        return this.p112;
+    }
+
+    public void setP112(final int pValue) {
+        this.p112 = pValue;
+    }
+
+    public long getP113() {
+        return this.p113;
+    }
+
+    public void setP113(final long pValue) {
+        this.p113 = pValue;
+    }
+
+    public double getP114() {
+        return this.p114;
+    }
+
+    public void setP114(final double pValue) {
+        this.p114 = pValue;
+    }
+
+    public String getP115() {
+        return this.p115;
+    }
+
+    public void setP115(final String pValue) {
+        this.p115 = pValue;
+    }
+
+    public int getP116() {
+        return this.p116;
+    }
+
+    public void setP116(final int pValue) {
+        this.p116 = pValue;
+    }
+
+    public long getP117() {
+        return this.p117;
+    }
+
+    public void setP117(final long pValue) {
+        this.p117 = pValue;
+    }
+
+    public double getP118() {
+        return this.p118;
+    }
+
+    public void setP118(final double pValue) {
+        this.p118 = pValue;
+    }
+
+    public String getP119() {
+        return this.p119;
+    }
+
+    public void setP119(final String pValue) {
+        this.p119 = pValue;
+    }
+
+    public int getP120() {
+        return this.p120;
+    }
+
+    public void setP120(final int pValue) {
+        this.p120 = pValue;
+    }
+
+    public long getP121() {
+        return this.p121;
+    }
+
+    public void setP121(final long pValue) {
+        this.p121 = pValue;
+    }
+
+    public double getP122() {
+        return this.p122;
+    }
+
+    public void setP122(final double pValue) {
+        this.p122 = pValue;
+    }
+
+    public String getP123() {
+        return this.p123;
+    }
+
+    public void setP123(final String pValue) {
+        this.p123 = pValue;
+    }
+
+    public int getP124() {
+        return this.p124;
+    }
+
+    public void setP124(final int pValue) {
+        this.p124 = pValue;
+    }
+
+    public long getP125() {
+        return this.p125;
+    }
+
+    public void setP125(final long pValue) {
+        this.p125 = pValue;
+    }
+
+    public double getP126() {
+        return this.p126;
+    }
+
+    public void setP126(final double pValue) {
+        this.p126 = pValue;
+    }
+
+    public String getP127() {
+        return this.p127;
+    }
+
+    public void setP127(final String pValue) {
+        this.p127 = pValue;
+    }
+
+    public int getP128() {
+        return this.p128;
+    }
+
+    public void setP128(final int pValue) {
+        this.p128 = pValue;
+    }
+
+    public long getP129() {
+        return this.p129;
+    }
+
+    public void setP129(final long pValue) {
+        this.p129 = pValue;
+    }
+
+    public double getP130() {
+        return this.p130;
+    }
+
+    public void setP130(final double pValue) {
+        this.p130 = pValue;
+    }
+
+    public String getP131() {
+        return this.p131;
+    }
+
+    public void setP131(final String pValue) {
+        this.p131 = pValue;
+    }
+
+    public int getP132() {
+        return this.p132;
+    }
+
+    public void setP132(final int pValue) {
+        this.p132 = pValue;
+    }
+
+    public long getP133() {
+        return this.p133;
+    }
+
+    public void setP133(final long pValue) {
+        this.p133 = pValue;
+    }
+
+    public double getP134() {
+        return this.p134;
+    }
+
+    public void setP134(final double pValue) {
+        this.p134 = pValue;
+    }
+
+    public String getP135() {
+        return this.p135;
+    }
+
+    public void setP135(final String pValue) {
+        this.p135 = pValue;
+    }
+
+    public int getP136() {
+        return this.p136;
+    }
+
+    public void setP136(final int pValue) {
+        this.p136 = pValue;
+    }
+
+    public long getP137() {
+        return this.p137;
+    }
+
+    public void setP137(final long pValue) {
+        this.p137 = pValue;
+    }
+
+    public double getP138() {
+        return this.p138;
+    }
+
+    public void setP138(final double pValue) {
+        this.p138 = pValue;
+    }
+
+    public String getP139() {
+        return this.p139;
+    }
+
+    public void setP139(final String pValue) {
+        this.p139 = pValue;
+    }
+
+    public int getP140() {
+        return this.p140;
+    }
+
+    public void setP140(final int pValue) {
+        this.p140 = pValue;
+    }
+
+    public long getP141() {
+        return this.p141;
+    }
+
+    public void setP141(final long pValue) {
+        this.p141 = pValue;
+    }
+
+    public double getP142() {
+        return this.p142;
+    }
+
+    public void setP142(final double pValue) {
+        this.p142 = pValue;
+    }
+
+    public String getP143() {
+        return this.p143;
+    }
+
+    public void setP143(final String pValue) {
+        this.p143 = pValue;
+    }
+
+    public int getP144() {
+        return this.p144;
+    }
+
+    public void setP144(final int pValue) {
+        this.p144 = pValue;
+    }
+
+    public long getP145() {
+        return this.p145;
+    }
+
+    public void setP145(final long pValue) {
+        this.p145 = pValue;
+    }
+
+    public double getP146() {
+        return this.p146;
+    }
+
+    public void setP146(final double pValue) {
+        this.p146 = pValue;
+    }
+
+    public String getP147() {
+        return this.p147;
+    }
+
+    public void setP147(final String pValue) {
+        this.p147 = pValue;
+    }
+
+    public int getP148() {
+        return this.p148;
+    }
+
+    public void setP148(final int pValue) {
+        this.p148 = pValue;
+    }
+
+    public long getP149() {
+        return this.p149;
+    }
+
+    public void setP149(final long pValue) {
+        this.p149 = pValue;
+    }
+
+    public double getP150() {
+        return this.p150;
+    }
+
+    public void setP150(final double pValue) {
+        this.p150 = pValue;
+    }
+
+    public String getP151() {
+        return this.p151;
+    }
+
+    public void setP151(final String pValue) {
+        this.p151 = pValue;
+    }
+
+    public int getP152() {
+        return this.p152;
+    }
+
+    public void setP152(final int pValue) {
+        this.p152 = pValue;
+    }
+
+    public long getP153() {
+        return this.p153;
+    }
+
+    public void setP153(final long pValue) {
+        this.p153 = pValue;
+    }
+
+    public double getP154() {
+        return this.p154;
+    }
+
+    public void setP154(final double pValue) {
+        this.p154 = pValue;
+    }
+
+    public String getP155() {
+        return this.p155;
+    }
+
+    public void setP155(final String pValue) {
+        this.p155 = pValue;
+    }
+
+    public int getP156() {
+        return this.p156;
+    }
+
+    public void setP156(final int pValue) {
+        this.p156 = pValue;
+    }
+
+    public long getP157() {
+        return this.p157;
+    }
+
+    public void setP157(final long pValue) {
+        this.p157 = pValue;
+    }
+
+    public double getP158() {
+        return this.p158;
+    }
+
+    public void setP158(final double pValue) {
+        this.p158 = pValue;
+    }
+
+    public String getP159() {
+        return this.p159;
+    }
+
+    public void setP159(final String pValue) {
+        this.p159 = pValue;
+    }
+
+    public int getP160() {
+        return this.p160;
+    }
+
+    public void setP160(final int pValue) {
+        this.p160 = pValue;
+    }
+
+    public long getP161() {
+        return this.p161;
+    }
+
+    public void setP161(final long pValue) {
+        this.p161 = pValue;
+    }
+
+    public double getP162() {
+        return this.p162;
+    }
+
+    public void setP162(final double pValue) {
+        this.p162 = pValue;
+    }
+
+    public String getP163() {
+        return this.p163;
+    }
+
+    public void setP163(final String pValue) {
+        this.p163 = pValue;
+    }
+
+    public int getP164() {
+        return this.p164;
+    }
+
+    public void setP164(final int pValue) {
+        this.p164 = pValue;
+    }
+
+    public long getP165() {
+        return this.p165;
+    }
+
+    public void setP165(final long pValue) {
+        this.p165 = pValue;
+    }
+
+    public double getP166() {
+        return this.p166;
+    }
+
+    public void setP166(final double pValue) {
+        this.p166 = pValue;
+    }
+
+    public String getP167() {
+        return this.p167;
+    }
+
+    public void setP167(final String pValue) {
+        this.p167 = pValue;
+    }
+
+    public int getP168() {
+        return this.p168;
+    }
+
+    public void setP168(final int pValue) {
+        this.p168 = pValue;
+    }
+
+    public long getP169() {
+        return this.p169;
+    }
+
+    public void setP169(final long pValue) {
+        this.p169 = pValue;
+    }
+
+    public double getP170() {
+        return this.p170;
+    }
+
+    public void setP170(final double pValue) {
+        this.p170 = pValue;
+    }
+
+    public String getP171() {
+        return this.p171;
+    }
+
+    public void setP171(final String pValue) {
+        this.p171 = pValue;
+    }
+
+    public int getP172() {
+        return this.p172;
+    }
+
+    public void setP172(final int pValue) {
+        this.p172 = pValue;
+    }
+
+    public long getP173() {
+        return this.p173;
+    }
+
+    public void setP173(final long pValue) {
+        this.p173 = pValue;
+    }
+
+    public double getP174() {
+        return this.p174;
+    }
+
+    public void setP174(final double pValue) {
+        this.p174 = pValue;
+    }
+
+    public String getP175() {
+        return this.p175;
+    }
+
+    public void setP175(final String pValue) {
+        this.p175 = pValue;
+    }
+
+    public int getP176() {
+        return this.p176;
+    }
+
+    public void setP176(final int pValue) {
+        this.p176 = pValue;
+    }
+
+    public long getP177() {
+        return this.p177;
+    }
+
+    public void setP177(final long pValue) {
+        this.p177 = pValue;
+    }
+
+    public double getP178() {
+        return this.p178;
+    }
+
+    public void setP178(final double pValue) {
+        this.p178 = pValue;
+    }
+
+    public String getP179() {
+        return this.p179;
+    }
+
+    public void setP179(final String pValue) {
+        this.p179 = pValue;
+    }
+
+    public int getP180() {
+        return this.p180;
+    }
+
+    public void setP180(final int pValue) {
+        this.p180 = pValue;
+    }
+
+    public long getP181() {
+        return this.p181;
+    }
+
+    public void setP181(final long pValue) {
+        this.p181 = pValue;
+    }
+
+    public double getP182() {
+        return this.p182;
+    }
+
+    public void setP182(final double pValue) {
+        this.p182 = pValue;
+    }
+
+    public String getP183() {
+        return this.p183;
+    }
+
+    public void setP183(final String pValue) {
+        this.p183 = pValue;
+    }
+
+    public int getP184() {
+        return this.p184;
+    }
+
+    public void setP184(final int pValue) {
+        this.p184 = pValue;
+    }
+
+    public long getP185() {
+        return this.p185;
+    }
+
+    public void setP185(final long pValue) {
+        this.p185 = pValue;
+    }
+
+    public double getP186() {
+        return this.p186;
+    }
+
+    public void setP186(final double pValue) {
+        this.p186 = pValue;
+    }
+
+    public String getP187() {
+        return this.p187;
+    }
+
+    public void setP187(final String pValue) {
+        this.p187 = pValue;
+    }
+
+    public int getP188() {
+        return this.p188;
+    }
+
+    public void setP188(final int pValue) {
+        this.p188 = pValue;
+    }
+
+    public long getP189() {
+        return this.p189;
+    }
+
+    public void setP189(final long pValue) {
+        this.p189 = pValue;
+    }
+
+    public double getP190() {
+        return this.p190;
+    }
+
+    public void setP190(final double pValue) {
+        this.p190 = pValue;
+    }
+
+    public String getP191() {
+        return this.p191;
+    }
+
+    public void setP191(final String pValue) {
+        this.p191 = pValue;
+    }
+
+    public int getP192() {
+        return this.p192;
+    }
+
+    public void setP192(final int pValue) {
+        this.p192 = pValue;
+    }
+
+    public long getP193() {
+        return this.p193;
+    }
+
+    public void setP193(final long pValue) {
+        this.p193 = pValue;
+    }
+
+    public double getP194() {
+        return this.p194;
+    }
+
+    public void setP194(final double pValue) {
+        this.p194 = pValue;
+    }
+
+    public String getP195() {
+        return this.p195;
+    }
+
+    public void setP195(final String pValue) {
+        this.p195 = pValue;
+    }
+
+    public int getP196() {
+        return this.p196;
+    }
+
+    public void setP196(final int pValue) {
+        this.p196 = pValue;
+    }
+
+    public long getP197() {
+        return this.p197;
+    }
+
+    public void setP197(final long pValue) {
+        this.p197 = pValue;
+    }
+
+    public double getP198() {
+        return this.p198;
+    }
+
+    public void setP198(final double pValue) {
+        this.p198 = pValue;
+    }
+
+    public String getP199() {
+        return this.p199;
+    }
+
+    public void setP199(final String pValue) {
+        this.p199 = pValue;
+    }
+
+    public int getP200() {
+        return this.p200;
+    }
+
+    public void setP200(final int pValue) {
+        this.p200 = pValue;
+    }
+
+    public long getP201() {
+        return this.p201;
+    }
+
+    public void setP201(final long pValue) {
+        this.p201 = pValue;
+    }
+
+    public double getP202() {
+        return this.p202;
+    }
+
+    public void setP202(final double pValue) {
+        this.p202 = pValue;
+    }
+
+    public String getP203() {
+        return this.p203;
+    }
+
+    public void setP203(final String pValue) {
+        this.p203 = pValue;
+    }
+
+    public int getP204() {
+        return this.p204;
+    }
+
+    public void setP204(final int pValue) {
+        this.p204 = pValue;
+    }
+
+    public long getP205() {
+        return this.p205;
+    }
+
+    public void setP205(final long pValue) {
+        this.p205 = pValue;
+    }
+
+    public double getP206() {
+        return this.p206;
+    }
+
+    public void setP206(final double pValue) {
+        this.p206 = pValue;
+    }
+
+    public String getP207() {
+        return this.p207;
+    }
+
+    public void setP207(final String pValue) {
+        this.p207 = pValue;
+    }
+
+    public int getP208() {
+        return this.p208;
+    }
+
+    public void setP208(final int pValue) {
+        this.p208 = pValue;
+    }
+
+    public long getP209() {
+        return this.p209;
+    }
+
+    public void setP209(final long pValue) {
+        this.p209 = pValue;
+    }
+
+    public double getP210() {
+        return this.p210;
+    }
+
+    public void setP210(final double pValue) {
+        this.p210 = pValue;
+    }
+
+    public String getP211() {
+        return this.p211;
+    }
+
+    public void setP211(final String pValue) {
+        this.p211 = pValue;
+    }
+
+    public int getP212() {
+        return this.p212;
+    }
+
+    public void setP212(final int pValue) {
+        this.p212 = pValue;
+    }
+
+    public long getP213() {
+        return this.p213;
+    }
+
+    public void setP213(final long pValue) {
+        this.p213 = pValue;
+    }
+
+    public double getP214() {
+        return this.p214;
+    }
+
+    public void setP214(final double pValue) {
+        this.p214 = pValue;
+    }
+
+    public String getP215() {
+        return this.p215;
+    }
+
+    public void setP215(final String pValue) {
+        this.p215 = pValue;
+    }
+
+    public int getP216() {
+        return this.p216;
+    }
+
+    public void setP216(final int pValue) {
+        this.p216 = pValue;
+    }
+
+    public long getP217() {
+        return this.p217;
+    }
+
+    public void setP217(final long pValue) {
+        this.p217 = pValue;
+    }
+
+    public double getP218() {
+        return this.p218;
+    }
+
+    public void setP218(final double pValue) {
+        this.p218 = pValue;
+    }
+
+    public String getP219() {
+        return this.p219;
+    }
+
+    public void setP219(final String pValue) {
+        this.p219 = pValue;
+    }
+
+    public int getP220() {
+        return this.p220;
+    }
+
+    public void setP220(final int pValue) {
+        this.p220 = pValue;
+    }
+
+    public long getP221() {
+        return this.p221;
+    }
+
+    public void setP221(final long pValue) {
+        this.p221 = pValue;
+    }
+
+    public double getP222() {
+        return this.p222;
+    }
+
+    public void setP222(final double pValue) {
+        this.p222 = pValue;
+    }
+
+    public String getP223() {
+        return this.p223;
+    }
+
+    public void setP223(final String pValue) {
+        this.p223 = pValue;
+    }
+
+    public int getP224() {
+        return this.p224;
+    }
+
+    public void setP224(final int pValue) {
+        this.p224 = pValue;
+    }
+
+    public long getP225() {
+        return this.p225;
+    }
+
+    public void setP225(final long pValue) {
+        this.p225 = pValue;
+    }
+
+    public double getP226() {
+        return this.p226;
+    }
+
+    public void setP226(final double pValue) {
+        this.p226 = pValue;
+    }
+
+    public String getP227() {
+        return this.p227;
+    }
+
+    public void setP227(final String pValue) {
+        this.p227 = pValue;
+    }
+
+    public int getP228() {
+        return this.p228;
+    }
+
+    public void setP228(final int pValue) {
+        this.p228 = pValue;
+    }
+
+    public long getP229() {
+        return this.p229;
+    }
+
+    public void setP229(final long pValue) {
+        this.p229 = pValue;
+    }
+
+    public double getP230() {
+        return this.p230;
+    }
+
+    public void setP230(final double pValue) {
+        this.p230 = pValue;
+    }
+
+    public String getP231() {
+        return this.p231;
+    }
+
+    public void setP231(final String pValue) {
+        this.p231 = pValue;
+    }
+
+    public int getP232() {
+        return this.p232;
+    }
+
+    public void setP232(final int pValue) {
+        this.p232 = pValue;
+    }
+
+    public long getP233() {
+        return this.p233;
+    }
+
+    public void setP233(final long pValue) {
+        this.p233 = pValue;
+    }
+
+    public double getP234() {
+        return this.p234;
+    }
+
+    public void setP234(final double pValue) {
+        this.p234 = pValue;
+    }
+
+    public String getP235() {
+        return this.p235;
+    }
+
+    public void setP235(final String pValue) {
+        this.p235 = pValue;
+    }
+
+    public int getP236() {
+        return this.p236;
+    }
+
+    public void setP236(final int pValue) {
+        this.p236 = pValue;
+    }
+
+    public long getP237() {
+        return this.p237;
+    }
+
+    public void setP237(final long pValue) {
+        this.p237 = pValue;
+    }
+
+    public double getP238() {
+        return this.p238;
+    }
+
+    public void setP238(final double pValue) {
+        this.p238 = pValue;
+    }
+
+    public String getP239() {
+        return this.p239;
+    }
+
+    public void setP239(final String pValue) {
+        this.p239 = pValue;
+    }
+}
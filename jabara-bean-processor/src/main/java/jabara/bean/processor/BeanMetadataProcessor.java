@@ -0,0 +1,389 @@
+/**
+ * 
+ */
+package jabara.bean.processor;
+
+import jabara.bean.BeanMetadata;
+import jabara.bean.annotation.Hidden;
+import jabara.bean.annotation.Localized;
+import jabara.bean.annotation.MultiLine;
+import jabara.bean.annotation.Nullable;
+import jabara.bean.annotation.Order;
+
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * {@link jabara.bean.annotation}パッケージのアノテーションが付与されたBeanについて、{@link BeanMetadata}の実装クラスを生成します. <br>
+ * プロパティの解釈は{@link Introspector}に合わせています. <br>
+ * <ul>
+ * <li>publicかつstaticでない、引数のないgetXxx(戻り値はvoid以外)、isXxx(戻り値はboolean)をgetterとします. 両方ある場合はisXxxを優先します.</li>
+ * <li>publicかつstaticでない、引数が1つで戻り値がvoidのsetXxxをsetterとします. getterがある場合は引数の型が一致するものだけです.</li>
+ * <li>getterがなく、setXxxがオーバーロードされている場合はどれを選ぶかが決まらない({@link Introspector}の結果もメソッドの並びに依存する)ので、警告を出してそのBeanについては生成しません.</li>
+ * <li>プロパティ名は{@link Introspector#decapitalize(String)}で求めます.</li>
+ * </ul>
+ * private、あるいはローカル・匿名クラスのBeanについては生成せず、実行時のリフレクションに任せます. <br>
+ * 
+ * @author jabaraster
+ */
+@SupportedAnnotationTypes({ //
+"jabara.bean.annotation.Hidden" //
+        , "jabara.bean.annotation.Localized" //
+        , "jabara.bean.annotation.MultiLine" //
+        , "jabara.bean.annotation.Nullable" //
+        , "jabara.bean.annotation.Order" //
+})
+public class BeanMetadataProcessor extends AbstractProcessor {
+
+    private static final int DEFAULT_ORDER_INDEX = Integer.MAX_VALUE;
+
+    /**
+     * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> pAnnotations, final RoundEnvironment pRoundEnv) {
+        final Set<TypeElement> beanTypes = new LinkedHashSet<TypeElement>();
+        for (final TypeElement annotation : pAnnotations) {
+            for (final Element element : pRoundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.METHOD && element.getEnclosingElement().getKind() == ElementKind.CLASS) {
+                    beanTypes.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+
+        for (final TypeElement beanType : beanTypes) {
+            if (!isAccessible(beanType)) {
+                this.processingEnv.getMessager().printMessage(Kind.NOTE,
+                        "metadata is not generated because bean type is not accessible from its package.", beanType); //$NON-NLS-1$
+                continue;
+            }
+            final List<PropertyInfo> properties = collectProperties(beanType);
+            if (properties == null) {
+                continue;
+            }
+            try {
+                generate(beanType, properties);
+            } catch (final FilerException e) {
+                // '$'を'_'に置き換えた名前が他のBeanのメタデータと衝突した場合. 実行時は型を確認するので、リフレクションに任せる.
+                this.processingEnv.getMessager().printMessage(Kind.WARNING,
+                        "metadata is not generated because its class name collides with another one: " + e.getMessage(), beanType); //$NON-NLS-1$
+            } catch (final IOException e) {
+                this.processingEnv.getMessager().printMessage(Kind.ERROR, e.getMessage(), beanType);
+            }
+        }
+        // 他のプロセッサもこれらのアノテーションを扱えるよう、trueは返さない.
+        return false;
+    }
+
+    /**
+     * @return プロパティの一覧. 生成できない場合は警告を出してnull.
+     */
+    @SuppressWarnings("nls")
+    private List<PropertyInfo> collectProperties(final TypeElement pBeanType) {
+        final Map<String, PropertyInfo> properties = new LinkedHashMap<String, PropertyInfo>();
+        final Map<String, List<ExecutableElement>> setters = new LinkedHashMap<String, List<ExecutableElement>>();
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(pBeanType))) {
+            final Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String methodName = method.getSimpleName().toString();
+            final TypeKind returnKind = method.getReturnType().getKind();
+            final int parameterCount = method.getParameters().size();
+
+            if (parameterCount == 0 && methodName.startsWith("is") && methodName.length() > 2 && returnKind == TypeKind.BOOLEAN) {
+                getProperty(properties, Introspector.decapitalize(methodName.substring(2))).getter = method;
+
+            } else if (parameterCount == 0 && methodName.startsWith("get") && methodName.length() > 3 && returnKind != TypeKind.VOID) {
+                final PropertyInfo property = getProperty(properties, Introspector.decapitalize(methodName.substring(3)));
+                if (property.getter == null) { // isXxxを優先.
+                    property.getter = method;
+                }
+
+            } else if (parameterCount == 1 && methodName.startsWith("set") && methodName.length() > 3 && returnKind == TypeKind.VOID) {
+                final String name = Introspector.decapitalize(methodName.substring(3));
+                getProperty(properties, name);
+                List<ExecutableElement> list = setters.get(name);
+                if (list == null) {
+                    list = new ArrayList<ExecutableElement>();
+                    setters.put(name, list);
+                }
+                list.add(method);
+            }
+        }
+        properties.remove("class");
+
+        final List<PropertyInfo> ret = new ArrayList<PropertyInfo>();
+        for (final PropertyInfo property : properties.values()) {
+            final List<ExecutableElement> candidates = setters.get(property.name);
+            if (property.getter != null) {
+                property.type = erasure(property.getter.getReturnType());
+                if (candidates != null) {
+                    for (final ExecutableElement setter : candidates) {
+                        if (this.processingEnv.getTypeUtils().isSameType(erasure(setter.getParameters().get(0).asType()), property.type)) {
+                            property.setter = setter;
+                            break;
+                        }
+                    }
+                }
+            } else {
+                if (candidates.size() > 1) {
+                    this.processingEnv.getMessager().printMessage(Kind.WARNING, "metadata is not generated because setters of property '"
+                            + property.name + "' are overloaded and there is no getter to choose one.", pBeanType);
+                    return null;
+                }
+                property.setter = candidates.get(0);
+                property.type = erasure(property.setter.getParameters().get(0).asType());
+            }
+            ret.add(property);
+        }
+        return ret;
+    }
+
+    private TypeMirror erasure(final TypeMirror pType) {
+        return this.processingEnv.getTypeUtils().erasure(pType);
+    }
+
+    private void generate(final TypeElement pBeanType, final List<PropertyInfo> pProperties) throws IOException {
+        final PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(pBeanType);
+        final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString(); //$NON-NLS-1$
+        final String binaryName = this.processingEnv.getElementUtils().getBinaryName(pBeanType).toString();
+        final String simpleName = (packageName.length() == 0 ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_')
+                + BeanMetadata.CLASS_NAME_SUFFIX;
+        final String qualifiedName = packageName.length() == 0 ? simpleName : packageName + "." + simpleName; //$NON-NLS-1$
+        final String beanTypeName = erasure(pBeanType.asType()).toString();
+
+        final JavaFileObject file = this.processingEnv.getFiler().createSourceFile(qualifiedName, pBeanType);
+        final PrintWriter out = new PrintWriter(file.openWriter());
+        try {
+            writeSource(out, packageName, simpleName, beanTypeName, pProperties);
+        } finally {
+            out.close();
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private void writeAccessor(final PrintWriter pOut, final String pBeanTypeName, final PropertyInfo pProperty) {
+        final String type = pProperty.type.toString();
+        final TypeKind kind = pProperty.type.getKind();
+        final String notReadable = "throw new java.lang.IllegalStateException(\"property '" + pProperty.name + "' is not readable.\");";
+        final String notWritable = "throw new java.lang.IllegalStateException(\"property '" + pProperty.name + "' is not writable.\");";
+        final String getterCall = pProperty.getter == null ? null : "((" + pBeanTypeName + ") pBean)." + pProperty.getter.getSimpleName()
+                + "()";
+        final String setterCall = pProperty.setter == null ? null : "((" + pBeanTypeName + ") pBean)." + pProperty.setter.getSimpleName();
+
+        pOut.println("new jabara.bean.PropertyAccessor() {");
+        pOut.println("            @Override");
+        pOut.println("            public boolean canRead() {");
+        pOut.println("                return " + (pProperty.getter != null) + ";");
+        pOut.println("            }");
+        pOut.println("            @Override");
+        pOut.println("            public boolean canWrite() {");
+        pOut.println("                return " + (pProperty.setter != null) + ";");
+        pOut.println("            }");
+        pOut.println("            @Override");
+        pOut.println("            public java.lang.Object get(final java.lang.Object pBean) {");
+        if (getterCall == null) {
+            pOut.println("                " + notReadable);
+        } else if (kind.isPrimitive()) {
+            pOut.println("                return " + wrapperName(kind) + ".valueOf(" + getterCall + ");");
+        } else {
+            pOut.println("                return " + getterCall + ";");
+        }
+        pOut.println("            }");
+        pOut.println("            @Override");
+        pOut.println("            public void set(final java.lang.Object pBean, final java.lang.Object pValue) {");
+        if (setterCall == null) {
+            pOut.println("                " + notWritable);
+        } else if (kind.isPrimitive()) {
+            pOut.println("                " + setterCall + "(((" + wrapperName(kind) + ") pValue)." + type + "Value());");
+        } else {
+            pOut.println("                " + setterCall + "((" + type + ") pValue);");
+        }
+        pOut.println("            }");
+
+        // ボクシングを伴わない読み書き.
+        if (kind == TypeKind.BOOLEAN || kind == TypeKind.DOUBLE || kind == TypeKind.INT || kind == TypeKind.LONG) {
+            final String suffix = Character.toUpperCase(type.charAt(0)) + type.substring(1);
+            pOut.println("            @Override");
+            pOut.println("            public " + type + " get" + suffix + "(final java.lang.Object pBean) {");
+            pOut.println("                " + (getterCall == null ? notReadable : "return " + getterCall + ";"));
+            pOut.println("            }");
+            pOut.println("            @Override");
+            pOut.println("            public void set" + suffix + "(final java.lang.Object pBean, final " + type + " pValue) {");
+            pOut.println("                " + (setterCall == null ? notWritable : setterCall + "(pValue);"));
+            pOut.println("            }");
+        }
+        pOut.print("        }");
+    }
+
+    @SuppressWarnings("nls")
+    private void writeSource( //
+            final PrintWriter pOut //
+            , final String pPackageName //
+            , final String pSimpleName //
+            , final String pBeanTypeName //
+            , final List<PropertyInfo> pProperties) {
+        if (pPackageName.length() != 0) {
+            pOut.println("package " + pPackageName + ";");
+            pOut.println();
+        }
+        pOut.println("/**");
+        pOut.println(" * {@link " + pBeanTypeName + "} generated by " + getClass().getName() + ".");
+        pOut.println(" */");
+        pOut.println("@SuppressWarnings(\"all\")");
+        pOut.println("public final class " + pSimpleName + " implements jabara.bean.BeanMetadata {");
+        pOut.println();
+        pOut.println("    @Override");
+        pOut.println("    public java.lang.Class<?> getBeanType() {");
+        pOut.println("        return " + pBeanTypeName + ".class;");
+        pOut.println("    }");
+        pOut.println();
+        pOut.println("    @Override");
+        pOut.println("    public java.util.List<jabara.bean.PropertyMetadata> getProperties() {");
+        pOut.println("        final java.util.List<jabara.bean.PropertyMetadata> ret = new java.util.ArrayList<jabara.bean.PropertyMetadata>();");
+        for (final PropertyInfo property : pProperties) {
+            final Order order = property.getAnnotation(Order.class);
+            final Localized localized = property.getAnnotation(Localized.class);
+            final boolean string = "java.lang.String".equals(property.type.toString());
+
+            pOut.println("        ret.add(new jabara.bean.PropertyMetadata( //");
+            pOut.println("        " + literal(property.name) + " //");
+            pOut.println("        , " + property.type + ".class //");
+            pOut.println("        , " + (property.getter == null ? "null" : literal(property.getter.getSimpleName().toString())) + " //");
+            pOut.println("        , " + (property.setter == null ? "null" : literal(property.setter.getSimpleName().toString())) + " //");
+            pOut.println("        , " + (order == null ? DEFAULT_ORDER_INDEX : order.value()) + " //");
+            pOut.println("        , " + (property.getAnnotation(Hidden.class) != null) + " //");
+            pOut.println("        , " + (string && property.getAnnotation(MultiLine.class) != null) + " //");
+            pOut.println("        , " + (property.getAnnotation(Nullable.class) != null) + " //");
+            pOut.println("        , " + (localized == null ? "null" : literal(localized.value())) + " //");
+            pOut.print("        , ");
+            writeAccessor(pOut, pBeanTypeName, property);
+            pOut.println("));");
+        }
+        pOut.println("        return ret;");
+        pOut.println("    }");
+        pOut.println("}");
+    }
+
+    private static boolean isAccessible(final TypeElement pBeanType) {
+        for (Element e = pBeanType; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            final TypeElement type = (TypeElement) e;
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("nls")
+    private static String literal(final String pValue) {
+        final StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < pValue.length(); i++) {
+            final char c = pValue.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                sb.append(String.format("\\u%04x", Integer.valueOf(c)));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static PropertyInfo getProperty(final Map<String, PropertyInfo> pProperties, final String pName) {
+        PropertyInfo ret = pProperties.get(pName);
+        if (ret == null) {
+            ret = new PropertyInfo(pName);
+            pProperties.put(pName, ret);
+        }
+        return ret;
+    }
+
+    @SuppressWarnings("nls")
+    private static String wrapperName(final TypeKind pKind) {
+        switch (pKind) {
+        case BOOLEAN:
+            return "java.lang.Boolean";
+        case BYTE:
+            return "java.lang.Byte";
+        case CHAR:
+            return "java.lang.Character";
+        case SHORT:
+            return "java.lang.Short";
+        case INT:
+            return "java.lang.Integer";
+        case LONG:
+            return "java.lang.Long";
+        case FLOAT:
+            return "java.lang.Float";
+        case DOUBLE:
+            return "java.lang.Double";
+        default:
+            throw new IllegalArgumentException(pKind.name());
+        }
+    }
+
+    private static class PropertyInfo {
+        final String      name;
+        ExecutableElement getter;
+        ExecutableElement setter;
+        TypeMirror        type;
+
+        PropertyInfo(final String pName) {
+            this.name = pName;
+        }
+
+        /**
+         * 実行時と同じく、getterに付与されたものを優先します.
+         */
+        <A extends Annotation> A getAnnotation(final Class<A> pType) {
+            if (this.getter != null) {
+                final A ann = this.getter.getAnnotation(pType);
+                if (ann != null) {
+                    return ann;
+                }
+            }
+            return this.setter == null ? null : this.setter.getAnnotation(pType);
+        }
+    }
+}
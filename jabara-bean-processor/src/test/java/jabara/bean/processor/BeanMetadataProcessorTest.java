@@ -0,0 +1,225 @@
+/**
+ * 
+ */
+package jabara.bean.processor;
+
+import jabara.bean.BeanProperties;
+import jabara.bean.BeanProperty;
+import jabara.general.ExceptionUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * @author jabaraster
+ */
+public class BeanMetadataProcessorTest {
+
+    @SuppressWarnings("nls")
+    private static final String SOURCE = "" //
+            + "package sample;\n" //
+            + "import jabara.bean.annotation.*;\n" //
+            + "public class XBean {\n" //
+            + "    private int count;\n" //
+            + "    private String memo;\n" //
+            + "    @Order(2) public int getCount() { return this.count; }\n" //
+            + "    public void setCount(int c) { this.count = c; }\n" //
+            + "    @Order(1) @MultiLine @Nullable @Localized(\"\\u30e1\\u30e2\") public String getMemo() { return this.memo; }\n" //
+            + "    public void setMemo(String m) { this.memo = m; }\n" //
+            + "    @Hidden public boolean isSecret() { return true; }\n" //
+            + "    public Integer getDifferType() { return null; }\n" //
+            + "    public void setDifferType(Long l) { }\n" //
+            + "    public static class Nested { @Order(1) public String getValue() { return null; } }\n" //
+            + "    public static class Collision { @Order(1) public String getName() { return null; } }\n" //
+            + "    public static class Overloaded {\n" //
+            + "        @Order(1) public void setValue(String s) { }\n" //
+            + "        public void setValue(Integer i) { }\n" //
+            + "    }\n" //
+            + "}\n";
+
+    /**
+     * メタデータのクラス名がXBean$Collisionのものと衝突するBean.
+     */
+    @SuppressWarnings("nls")
+    private static final String COLLISION_SOURCE = "" //
+            + "package sample;\n" //
+            + "import jabara.bean.annotation.*;\n" //
+            + "public class XBean_Collision {\n" //
+            + "    @Order(1) public int getCount() { return 0; }\n" //
+            + "}\n";
+
+    private static ClassLoader loader;
+
+    /**
+     * 
+     */
+    @BeforeClass
+    public static void compile() {
+        try {
+            final File dir = File.createTempFile("jabara-bean-processor", ""); //$NON-NLS-1$ //$NON-NLS-2$
+            dir.delete();
+            final File sourceDir = new File(dir, "sample"); //$NON-NLS-1$
+            sourceDir.mkdirs();
+            final File source = write(new File(sourceDir, "XBean.java"), SOURCE); //$NON-NLS-1$
+            final File collision = write(new File(sourceDir, "XBean_Collision.java"), COLLISION_SOURCE); //$NON-NLS-1$
+
+            final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            final int result = compiler.run(null, null, null //
+                    , "-classpath", System.getProperty("java.class.path") //$NON-NLS-1$ //$NON-NLS-2$
+                    , "-processor", BeanMetadataProcessor.class.getName() //$NON-NLS-1$
+                    , "-d", dir.getAbsolutePath() //$NON-NLS-1$
+                    , "-s", dir.getAbsolutePath() //$NON-NLS-1$
+                    , source.getAbsolutePath() //
+                    , collision.getAbsolutePath());
+            assertThat(Integer.valueOf(result), is(Integer.valueOf(0)));
+
+            loader = new URLClassLoader(new URL[] { dir.toURI().toURL() }, BeanMetadataProcessorTest.class.getClassLoader());
+
+        } catch (final IOException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _アノテーションの情報() {
+        final BeanProperties sut = BeanProperties.getInstance(load("sample.XBean"));
+
+        final BeanProperty memo = sut.get("memo");
+        assertThat(memo.isMultiLine(), is(true));
+        assertThat(memo.isNullable(), is(true));
+        assertThat(memo.getLocalizedName(), is("メモ"));
+        assertThat(sut.get("secret").isHidden(), is(true));
+        assertThat(sut.get("differType").isReadOnly(), is(true));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _ネストしたクラス() {
+        load("sample.XBean_Nested_BeanMetadata");
+        assertThat(BeanProperties.getInstance(load("sample.XBean$Nested")).get(0).getName(), is("value"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _getterがなくsetterがオーバーロードされている場合は生成しない() {
+        assertThat(exists("sample.XBean_Overloaded_BeanMetadata"), is(false));
+        // 実行時のリフレクションに任せる.
+        final BeanProperty value = BeanProperties.getInstance(load("sample.XBean$Overloaded")).get("value");
+        assertThat(value.isWritable(), is(true));
+        assertThat(value.isReadable(), is(false));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _メタデータのクラス名の衝突() {
+        // 生成されるのはどちらか一方だけで、もう一方はリフレクションで解析される.
+        assertThat(BeanProperties.getInstance(load("sample.XBean$Collision")).get(0).getName(), is("name"));
+        assertThat(BeanProperties.getInstance(load("sample.XBean_Collision")).get(0).getName(), is("count"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _メタデータクラスが生成される() {
+        load("sample.XBean_BeanMetadata");
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _並び順() {
+        final BeanProperties sut = BeanProperties.getInstance(load("sample.XBean"));
+        final String[] names = new String[sut.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = sut.get(i).getName();
+        }
+        assertThat(names[0], is("memo"));
+        assertThat(names[1], is("count"));
+        assertThat(Arrays.asList(names).containsAll(Arrays.asList("differType", "secret")), is(true));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _値の読み書き() {
+        try {
+            final Class<?> beanType = load("sample.XBean");
+            final Object bean = beanType.newInstance();
+            final BeanProperties sut = BeanProperties.getInstance(beanType);
+
+            sut.get("count").setInt(bean, 7);
+            sut.get("memo").setValue(bean, "abc");
+
+            assertThat(sut.get("count").getInt(bean), is(7));
+            assertThat(sut.get("count").getValue(bean), is((Object) 7));
+            assertThat(sut.get("memo").getValue(bean), is((Object) "abc"));
+
+        } catch (final InstantiationException e) {
+            throw ExceptionUtil.rethrow(e);
+        } catch (final IllegalAccessException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    private static File write(final File pFile, final String pSource) throws IOException {
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(pFile), "UTF-8"); //$NON-NLS-1$
+        try {
+            writer.write(pSource);
+        } finally {
+            writer.close();
+        }
+        return pFile;
+    }
+
+    private static boolean exists(final String pName) {
+        try {
+            loader.loadClass(pName);
+            return true;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static Class<?> load(final String pName) {
+        try {
+            return loader.loadClass(pName);
+        } catch (final ClassNotFoundException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+}
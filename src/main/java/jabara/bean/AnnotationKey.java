@@ -0,0 +1,143 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 登録済みのアノテーションの型を表すキーです. <br>
+ * {@link BeanProperty#findAnnotation(AnnotationKey)}等にキーを渡すと、ハッシュ表の検索もアノテーションの走査も行わず、
+ * {@link BeanProperty}ごとに事前に解決された表を添字で引くだけで結果が得られます. <br>
+ * アプリケーション独自のアノテーションを頻繁に参照する場合は、起動時に{@link #register(Class)}で登録して定数として保持して下さい. <br>
+ * 登録前に解決された{@link BeanProperty}に対しても正しい結果が返りますが、その場合は通常の走査になります. <br>
+ * 登録したキーはアノテーションの型を強参照で保持します. ホットデプロイでクラスローダを解放する場合は{@link #unregister(ClassLoader)}で登録を解除して下さい
+ * ({@link BeanPropertiesCache#remove(ClassLoader)}からも呼ばれます). 解除されたキーの位置は次に登録されるキーが再利用するので、登録と解除を繰り返しても表は大きくなりません. <br>
+ * 
+ * @param <A> アノテーションの型.
+ * @author jabaraster
+ */
+public final class AnnotationKey<A extends Annotation> {
+
+    private static final Map<Class<?>, AnnotationKey<?>> KEYS       = new HashMap<Class<?>, AnnotationKey<?>>(); // KEYSでロック.
+    private static volatile AnnotationKey<?>[]           registered = new AnnotationKey<?>[0]; // KEYSで更新. 解除された位置はnull.
+    private static int                                   lastId; // KEYSでロック.
+
+    private final Class<A>                               type;
+    private final int                                    index;
+    private final int                                    id;
+
+    private AnnotationKey(final Class<A> pType, final int pIndex, final int pId) {
+        this.type = pType;
+        this.index = pIndex;
+        this.id = pId;
+    }
+
+    /**
+     * @return アノテーションの型.
+     */
+    public Class<A> getType() {
+        return this.type;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public String toString() {
+        return "AnnotationKey [type=" + this.type.getName() + "]";
+    }
+
+    /**
+     * @return 登録ごとに異なる、0より大きい値. 解除された位置を再利用したキーと、以前のキーを区別するために使います.
+     */
+    int getId() {
+        return this.id;
+    }
+
+    int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * アノテーションの型を登録します. 同じ型を何度登録しても、同じキーが返ります. <br>
+     * 
+     * @param pType 登録するアノテーションの型.
+     * @return 登録した型のキー.
+     * @param <A> アノテーションの型.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A extends Annotation> AnnotationKey<A> register(final Class<A> pType) {
+        ArgUtil.checkNull(pType, "pType"); //$NON-NLS-1$
+        synchronized (KEYS) {
+            final AnnotationKey<?> existing = KEYS.get(pType);
+            if (existing != null) {
+                return (AnnotationKey<A>) existing;
+            }
+            final AnnotationKey<?>[] current = registered;
+            // 解除された位置があれば再利用する.
+            int index = indexOf(current, null);
+            final AnnotationKey<?>[] next;
+            if (index < 0) {
+                index = current.length;
+                next = Arrays.copyOf(current, current.length + 1);
+            } else {
+                next = current.clone();
+            }
+            final AnnotationKey<A> ret = new AnnotationKey<A>(pType, index, ++lastId);
+            next[index] = ret;
+            KEYS.put(pType, ret);
+            registered = next;
+            return ret;
+        }
+    }
+
+    /**
+     * 指定のクラスローダ、あるいはその子孫のクラスローダがロードしたアノテーションの型の登録を全て解除します. <br>
+     * ただしこのクラスと同じクラスローダがロードした型は、このクラスと共にしか解放されないので解除しません. <br>
+     * 解除したキーを{@link BeanProperty#findAnnotation(AnnotationKey)}等に渡しても正しい結果が返りますが、通常の走査になります. <br>
+     * 
+     * @param pClassLoader -
+     */
+    public static void unregister(final ClassLoader pClassLoader) {
+        ArgUtil.checkNull(pClassLoader, "pClassLoader"); //$NON-NLS-1$
+        synchronized (KEYS) {
+            final AnnotationKey<?>[] next = registered.clone();
+            boolean changed = false;
+            for (final Iterator<AnnotationKey<?>> it = KEYS.values().iterator(); it.hasNext();) {
+                final AnnotationKey<?> key = it.next();
+                if (key.type.getClassLoader() != AnnotationKey.class.getClassLoader() && BeanPropertiesCache.isLoadedBy(key.type, pClassLoader)) {
+                    it.remove();
+                    next[key.index] = null;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                registered = next;
+            }
+        }
+    }
+
+    /**
+     * @return 登録済みのキー. 配列内の位置は{@link #getIndex()}と一致し、解除された位置はnullです. 戻り値の配列を変更しないこと.
+     */
+    static AnnotationKey<?>[] getRegisteredKeys() {
+        return registered;
+    }
+
+    private static int indexOf(final AnnotationKey<?>[] pKeys, final AnnotationKey<?> pKey) {
+        for (int i = 0; i < pKeys.length; i++) {
+            if (pKeys[i] == pKey) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
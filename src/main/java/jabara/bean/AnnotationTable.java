@@ -0,0 +1,104 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * プロパティのgetterとsetterに付与されたアノテーションの表です. 生成後は変更されません. <br>
+ * 両方に同じ型のアノテーションが付与されている場合はgetterのものを採ります. <br>
+ * 実行時に保持される全てのアノテーションを持つので、アプリケーション独自のアノテーションも引けます. <br>
+ * 
+ * @author jabaraster
+ */
+final class AnnotationTable {
+
+    private final Annotation[] annotations;
+    private final Class<?>[]   types; // annotationsの各要素の型. Annotation#annotationType()はプロキシ経由の呼び出しになるので事前に取り出しておく.
+    private final Annotation[] registered; // AnnotationKey#getIndex()の位置に格納する. 付与されていなければnull.
+    private final int[]        registeredIds; // registeredの各位置を解決した時のキーのAnnotationKey#getId(). 空いていた位置は0.
+
+    /**
+     * @param pGetter nullでも可.
+     * @param pSetter nullでも可.
+     */
+    AnnotationTable(final Method pGetter, final Method pSetter) {
+        final List<Annotation> list = new ArrayList<Annotation>();
+        add(list, pGetter);
+        add(list, pSetter);
+        this.annotations = list.toArray(new Annotation[list.size()]);
+        this.types = new Class<?>[this.annotations.length];
+        for (int i = 0; i < this.annotations.length; i++) {
+            this.types[i] = this.annotations[i].annotationType();
+        }
+
+        final AnnotationKey<?>[] keys = AnnotationKey.getRegisteredKeys();
+        this.registered = new Annotation[keys.length];
+        this.registeredIds = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final AnnotationKey<?> key = keys[i];
+            if (key != null) {
+                this.registered[i] = scan(key.getType());
+                this.registeredIds[i] = key.getId();
+            }
+        }
+    }
+
+    /**
+     * @param pKey -
+     * @return アノテーション. 付与されていなければnull.
+     * @param <A> アノテーションの型.
+     */
+    @SuppressWarnings("unchecked")
+    <A extends Annotation> A find(final AnnotationKey<A> pKey) {
+        final int index = pKey.getIndex();
+        if (index < this.registered.length && this.registeredIds[index] == pKey.getId()) {
+            return (A) this.registered[index];
+        }
+        // この表を作った後に登録された、あるいは解除された位置を再利用したキー.
+        return scan(pKey.getType());
+    }
+
+    /**
+     * @param pType -
+     * @return アノテーション. 付与されていなければnull.
+     * @param <A> アノテーションの型.
+     */
+    <A extends Annotation> A find(final Class<A> pType) {
+        return scan(pType);
+    }
+
+    private <A extends Annotation> A scan(final Class<A> pType) {
+        // 1つのプロパティに付与されるアノテーションは高々数個なので、ハッシュ表より配列の線形探索の方が速い.
+        for (int i = 0; i < this.types.length; i++) {
+            if (this.types[i] == pType) {
+                return pType.cast(this.annotations[i]);
+            }
+        }
+        return null;
+    }
+
+    private static void add(final List<Annotation> pList, final Method pMethod) {
+        if (pMethod == null) {
+            return;
+        }
+        for (final Annotation annotation : pMethod.getAnnotations()) {
+            if (!contains(pList, annotation.annotationType())) {
+                pList.add(annotation);
+            }
+        }
+    }
+
+    private static boolean contains(final List<Annotation> pList, final Class<? extends Annotation> pType) {
+        for (final Annotation annotation : pList) {
+            if (annotation.annotationType() == pType) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
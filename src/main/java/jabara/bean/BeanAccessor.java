@@ -0,0 +1,143 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Beanの全プロパティを{@link BeanProperties}の並び順で配列に読み出し、また配列から書き戻します. <br>
+ * 呼び出し側が配列を使い回せば、読み書きの際にオブジェクトは生成されません(プリミティブ型のボクシングを除く). <br>
+ * インスタンスは{@link BeanProperties#getBeanAccessor()}で取得して下さい. <br>
+ * 
+ * @author jabaraster
+ */
+public final class BeanAccessor {
+
+    private final Class<?>           beanType;
+    private final PropertyAccessor[] accessors;
+    private final int[]              readableIndices;
+    private final int[]              unreadableIndices;
+    private final int[]              writableIndices;
+
+    BeanAccessor(final Class<?> pBeanType, final List<BeanProperty> pProperties) {
+        this.beanType = pBeanType;
+        this.accessors = new PropertyAccessor[pProperties.size()];
+
+        final List<Integer> readables = new ArrayList<Integer>();
+        final List<Integer> unreadables = new ArrayList<Integer>();
+        final List<Integer> writables = new ArrayList<Integer>();
+        for (int i = 0; i < this.accessors.length; i++) {
+            final PropertyAccessor accessor = pProperties.get(i).getAccessor();
+            this.accessors[i] = accessor;
+            if (accessor.canRead()) {
+                readables.add(Integer.valueOf(i));
+            } else {
+                unreadables.add(Integer.valueOf(i));
+            }
+            if (accessor.canWrite()) {
+                writables.add(Integer.valueOf(i));
+            }
+        }
+        this.readableIndices = toArray(readables);
+        this.unreadableIndices = toArray(unreadables);
+        this.writableIndices = toArray(writables);
+    }
+
+    /**
+     * @return 対象のBeanの型.
+     */
+    public Class<?> getBeanType() {
+        return this.beanType;
+    }
+
+    /**
+     * @param pBean 値を読み出すBean.
+     * @return 全プロパティの値を格納した新しい配列. getterのないプロパティに対応する要素はnullになります.
+     */
+    public Object[] read(final Object pBean) {
+        final Object[] ret = new Object[this.accessors.length];
+        read(pBean, ret);
+        return ret;
+    }
+
+    /**
+     * 全プロパティの値を、{@link BeanProperties}の並び順で配列に格納します. <br>
+     * getterのないプロパティに対応する要素にはnullが格納されます. <br>
+     * 
+     * @param pBean 値を読み出すBean.
+     * @param pDestination 格納先. 長さが{@link #size()}以上である必要があります.
+     */
+    public void read(final Object pBean, final Object[] pDestination) {
+        checkArguments(pBean, pDestination, "pDestination"); //$NON-NLS-1$
+
+        final PropertyAccessor[] as = this.accessors;
+        for (final int i : this.readableIndices) {
+            pDestination[i] = as[i].get(pBean);
+        }
+        for (final int i : this.unreadableIndices) {
+            pDestination[i] = null;
+        }
+    }
+
+    /**
+     * @return プロパティの数.
+     */
+    public int size() {
+        return this.accessors.length;
+    }
+
+    /**
+     * 配列の値を、{@link BeanProperties}の並び順でBeanの各プロパティに書き込みます. <br>
+     * setterのないプロパティに対応する要素は無視されます. <br>
+     * 
+     * @param pSource 書き込む値. 長さが{@link #size()}以上である必要があります.
+     * @param pBean 書き込み先のBean.
+     */
+    public void write(final Object[] pSource, final Object pBean) {
+        checkArguments(pBean, pSource, "pSource"); //$NON-NLS-1$
+
+        final PropertyAccessor[] as = this.accessors;
+        for (final int i : this.writableIndices) {
+            as[i].set(pBean, pSource[i]);
+        }
+    }
+
+    /**
+     * @param pIndex {@link BeanProperties}での位置.
+     * @return -
+     */
+    PropertyAccessor getAccessor(final int pIndex) {
+        return this.accessors[pIndex];
+    }
+
+    /**
+     * @return getterのあるプロパティの位置. 戻り値の配列を変更しないこと.
+     */
+    int[] getReadableIndices() {
+        return this.readableIndices;
+    }
+
+    @SuppressWarnings("nls")
+    private void checkArguments(final Object pBean, final Object[] pValues, final String pValuesName) {
+        ArgUtil.checkNull(pBean, "pBean");
+        ArgUtil.checkNull(pValues, pValuesName);
+        if (!this.beanType.isInstance(pBean)) {
+            throw new IllegalArgumentException("pBean is not instance of " + this.beanType.getName() + ".");
+        }
+        if (pValues.length < this.accessors.length) {
+            throw new IllegalArgumentException(pValuesName + " is too short(length=" + pValues.length + ", required=" + this.accessors.length + ").");
+        }
+    }
+
+    private static int[] toArray(final List<Integer> pList) {
+        final int[] ret = new int[pList.size()];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = pList.get(i).intValue();
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,567 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 複数のプロパティの値でBeanを比較する{@link Comparator}です. <br>
+ * プロパティの型に応じた比較方法の決定はインスタンス生成時に1度だけ行い、{@link #compare(Object, Object)}では解決済みの配列を辿るだけです.
+ * int、long、doubleのプロパティはボクシングせずに比較します(jabara-bean-processorが生成したアクセサを使う場合.
+ * リフレクションの場合は{@link PropertyAccessor}の説明を参照). その他の型は{@link Comparable}である必要があります. <br>
+ * 大きなリストの整列には{@link #sort(List)}、{@link #sort(List, ExecutorService)}を使って下さい.
+ * 比較の度にgetterを呼ぶ代わりに、最初に全要素の値を列として取り出してから整列します. <br>
+ * インスタンスは{@link #getInstance(Class, SortKey...)}で取得して下さい. 同じ組み合わせに対しては同じインスタンスが返ります
+ * ({@link BeanPropertiesCache}のキャッシュが破棄された場合と、型ごとにメモ化する組み合わせの数の上限を超えた場合を除く).
+ * インスタンスはスレッドセーフです. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class BeanComparator<T> implements Comparator<T> {
+
+    private static final int         INT            = 0;
+    private static final int         LONG           = 1;
+    private static final int         DOUBLE         = 2;
+    private static final int         OBJECT         = 3;
+
+    // これより短い範囲は挿入ソートで整列する.
+    private static final int         INSERTION_SORT = 7;
+
+    private final Class<T>           beanType;
+    private final List<SortKey>      sortKeys;
+    private final PropertyAccessor[] accessors;
+    private final int[]              kinds;
+    private final int[]              signs;
+    private final boolean[]          nullsFirst;
+
+    @SuppressWarnings("nls")
+    private BeanComparator(final Class<T> pBeanType, final List<SortKey> pSortKeys) {
+        this.beanType = pBeanType;
+        this.sortKeys = pSortKeys;
+
+        final int size = pSortKeys.size();
+        this.accessors = new PropertyAccessor[size];
+        this.kinds = new int[size];
+        this.signs = new int[size];
+        this.nullsFirst = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            final SortKey key = pSortKeys.get(i);
+            final BeanProperty property = key.getProperty();
+            if (!property.getBeanType().isAssignableFrom(pBeanType)) {
+                throw new IllegalArgumentException("property '" + property.getName() + "' is not a member of " + pBeanType.getName() + ".");
+            }
+            if (!property.isReadable()) {
+                throw new IllegalStateException("property '" + property.getName() + "' is not readable.");
+            }
+            this.accessors[i] = property.getAccessor();
+            this.kinds[i] = kindOf(property);
+            this.signs[i] = key.getDirection() == Direction.ASCENDING ? 1 : -1;
+            this.nullsFirst[i] = key.getNulls() == Nulls.FIRST;
+        }
+    }
+
+    /**
+     * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+     */
+    @Override
+    public int compare(final T pBean0, final T pBean1) {
+        final PropertyAccessor[] as = this.accessors;
+        for (int i = 0; i < as.length; i++) {
+            final PropertyAccessor a = as[i];
+            final int result;
+            switch (this.kinds[i]) {
+            case INT:
+                result = compareInts(a.getInt(pBean0), a.getInt(pBean1));
+                break;
+            case LONG:
+                result = compareLongs(a.getLong(pBean0), a.getLong(pBean1));
+                break;
+            case DOUBLE:
+                result = Double.compare(a.getDouble(pBean0), a.getDouble(pBean1));
+                break;
+            default:
+                final Object o0 = a.get(pBean0);
+                final Object o1 = a.get(pBean1);
+                if (o0 == null || o1 == null) {
+                    final int nulls = compareNulls(o0, o1, this.nullsFirst[i]);
+                    if (nulls != 0) {
+                        return nulls;
+                    }
+                    continue;
+                }
+                result = compareObjects(o0, o1);
+                break;
+            }
+            if (result != 0) {
+                return result < 0 ? -this.signs[i] : this.signs[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return Beanの型.
+     */
+    public Class<T> getBeanType() {
+        return this.beanType;
+    }
+
+    /**
+     * @return 比較に使うプロパティの一覧. 優先度の高い順です.
+     */
+    public List<SortKey> getSortKeys() {
+        return this.sortKeys;
+    }
+
+    /**
+     * リストを整列します. 結果は{@link Collections#sort(List, Comparator)}にこのインスタンスを渡した場合と同じです(安定ソートです). <br>
+     * 最初に全要素の値を列として取り出してから整列するので、getterの呼び出しは要素ごとに1度だけです. <br>
+     * 
+     * @param pBeans 整列するリスト. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     */
+    public void sort(final List<T> pBeans) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        if (pBeans.size() < 2) {
+            return;
+        }
+        final Object[] source = pBeans.toArray();
+        final Rows rows = readRows(source, null);
+
+        final int[] indices = identity(source.length);
+        final int[] work = indices.clone();
+        mergeSort(work, indices, 0, indices.length, rows);
+
+        writeBack(pBeans, source, indices);
+    }
+
+    /**
+     * リストを整列します. 結果は{@link #sort(List)}と同じです. <br>
+     * 要素数が十分に多い場合は、値の取り出しと整列を範囲に分割してpExecutorで並列に行います. 要素数が少なければ呼び出し元のスレッドで整列します. <br>
+     * 
+     * @param pBeans 整列するリスト. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pExecutor 並列に整列するためのスレッドプール.
+     */
+    public void sort(final List<T> pBeans, final ExecutorService pExecutor) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        ArgUtil.checkNull(pExecutor, "pExecutor"); //$NON-NLS-1$
+        if (pBeans.size() < 2) {
+            return;
+        }
+        final Object[] source = pBeans.toArray();
+        final Rows rows = readRows(source, pExecutor);
+
+        final int size = source.length;
+        final int runCount = Math.min(Runtime.getRuntime().availableProcessors() * 4, (size + ColumnReader.MIN_CHUNK_SIZE - 1)
+                / ColumnReader.MIN_CHUNK_SIZE);
+        final int runSize = (size + runCount - 1) / runCount;
+
+        int[] sorted = identity(size);
+        int[] work = sorted.clone();
+
+        // 範囲ごとに整列した後、隣り合う範囲を2つずつ併合していく.
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (int from = 0; from < size; from += runSize) {
+            tasks.add(newSortTask(work, sorted, from, Math.min(from + runSize, size), rows));
+        }
+        runAll(pExecutor, tasks);
+
+        for (int width = runSize; width < size; width *= 2) {
+            tasks.clear();
+            for (int from = 0; from < size; from += width * 2) {
+                tasks.add(newMergeTask(sorted, work, from, Math.min(from + width, size), Math.min(from + width * 2, size), rows));
+            }
+            runAll(pExecutor, tasks);
+            final int[] swap = sorted;
+            sorted = work;
+            work = swap;
+        }
+
+        writeBack(pBeans, source, sorted);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return this.beanType.getSimpleName() + this.sortKeys;
+    }
+
+    private Rows readRows(final Object[] pSource, final ExecutorService pExecutor) {
+        final List<Object> list = Arrays.asList(pSource);
+        final Object[] columns = new Object[this.accessors.length];
+        for (int i = 0; i < columns.length; i++) {
+            final ColumnReader reader = new ColumnReader(this.beanType, this.accessors[i]);
+            switch (this.kinds[i]) {
+            case INT:
+                columns[i] = pExecutor == null ? reader.readInts(list) : reader.readInts(list, pExecutor);
+                break;
+            case LONG:
+                columns[i] = pExecutor == null ? reader.readLongs(list) : reader.readLongs(list, pExecutor);
+                break;
+            case DOUBLE:
+                columns[i] = pExecutor == null ? reader.readDoubles(list) : reader.readDoubles(list, pExecutor);
+                break;
+            default:
+                columns[i] = pExecutor == null ? reader.readObjects(list) : reader.readObjects(list, pExecutor);
+                break;
+            }
+        }
+        return new Rows(this.kinds, this.signs, this.nullsFirst, columns);
+    }
+
+    /**
+     * @param <T> Beanの型.
+     * @param pBeanType Beanの型.
+     * @param pSortKeys 比較に使うプロパティ. 優先度の高い順に指定します.
+     * @return 指定の組み合わせに対する{@link BeanComparator}.
+     * @throws IllegalArgumentException プロパティがpBeanTypeのものでない場合、あるいは比較出来ない型の場合.
+     * @throws IllegalStateException getterが存在しない場合.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanComparator<T> getInstance(final Class<T> pBeanType, final SortKey... pSortKeys) {
+        ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
+        ArgUtil.checkNull(pSortKeys, "pSortKeys"); //$NON-NLS-1$
+        if (pSortKeys.length == 0) {
+            throw new IllegalArgumentException("pSortKeys is empty."); //$NON-NLS-1$
+        }
+        for (final SortKey key : pSortKeys) {
+            ArgUtil.checkNull(key, "pSortKeys[]"); //$NON-NLS-1$
+        }
+        final List<SortKey> keys = Collections.unmodifiableList(Arrays.asList(pSortKeys.clone()));
+
+        // BeanPropertiesCacheにキャッシュされたインスタンスにメモ化するので、キャッシュと共に破棄される.
+        final BeanProperties properties = BeanProperties.getInstance(pBeanType);
+        final BeanComparator<?> memoized = properties.findComparator(keys);
+        if (memoized != null) {
+            return (BeanComparator<T>) memoized;
+        }
+        return (BeanComparator<T>) properties.memoizeComparator(keys, new BeanComparator<T>(pBeanType, keys));
+    }
+
+    static int compareInts(final int p0, final int p1) {
+        return p0 < p1 ? -1 : p0 == p1 ? 0 : 1;
+    }
+
+    static int compareLongs(final long p0, final long p1) {
+        return p0 < p1 ? -1 : p0 == p1 ? 0 : 1;
+    }
+
+    static int compareNulls(final Object p0, final Object p1, final boolean pNullsFirst) {
+        if (p0 == null) {
+            return p1 == null ? 0 : pNullsFirst ? -1 : 1;
+        }
+        return pNullsFirst ? 1 : -1;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static int compareObjects(final Object p0, final Object p1) {
+        return ((Comparable) p0).compareTo(p1);
+    }
+
+
+    private static int[] identity(final int pSize) {
+        final int[] ret = new int[pSize];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = i;
+        }
+        return ret;
+    }
+
+    @SuppressWarnings("nls")
+    private static int kindOf(final BeanProperty pProperty) {
+        final Class<?> type = pProperty.getType();
+        if (type == Integer.TYPE) {
+            return INT;
+        }
+        if (type == Long.TYPE) {
+            return LONG;
+        }
+        if (type == Double.TYPE) {
+            return DOUBLE;
+        }
+        // その他のプリミティブ型はラッパー型として比較する.
+        if (type.isPrimitive() || Comparable.class.isAssignableFrom(type)) {
+            return OBJECT;
+        }
+        throw new IllegalArgumentException("property '" + pProperty.getName() + "' of type " + type.getName() + " is not comparable.");
+    }
+
+    private static void merge(final int[] pSource, final int[] pDestination, final int pFrom, final int pMiddle, final int pTo, final Rows pRows) {
+        for (int i = pFrom, p = pFrom, q = pMiddle; i < pTo; i++) {
+            if (q >= pTo || p < pMiddle && pRows.compare(pSource[p], pSource[q]) <= 0) {
+                pDestination[i] = pSource[p++];
+            } else {
+                pDestination[i] = pSource[q++];
+            }
+        }
+    }
+
+    /**
+     * pDestinationの[pFrom, pTo)を整列します. pSourceの同じ範囲はpDestinationと同じ内容である必要があり、作業領域として使われます.
+     */
+    private static void mergeSort(final int[] pSource, final int[] pDestination, final int pFrom, final int pTo, final Rows pRows) {
+        if (pTo - pFrom < INSERTION_SORT) {
+            for (int i = pFrom + 1; i < pTo; i++) {
+                for (int j = i; j > pFrom && pRows.compare(pDestination[j - 1], pDestination[j]) > 0; j--) {
+                    final int swap = pDestination[j];
+                    pDestination[j] = pDestination[j - 1];
+                    pDestination[j - 1] = swap;
+                }
+            }
+            return;
+        }
+        final int middle = (pFrom + pTo) >>> 1;
+        mergeSort(pDestination, pSource, pFrom, middle, pRows);
+        mergeSort(pDestination, pSource, middle, pTo, pRows);
+        if (pRows.compare(pSource[middle - 1], pSource[middle]) <= 0) {
+            // 既に整列済み.
+            System.arraycopy(pSource, pFrom, pDestination, pFrom, pTo - pFrom);
+            return;
+        }
+        merge(pSource, pDestination, pFrom, middle, pTo, pRows);
+    }
+
+    private static Callable<Void> newMergeTask(final int[] pSource, final int[] pDestination, final int pFrom, final int pMiddle, final int pTo,
+            final Rows pRows) {
+        return new Callable<Void>() {
+            @Override
+            public Void call() {
+                merge(pSource, pDestination, pFrom, pMiddle, pTo, pRows);
+                return null;
+            }
+        };
+    }
+
+    private static Callable<Void> newSortTask(final int[] pSource, final int[] pDestination, final int pFrom, final int pTo, final Rows pRows) {
+        return new Callable<Void>() {
+            @Override
+            public Void call() {
+                mergeSort(pSource, pDestination, pFrom, pTo, pRows);
+                return null;
+            }
+        };
+    }
+
+    private static void runAll(final ExecutorService pExecutor, final List<Callable<Void>> pTasks) {
+        if (pTasks.size() == 1) {
+            // 分割されなかった場合は呼び出し元のスレッドで実行する.
+            try {
+                pTasks.get(0).call();
+                return;
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        ColumnReader.runAll(pExecutor, pTasks);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void writeBack(final List<T> pBeans, final Object[] pSource, final int[] pIndices) {
+        final ListIterator<T> it = pBeans.listIterator();
+        for (final int index : pIndices) {
+            it.next();
+            it.set((T) pSource[index]);
+        }
+    }
+
+    /**
+     * 並び順です.
+     * 
+     * @author jabaraster
+     */
+    public enum Direction {
+        /**
+         * 昇順.
+         */
+        ASCENDING,
+
+        /**
+         * 降順.
+         */
+        DESCENDING
+    }
+
+    /**
+     * nullの位置です. 並び順に関わらず先頭あるいは末尾になります.
+     * 
+     * @author jabaraster
+     */
+    public enum Nulls {
+        /**
+         * 先頭.
+         */
+        FIRST,
+
+        /**
+         * 末尾.
+         */
+        LAST
+    }
+
+    /**
+     * 比較に使うプロパティと、その並び順です.
+     * 
+     * @author jabaraster
+     */
+    public static final class SortKey {
+        private final BeanProperty property;
+        private final Direction    direction;
+        private final Nulls        nulls;
+
+        /**
+         * @param pProperty 比較に使うプロパティ.
+         * @param pDirection 並び順.
+         * @param pNulls nullの位置.
+         */
+        public SortKey(final BeanProperty pProperty, final Direction pDirection, final Nulls pNulls) {
+            this.property = ArgUtil.checkNull(pProperty, "pProperty"); //$NON-NLS-1$
+            this.direction = ArgUtil.checkNull(pDirection, "pDirection"); //$NON-NLS-1$
+            this.nulls = ArgUtil.checkNull(pNulls, "pNulls"); //$NON-NLS-1$
+        }
+
+        /**
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            final SortKey other = (SortKey) obj;
+            return this.direction == other.direction && this.nulls == other.nulls && this.property.equals(other.property);
+        }
+
+        /**
+         * @return 並び順.
+         */
+        public Direction getDirection() {
+            return this.direction;
+        }
+
+        /**
+         * @return nullの位置.
+         */
+        public Nulls getNulls() {
+            return this.nulls;
+        }
+
+        /**
+         * @return 比較に使うプロパティ.
+         */
+        public BeanProperty getProperty() {
+            return this.property;
+        }
+
+        /**
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + this.direction.hashCode();
+            result = prime * result + this.nulls.hashCode();
+            result = prime * result + this.property.hashCode();
+            return result;
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            return this.property.getName() + " " + this.direction + " NULLS " + this.nulls; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        /**
+         * @param pProperty 比較に使うプロパティ.
+         * @return 昇順で、nullを末尾にする{@link SortKey}.
+         */
+        public static SortKey ascending(final BeanProperty pProperty) {
+            return new SortKey(pProperty, Direction.ASCENDING, Nulls.LAST);
+        }
+
+        /**
+         * @param pProperty 比較に使うプロパティ.
+         * @return 降順で、nullを末尾にする{@link SortKey}.
+         */
+        public static SortKey descending(final BeanProperty pProperty) {
+            return new SortKey(pProperty, Direction.DESCENDING, Nulls.LAST);
+        }
+    }
+
+    /**
+     * 取り出し済みの列の値で、行(元のリストでの位置)を比較します.
+     */
+    private static final class Rows {
+        private final int[]     kinds;
+        private final int[]     signs;
+        private final boolean[] nullsFirst;
+        private final Object[]  columns;
+
+        Rows(final int[] pKinds, final int[] pSigns, final boolean[] pNullsFirst, final Object[] pColumns) {
+            this.kinds = pKinds;
+            this.signs = pSigns;
+            this.nullsFirst = pNullsFirst;
+            this.columns = pColumns;
+        }
+
+        int compare(final int pRow0, final int pRow1) {
+            final Object[] cs = this.columns;
+            for (int i = 0; i < cs.length; i++) {
+                final int result;
+                switch (this.kinds[i]) {
+                case INT:
+                    final int[] ints = (int[]) cs[i];
+                    result = compareInts(ints[pRow0], ints[pRow1]);
+                    break;
+                case LONG:
+                    final long[] longs = (long[]) cs[i];
+                    result = compareLongs(longs[pRow0], longs[pRow1]);
+                    break;
+                case DOUBLE:
+                    final double[] doubles = (double[]) cs[i];
+                    result = Double.compare(doubles[pRow0], doubles[pRow1]);
+                    break;
+                default:
+                    final Object[] objects = (Object[]) cs[i];
+                    final Object o0 = objects[pRow0];
+                    final Object o1 = objects[pRow1];
+                    if (o0 == null || o1 == null) {
+                        final int nulls = compareNulls(o0, o1, this.nullsFirst[i]);
+                        if (nulls != 0) {
+                            return nulls;
+                        }
+                        continue;
+                    }
+                    result = compareObjects(o0, o1);
+                    break;
+                }
+                if (result != 0) {
+                    return result < 0 ? -this.signs[i] : this.signs[i];
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 型の異なる2つのBeanの間で、名前と型が一致するプロパティの値をコピーします. <br>
+ * プロパティの対応付けはインスタンス生成時に1度だけ行い、{@link #copy(Object, Object)}では対応付け済みの配列を辿るだけです. <br>
+ * インスタンスは{@link #getInstance(Class, Class, Option...)}で取得して下さい. 同じ組み合わせに対しては同じインスタンスが返ります
+ * (メモリが逼迫した場合と、{@link BeanPropertiesCache}で破棄した場合を除く). <br>
+ * 
+ * @author jabaraster
+ */
+public final class BeanCopier {
+
+    private static final TypeCache<PlanCache> CACHE = new TypeCache<PlanCache>(); // コピー元の型ごと.
+
+    private final Class<?>                    sourceType;
+    private final Class<?>                    targetType;
+    private final boolean                     skipNull;
+    private final PropertyAccessor[]          sourceAccessors;
+    private final PropertyAccessor[]          targetAccessors;
+    private final boolean[]                   primitiveTargets;
+    private final List<String>                propertyNames;
+
+    private BeanCopier(final Class<?> pSourceType, final Class<?> pTargetType, final EnumSet<Option> pOptions) {
+        this.sourceType = pSourceType;
+        this.targetType = pTargetType;
+        this.skipNull = pOptions.contains(Option.SKIP_NULL);
+
+        final BeanProperties sources = BeanProperties.getInstance(pSourceType);
+        final BeanProperties targets = BeanProperties.getInstance(pTargetType);
+
+        final List<BeanProperty> sourceList = new ArrayList<BeanProperty>();
+        final List<BeanProperty> targetList = new ArrayList<BeanProperty>();
+        for (final BeanProperty source : sources) {
+            if (!targets.contains(source.getName())) {
+                continue;
+            }
+            final BeanProperty target = targets.get(source.getName());
+            if (isTarget(source, target, pOptions)) {
+                sourceList.add(source);
+                targetList.add(target);
+            }
+        }
+
+        final int size = sourceList.size();
+        this.sourceAccessors = new PropertyAccessor[size];
+        this.targetAccessors = new PropertyAccessor[size];
+        this.primitiveTargets = new boolean[size];
+        final List<String> names = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            this.sourceAccessors[i] = sourceList.get(i).getAccessor();
+            this.targetAccessors[i] = targetList.get(i).getAccessor();
+            this.primitiveTargets[i] = targetList.get(i).getType().isPrimitive();
+            names.add(sourceList.get(i).getName());
+        }
+        this.propertyNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * 対応付けられた全てのプロパティの値をコピーします. <br>
+     * プリミティブ型のプロパティにnullをコピーしようとした場合、そのプロパティは無視されます. <br>
+     * 
+     * @param pSource コピー元.
+     * @param pTarget コピー先.
+     */
+    @SuppressWarnings("nls")
+    public void copy(final Object pSource, final Object pTarget) {
+        ArgUtil.checkNull(pSource, "pSource");
+        ArgUtil.checkNull(pTarget, "pTarget");
+        if (!this.sourceType.isInstance(pSource)) {
+            throw new IllegalArgumentException("pSource is not instance of " + this.sourceType.getName() + ".");
+        }
+        if (!this.targetType.isInstance(pTarget)) {
+            throw new IllegalArgumentException("pTarget is not instance of " + this.targetType.getName() + ".");
+        }
+
+        final PropertyAccessor[] sources = this.sourceAccessors;
+        final PropertyAccessor[] targets = this.targetAccessors;
+        final boolean[] primitives = this.primitiveTargets;
+        for (int i = 0; i < sources.length; i++) {
+            final Object value = sources[i].get(pSource);
+            if (value == null && (this.skipNull || primitives[i])) {
+                continue;
+            }
+            targets[i].set(pTarget, value);
+        }
+    }
+
+    /**
+     * @return コピー対象のプロパティ名の一覧. コピー元の{@link BeanProperties}の並び順です.
+     */
+    public List<String> getPropertyNames() {
+        return this.propertyNames;
+    }
+
+    /**
+     * @return コピー元の型.
+     */
+    public Class<?> getSourceType() {
+        return this.sourceType;
+    }
+
+    /**
+     * @return コピー先の型.
+     */
+    public Class<?> getTargetType() {
+        return this.targetType;
+    }
+
+    /**
+     * @param pSourceType コピー元の型.
+     * @param pTargetType コピー先の型.
+     * @param pOptions コピーの方法.
+     * @return 指定の組み合わせに対する{@link BeanCopier}.
+     * @throws IllegalStateException 名前と型が一致するコピー先のプロパティにsetterがない場合({@link Option#SKIP_READ_ONLY}指定時を除く).
+     */
+    public static BeanCopier getInstance(final Class<?> pSourceType, final Class<?> pTargetType, final Option... pOptions) {
+        ArgUtil.checkNull(pSourceType, "pSourceType"); //$NON-NLS-1$
+        ArgUtil.checkNull(pTargetType, "pTargetType"); //$NON-NLS-1$
+        ArgUtil.checkNull(pOptions, "pOptions"); //$NON-NLS-1$
+
+        final EnumSet<Option> options = EnumSet.noneOf(Option.class);
+        for (final Option option : pOptions) {
+            options.add(option);
+        }
+
+        final PlanCache plans = getPlanCache(pSourceType);
+        final BeanCopier cached = plans.get(pTargetType, options);
+        if (cached != null) {
+            return cached;
+        }
+        // 競合した場合は先に登録されたものを使う.
+        return plans.putIfAbsent(pTargetType, options, new BeanCopier(pSourceType, pTargetType, options));
+    }
+
+    private static PlanCache getPlanCache(final Class<?> pSourceType) {
+        final PlanCache ret = CACHE.get(pSourceType);
+        if (ret != null) {
+            return ret;
+        }
+        return CACHE.putIfAbsent(pSourceType, new PlanCache());
+    }
+
+    private static boolean isAssignable(final Class<?> pSourceType, final Class<?> pTargetType) {
+        return wrap(pTargetType).isAssignableFrom(wrap(pSourceType));
+    }
+
+    @SuppressWarnings("nls")
+    private static boolean isTarget(final BeanProperty pSource, final BeanProperty pTarget, final EnumSet<Option> pOptions) {
+        if (!pSource.getAccessor().canRead()) {
+            return false;
+        }
+        if (!isAssignable(pSource.getType(), pTarget.getType())) {
+            return false;
+        }
+        if (pOptions.contains(Option.SKIP_HIDDEN) && (pSource.isHidden() || pTarget.isHidden())) {
+            return false;
+        }
+        if (!pTarget.getAccessor().canWrite()) {
+            if (pOptions.contains(Option.SKIP_READ_ONLY)) {
+                return false;
+            }
+            throw new IllegalStateException("target property '" + pTarget.getName() + "' of " + pTarget.getBeanType().getName()
+                    + " is read only.");
+        }
+        return true;
+    }
+
+    private static Class<?> wrap(final Class<?> pType) {
+        if (!pType.isPrimitive()) {
+            return pType;
+        }
+        if (Boolean.TYPE.equals(pType)) {
+            return Boolean.class;
+        }
+        if (Byte.TYPE.equals(pType)) {
+            return Byte.class;
+        }
+        if (Character.TYPE.equals(pType)) {
+            return Character.class;
+        }
+        if (Short.TYPE.equals(pType)) {
+            return Short.class;
+        }
+        if (Integer.TYPE.equals(pType)) {
+            return Integer.class;
+        }
+        if (Long.TYPE.equals(pType)) {
+            return Long.class;
+        }
+        if (Float.TYPE.equals(pType)) {
+            return Float.class;
+        }
+        if (Double.TYPE.equals(pType)) {
+            return Double.class;
+        }
+        return pType;
+    }
+
+    private static final class PlanCache {
+        // コピー先の型ごと.
+        private final TypeCache<ConcurrentMap<EnumSet<Option>, BeanCopier>> plans = new TypeCache<ConcurrentMap<EnumSet<Option>, BeanCopier>>();
+
+        BeanCopier get(final Class<?> pTargetType, final EnumSet<Option> pOptions) {
+            final ConcurrentMap<EnumSet<Option>, BeanCopier> map = this.plans.get(pTargetType);
+            return map == null ? null : map.get(pOptions);
+        }
+
+        BeanCopier putIfAbsent(final Class<?> pTargetType, final EnumSet<Option> pOptions, final BeanCopier pCopier) {
+            ConcurrentMap<EnumSet<Option>, BeanCopier> map = this.plans.get(pTargetType);
+            if (map == null) {
+                map = this.plans.putIfAbsent(pTargetType, new ConcurrentHashMap<EnumSet<Option>, BeanCopier>());
+            }
+            final BeanCopier prev = map.putIfAbsent(pOptions, pCopier);
+            return prev == null ? pCopier : prev;
+        }
+    }
+
+    /**
+     * コピーの方法を指定します.
+     * 
+     * @author jabaraster
+     */
+    public enum Option {
+        /**
+         * コピー元かコピー先のどちらかで{@link jabara.bean.annotation.Hidden}が付与されているプロパティはコピーしません.
+         */
+        SKIP_HIDDEN,
+
+        /**
+         * 値がnullの場合はコピーしません.
+         */
+        SKIP_NULL,
+
+        /**
+         * コピー先にsetterがないプロパティを無視します. <br>
+         * 指定しない場合、名前と型が一致するのにsetterがないプロパティがあると{@link BeanCopier#getInstance(Class, Class, Option...)}が例外をスローします.
+         */
+        SKIP_READ_ONLY
+    }
+}
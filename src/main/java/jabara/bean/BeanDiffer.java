@@ -0,0 +1,458 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 同じ型の2つのBeanをプロパティごとに比較し、値の異なるプロパティを求めます. また、プロパティの値による等価判定とハッシュ値の計算を行います. <br>
+ * プロパティの型に応じた比較方法の決定はインスタンス生成時に1度だけ行います. int、long、double、booleanのプロパティはボクシングせずに比較します
+ * (jabara-bean-processorが生成したアクセサを使う場合. リフレクションの場合は{@link PropertyAccessor}の説明を参照). 配列は要素を比較します. <br>
+ * 対象となるのは{@link BeanProperties}に含まれる、getterのあるプロパティです. 一部のプロパティだけを対象にするには
+ * {@link BeanProperties#select(String...)}等で絞り込んだ{@link BeanProperties}から取得して下さい. <br>
+ * 値の異なるプロパティがない場合、{@link #diff(Object, Object)}は共有のインスタンスを返すので、比較のためにオブジェクトは生成されません. <br>
+ * インスタンスは{@link BeanProperties#getBeanDiffer()}で取得して下さい. インスタンスはスレッドセーフです. <br>
+ * 
+ * @author jabaraster
+ */
+public final class BeanDiffer {
+
+    private static final int         INT     = 0;
+    private static final int         LONG    = 1;
+    private static final int         DOUBLE  = 2;
+    private static final int         BOOLEAN = 3;
+    private static final int         ARRAY   = 4;
+    private static final int         OBJECT  = 5;
+
+    private final Class<?>           beanType;
+    private final List<BeanProperty> properties;
+    private final PropertyAccessor[] accessors;
+    private final int[]              kinds;
+    private final int[]              readableIndices;
+
+    BeanDiffer(final Class<?> pBeanType, final List<BeanProperty> pProperties) {
+        this.beanType = pBeanType;
+        this.properties = Collections.unmodifiableList(new ArrayList<BeanProperty>(pProperties));
+        this.accessors = new PropertyAccessor[pProperties.size()];
+        this.kinds = new int[pProperties.size()];
+
+        int readables = 0;
+        for (int i = 0; i < this.accessors.length; i++) {
+            final BeanProperty property = pProperties.get(i);
+            this.accessors[i] = property.getAccessor();
+            this.kinds[i] = kindOf(property.getType());
+            if (this.accessors[i].canRead()) {
+                readables++;
+            }
+        }
+        this.readableIndices = new int[readables];
+        for (int i = 0, j = 0; i < this.accessors.length; i++) {
+            if (this.accessors[i].canRead()) {
+                this.readableIndices[j++] = i;
+            }
+        }
+    }
+
+    /**
+     * 値の異なるプロパティを求めます. <br>
+     * 
+     * @param pOld 比較元のBean.
+     * @param pNew 比較先のBean.
+     * @return 比較の結果. 値の異なるプロパティがなければ{@link Changes#isEmpty()}がtrueを返す共有のインスタンスです.
+     */
+    public Changes diff(final Object pOld, final Object pNew) {
+        checkBean(pOld, "pOld"); //$NON-NLS-1$
+        checkBean(pNew, "pNew"); //$NON-NLS-1$
+
+        long[] words = null;
+        for (final int i : this.readableIndices) {
+            if (!propertyEquals(i, pOld, pNew)) {
+                if (words == null) {
+                    // 値の異なるプロパティが見つかるまではオブジェクトを生成しない.
+                    words = new long[(this.accessors.length + 63) >>> 6];
+                }
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return words == null ? Changes.NONE : new Changes(this, pOld, pNew, words);
+    }
+
+    /**
+     * 値の異なるプロパティをビットマスクで返します. プロパティの数が64以下の場合にのみ使えます. <br>
+     * 
+     * @param pOld 比較元のBean.
+     * @param pNew 比較先のBean.
+     * @return {@link BeanProperties}での位置をビットの位置とするビットマスク. 値の異なるプロパティがなければ0.
+     * @throws IllegalStateException プロパティの数が64を超える場合.
+     */
+    public long diffMask(final Object pOld, final Object pNew) {
+        checkBean(pOld, "pOld"); //$NON-NLS-1$
+        checkBean(pNew, "pNew"); //$NON-NLS-1$
+        if (this.accessors.length > 64) {
+            throw new IllegalStateException("too many properties(" + this.accessors.length + ") for long mask."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        long ret = 0;
+        for (final int i : this.readableIndices) {
+            if (!propertyEquals(i, pOld, pNew)) {
+                ret |= 1L << i;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * 対象の全てのプロパティの値が等しいかどうかを判定します. 最初に異なるプロパティが見つかった時点で判定を終えます. <br>
+     * 
+     * @param pBean0 比較するBean.
+     * @param pBean1 比較するBean.
+     * @return 全てのプロパティの値が等しければtrue.
+     */
+    public boolean equals(final Object pBean0, final Object pBean1) {
+        checkBean(pBean0, "pBean0"); //$NON-NLS-1$
+        checkBean(pBean1, "pBean1"); //$NON-NLS-1$
+        for (final int i : this.readableIndices) {
+            if (!propertyEquals(i, pBean0, pBean1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Beanの型.
+     */
+    public Class<?> getBeanType() {
+        return this.beanType;
+    }
+
+    /**
+     * @return 比較の対象となるプロパティの一覧. {@link BeanProperties}の並び順です(getterのないプロパティを含みます).
+     */
+    public List<BeanProperty> getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * 対象のプロパティの値からハッシュ値を計算します. <br>
+     * 値は{@link #equals(Object, Object)}と整合します. 配列のプロパティがなければ、プロパティの値(プリミティブ型はラッパー型)を並べたリストの{@link List#hashCode()}と同じです. <br>
+     * 
+     * @param pBean ハッシュ値を計算するBean.
+     * @return ハッシュ値.
+     */
+    public int hashCode(final Object pBean) {
+        checkBean(pBean, "pBean"); //$NON-NLS-1$
+
+        final PropertyAccessor[] as = this.accessors;
+        int ret = 1;
+        for (final int i : this.readableIndices) {
+            final PropertyAccessor a = as[i];
+            final int hash;
+            switch (this.kinds[i]) {
+            case INT:
+                hash = a.getInt(pBean);
+                break;
+            case LONG:
+                final long l = a.getLong(pBean);
+                hash = (int) (l ^ (l >>> 32));
+                break;
+            case DOUBLE:
+                final long bits = Double.doubleToLongBits(a.getDouble(pBean));
+                hash = (int) (bits ^ (bits >>> 32));
+                break;
+            case BOOLEAN:
+                hash = a.getBoolean(pBean) ? 1231 : 1237;
+                break;
+            case ARRAY:
+                hash = arrayHashCode(a.get(pBean));
+                break;
+            default:
+                final Object value = a.get(pBean);
+                hash = value == null ? 0 : value.hashCode();
+                break;
+            }
+            ret = 31 * ret + hash;
+        }
+        return ret;
+    }
+
+    /**
+     * @return 比較の対象となるプロパティの数. {@link BeanProperties#size()}と同じです.
+     */
+    public int size() {
+        return this.accessors.length;
+    }
+
+    private void checkBean(final Object pBean, final String pName) {
+        ArgUtil.checkNull(pBean, pName);
+        if (!this.beanType.isInstance(pBean)) {
+            throw new IllegalArgumentException(pName + " is not instance of " + this.beanType.getName() + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private boolean propertyEquals(final int pIndex, final Object pBean0, final Object pBean1) {
+        final PropertyAccessor a = this.accessors[pIndex];
+        switch (this.kinds[pIndex]) {
+        case INT:
+            return a.getInt(pBean0) == a.getInt(pBean1);
+        case LONG:
+            return a.getLong(pBean0) == a.getLong(pBean1);
+        case DOUBLE:
+            // Double#equals(Object)と同じく、NaN同士は等しく、0.0と-0.0は異なるものとする.
+            return Double.doubleToLongBits(a.getDouble(pBean0)) == Double.doubleToLongBits(a.getDouble(pBean1));
+        case BOOLEAN:
+            return a.getBoolean(pBean0) == a.getBoolean(pBean1);
+        case ARRAY:
+            return arrayEquals(a.get(pBean0), a.get(pBean1));
+        default:
+            final Object o0 = a.get(pBean0);
+            final Object o1 = a.get(pBean1);
+            return o0 == null ? o1 == null : o0.equals(o1);
+        }
+    }
+
+    private static boolean arrayEquals(final Object p0, final Object p1) {
+        if (p0 == p1) {
+            return true;
+        }
+        if (p0 == null || p1 == null) {
+            return false;
+        }
+        if (!p0.getClass().isArray()) {
+            return p0.equals(p1);
+        }
+        if (p0.getClass() != p1.getClass()) {
+            return false;
+        }
+        if (p0 instanceof Object[]) {
+            return Arrays.deepEquals((Object[]) p0, (Object[]) p1);
+        }
+        if (p0 instanceof int[]) {
+            return Arrays.equals((int[]) p0, (int[]) p1);
+        }
+        if (p0 instanceof long[]) {
+            return Arrays.equals((long[]) p0, (long[]) p1);
+        }
+        if (p0 instanceof double[]) {
+            return Arrays.equals((double[]) p0, (double[]) p1);
+        }
+        if (p0 instanceof byte[]) {
+            return Arrays.equals((byte[]) p0, (byte[]) p1);
+        }
+        if (p0 instanceof char[]) {
+            return Arrays.equals((char[]) p0, (char[]) p1);
+        }
+        if (p0 instanceof boolean[]) {
+            return Arrays.equals((boolean[]) p0, (boolean[]) p1);
+        }
+        if (p0 instanceof short[]) {
+            return Arrays.equals((short[]) p0, (short[]) p1);
+        }
+        return Arrays.equals((float[]) p0, (float[]) p1);
+    }
+
+    private static int arrayHashCode(final Object pArray) {
+        if (pArray == null) {
+            return 0;
+        }
+        if (!pArray.getClass().isArray()) {
+            return pArray.hashCode();
+        }
+        if (pArray instanceof Object[]) {
+            return Arrays.deepHashCode((Object[]) pArray);
+        }
+        if (pArray instanceof int[]) {
+            return Arrays.hashCode((int[]) pArray);
+        }
+        if (pArray instanceof long[]) {
+            return Arrays.hashCode((long[]) pArray);
+        }
+        if (pArray instanceof double[]) {
+            return Arrays.hashCode((double[]) pArray);
+        }
+        if (pArray instanceof byte[]) {
+            return Arrays.hashCode((byte[]) pArray);
+        }
+        if (pArray instanceof char[]) {
+            return Arrays.hashCode((char[]) pArray);
+        }
+        if (pArray instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) pArray);
+        }
+        if (pArray instanceof short[]) {
+            return Arrays.hashCode((short[]) pArray);
+        }
+        return Arrays.hashCode((float[]) pArray);
+    }
+
+    private static int kindOf(final Class<?> pType) {
+        if (pType == Integer.TYPE) {
+            return INT;
+        }
+        if (pType == Long.TYPE) {
+            return LONG;
+        }
+        if (pType == Double.TYPE) {
+            return DOUBLE;
+        }
+        if (pType == Boolean.TYPE) {
+            return BOOLEAN;
+        }
+        if (pType.isArray() || pType == Object.class) {
+            // Object型の場合は値が配列かどうかを実行時に判定する.
+            return ARRAY;
+        }
+        // その他のプリミティブ型はラッパー型として比較する.
+        return OBJECT;
+    }
+
+    /**
+     * {@link BeanDiffer#diff(Object, Object)}の結果です. <br>
+     * 値の異なるプロパティを、{@link BeanProperties}での位置をビットの位置とするビットマスクで保持します. <br>
+     * 比較前後の値は保持せず、{@link #getOldValue(int)}等の呼び出し時に比較したBeanから読み出します.
+     * そのため、比較の後にBeanを変更した場合は変更後の値が返ります. <br>
+     * 
+     * @author jabaraster
+     */
+    public static final class Changes {
+        static final Changes     NONE = new Changes(null, null, null, new long[0]);
+
+        private final BeanDiffer differ;
+        private final Object     oldBean;
+        private final Object     newBean;
+        private final long[]     words;
+
+        Changes(final BeanDiffer pDiffer, final Object pOldBean, final Object pNewBean, final long[] pWords) {
+            this.differ = pDiffer;
+            this.oldBean = pOldBean;
+            this.newBean = pNewBean;
+            this.words = pWords;
+        }
+
+        /**
+         * @param pIndex {@link BeanProperties}での位置.
+         * @return 値が異なればtrue.
+         */
+        public boolean contains(final int pIndex) {
+            final int word = pIndex >>> 6;
+            return pIndex >= 0 && word < this.words.length && (this.words[word] & (1L << pIndex)) != 0;
+        }
+
+        /**
+         * @param pIndex 値の異なるプロパティの{@link BeanProperties}での位置.
+         * @return 比較先のBeanのプロパティの値.
+         * @throws IllegalArgumentException pIndexのプロパティの値が異ならない場合.
+         */
+        public Object getNewValue(final int pIndex) {
+            checkIndex(pIndex);
+            return this.differ.accessors[pIndex].get(this.newBean);
+        }
+
+        /**
+         * @param pIndex 値の異なるプロパティの{@link BeanProperties}での位置.
+         * @return 比較元のBeanのプロパティの値.
+         * @throws IllegalArgumentException pIndexのプロパティの値が異ならない場合.
+         */
+        public Object getOldValue(final int pIndex) {
+            checkIndex(pIndex);
+            return this.differ.accessors[pIndex].get(this.oldBean);
+        }
+
+        /**
+         * @return 値の異なるプロパティの一覧. {@link BeanProperties}の並び順です.
+         */
+        public List<BeanProperty> getProperties() {
+            if (isEmpty()) {
+                return Collections.emptyList();
+            }
+            final List<BeanProperty> ret = new ArrayList<BeanProperty>(size());
+            for (int i = nextIndex(0); i >= 0; i = nextIndex(i + 1)) {
+                ret.add(this.differ.properties.get(i));
+            }
+            return Collections.unmodifiableList(ret);
+        }
+
+        /**
+         * @return 値の異なるプロパティがなければtrue.
+         */
+        public boolean isEmpty() {
+            return this.words.length == 0;
+        }
+
+        /**
+         * 値の異なるプロパティを順に辿ります. {@link java.util.BitSet#nextSetBit(int)}と同じ使い方です. <br>
+         * 
+         * <pre>
+         * for (int i = changes.nextIndex(0); i &gt;= 0; i = changes.nextIndex(i + 1)) {
+         *     ...
+         * }
+         * </pre>
+         * 
+         * @param pFromIndex 探し始める位置(この位置を含む).
+         * @return pFromIndex以降で値の異なる最初のプロパティの位置. なければ-1.
+         */
+        public int nextIndex(final int pFromIndex) {
+            if (pFromIndex < 0) {
+                throw new IndexOutOfBoundsException("pFromIndex < 0: " + pFromIndex); //$NON-NLS-1$
+            }
+            int word = pFromIndex >>> 6;
+            if (word >= this.words.length) {
+                return -1;
+            }
+            long bits = this.words[word] & (-1L << pFromIndex);
+            while (bits == 0) {
+                if (++word == this.words.length) {
+                    return -1;
+                }
+                bits = this.words[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        /**
+         * @return 値の異なるプロパティの数.
+         */
+        public int size() {
+            int ret = 0;
+            for (final long word : this.words) {
+                ret += Long.bitCount(word);
+            }
+            return ret;
+        }
+
+        /**
+         * @return ビットマスク. 要素iのビットjが、{@link BeanProperties}での位置i * 64 + jのプロパティに対応します. 値の異なるプロパティがなければ長さ0の配列.
+         */
+        public long[] toLongArray() {
+            return this.words.clone();
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (int i = nextIndex(0); i >= 0; i = nextIndex(i + 1)) {
+                if (sb.length() > 1) {
+                    sb.append(", "); //$NON-NLS-1$
+                }
+                sb.append(this.differ.properties.get(i).getName());
+            }
+            return sb.append(']').toString();
+        }
+
+        private void checkIndex(final int pIndex) {
+            if (!contains(pIndex)) {
+                throw new IllegalArgumentException("property at " + pIndex + " is not changed."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+    }
+}
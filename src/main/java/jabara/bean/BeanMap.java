@@ -0,0 +1,179 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Beanを、プロパティ名をキーとする{@link Map}として見せるビューです. <br>
+ * 値は都度Beanから読み出し、{@link #put(String, Object)}はBeanに書き込みます. 値を複製することはありません. <br>
+ * インスタンスは{@link BeanProperties#asMap(Object)}で取得して下さい. <br>
+ * 
+ * @author jabaraster
+ */
+final class BeanMap extends AbstractMap<String, Object> {
+
+    private final BeanProperties           properties;
+    private final BeanAccessor             accessor;
+    private final Object                   bean;
+
+    private Set<Map.Entry<String, Object>> entrySet;
+
+    BeanMap(final BeanProperties pProperties, final Object pBean) {
+        this.properties = pProperties;
+        this.accessor = pProperties.getBeanAccessor();
+        this.bean = pBean;
+    }
+
+    /**
+     * @see java.util.AbstractMap#containsKey(java.lang.Object)
+     */
+    @Override
+    public boolean containsKey(final Object pKey) {
+        return findReadable(pKey) >= 0;
+    }
+
+    /**
+     * @see java.util.AbstractMap#entrySet()
+     */
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> ret = this.entrySet;
+        if (ret == null) {
+            ret = new EntrySet();
+            this.entrySet = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * @see java.util.AbstractMap#get(java.lang.Object)
+     */
+    @Override
+    public Object get(final Object pKey) {
+        final int index = findReadable(pKey);
+        if (index < 0) {
+            return null;
+        }
+        return this.accessor.getAccessor(index).get(this.bean);
+    }
+
+    /**
+     * @see java.util.AbstractMap#put(java.lang.Object, java.lang.Object)
+     */
+    @Override
+    public Object put(final String pKey, final Object pValue) {
+        final BeanProperty property = this.properties.get(pKey);
+        final PropertyAccessor a = property.getAccessor();
+        if (!a.canWrite()) {
+            throw new UnsupportedOperationException("property '" + property.getName() + "' is not writable."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        final Object old = a.canRead() ? a.get(this.bean) : null;
+        a.set(this.bean, pValue);
+        return old;
+    }
+
+    /**
+     * @see java.util.AbstractMap#size()
+     */
+    @Override
+    public int size() {
+        return this.accessor.getReadableIndices().length;
+    }
+
+    private int findReadable(final Object pKey) {
+        if (!(pKey instanceof CharSequence)) {
+            return -1;
+        }
+        final int index = this.properties.find((CharSequence) pKey);
+        if (index < 0 || !this.accessor.getAccessor(index).canRead()) {
+            return -1;
+        }
+        return index;
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+        private final int index;
+
+        Entry(final int pIndex) {
+            this.index = pIndex;
+        }
+
+        @Override
+        public boolean equals(final Object pObj) {
+            if (!(pObj instanceof Map.Entry<?, ?>)) {
+                return false;
+            }
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) pObj;
+            final Object value = getValue();
+            return getKey().equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public String getKey() {
+            return BeanMap.this.properties.get(this.index).getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return BeanMap.this.accessor.getAccessor(this.index).get(BeanMap.this.bean);
+        }
+
+        @Override
+        public int hashCode() {
+            final Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public Object setValue(final Object pValue) {
+            return put(getKey(), pValue);
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue(); //$NON-NLS-1$
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new Iterator<Map.Entry<String, Object>>() {
+                private final int[] readableIndices = BeanMap.this.accessor.getReadableIndices();
+                private int         position;
+
+                @Override
+                public boolean hasNext() {
+                    return this.position < this.readableIndices.length;
+                }
+
+                @SuppressWarnings("synthetic-access")
+                @Override
+                public Map.Entry<String, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return new Entry(this.readableIndices[this.position++]);
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return BeanMap.this.size();
+        }
+    }
+}
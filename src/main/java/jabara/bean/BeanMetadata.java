@@ -0,0 +1,35 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.List;
+
+/**
+ * コンパイル時に生成されるBeanのメタデータです. <br>
+ * jabara-bean-processorをアノテーションプロセッサとして設定すると、{@link jabara.bean.annotation}パッケージのアノテーションが付与されたBeanについて、
+ * このインタフェースを実装したクラスが生成されます. <br>
+ * {@link BeanProperties#getInstance(Class)}は生成されたクラスがあればそれを使い、なければ{@link java.beans.Introspector}による解析を行います. <br>
+ * 生成されるクラスの名前は、Beanと同じパッケージで、パッケージを除いたバイナリ名の'$'を'_'に置き換え、末尾に{@link #CLASS_NAME_SUFFIX}を付けたものです. <br>
+ * 例: foo.Outer$Inner -&gt; foo.Outer_Inner_BeanMetadata <br>
+ * この名前はfoo.Outer_Innerのメタデータの名前と衝突し得るので、{@link #getBeanType()}が対象の型と一致しない場合は使われません. <br>
+ * 
+ * @author jabaraster
+ */
+public interface BeanMetadata {
+
+    /**
+     * 生成されるクラスの名前の接尾辞.
+     */
+    String CLASS_NAME_SUFFIX = "_BeanMetadata"; //$NON-NLS-1$
+
+    /**
+     * @return このメタデータが表すBeanの型.
+     */
+    Class<?> getBeanType();
+
+    /**
+     * @return 全てのプロパティのメタデータ. 並び順は問いません.
+     */
+    List<PropertyMetadata> getProperties();
+}
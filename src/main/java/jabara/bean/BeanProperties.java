@@ -3,53 +3,131 @@
  */
 package jabara.bean;
 
+import jabara.bean.BeanComparator.SortKey;
 import jabara.bean.annotation.Hidden;
 import jabara.general.ArgUtil;
 import jabara.general.ExceptionUtil;
 
+import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 
 /**
+ * Beanのプロパティの一覧です. 生成後は変更されません. <br>
+ * {@link #filter(PropertyFilter)}等で得られる部分集合は、元のインスタンスとプロパティの配列や名前の索引を共有するビューです. <br>
+ * ビューはプロパティの位置の配列だけを持つので、抽出のたびにプロパティを複製したり並び替えたりはしません. <br>
+ * 直列化の際はBeanの型とプロパティ名だけを書き出し、復元時には{@link BeanPropertiesCache}にキャッシュされたインスタンスに解決します. <br>
+ * 
  * @author jabaraster
  */
 public class BeanProperties implements Iterable<BeanProperty>, Serializable {
-    private static final long                     serialVersionUID = -6400975116184225350L;
+    private static final long                                                  serialVersionUID         = -1893407474264035566L;
+
+    private static final int                                                   MAX_MEMOIZED_VIEWS       = 32;
+    private static final int                                                   MAX_MEMOIZED_COMPARATORS = 32;
+    private static final int                                                   MAX_POPULATE_PLANS       = 8;
+    private static final PopulatePlan[]                                        NO_POPULATE_PLANS        = new PopulatePlan[0];
+
+    @SuppressWarnings("synthetic-access")
+    private static final Comparator<BeanProperty>                              ORDER_COMPARATOR         = new OrderComparator();
 
     @SuppressWarnings("synthetic-access")
-    private static final Comparator<BeanProperty> ORDER_COMPARATOR = new OrderComparator();
+    private static final PropertyFilter                                        VISIBLE                  = new VisibleFilter();
 
-    private final Class<?>                        beanType;
-    private final List<BeanProperty>              properties       = new ArrayList<BeanProperty>();
-    private final Map<String, BeanProperty>       name2Property    = new HashMap<String, BeanProperty>();
+    private final Class<?>                                                     beanType;
+    private final BeanProperty[]                                               allProperties; // 並び順でソート済み. ビューと共有する.
+    private final PropertyNameIndex                                            nameIndex; // allPropertiesでの位置を引く. ビューと共有する.
+    private final int[]                                                        indices; // このインスタンスに含まれるプロパティのallPropertiesでの位置.
+    private final int[]                                                        positions; // allPropertiesでの位置からこのインスタンスでの位置を引く. 含まれなければ-1.
+
+    private transient int                                                      hash; // 0なら未計算.
+    private transient volatile BeanAccessor                                    beanAccessor;
+    private transient volatile ConcurrentMap<List<SortKey>, BeanComparator<?>> comparators;
+    private transient volatile BeanDiffer                                      beanDiffer;
+    private transient volatile BeanValidator                                   beanValidator;
+    private transient volatile BeanProperties                                  visibleProperties;
+    private transient volatile ConcurrentMap<Object, BeanProperties>           views;
+    private transient volatile PopulatePlan[]                                  populatePlans            = NO_POPULATE_PLANS; // 新しい順.
 
     /**
      * @param pBeanType -
      */
     BeanProperties(final Class<?> pBeanType) {
-        this(pBeanType, toBeanProperties(pBeanType));
+        this(pBeanType, Resolution.EAGER);
+    }
+
+    /**
+     * @param pBeanType -
+     * @param pResolution -
+     */
+    BeanProperties(final Class<?> pBeanType, final Resolution pResolution) {
+        this(pBeanType, toBeanProperties(pBeanType, pResolution));
+    }
+
+    private BeanProperties(final BeanProperties pParent, final int[] pIndices) {
+        this.beanType = pParent.beanType;
+        this.allProperties = pParent.allProperties;
+        this.nameIndex = pParent.nameIndex;
+        this.indices = pIndices;
+        this.positions = new int[this.allProperties.length];
+        Arrays.fill(this.positions, -1);
+        for (int i = 0; i < pIndices.length; i++) {
+            this.positions[pIndices[i]] = i;
+        }
     }
 
     private BeanProperties(final Class<?> pBeanType, final List<BeanProperty> pProperties) {
         ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
         ArgUtil.checkNull(pProperties, "pProperties"); //$NON-NLS-1$
 
+        final List<BeanProperty> sorted = new ArrayList<BeanProperty>(pProperties);
+        Collections.sort(sorted, ORDER_COMPARATOR);
+
         this.beanType = pBeanType;
-        this.properties.addAll(pProperties);
-        for (final BeanProperty property : pProperties) {
-            this.name2Property.put(property.getName(), property);
+        this.allProperties = sorted.toArray(new BeanProperty[sorted.size()]);
+        final String[] names = new String[this.allProperties.length];
+        this.indices = new int[this.allProperties.length];
+        this.positions = new int[this.allProperties.length];
+        for (int i = 0; i < this.allProperties.length; i++) {
+            names[i] = this.allProperties[i].getName();
+            this.indices[i] = i;
+            this.positions[i] = i;
         }
+        this.nameIndex = new PropertyNameIndex(names);
+    }
 
-        Collections.sort(this.properties, ORDER_COMPARATOR);
+    /**
+     * Beanを、プロパティ名をキーとする{@link Map}として見せるビューを返します. <br>
+     * 値は都度Beanから読み出され、{@link Map#put(Object, Object)}はBeanに書き込まれます. 値の複製は行いません. <br>
+     * {@link Map#get(Object)}は{@link #find(CharSequence)}でプロパティを引くので、先頭の1文字の大文字小文字は区別しません. <br>
+     * キーに含まれるのはgetterのあるプロパティのみです. また要素の削除は出来ません. <br>
+     * 
+     * @param pBean 対象のBean.
+     * @return Beanに連動する{@link Map}.
+     */
+    public Map<String, Object> asMap(final Object pBean) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        if (!this.beanType.isInstance(pBean)) {
+            throw new IllegalArgumentException("pBean is not instance of " + this.beanType.getName() + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return new BeanMap(this, pBean);
     }
 
     /**
@@ -58,7 +136,7 @@ public class BeanProperties implements Iterable<BeanProperty>, Serializable {
      */
     public boolean contains(final String pPropertyName) {
         ArgUtil.checkNullOrEmpty(pPropertyName, "pPropertyName"); //$NON-NLS-1$
-        return this.name2Property.containsKey(normalize(pPropertyName));
+        return find(pPropertyName) >= 0;
     }
 
     /**
@@ -76,29 +154,65 @@ public class BeanProperties implements Iterable<BeanProperty>, Serializable {
             return false;
         }
         final BeanProperties other = (BeanProperties) obj;
-        if (this.name2Property == null) {
-            if (other.name2Property != null) {
-                return false;
-            }
-        } else if (!this.name2Property.equals(other.name2Property)) {
+        if (this.indices.length != other.indices.length) {
+            return false;
+        }
+        if (this.beanType != other.beanType) {
+            return false;
+        }
+        if (this.allProperties == other.allProperties) {
+            // 同じインスタンスから作られたビュー同士は、プロパティの位置を比べるだけで済む.
+            return Arrays.equals(this.indices, other.indices);
+        }
+        if (hashCode() != other.hashCode()) {
             return false;
         }
-        if (this.properties == null) {
-            if (other.properties != null) {
+        for (int i = 0; i < this.indices.length; i++) {
+            if (!get(i).equals(other.get(i))) {
                 return false;
             }
-        } else if (!this.properties.equals(other.properties)) {
-            return false;
         }
         return true;
     }
 
+    /**
+     * 条件に合致するプロパティのみ抽出したビューを返します. <br>
+     * 並び順は保たれます. 同じ条件(equalsで等しいもの)で抽出した結果はメモ化され、同じインスタンスが返ります. <br>
+     * ただしメモ化する条件の数には上限があり、上限に達した後は毎回新たなビューを返します. <br>
+     * 
+     * @param pFilter 抽出条件.
+     * @return 条件に合致するプロパティのみのビュー.
+     */
+    public BeanProperties filter(final PropertyFilter pFilter) {
+        ArgUtil.checkNull(pFilter, "pFilter"); //$NON-NLS-1$
+
+        final BeanProperties memoized = getViews().get(pFilter);
+        if (memoized != null) {
+            return memoized;
+        }
+        return memoize(pFilter, newView(pFilter));
+    }
+
+    /**
+     * プロパティ名からこのインスタンスでの位置を引きます. <br>
+     * {@link #get(String)}と同様に先頭の1文字の大文字小文字は区別しません. <br>
+     * 文字列の生成や例外のスローを伴わないので、名前での検索を繰り返す箇所ではこちらを使って下さい. <br>
+     * 
+     * @param pPropertyName プロパティ名.
+     * @return {@link #get(int)}に渡せる位置. 存在しない場合は-1.
+     */
+    public int find(final CharSequence pPropertyName) {
+        ArgUtil.checkNull(pPropertyName, "pPropertyName"); //$NON-NLS-1$
+        final int index = this.nameIndex.find(pPropertyName);
+        return index < 0 ? -1 : this.positions[index];
+    }
+
     /**
      * @param pIndex -
      * @return -
      */
     public BeanProperty get(final int pIndex) {
-        return this.properties.get(pIndex);
+        return this.allProperties[this.indices[pIndex]];
     }
 
     /**
@@ -108,10 +222,56 @@ public class BeanProperties implements Iterable<BeanProperty>, Serializable {
     public BeanProperty get(final String pPropertyName) {
         ArgUtil.checkNullOrEmpty(pPropertyName, "pPropertyName"); //$NON-NLS-1$
 
-        final String propertyName = normalize(pPropertyName);
-        final BeanProperty ret = this.name2Property.get(propertyName);
+        final int position = find(pPropertyName);
+        if (position < 0) {
+            throw new IllegalArgumentException("no property for '" + normalize(pPropertyName) + "' found."); //$NON-NLS-1$//$NON-NLS-2$
+        }
+        return get(position);
+    }
+
+    /**
+     * @return このインスタンスのプロパティを一括で読み書きする{@link BeanAccessor}.
+     */
+    public BeanAccessor getBeanAccessor() {
+        // 生成が重複しても結果は同じなので、同期はしない.
+        BeanAccessor ret = this.beanAccessor;
+        if (ret == null) {
+            ret = new BeanAccessor(this.beanType, new PropertyList());
+            this.beanAccessor = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * @return このインスタンスのプロパティで2つのBeanを比較する{@link BeanDiffer}.
+     */
+    public BeanDiffer getBeanDiffer() {
+        // 生成が重複しても結果は同じなので、同期はしない.
+        BeanDiffer ret = this.beanDiffer;
         if (ret == null) {
-            throw new IllegalArgumentException("no property for '" + propertyName + "' found."); //$NON-NLS-1$//$NON-NLS-2$
+            ret = new BeanDiffer(this.beanType, new PropertyList());
+            this.beanDiffer = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * @return Beanの型.
+     */
+    public Class<?> getBeanType() {
+        return this.beanType;
+    }
+
+    /**
+     * @return このインスタンスのプロパティの値がnullでないことを検証する{@link BeanValidator}. 独自の規則を使う場合は
+     *         {@link BeanValidator#getInstance(BeanProperties, ValidationRule...)}を使って下さい.
+     */
+    public BeanValidator getBeanValidator() {
+        // 生成が重複しても結果は同じなので、同期はしない.
+        BeanValidator ret = this.beanValidator;
+        if (ret == null) {
+            ret = new BeanValidator(this.beanType, new PropertyList(), new ValidationRule<?>[0]);
+            this.beanValidator = ret;
         }
         return ret;
     }
@@ -121,11 +281,17 @@ public class BeanProperties implements Iterable<BeanProperty>, Serializable {
      */
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + (this.name2Property == null ? 0 : this.name2Property.hashCode());
-        result = prime * result + (this.properties == null ? 0 : this.properties.hashCode());
-        return result;
+        // 値が0の場合は毎回計算し直すことになるが、String#hashCode()と同じく実害はないので許容する.
+        int ret = this.hash;
+        if (ret == 0) {
+            final int prime = 31;
+            ret = 1;
+            for (final int index : this.indices) {
+                ret = prime * ret + this.allProperties[index].hashCode();
+            }
+            this.hash = ret;
+        }
+        return ret;
     }
 
     /**
@@ -133,43 +299,395 @@ public class BeanProperties implements Iterable<BeanProperty>, Serializable {
      */
     @Override
     public Iterator<BeanProperty> iterator() {
-        return this.properties.iterator();
+        // PropertyListは変更操作をサポートしないので、Iterator#remove()でキャッシュされたインスタンスが変更されることはない.
+        return new PropertyList().iterator();
+    }
+
+    /**
+     * Mapの各値を、キーと同名のプロパティに書き込みます. <br>
+     * キーは{@link #get(String)}と同様に先頭の1文字の大文字小文字を区別せずに解決します. <br>
+     * キーの解決結果はキーの並びごとにキャッシュされるので、同じキーが同じ順番で並ぶMapを繰り返し書き込む場合は、
+     * キーの解決がキー同士の比較だけで済みます. <br>
+     * 全てのキーを解決してから書き込むので、存在しないプロパティやsetterのないプロパティのキーが含まれる場合は何も書き込まれません. <br>
+     * 
+     * @param pBean 書き込み先のBean.
+     * @param pValues プロパティ名をキーとする値.
+     * @throws IllegalArgumentException 存在しないプロパティのキーが含まれる場合.
+     * @throws IllegalStateException setterのないプロパティのキーが含まれる場合.
+     */
+    public void populate(final Object pBean, final Map<String, ?> pValues) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        ArgUtil.checkNull(pValues, "pValues"); //$NON-NLS-1$
+
+        final PopulatePlan plan = getPopulatePlan(pValues);
+        int i = 0;
+        for (final Map.Entry<String, ?> entry : pValues.entrySet()) {
+            get(plan.position(i++)).setValue(pBean, entry.getValue());
+        }
+    }
+
+    /**
+     * 各Beanのプロパティの値を配列に取り出します. <br>
+     * 
+     * @param pBeans 値を取り出すBean. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pProperty 値を取り出すプロパティ. このインスタンスに含まれるプロパティである必要があります.
+     * @return pBeansの順に値を格納した配列.
+     * @throws IllegalStateException getterが存在しない場合.
+     */
+    public Object[] readColumn(final Iterable<?> pBeans, final BeanProperty pProperty) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        return getColumnReader(pProperty, null).readObjects(pBeans);
+    }
+
+    /**
+     * 各Beanのプロパティの値を配列に取り出します. <br>
+     * 要素数が十分に多い場合は範囲を分割して、pExecutorで並列に取り出します. 要素数が少なければ呼び出し元のスレッドで取り出します. <br>
+     * {@link RandomAccess}でないリストは、最初に配列に複製してから分割します. <br>
+     * 
+     * @param pBeans 値を取り出すBean. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pProperty 値を取り出すプロパティ. このインスタンスに含まれるプロパティである必要があります.
+     * @param pExecutor 並列に取り出すためのスレッドプール.
+     * @return pBeansの順に値を格納した配列.
+     * @throws IllegalStateException getterが存在しない場合.
+     */
+    public Object[] readColumn(final List<?> pBeans, final BeanProperty pProperty, final ExecutorService pExecutor) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        ArgUtil.checkNull(pExecutor, "pExecutor"); //$NON-NLS-1$
+        return getColumnReader(pProperty, null).readObjects(pBeans, pExecutor);
+    }
+
+    /**
+     * 各Beanのプロパティの値を、ボクシングせずにdoubleの配列に取り出します. <br>
+     * 
+     * @param pBeans 値を取り出すBean. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pProperty 値を取り出すプロパティ. このインスタンスに含まれるプロパティである必要があります.
+     * @return pBeansの順に値を格納した配列.
+     * @throws IllegalStateException プロパティの型がdoubleでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException ラッパー型のプロパティの値がnullの場合.
+     */
+    public double[] readDoubleColumn(final Iterable<?> pBeans, final BeanProperty pProperty) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        return getColumnReader(pProperty, Double.TYPE).readDoubles(pBeans);
+    }
+
+    /**
+     * 各Beanのプロパティの値を、ボクシングせずにdoubleの配列に取り出します. <br>
+     * 要素数が十分に多い場合は範囲を分割して、pExecutorで並列に取り出します. 要素数が少なければ呼び出し元のスレッドで取り出します. <br>
+     * {@link RandomAccess}でないリストは、最初に配列に複製してから分割します. <br>
+     * 
+     * @param pBeans 値を取り出すBean. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pProperty 値を取り出すプロパティ. このインスタンスに含まれるプロパティである必要があります.
+     * @param pExecutor 並列に取り出すためのスレッドプール.
+     * @return pBeansの順に値を格納した配列.
+     * @throws IllegalStateException プロパティの型がdoubleでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException ラッパー型のプロパティの値がnullの場合.
+     */
+    public double[] readDoubleColumn(final List<?> pBeans, final BeanProperty pProperty, final ExecutorService pExecutor) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        ArgUtil.checkNull(pExecutor, "pExecutor"); //$NON-NLS-1$
+        return getColumnReader(pProperty, Double.TYPE).readDoubles(pBeans, pExecutor);
+    }
+
+    /**
+     * 各Beanのプロパティの値を、ボクシングせずにintの配列に取り出します. <br>
+     * 
+     * @param pBeans 値を取り出すBean. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pProperty 値を取り出すプロパティ. このインスタンスに含まれるプロパティである必要があります.
+     * @return pBeansの順に値を格納した配列.
+     * @throws IllegalStateException プロパティの型がintでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException ラッパー型のプロパティの値がnullの場合.
+     */
+    public int[] readIntColumn(final Iterable<?> pBeans, final BeanProperty pProperty) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        return getColumnReader(pProperty, Integer.TYPE).readInts(pBeans);
+    }
+
+    /**
+     * 各Beanのプロパティの値を、ボクシングせずにintの配列に取り出します. <br>
+     * 要素数が十分に多い場合は範囲を分割して、pExecutorで並列に取り出します. 要素数が少なければ呼び出し元のスレッドで取り出します. <br>
+     * {@link RandomAccess}でないリストは、最初に配列に複製してから分割します. <br>
+     * 
+     * @param pBeans 値を取り出すBean. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pProperty 値を取り出すプロパティ. このインスタンスに含まれるプロパティである必要があります.
+     * @param pExecutor 並列に取り出すためのスレッドプール.
+     * @return pBeansの順に値を格納した配列.
+     * @throws IllegalStateException プロパティの型がintでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException ラッパー型のプロパティの値がnullの場合.
+     */
+    public int[] readIntColumn(final List<?> pBeans, final BeanProperty pProperty, final ExecutorService pExecutor) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        ArgUtil.checkNull(pExecutor, "pExecutor"); //$NON-NLS-1$
+        return getColumnReader(pProperty, Integer.TYPE).readInts(pBeans, pExecutor);
+    }
+
+    /**
+     * 各Beanのプロパティの値を、ボクシングせずにlongの配列に取り出します. <br>
+     * 
+     * @param pBeans 値を取り出すBean. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pProperty 値を取り出すプロパティ. このインスタンスに含まれるプロパティである必要があります.
+     * @return pBeansの順に値を格納した配列.
+     * @throws IllegalStateException プロパティの型がlongでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException ラッパー型のプロパティの値がnullの場合.
+     */
+    public long[] readLongColumn(final Iterable<?> pBeans, final BeanProperty pProperty) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        return getColumnReader(pProperty, Long.TYPE).readLongs(pBeans);
+    }
+
+    /**
+     * 各Beanのプロパティの値を、ボクシングせずにlongの配列に取り出します. <br>
+     * 要素数が十分に多い場合は範囲を分割して、pExecutorで並列に取り出します. 要素数が少なければ呼び出し元のスレッドで取り出します. <br>
+     * {@link RandomAccess}でないリストは、最初に配列に複製してから分割します. <br>
+     * 
+     * @param pBeans 値を取り出すBean. 全ての要素がこのインスタンスの型のBeanである必要があります.
+     * @param pProperty 値を取り出すプロパティ. このインスタンスに含まれるプロパティである必要があります.
+     * @param pExecutor 並列に取り出すためのスレッドプール.
+     * @return pBeansの順に値を格納した配列.
+     * @throws IllegalStateException プロパティの型がlongでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException ラッパー型のプロパティの値がnullの場合.
+     */
+    public long[] readLongColumn(final List<?> pBeans, final BeanProperty pProperty, final ExecutorService pExecutor) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        ArgUtil.checkNull(pExecutor, "pExecutor"); //$NON-NLS-1$
+        return getColumnReader(pProperty, Long.TYPE).readLongs(pBeans, pExecutor);
+    }
+
+    /**
+     * 指定の名前のプロパティのみを、指定の順番で並べたビューを返します. <br>
+     * 同じ名前の並びで抽出した結果はメモ化されます. <br>
+     * 
+     * @param pPropertyNames 抽出するプロパティの名前.
+     * @return 指定のプロパティのみのビュー.
+     * @throws IllegalArgumentException 存在しないプロパティ、あるいは重複したプロパティが指定された場合.
+     */
+    @SuppressWarnings("nls")
+    public BeanProperties select(final String... pPropertyNames) {
+        ArgUtil.checkNull(pPropertyNames, "pPropertyNames");
+
+        final List<String> key = Arrays.asList(pPropertyNames.clone());
+        final BeanProperties memoized = getViews().get(key);
+        if (memoized != null) {
+            return memoized;
+        }
+
+        final int[] selected = new int[pPropertyNames.length];
+        final BitSet found = new BitSet(this.allProperties.length);
+        for (int i = 0; i < selected.length; i++) {
+            final BeanProperty property = get(key.get(i));
+            final int index = this.indices[find(property.getName())];
+            if (found.get(index)) {
+                throw new IllegalArgumentException("property '" + property.getName() + "' is duplicated.");
+            }
+            found.set(index);
+            selected[i] = index;
+        }
+        return memoize(key, new BeanProperties(this, selected));
     }
 
     /**
      * @return -
      */
     public int size() {
-        return this.properties.size();
+        return this.indices.length;
     }
 
     /**
      * @return -
      */
     public List<BeanProperty> toList() {
-        return new ArrayList<BeanProperty>(this.properties);
+        return new ArrayList<BeanProperty>(new PropertyList());
     }
 
     /**
-     * @return {@link Hidden}アノテーションが付与されていないプロパティのみ抽出した、新たな{@link BeanProperties}を返します.
+     * 戻り値はこのインスタンスにキャッシュされ、2回目以降は同じインスタンスを返します. <br>
+     * 
+     * @return {@link Hidden}アノテーションが付与されていないプロパティのみ抽出したビュー.
      */
     public BeanProperties toVisiblePropertiesOnly() {
-        final List<BeanProperty> visibleProperties = new ArrayList<BeanProperty>();
-        for (final BeanProperty property : this.properties) {
-            if (!property.isHidden()) {
-                visibleProperties.add(property);
-            }
+        // 生成が重複しても結果は同じなので、同期はしない.
+        BeanProperties ret = this.visibleProperties;
+        if (ret == null) {
+            ret = newView(VISIBLE);
+            ret.visibleProperties = ret;
+            this.visibleProperties = ret;
         }
-        return new BeanProperties(this.beanType, visibleProperties);
+        return ret;
+    }
+
+    /**
+     * @param pSortKeys -
+     * @return {@link #memoizeComparator(List, BeanComparator)}でメモ化した比較器. なければnull.
+     */
+    BeanComparator<?> findComparator(final List<SortKey> pSortKeys) {
+        final ConcurrentMap<List<SortKey>, BeanComparator<?>> memo = this.comparators;
+        return memo == null ? null : memo.get(pSortKeys);
+    }
+
+    /**
+     * {@link BeanComparator#getInstance(Class, SortKey...)}の結果をメモ化します. 上限に達した後はメモ化しません. <br>
+     * 
+     * @param pSortKeys -
+     * @param pComparator -
+     * @return 先にメモ化されたものがあればそれ、なければpComparator.
+     */
+    BeanComparator<?> memoizeComparator(final List<SortKey> pSortKeys, final BeanComparator<?> pComparator) {
+        // 生成が重複するとメモ化した結果が失われることがあるが、次回に作り直されるだけなので同期はしない.
+        ConcurrentMap<List<SortKey>, BeanComparator<?>> memo = this.comparators;
+        if (memo == null) {
+            memo = new ConcurrentHashMap<List<SortKey>, BeanComparator<?>>();
+            this.comparators = memo;
+        }
+        if (memo.size() >= MAX_MEMOIZED_COMPARATORS) {
+            return pComparator;
+        }
+        final BeanComparator<?> prev = memo.putIfAbsent(pSortKeys, pComparator);
+        return prev == null ? pComparator : prev;
     }
 
     /**
+     * 戻り値は{@link BeanPropertiesCache}にキャッシュされ、スレッド間で共有されます. <br>
+     * 
      * @param pBeanType -
      * @return -
      */
     public static BeanProperties getInstance(final Class<?> pBeanType) {
+        return getInstance(pBeanType, Resolution.EAGER);
+    }
+
+    /**
+     * 戻り値は{@link BeanPropertiesCache}にキャッシュされ、スレッド間で共有されます. <br>
+     * 既にキャッシュされている場合は、キャッシュされた時の{@link Resolution}に関わらずそのインスタンスを返します. <br>
+     * どちらで生成しても各メソッドの結果は同じで、違いは解決にかかるコストをいつ払うかだけです. <br>
+     * 
+     * @param pBeanType -
+     * @param pResolution キャッシュされていない場合に、プロパティの属性をいつ解決するか.
+     * @return -
+     */
+    public static BeanProperties getInstance(final Class<?> pBeanType, final Resolution pResolution) {
         ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
-        return new BeanProperties(pBeanType);
+        ArgUtil.checkNull(pResolution, "pResolution"); //$NON-NLS-1$
+        return BeanPropertiesCache.get(pBeanType, pResolution);
+    }
+
+    @SuppressWarnings("nls")
+    private ColumnReader getColumnReader(final BeanProperty pProperty, final Class<?> pPrimitiveType) {
+        ArgUtil.checkNull(pProperty, "pProperty");
+        final int position = find(pProperty.getName());
+        if (position < 0 || get(position).getBeanType() != pProperty.getBeanType()) {
+            throw new IllegalArgumentException("property '" + pProperty.getName() + "' is not a member of " + this.beanType.getName() + ".");
+        }
+        final BeanProperty property = get(position);
+        if (pPrimitiveType != null) {
+            property.checkPrimitiveType(pPrimitiveType);
+        }
+        final PropertyAccessor accessor = property.getAccessor();
+        if (!accessor.canRead()) {
+            throw new IllegalStateException("property '" + property.getName() + "' is not readable.");
+        }
+        return new ColumnReader(this.beanType, accessor);
+    }
+
+    private PopulatePlan getPopulatePlan(final Map<String, ?> pValues) {
+        final PopulatePlan[] plans = this.populatePlans;
+        for (final PopulatePlan plan : plans) {
+            if (matches(plan, pValues)) {
+                return plan;
+            }
+        }
+
+        final String[] keys = new String[pValues.size()];
+        final int[] positions = new int[keys.length];
+        int i = 0;
+        for (final String key : pValues.keySet()) {
+            final int position = key == null ? -1 : find(key);
+            if (position < 0) {
+                throw new IllegalArgumentException("no property for '" + key + "' found."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            if (!get(position).getAccessor().canWrite()) {
+                throw new IllegalStateException("property '" + get(position).getName() + "' is not writable."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            keys[i] = key;
+            positions[i] = position;
+            i++;
+        }
+        final PopulatePlan ret = new PopulatePlan(keys, positions);
+
+        // 生成が重複するとキャッシュした結果が失われることがあるが、次回に作り直されるだけなので同期はしない.
+        final PopulatePlan[] next = new PopulatePlan[Math.min(plans.length + 1, MAX_POPULATE_PLANS)];
+        next[0] = ret;
+        System.arraycopy(plans, 0, next, 1, next.length - 1);
+        this.populatePlans = next;
+        return ret;
+    }
+
+    private ConcurrentMap<Object, BeanProperties> getViews() {
+        // 生成が重複するとメモ化した結果が失われることがあるが、次回に作り直されるだけなので同期はしない.
+        ConcurrentMap<Object, BeanProperties> ret = this.views;
+        if (ret == null) {
+            ret = new ConcurrentHashMap<Object, BeanProperties>();
+            this.views = ret;
+        }
+        return ret;
+    }
+
+    private boolean isView() {
+        if (this.indices.length != this.allProperties.length) {
+            return true;
+        }
+        for (int i = 0; i < this.indices.length; i++) {
+            if (this.indices[i] != i) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BeanProperties memoize(final Object pKey, final BeanProperties pView) {
+        final ConcurrentMap<Object, BeanProperties> memo = getViews();
+        if (memo.size() >= MAX_MEMOIZED_VIEWS) {
+            return pView;
+        }
+        final BeanProperties prev = memo.putIfAbsent(pKey, pView);
+        return prev == null ? pView : prev;
+    }
+
+    private BeanProperties newView(final PropertyFilter pFilter) {
+        final int[] accepted = new int[this.indices.length];
+        int count = 0;
+        for (final int index : this.indices) {
+            if (pFilter.accept(this.allProperties[index])) {
+                accepted[count++] = index;
+            }
+        }
+        return new BeanProperties(this, Arrays.copyOf(accepted, count));
+    }
+
+    private void readObject(@SuppressWarnings("unused") final ObjectInputStream pIn) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm required."); //$NON-NLS-1$
+    }
+
+    private Object writeReplace() {
+        if (!isView()) {
+            return new SerializedForm(this.beanType, null);
+        }
+        final String[] names = new String[this.indices.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = get(i).getName();
+        }
+        return new SerializedForm(this.beanType, names);
+    }
+
+    private static boolean matches(final PopulatePlan pPlan, final Map<String, ?> pValues) {
+        if (pPlan.size() != pValues.size()) {
+            return false;
+        }
+        int i = 0;
+        for (final String key : pValues.keySet()) {
+            if (!pPlan.matches(i++, key)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static String normalize(final String pPropertyName) {
@@ -179,14 +697,62 @@ public class BeanProperties implements Iterable<BeanProperty>, Serializable {
         return pPropertyName;
     }
 
-    private static List<BeanProperty> toBeanProperties(final Class<?> pBeanType) {
+    private static BeanInfo getBeanInfo(final Class<?> pBeanType) throws IntrospectionException {
+        if (!BeanPropertiesMonitor.isEnabled()) {
+            return Introspector.getBeanInfo(pBeanType);
+        }
+        final long start = System.nanoTime();
+        final BeanInfo ret = Introspector.getBeanInfo(pBeanType);
+        BeanPropertiesMonitor.fireBeanInfoLoaded(pBeanType, System.nanoTime() - start);
+        return ret;
+    }
+
+    private static BeanMetadata findGeneratedMetadata(final Class<?> pBeanType) {
+        final ClassLoader loader = pBeanType.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        final String binaryName = pBeanType.getName();
+        final int packageEnd = binaryName.lastIndexOf('.');
+        final String metadataName = binaryName.substring(0, packageEnd + 1) //
+                + binaryName.substring(packageEnd + 1).replace('$', '_') //
+                + BeanMetadata.CLASS_NAME_SUFFIX;
+        try {
+            final Class<?> metadataType = Class.forName(metadataName, true, loader);
+            if (!BeanMetadata.class.isAssignableFrom(metadataType)) {
+                return null;
+            }
+            final BeanMetadata ret = (BeanMetadata) metadataType.newInstance();
+            // '$'を'_'に置き換えているので、別の型のメタデータの可能性がある.
+            return ret.getBeanType() == pBeanType ? ret : null;
+
+        } catch (final ClassNotFoundException e) {
+            return null;
+        } catch (final InstantiationException e) {
+            throw ExceptionUtil.rethrow(e);
+        } catch (final IllegalAccessException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    private static List<BeanProperty> toBeanProperties(final Class<?> pBeanType, final Resolution pResolution) {
+        final LocalizedNameCache localizedNames = new LocalizedNameCache(pBeanType);
+        final BeanMetadata metadata = findGeneratedMetadata(pBeanType);
+        if (metadata != null) {
+            final List<BeanProperty> ret = new ArrayList<BeanProperty>();
+            for (final PropertyMetadata property : metadata.getProperties()) {
+                ret.add(new BeanProperty(pBeanType, property, pResolution, localizedNames));
+            }
+            return ret;
+        }
+
         try {
             final List<BeanProperty> ret = new ArrayList<BeanProperty>();
-            for (final PropertyDescriptor property : Introspector.getBeanInfo(pBeanType).getPropertyDescriptors()) {
+            for (final PropertyDescriptor property : getBeanInfo(pBeanType).getPropertyDescriptors()) {
                 if ("class".equals(property.getName())) { //$NON-NLS-1$
                     continue;
                 }
-                final BeanProperty p = new BeanProperty(pBeanType, property);
+                final BeanProperty p = new BeanProperty(pBeanType, property, pResolution, localizedNames);
                 ret.add(p);
             }
             return ret;
@@ -196,6 +762,25 @@ public class BeanProperties implements Iterable<BeanProperty>, Serializable {
         }
     }
 
+    /**
+     * {@link BeanProperty}の属性(言語環境に即した名称、並び順、{@link Hidden}等)をいつ解決するかを表します.
+     * 
+     * @author jabaraster
+     */
+    public enum Resolution {
+        /**
+         * 生成時に全ての属性を解決します.
+         */
+        EAGER,
+
+        /**
+         * 各属性を最初にアクセスされた時に解決します. <br>
+         * ただし並び替えに使う並び順だけは生成時に解決されます. <br>
+         * 名前や型しか使わない場合に、アノテーションの走査やResourceBundleの読み込みを省けます. <br>
+         */
+        LAZY
+    }
+
     private static class OrderComparator implements Comparator<BeanProperty> {
 
         @Override
@@ -211,4 +796,56 @@ public class BeanProperties implements Iterable<BeanProperty>, Serializable {
 
     }
 
+    private final class PropertyList extends AbstractList<BeanProperty> implements RandomAccess {
+
+        @Override
+        public BeanProperty get(final int pIndex) {
+            return BeanProperties.this.get(pIndex);
+        }
+
+        @Override
+        public int size() {
+            return BeanProperties.this.size();
+        }
+    }
+
+    private static class VisibleFilter implements PropertyFilter {
+
+        @Override
+        public boolean accept(final BeanProperty pProperty) {
+            return !pProperty.isHidden();
+        }
+    }
+
+    /**
+     * {@link BeanProperties}の直列化形式です. <br>
+     * ビューの場合は含まれるプロパティの名前を並び順で書き出し、復元時には{@link BeanProperties#select(String...)}で解決します. <br>
+     * 
+     * @author jabaraster
+     */
+    private static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = -4520784283619961287L;
+
+        private final Class<?>    beanType;
+        private final String[]    propertyNames; // ビューでなければnull.
+
+        SerializedForm(final Class<?> pBeanType, final String[] pPropertyNames) {
+            this.beanType = pBeanType;
+            this.propertyNames = pPropertyNames;
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            final BeanProperties properties = BeanProperties.getInstance(this.beanType);
+            if (this.propertyNames == null) {
+                return properties;
+            }
+            try {
+                return properties.select(this.propertyNames);
+            } catch (final IllegalArgumentException e) {
+                final InvalidObjectException ex = new InvalidObjectException(e.getMessage());
+                ex.initCause(e);
+                throw ex;
+            }
+        }
+    }
 }
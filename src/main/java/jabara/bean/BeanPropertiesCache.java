@@ -0,0 +1,337 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+import jabara.general.ExceptionUtil;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BeanProperties}をBeanの型ごとにキャッシュします. <br>
+ * 同じ型に対して複数のスレッドから同時に要求があっても、イントロスペクションは1度しか実行されません. <br>
+ * キャッシュにある値の取得はロックを取りません. ロックを取るのはキャッシュにない場合と、破棄する場合だけです. <br>
+ * キーとなる型は弱参照で、値は{@link SoftReference}で保持します. ただし値の{@link BeanProperties}はBeanの型を参照しているので、
+ * 値がGCでクリアされるまで(ふつうはメモリが逼迫するまで)型とそのクラスローダは解放されません. <br>
+ * このためホットデプロイ時には、古いクラスローダを解放する前に必ず{@link #remove(ClassLoader)}で破棄して下さい.
+ * {@link TypeCache}を使った派生キャッシュ({@link BeanCopier}、{@link PropertyPath}、jabara.bean.ioパッケージの入出力の手順等)と、
+ * {@link AnnotationKey}の登録も同時に破棄されます. <br>
+ * 
+ * @author jabaraster
+ */
+public final class BeanPropertiesCache {
+
+    // キーはWeakTypeKey. 読み出しはロックを取らず、追加と削除はLOCKの中で行う.
+    private static final ConcurrentMap<Object, ValueReference> CACHE    = new ConcurrentHashMap<Object, ValueReference>();
+    private static final ReferenceQueue<Object>                QUEUE    = new ReferenceQueue<Object>(); // 回収されたキーと値.
+    private static final Object                                LOCK     = new Object();
+
+    private static final AtomicLong                            HIT      = new AtomicLong();
+    private static final AtomicLong                            MISS     = new AtomicLong();
+    private static final AtomicLong                            EVICTION = new AtomicLong();
+
+    private BeanPropertiesCache() {
+        //
+    }
+
+    /**
+     * キャッシュを全て破棄します. {@link TypeCache}の全てのインスタンスも破棄します.
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            expungeS();
+            for (final Map.Entry<Object, ValueReference> entry : CACHE.entrySet()) {
+                evictS(entry.getKey(), entry.getValue());
+            }
+        }
+        TypeCache.clearAll();
+    }
+
+    /**
+     * @return 現在の統計情報.
+     */
+    public static Statistics getStatistics() {
+        final int size;
+        synchronized (LOCK) {
+            expungeS();
+            size = CACHE.size();
+        }
+        return new Statistics(HIT.get(), MISS.get(), EVICTION.get(), size);
+    }
+
+    /**
+     * 指定の型のキャッシュを破棄します. {@link TypeCache}の全てのインスタンスからも指定の型の値を破棄します.
+     * 
+     * @param pBeanType -
+     */
+    public static void remove(final Class<?> pBeanType) {
+        ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
+        synchronized (LOCK) {
+            expungeS();
+            final Object key = WeakTypeKey.lookup(pBeanType);
+            evictS(key, CACHE.get(key));
+        }
+        TypeCache.removeAll(pBeanType);
+    }
+
+    /**
+     * 指定のクラスローダ、あるいはその子孫のクラスローダがロードした型のキャッシュを全て破棄します. <br>
+     * {@link TypeCache}の全てのインスタンスからも同じ型の値を破棄し、同じクラスローダがロードしたアノテーションの型の{@link AnnotationKey}の登録も解除します. <br>
+     * ホットデプロイで古いクラスローダを解放する前に必ず呼び出して下さい. 呼び出さないと、メモリが逼迫するまでクラスローダが解放されません. <br>
+     * 
+     * @param pClassLoader -
+     */
+    public static void remove(final ClassLoader pClassLoader) {
+        ArgUtil.checkNull(pClassLoader, "pClassLoader"); //$NON-NLS-1$
+        synchronized (LOCK) {
+            expungeS();
+            for (final Map.Entry<Object, ValueReference> entry : CACHE.entrySet()) {
+                final Class<?> beanType = ((WeakTypeKey) entry.getKey()).get();
+                if (beanType != null && isLoadedBy(beanType, pClassLoader)) {
+                    evictS(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        TypeCache.removeAll(pClassLoader);
+        AnnotationKey.unregister(pClassLoader);
+    }
+
+    /**
+     * 統計情報をリセットします.
+     */
+    public static void resetStatistics() {
+        HIT.set(0);
+        MISS.set(0);
+        EVICTION.set(0);
+    }
+
+    static BeanProperties get(final Class<?> pBeanType, final BeanProperties.Resolution pResolution) {
+        // キャッシュにあればロックを取らない.
+        FutureTask<BeanProperties> task = find(pBeanType);
+        boolean owner = false;
+        if (task == null) {
+            synchronized (LOCK) {
+                expungeS();
+                task = find(pBeanType);
+                if (task == null) {
+                    // GCで値がクリアされたエントリが残っていれば、キーごと置き換える.
+                    CACHE.remove(WeakTypeKey.lookup(pBeanType));
+                    task = new FutureTask<BeanProperties>(new Loader(pBeanType, pResolution));
+                    final WeakTypeKey key = new WeakTypeKey(pBeanType, QUEUE);
+                    CACHE.put(key, new ValueReference(key, task));
+                    owner = true;
+                }
+            }
+        }
+
+        if (owner) {
+            MISS.incrementAndGet();
+            task.run();
+        } else {
+            HIT.incrementAndGet();
+            if (BeanPropertiesMonitor.isEnabled()) {
+                BeanPropertiesMonitor.fireCacheHit(pBeanType);
+            }
+        }
+
+        try {
+            return task.get();
+        } catch (final ExecutionException e) {
+            removeFailed(pBeanType, task);
+            throw ExceptionUtil.rethrow(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    /**
+     * @return 現在キャッシュされていて、生成が完了している値.
+     */
+    static List<BeanProperties> getCachedValues() {
+        final List<FutureTask<BeanProperties>> tasks = new ArrayList<FutureTask<BeanProperties>>();
+        for (final ValueReference ref : CACHE.values()) {
+            final FutureTask<BeanProperties> task = ref.get();
+            if (task != null && task.isDone()) {
+                tasks.add(task);
+            }
+        }
+
+        final List<BeanProperties> ret = new ArrayList<BeanProperties>(tasks.size());
+        for (final FutureTask<BeanProperties> task : tasks) {
+            try {
+                ret.add(task.get());
+            } catch (final ExecutionException e) {
+                // 失敗したものは除く.
+                continue;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ExceptionUtil.rethrow(e);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * @param pType -
+     * @param pClassLoader -
+     * @return pTypeがpClassLoader、あるいはその子孫のクラスローダによってロードされていればtrue.
+     */
+    static boolean isLoadedBy(final Class<?> pType, final ClassLoader pClassLoader) {
+        for (ClassLoader loader = pType.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == pClassLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void evictS(final Object pKey, final ValueReference pReference) {
+        if (pReference == null) {
+            return;
+        }
+        CACHE.remove(pKey, pReference);
+        // GCによって既にクリアされているものはexpungeS()で数える.
+        if (pReference.get() != null) {
+            pReference.clear();
+            EVICTION.incrementAndGet();
+        }
+    }
+
+    private static void expungeS() {
+        for (Reference<?> ref = QUEUE.poll(); ref != null; ref = QUEUE.poll()) {
+            if (ref instanceof ValueReference) {
+                final ValueReference value = (ValueReference) ref;
+                CACHE.remove(value.key, value);
+                EVICTION.incrementAndGet();
+            } else {
+                CACHE.remove(ref);
+            }
+        }
+    }
+
+    private static FutureTask<BeanProperties> find(final Class<?> pBeanType) {
+        final ValueReference ref = CACHE.get(WeakTypeKey.lookup(pBeanType));
+        return ref == null ? null : ref.get();
+    }
+
+    private static void removeFailed(final Class<?> pBeanType, final FutureTask<BeanProperties> pTask) {
+        synchronized (LOCK) {
+            final Object key = WeakTypeKey.lookup(pBeanType);
+            final ValueReference ref = CACHE.get(key);
+            if (ref != null && ref.get() == pTask) {
+                CACHE.remove(key, ref);
+            }
+        }
+    }
+
+    /**
+     * キャッシュの統計情報です.
+     * 
+     * @author jabaraster
+     */
+    public static final class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int  size;
+
+        Statistics(final long pHitCount, final long pMissCount, final long pEvictionCount, final int pSize) {
+            this.hitCount = pHitCount;
+            this.missCount = pMissCount;
+            this.evictionCount = pEvictionCount;
+            this.size = pSize;
+        }
+
+        /**
+         * @return 明示的な破棄、あるいはGCによってキャッシュから除かれた件数.
+         */
+        public long getEvictionCount() {
+            return this.evictionCount;
+        }
+
+        /**
+         * @return キャッシュから値を返せた回数.
+         */
+        public long getHitCount() {
+            return this.hitCount;
+        }
+
+        /**
+         * @return イントロスペクションを実行した回数.
+         */
+        public long getMissCount() {
+            return this.missCount;
+        }
+
+        /**
+         * @return 統計取得時点でキャッシュされている型の数.
+         */
+        public int getSize() {
+            return this.size;
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public String toString() {
+            return "Statistics [hitCount=" + this.hitCount + ", missCount=" + this.missCount + ", evictionCount=" + this.evictionCount
+                    + ", size=" + this.size + "]";
+        }
+    }
+
+    private static class Loader implements Callable<BeanProperties> {
+        private final Class<?>                  beanType;
+        private final BeanProperties.Resolution resolution;
+
+        Loader(final Class<?> pBeanType, final BeanProperties.Resolution pResolution) {
+            this.beanType = pBeanType;
+            this.resolution = pResolution;
+        }
+
+        @Override
+        public BeanProperties call() {
+            if (!BeanPropertiesMonitor.isEnabled()) {
+                return new BeanProperties(this.beanType, this.resolution);
+            }
+
+            final long start = System.nanoTime();
+            final BeanProperties ret;
+            try {
+                ret = new BeanProperties(this.beanType, this.resolution);
+            } catch (final RuntimeException e) {
+                BeanPropertiesMonitor.fireIntrospectionFailed(this.beanType, e);
+                throw e;
+            } catch (final Error e) {
+                BeanPropertiesMonitor.fireIntrospectionFailed(this.beanType, e);
+                throw e;
+            }
+            BeanPropertiesMonitor.fireIntrospected(this.beanType, ret, System.nanoTime() - start);
+            return ret;
+        }
+    }
+
+    private static class ValueReference extends SoftReference<FutureTask<BeanProperties>> {
+        final WeakTypeKey key; // 回収された時にエントリを除くため.
+
+        @SuppressWarnings("synthetic-access")
+        ValueReference(final WeakTypeKey pKey, final FutureTask<BeanProperties> pTask) {
+            super(pTask, QUEUE);
+            this.key = pKey;
+        }
+    }
+}
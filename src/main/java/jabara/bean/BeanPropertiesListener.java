@@ -0,0 +1,61 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.Locale;
+
+/**
+ * {@link BeanProperties}の生成とキャッシュの動きを受け取るリスナーです. <br>
+ * {@link BeanPropertiesMonitor#addListener(BeanPropertiesListener)}で登録します. 登録されたリスナーがなければ計測自体を行いません. <br>
+ * 各メソッドはイントロスペクションを実行したスレッドや{@link BeanProperties#getInstance(Class)}を呼び出したスレッドで同期的に呼ばれるので、
+ * 短時間で終わるように実装して下さい. 投げられた例外はログに記録されるだけで、呼び出し元には伝わりません. <br>
+ * 
+ * @author jabaraster
+ */
+public interface BeanPropertiesListener {
+
+    /**
+     * {@link java.beans.Introspector#getBeanInfo(Class)}が終わった時に呼ばれます. <br>
+     * コンパイル時に生成された{@link BeanMetadata}を使った場合は呼ばれません. <br>
+     * 
+     * @param pBeanType Beanの型.
+     * @param pElapsedNanos {@link java.beans.Introspector#getBeanInfo(Class)}にかかった時間(ナノ秒).
+     */
+    void beanInfoLoaded(Class<?> pBeanType, long pElapsedNanos);
+
+    /**
+     * キャッシュに値があった時に呼ばれます. <br>
+     * 
+     * @param pBeanType Beanの型.
+     */
+    void cacheHit(Class<?> pBeanType);
+
+    /**
+     * キャッシュに値がなく、イントロスペクションが失敗した時に呼ばれます. <br>
+     * 
+     * @param pBeanType Beanの型.
+     * @param pCause 失敗の原因.
+     */
+    void introspectionFailed(Class<?> pBeanType, Throwable pCause);
+
+    /**
+     * キャッシュに値がなく、イントロスペクションで{@link BeanProperties}を生成した時に呼ばれます. <br>
+     * 
+     * @param pBeanType Beanの型.
+     * @param pProperties 生成した{@link BeanProperties}.
+     * @param pElapsedNanos {@link java.beans.Introspector#getBeanInfo(Class)}を含む、生成にかかった時間(ナノ秒).
+     */
+    void introspected(Class<?> pBeanType, BeanProperties pProperties, long pElapsedNanos);
+
+    /**
+     * {@link jabara.bean.annotation.Localized}が付与されたプロパティの名称を引くためのResourceBundleを読み込んだ時に呼ばれます. <br>
+     * 読み込んだ結果は型とロケールの組ごとにキャッシュされるので、同じ組について繰り返し呼ばれることはありません. <br>
+     * 
+     * @param pBeanType Beanの型.
+     * @param pLocale ロケール.
+     * @param pFound ResourceBundleが見つかった場合はtrue.
+     * @param pElapsedNanos 読み込みにかかった時間(ナノ秒).
+     */
+    void localizedNameBundleLoaded(Class<?> pBeanType, Locale pLocale, boolean pFound, long pElapsedNanos);
+}
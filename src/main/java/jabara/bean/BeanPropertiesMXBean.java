@@ -0,0 +1,81 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.List;
+
+/**
+ * {@link BeanProperties}のイントロスペクションのコストとキャッシュの状態を公開するMXBeanです. <br>
+ * {@link BeanPropertiesMonitor#registerMBean()}で{@link BeanPropertiesMonitor#OBJECT_NAME}の名前で登録されます. <br>
+ * Cacheで始まる属性は{@link BeanPropertiesCache#getStatistics()}の値で、MBeanの登録前からの累計です. それ以外はMBeanの登録後、あるいは{@link #reset()}後の累計です. <br>
+ * 
+ * @author jabaraster
+ */
+public interface BeanPropertiesMXBean {
+
+    /**
+     * @return 現在キャッシュされている型の数.
+     */
+    int getCachedTypeCount();
+
+    /**
+     * @return 明示的な破棄、あるいはGCによってキャッシュから除かれた件数.
+     */
+    long getCacheEvictionCount();
+
+    /**
+     * @return キャッシュから値を返せた回数.
+     */
+    long getCacheHitCount();
+
+    /**
+     * @return キャッシュに値がなくイントロスペクションを実行した回数.
+     */
+    long getCacheMissCount();
+
+    /**
+     * @return 現在キャッシュされている全ての{@link BeanProperties}が保持するメモリの概算(バイト). 取得の度に計算します.
+     */
+    long getEstimatedRetainedBytes();
+
+    /**
+     * @return イントロスペクションに成功した回数.
+     */
+    long getIntrospectionCount();
+
+    /**
+     * @return イントロスペクションに失敗した回数.
+     */
+    long getIntrospectionFailureCount();
+
+    /**
+     * @return 見つからなかったResourceBundleの数. 型とロケールの組ごとに数えます.
+     */
+    long getLocalizedNameBundleMissCount();
+
+    /**
+     * @return {@link java.beans.Introspector#getBeanInfo(Class)}にかかった時間の合計(ナノ秒).
+     */
+    long getTotalBeanInfoNanos();
+
+    /**
+     * @return イントロスペクションにかかった時間の合計(ナノ秒). {@link #getTotalBeanInfoNanos()}を含みます.
+     */
+    long getTotalIntrospectionNanos();
+
+    /**
+     * @return ResourceBundleの読み込みにかかった時間の合計(ナノ秒).
+     */
+    long getTotalLocalizedNameBundleNanos();
+
+    /**
+     * @return 型ごとの統計. 型の名前順です.
+     */
+    List<BeanPropertiesStatistics.TypeStatistics> getTypeStatistics();
+
+    /**
+     * キャッシュ以外の統計をリセットします.
+     */
+    void reset();
+}
@@ -0,0 +1,218 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+import jabara.general.ExceptionUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * {@link BeanPropertiesListener}の登録と、計測結果を公開するJMXのMBeanの登録を行います. <br>
+ * リスナーが1つも登録されていない間は、計測のための処理は配列の長さの確認1回だけです. <br>
+ * リスナーが投げた{@link RuntimeException}は呼び出し元に伝えず、{@link java.util.logging}で警告として記録します. <br>
+ * 
+ * @author jabaraster
+ */
+public final class BeanPropertiesMonitor {
+
+    /**
+     * {@link #registerMBean()}で登録するMBeanの名前.
+     */
+    public static final String                       OBJECT_NAME  = "jabara.bean:type=BeanProperties"; //$NON-NLS-1$
+
+    private static final BeanPropertiesListener[]    NO_LISTENERS = new BeanPropertiesListener[0];
+
+    private static final Object                      LOCK         = new Object();
+
+    private static final Logger                      LOGGER       = Logger.getLogger(BeanPropertiesMonitor.class.getName());
+
+    private static volatile BeanPropertiesListener[] listeners    = NO_LISTENERS; // LOCKで更新. 読み出しはロックを取らない.
+    private static BeanPropertiesStatistics          mbean; // LOCKでロック.
+
+    private BeanPropertiesMonitor() {
+        //
+    }
+
+    /**
+     * リスナーを登録します. 同じインスタンスを重複して登録することは出来ません. <br>
+     * 
+     * @param pListener -
+     */
+    public static void addListener(final BeanPropertiesListener pListener) {
+        ArgUtil.checkNull(pListener, "pListener"); //$NON-NLS-1$
+        synchronized (LOCK) {
+            final BeanPropertiesListener[] current = listeners;
+            if (indexOf(current, pListener) >= 0) {
+                throw new IllegalStateException("pListener is already added."); //$NON-NLS-1$
+            }
+            final BeanPropertiesListener[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = pListener;
+            listeners = next;
+        }
+    }
+
+    /**
+     * @return 登録されている{@link #OBJECT_NAME}のMBean. 登録されていなければnull.
+     */
+    public static BeanPropertiesStatistics getMBean() {
+        synchronized (LOCK) {
+            return mbean;
+        }
+    }
+
+    /**
+     * 計測結果を集計する{@link BeanPropertiesStatistics}をリスナーとして登録し、プラットフォームのMBeanServerに{@link #OBJECT_NAME}の名前で登録します. <br>
+     * 既に登録されている場合は何もしません. <br>
+     * 
+     * @return 登録されたMBean.
+     */
+    public static BeanPropertiesStatistics registerMBean() {
+        synchronized (LOCK) {
+            if (mbean != null) {
+                return mbean;
+            }
+            final BeanPropertiesStatistics statistics = new BeanPropertiesStatistics();
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, new ObjectName(OBJECT_NAME));
+            } catch (final JMException e) {
+                throw ExceptionUtil.rethrow(e);
+            }
+            addListener(statistics);
+            mbean = statistics;
+            return statistics;
+        }
+    }
+
+    /**
+     * リスナーの登録を解除します. 登録されていなければ何もしません. <br>
+     * 
+     * @param pListener -
+     */
+    public static void removeListener(final BeanPropertiesListener pListener) {
+        ArgUtil.checkNull(pListener, "pListener"); //$NON-NLS-1$
+        synchronized (LOCK) {
+            final BeanPropertiesListener[] current = listeners;
+            final int index = indexOf(current, pListener);
+            if (index < 0) {
+                return;
+            }
+            if (current.length == 1) {
+                listeners = NO_LISTENERS;
+                return;
+            }
+            final BeanPropertiesListener[] next = new BeanPropertiesListener[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, next.length - index);
+            listeners = next;
+        }
+    }
+
+    /**
+     * {@link #registerMBean()}で登録したMBeanの登録を解除します. 登録されていなければ何もしません. <br>
+     * ホットデプロイでクラスローダを解放する前に呼び出して下さい. <br>
+     */
+    public static void unregisterMBean() {
+        synchronized (LOCK) {
+            if (mbean == null) {
+                return;
+            }
+            removeListener(mbean);
+            mbean = null;
+            try {
+                final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                final ObjectName name = new ObjectName(OBJECT_NAME);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (final JMException e) {
+                throw ExceptionUtil.rethrow(e);
+            }
+        }
+    }
+
+    static void fireBeanInfoLoaded(final Class<?> pBeanType, final long pElapsedNanos) {
+        for (final BeanPropertiesListener listener : listeners) {
+            try {
+                listener.beanInfoLoaded(pBeanType, pElapsedNanos);
+            } catch (final RuntimeException e) {
+                handleListenerFailure(listener, e);
+            }
+        }
+    }
+
+    static void fireCacheHit(final Class<?> pBeanType) {
+        for (final BeanPropertiesListener listener : listeners) {
+            try {
+                listener.cacheHit(pBeanType);
+            } catch (final RuntimeException e) {
+                handleListenerFailure(listener, e);
+            }
+        }
+    }
+
+    static void fireIntrospected(final Class<?> pBeanType, final BeanProperties pProperties, final long pElapsedNanos) {
+        for (final BeanPropertiesListener listener : listeners) {
+            try {
+                listener.introspected(pBeanType, pProperties, pElapsedNanos);
+            } catch (final RuntimeException e) {
+                handleListenerFailure(listener, e);
+            }
+        }
+    }
+
+    static void fireIntrospectionFailed(final Class<?> pBeanType, final Throwable pCause) {
+        for (final BeanPropertiesListener listener : listeners) {
+            try {
+                listener.introspectionFailed(pBeanType, pCause);
+            } catch (final RuntimeException e) {
+                handleListenerFailure(listener, e);
+            }
+        }
+    }
+
+    static void fireLocalizedNameBundleLoaded(final Class<?> pBeanType, final Locale pLocale, final boolean pFound, final long pElapsedNanos) {
+        for (final BeanPropertiesListener listener : listeners) {
+            try {
+                listener.localizedNameBundleLoaded(pBeanType, pLocale, pFound, pElapsedNanos);
+            } catch (final RuntimeException e) {
+                handleListenerFailure(listener, e);
+            }
+        }
+    }
+
+    /**
+     * @return リスナーが登録されていればtrue. falseの場合は計測を省いて下さい.
+     */
+    static boolean isEnabled() {
+        return listeners.length != 0;
+    }
+
+    private static void handleListenerFailure(final BeanPropertiesListener pListener, final RuntimeException pException) {
+        // リスナーの不具合でイントロスペクションやキャッシュの参照を失敗させないよう、例外は呼び出し元に伝えずログに残す.
+        // 他のリスナーへの通知は続ける.
+        try {
+            LOGGER.log(Level.WARNING, "listener threw an exception: " + pListener, pException); //$NON-NLS-1$
+        } catch (final RuntimeException e) {
+            // ログ出力自体の失敗も無視する.
+        }
+    }
+
+    private static int indexOf(final BeanPropertiesListener[] pListeners, final BeanPropertiesListener pListener) {
+        for (int i = 0; i < pListeners.length; i++) {
+            if (pListeners[i] == pListener) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,398 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.beans.ConstructorProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BeanPropertiesListener}として受け取った計測結果を集計し、{@link BeanPropertiesMXBean}として公開します. <br>
+ * 通常は{@link BeanPropertiesMonitor#registerMBean()}で生成しますが、JMXを使わずにリスナーとして登録することも出来ます. <br>
+ * 型ごとの統計は型の名前をキーにして保持するので、型のクラスローダを解放不能にすることはありません. <br>
+ * 
+ * @author jabaraster
+ */
+public final class BeanPropertiesStatistics implements BeanPropertiesMXBean, BeanPropertiesListener {
+
+    // 保持するメモリの概算に使う値. 64bit VM(圧縮参照あり)を想定した大まかなもの.
+    private static final int                         PROPERTIES_BYTES   = 128; // BeanPropertiesとPropertyNameIndex.
+    private static final int                         PROPERTY_BYTES     = 96;
+    private static final int                         PER_PROPERTY_BYTES = 4 * 3 + 16; // 参照とint配列の要素、名前の索引の要素.
+    private static final int                         METHOD_BYTES       = 96;
+    private static final int                         STRING_BYTES       = 40;
+
+    private final ConcurrentMap<String, TypeCounter> types              = new ConcurrentHashMap<String, TypeCounter>();
+
+    private final AtomicLong                         introspectionCount = new AtomicLong();
+    private final AtomicLong                         failureCount       = new AtomicLong();
+    private final AtomicLong                         introspectionNanos = new AtomicLong();
+    private final AtomicLong                         beanInfoNanos      = new AtomicLong();
+    private final AtomicLong                         bundleMissCount    = new AtomicLong();
+    private final AtomicLong                         bundleNanos        = new AtomicLong();
+
+    /**
+     * @see jabara.bean.BeanPropertiesListener#beanInfoLoaded(java.lang.Class, long)
+     */
+    @Override
+    public void beanInfoLoaded(final Class<?> pBeanType, final long pElapsedNanos) {
+        this.beanInfoNanos.addAndGet(pElapsedNanos);
+        getCounter(pBeanType).beanInfoNanos.addAndGet(pElapsedNanos);
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesListener#cacheHit(java.lang.Class)
+     */
+    @Override
+    public void cacheHit(final Class<?> pBeanType) {
+        getCounter(pBeanType).hitCount.incrementAndGet();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getCachedTypeCount()
+     */
+    @Override
+    public int getCachedTypeCount() {
+        return BeanPropertiesCache.getStatistics().getSize();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getCacheEvictionCount()
+     */
+    @Override
+    public long getCacheEvictionCount() {
+        return BeanPropertiesCache.getStatistics().getEvictionCount();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getCacheHitCount()
+     */
+    @Override
+    public long getCacheHitCount() {
+        return BeanPropertiesCache.getStatistics().getHitCount();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getCacheMissCount()
+     */
+    @Override
+    public long getCacheMissCount() {
+        return BeanPropertiesCache.getStatistics().getMissCount();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getEstimatedRetainedBytes()
+     */
+    @Override
+    public long getEstimatedRetainedBytes() {
+        long ret = 0;
+        for (final BeanProperties properties : BeanPropertiesCache.getCachedValues()) {
+            ret += estimateRetainedBytes(properties);
+        }
+        return ret;
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getIntrospectionCount()
+     */
+    @Override
+    public long getIntrospectionCount() {
+        return this.introspectionCount.get();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getIntrospectionFailureCount()
+     */
+    @Override
+    public long getIntrospectionFailureCount() {
+        return this.failureCount.get();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getLocalizedNameBundleMissCount()
+     */
+    @Override
+    public long getLocalizedNameBundleMissCount() {
+        return this.bundleMissCount.get();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getTotalBeanInfoNanos()
+     */
+    @Override
+    public long getTotalBeanInfoNanos() {
+        return this.beanInfoNanos.get();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getTotalIntrospectionNanos()
+     */
+    @Override
+    public long getTotalIntrospectionNanos() {
+        return this.introspectionNanos.get();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getTotalLocalizedNameBundleNanos()
+     */
+    @Override
+    public long getTotalLocalizedNameBundleNanos() {
+        return this.bundleNanos.get();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#getTypeStatistics()
+     */
+    @Override
+    public List<TypeStatistics> getTypeStatistics() {
+        final SortedMap<String, TypeCounter> sorted = new TreeMap<String, TypeCounter>(this.types);
+        final List<TypeStatistics> ret = new ArrayList<TypeStatistics>(sorted.size());
+        for (final Map.Entry<String, TypeCounter> entry : sorted.entrySet()) {
+            ret.add(entry.getValue().toStatistics(entry.getKey()));
+        }
+        return ret;
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesListener#introspected(java.lang.Class, jabara.bean.BeanProperties, long)
+     */
+    @Override
+    public void introspected(final Class<?> pBeanType, final BeanProperties pProperties, final long pElapsedNanos) {
+        this.introspectionCount.incrementAndGet();
+        this.introspectionNanos.addAndGet(pElapsedNanos);
+
+        final TypeCounter counter = getCounter(pBeanType);
+        counter.introspectionCount.incrementAndGet();
+        counter.introspectionNanos.addAndGet(pElapsedNanos);
+        counter.lastIntrospectionNanos = pElapsedNanos;
+        counter.propertyCount = pProperties.size();
+        counter.estimatedRetainedBytes = estimateRetainedBytes(pProperties);
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesListener#introspectionFailed(java.lang.Class, java.lang.Throwable)
+     */
+    @Override
+    public void introspectionFailed(final Class<?> pBeanType, final Throwable pCause) {
+        this.failureCount.incrementAndGet();
+        getCounter(pBeanType).failureCount.incrementAndGet();
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesListener#localizedNameBundleLoaded(java.lang.Class, java.util.Locale, boolean, long)
+     */
+    @Override
+    public void localizedNameBundleLoaded(final Class<?> pBeanType, @SuppressWarnings("unused") final Locale pLocale, final boolean pFound,
+            final long pElapsedNanos) {
+        this.bundleNanos.addAndGet(pElapsedNanos);
+        if (!pFound) {
+            this.bundleMissCount.incrementAndGet();
+            getCounter(pBeanType).bundleMissCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * @see jabara.bean.BeanPropertiesMXBean#reset()
+     */
+    @Override
+    public void reset() {
+        this.types.clear();
+        this.introspectionCount.set(0);
+        this.failureCount.set(0);
+        this.introspectionNanos.set(0);
+        this.beanInfoNanos.set(0);
+        this.bundleMissCount.set(0);
+        this.bundleNanos.set(0);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public String toString() {
+        return "BeanPropertiesStatistics [introspectionCount=" + this.introspectionCount + ", failureCount=" + this.failureCount
+                + ", introspectionNanos=" + this.introspectionNanos + ", beanInfoNanos=" + this.beanInfoNanos + ", bundleMissCount="
+                + this.bundleMissCount + ", bundleNanos=" + this.bundleNanos + "]";
+    }
+
+    private TypeCounter getCounter(final Class<?> pBeanType) {
+        final String name = pBeanType.getName();
+        final TypeCounter counter = this.types.get(name);
+        if (counter != null) {
+            return counter;
+        }
+        final TypeCounter created = new TypeCounter();
+        final TypeCounter prev = this.types.putIfAbsent(name, created);
+        return prev == null ? created : prev;
+    }
+
+    /**
+     * 全てのプロパティの属性が解決済みであるとして、{@link BeanProperties}が保持するメモリを概算します. <br>
+     * 型自体や{@link Class}、アノテーションなど、他と共有されるものは含みません. <br>
+     */
+    static long estimateRetainedBytes(final BeanProperties pProperties) {
+        long ret = PROPERTIES_BYTES;
+        for (final BeanProperty property : pProperties) {
+            ret += PROPERTY_BYTES + PER_PROPERTY_BYTES + STRING_BYTES + 2L * property.getName().length();
+            ret += property.isReadable() ? METHOD_BYTES : 0;
+            ret += property.isWritable() ? METHOD_BYTES : 0;
+        }
+        return ret;
+    }
+
+    /**
+     * 1つの型の統計です. <br>
+     * 
+     * @author jabaraster
+     */
+    public static final class TypeStatistics {
+        private final String beanTypeName;
+        private final int    propertyCount;
+        private final long   introspectionCount;
+        private final long   introspectionFailureCount;
+        private final long   lastIntrospectionNanos;
+        private final long   totalIntrospectionNanos;
+        private final long   totalBeanInfoNanos;
+        private final long   cacheHitCount;
+        private final long   localizedNameBundleMissCount;
+        private final long   estimatedRetainedBytes;
+
+        /**
+         * @param pBeanTypeName -
+         * @param pPropertyCount -
+         * @param pIntrospectionCount -
+         * @param pIntrospectionFailureCount -
+         * @param pLastIntrospectionNanos -
+         * @param pTotalIntrospectionNanos -
+         * @param pTotalBeanInfoNanos -
+         * @param pCacheHitCount -
+         * @param pLocalizedNameBundleMissCount -
+         * @param pEstimatedRetainedBytes -
+         */
+        @ConstructorProperties({ "beanTypeName", "propertyCount", "introspectionCount", "introspectionFailureCount", "lastIntrospectionNanos",
+                "totalIntrospectionNanos", "totalBeanInfoNanos", "cacheHitCount", "localizedNameBundleMissCount", "estimatedRetainedBytes" })
+        public TypeStatistics(final String pBeanTypeName, final int pPropertyCount, final long pIntrospectionCount,
+                final long pIntrospectionFailureCount, final long pLastIntrospectionNanos, final long pTotalIntrospectionNanos,
+                final long pTotalBeanInfoNanos, final long pCacheHitCount, final long pLocalizedNameBundleMissCount,
+                final long pEstimatedRetainedBytes) {
+            this.beanTypeName = pBeanTypeName;
+            this.propertyCount = pPropertyCount;
+            this.introspectionCount = pIntrospectionCount;
+            this.introspectionFailureCount = pIntrospectionFailureCount;
+            this.lastIntrospectionNanos = pLastIntrospectionNanos;
+            this.totalIntrospectionNanos = pTotalIntrospectionNanos;
+            this.totalBeanInfoNanos = pTotalBeanInfoNanos;
+            this.cacheHitCount = pCacheHitCount;
+            this.localizedNameBundleMissCount = pLocalizedNameBundleMissCount;
+            this.estimatedRetainedBytes = pEstimatedRetainedBytes;
+        }
+
+        /**
+         * @return 型の名前.
+         */
+        public String getBeanTypeName() {
+            return this.beanTypeName;
+        }
+
+        /**
+         * @return キャッシュから値を返せた回数.
+         */
+        public long getCacheHitCount() {
+            return this.cacheHitCount;
+        }
+
+        /**
+         * @return 最後に生成した{@link BeanProperties}が保持するメモリの概算(バイト). 生成していなければ0.
+         */
+        public long getEstimatedRetainedBytes() {
+            return this.estimatedRetainedBytes;
+        }
+
+        /**
+         * @return イントロスペクションに成功した回数.
+         */
+        public long getIntrospectionCount() {
+            return this.introspectionCount;
+        }
+
+        /**
+         * @return イントロスペクションに失敗した回数.
+         */
+        public long getIntrospectionFailureCount() {
+            return this.introspectionFailureCount;
+        }
+
+        /**
+         * @return 最後のイントロスペクションにかかった時間(ナノ秒).
+         */
+        public long getLastIntrospectionNanos() {
+            return this.lastIntrospectionNanos;
+        }
+
+        /**
+         * @return 見つからなかったResourceBundleの数.
+         */
+        public long getLocalizedNameBundleMissCount() {
+            return this.localizedNameBundleMissCount;
+        }
+
+        /**
+         * @return 最後に生成した{@link BeanProperties}のプロパティの数. 生成していなければ0.
+         */
+        public int getPropertyCount() {
+            return this.propertyCount;
+        }
+
+        /**
+         * @return {@link java.beans.Introspector#getBeanInfo(Class)}にかかった時間の合計(ナノ秒).
+         */
+        public long getTotalBeanInfoNanos() {
+            return this.totalBeanInfoNanos;
+        }
+
+        /**
+         * @return イントロスペクションにかかった時間の合計(ナノ秒).
+         */
+        public long getTotalIntrospectionNanos() {
+            return this.totalIntrospectionNanos;
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public String toString() {
+            return "TypeStatistics [beanTypeName=" + this.beanTypeName + ", propertyCount=" + this.propertyCount + ", introspectionCount="
+                    + this.introspectionCount + ", totalIntrospectionNanos=" + this.totalIntrospectionNanos + ", cacheHitCount="
+                    + this.cacheHitCount + "]";
+        }
+    }
+
+    private static final class TypeCounter {
+        final AtomicLong introspectionCount     = new AtomicLong();
+        final AtomicLong failureCount           = new AtomicLong();
+        final AtomicLong introspectionNanos     = new AtomicLong();
+        final AtomicLong beanInfoNanos          = new AtomicLong();
+        final AtomicLong hitCount               = new AtomicLong();
+        final AtomicLong bundleMissCount        = new AtomicLong();
+        volatile long    lastIntrospectionNanos;
+        volatile int     propertyCount;
+        volatile long    estimatedRetainedBytes;
+
+        TypeStatistics toStatistics(final String pBeanTypeName) {
+            return new TypeStatistics(pBeanTypeName, this.propertyCount, this.introspectionCount.get(), this.failureCount.get(),
+                    this.lastIntrospectionNanos, this.introspectionNanos.get(), this.beanInfoNanos.get(), this.hitCount.get(),
+                    this.bundleMissCount.get(), this.estimatedRetainedBytes);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+import jabara.general.ExceptionUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 起動時に{@link BeanProperties}を生成して{@link BeanPropertiesCache}に格納しておくためのユーティリティです. <br>
+ * 型の一覧、クラス名の一覧、あるいはクラスパス上のパッケージを指定し、呼び出し元が用意したスレッドプールで並列にイントロスペクションを実行します. <br>
+ * ある型のイントロスペクションに失敗しても全体は中断せず、失敗は型ごとに{@link Result}に記録されます. <br>
+ * スレッドプールのスレッド数が同時に実行されるイントロスペクションの上限になります. <br>
+ * 
+ * @author jabaraster
+ */
+public final class BeanPropertiesWarmUp {
+
+    private static final String CLASS_FILE_SUFFIX = ".class"; //$NON-NLS-1$
+
+    private BeanPropertiesWarmUp() {
+        //
+    }
+
+    /**
+     * 指定のパッケージ(サブパッケージを含む)のクラスファイルを、pClassLoaderから見えるディレクトリとjarファイルから探します. <br>
+     * 匿名クラス、package-info、module-infoは除きます. クラスのロードはしません. <br>
+     * 
+     * @param pClassLoader クラスファイルを探すクラスローダ.
+     * @param pPackageName パッケージ名. 例えば"jabara.bean".
+     * @return クラスの名前. 名前順で重複はありません.
+     */
+    public static List<String> findClassNames(final ClassLoader pClassLoader, final String pPackageName) {
+        ArgUtil.checkNull(pClassLoader, "pClassLoader"); //$NON-NLS-1$
+        ArgUtil.checkNullOrEmpty(pPackageName, "pPackageName"); //$NON-NLS-1$
+
+        final String path = pPackageName.replace('.', '/') + '/';
+        final Set<String> ret = new TreeSet<String>();
+        try {
+            for (final Enumeration<URL> urls = pClassLoader.getResources(path); urls.hasMoreElements();) {
+                final URL url = urls.nextElement();
+                if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+                    findInDirectory(new File(url.toURI()), pPackageName + '.', ret);
+                } else {
+                    final URLConnection connection = url.openConnection();
+                    if (connection instanceof JarURLConnection) {
+                        connection.setUseCaches(false);
+                        findInJar(((JarURLConnection) connection).getJarFile(), path, ret);
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            throw ExceptionUtil.rethrow(e);
+        } catch (final URISyntaxException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+        return new ArrayList<String>(ret);
+    }
+
+    /**
+     * 指定の型の{@link BeanProperties}を並列に生成します. <br>
+     * 
+     * @param pBeanTypes 対象の型.
+     * @param pExecutor イントロスペクションを実行するスレッドプール.
+     * @return 結果. {@link Result#getEntries()}はpBeanTypesの順です.
+     */
+    public static Result run(final Collection<? extends Class<?>> pBeanTypes, final ExecutorService pExecutor) {
+        ArgUtil.checkNull(pBeanTypes, "pBeanTypes"); //$NON-NLS-1$
+        ArgUtil.checkNull(pExecutor, "pExecutor"); //$NON-NLS-1$
+
+        final List<Target> targets = new ArrayList<Target>(pBeanTypes.size());
+        for (final Class<?> beanType : pBeanTypes) {
+            ArgUtil.checkNull(beanType, "pBeanTypes[]"); //$NON-NLS-1$
+            targets.add(new Target(beanType.getName(), beanType, null));
+        }
+        return run(targets, pExecutor);
+    }
+
+    /**
+     * 指定の名前のクラスをロードし、その{@link BeanProperties}を並列に生成します. <br>
+     * クラスのロードも並列に実行し、ロードの失敗もその型の失敗として記録します. クラスの初期化はしません. <br>
+     * 
+     * @param pClassLoader クラスをロードするクラスローダ.
+     * @param pClassNames 対象のクラスの名前.
+     * @param pExecutor イントロスペクションを実行するスレッドプール.
+     * @return 結果. {@link Result#getEntries()}はpClassNamesの順です.
+     */
+    public static Result run(final ClassLoader pClassLoader, final Collection<String> pClassNames, final ExecutorService pExecutor) {
+        ArgUtil.checkNull(pClassLoader, "pClassLoader"); //$NON-NLS-1$
+        ArgUtil.checkNull(pClassNames, "pClassNames"); //$NON-NLS-1$
+        ArgUtil.checkNull(pExecutor, "pExecutor"); //$NON-NLS-1$
+
+        final List<Target> targets = new ArrayList<Target>(pClassNames.size());
+        for (final String className : pClassNames) {
+            ArgUtil.checkNullOrEmpty(className, "pClassNames[]"); //$NON-NLS-1$
+            targets.add(new Target(className, null, pClassLoader));
+        }
+        return run(targets, pExecutor);
+    }
+
+    /**
+     * 指定のパッケージ(サブパッケージを含む)の全てのクラスの{@link BeanProperties}を並列に生成します. <br>
+     * 対象のクラスは{@link #findClassNames(ClassLoader, String)}で探します. <br>
+     * 
+     * @param pClassLoader クラスを探し、ロードするクラスローダ.
+     * @param pPackageName パッケージ名.
+     * @param pExecutor イントロスペクションを実行するスレッドプール.
+     * @return 結果. {@link Result#getEntries()}はクラスの名前順です.
+     */
+    public static Result runPackage(final ClassLoader pClassLoader, final String pPackageName, final ExecutorService pExecutor) {
+        return run(pClassLoader, findClassNames(pClassLoader, pPackageName), pExecutor);
+    }
+
+    private static void findInDirectory(final File pDirectory, final String pNamePrefix, final Set<String> pClassNames) {
+        final File[] files = pDirectory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (final File file : files) {
+            final String fileName = file.getName();
+            if (file.isDirectory()) {
+                findInDirectory(file, pNamePrefix + fileName + '.', pClassNames);
+            } else if (isTargetClassFile(fileName)) {
+                pClassNames.add(pNamePrefix + fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length()));
+            }
+        }
+    }
+
+    private static void findInJar(final JarFile pJar, final String pPath, final Set<String> pClassNames) throws IOException {
+        try {
+            for (final Enumeration<JarEntry> entries = pJar.entries(); entries.hasMoreElements();) {
+                final String entryName = entries.nextElement().getName();
+                if (!entryName.startsWith(pPath)) {
+                    continue;
+                }
+                final String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+                if (isTargetClassFile(fileName)) {
+                    pClassNames.add(entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.'));
+                }
+            }
+        } finally {
+            pJar.close();
+        }
+    }
+
+    private static boolean isTargetClassFile(final String pFileName) {
+        if (!pFileName.endsWith(CLASS_FILE_SUFFIX)) {
+            return false;
+        }
+        if (pFileName.startsWith("package-info") || pFileName.startsWith("module-info")) { //$NON-NLS-1$ //$NON-NLS-2$
+            return false;
+        }
+        // 匿名クラスとローカルクラスは"$"の直後が数字になる.
+        for (int i = pFileName.indexOf('$'); i >= 0; i = pFileName.indexOf('$', i + 1)) {
+            if (i + 1 < pFileName.length() && Character.isDigit(pFileName.charAt(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Result run(final List<Target> pTargets, final ExecutorService pExecutor) {
+        final long start = System.nanoTime();
+        final Entry[] entries = new Entry[pTargets.size()];
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            final int index = i;
+            final Target target = pTargets.get(i);
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    entries[index] = target.load();
+                    return null;
+                }
+            });
+        }
+        ColumnReader.runAll(pExecutor, tasks);
+        return new Result(Arrays.asList(entries), System.nanoTime() - start);
+    }
+
+    /**
+     * 1つの型のウォームアップの結果です. <br>
+     * 
+     * @author jabaraster
+     */
+    public static final class Entry {
+        private final String    className;
+        private final Class<?>  beanType;
+        private final int       propertyCount;
+        private final long      elapsedNanos;
+        private final Throwable failure;
+
+        Entry(final String pClassName, final Class<?> pBeanType, final int pPropertyCount, final long pElapsedNanos, final Throwable pFailure) {
+            this.className = pClassName;
+            this.beanType = pBeanType;
+            this.propertyCount = pPropertyCount;
+            this.elapsedNanos = pElapsedNanos;
+            this.failure = pFailure;
+        }
+
+        /**
+         * @return 型. クラスのロードに失敗した場合はnull.
+         */
+        public Class<?> getBeanType() {
+            return this.beanType;
+        }
+
+        /**
+         * @return クラスの名前.
+         */
+        public String getClassName() {
+            return this.className;
+        }
+
+        /**
+         * @return クラスのロードと{@link BeanProperties}の生成にかかった時間(ナノ秒). 既にキャッシュされていた場合はごく短くなります.
+         */
+        public long getElapsedNanos() {
+            return this.elapsedNanos;
+        }
+
+        /**
+         * @return 失敗の原因. 成功した場合はnull.
+         */
+        public Throwable getFailure() {
+            return this.failure;
+        }
+
+        /**
+         * @return プロパティの数. 失敗した場合は-1.
+         */
+        public int getPropertyCount() {
+            return this.propertyCount;
+        }
+
+        /**
+         * @return 成功したらtrue.
+         */
+        public boolean isSucceeded() {
+            return this.failure == null;
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public String toString() {
+            return "Entry [className=" + this.className + ", elapsedNanos=" + this.elapsedNanos
+                    + (this.failure == null ? ", propertyCount=" + this.propertyCount : ", failure=" + this.failure) + "]";
+        }
+    }
+
+    /**
+     * ウォームアップの結果です. <br>
+     * 
+     * @author jabaraster
+     */
+    public static final class Result {
+        private final List<Entry> entries;
+        private final List<Entry> failures;
+        private final long        elapsedNanos;
+
+        Result(final List<Entry> pEntries, final long pElapsedNanos) {
+            this.entries = Collections.unmodifiableList(pEntries);
+            this.elapsedNanos = pElapsedNanos;
+
+            final List<Entry> list = new ArrayList<Entry>();
+            for (final Entry entry : pEntries) {
+                if (!entry.isSucceeded()) {
+                    list.add(entry);
+                }
+            }
+            this.failures = Collections.unmodifiableList(list);
+        }
+
+        /**
+         * @return ウォームアップ全体にかかった時間(ナノ秒).
+         */
+        public long getElapsedNanos() {
+            return this.elapsedNanos;
+        }
+
+        /**
+         * @return 型ごとの結果.
+         */
+        public List<Entry> getEntries() {
+            return this.entries;
+        }
+
+        /**
+         * @return 失敗した型の結果.
+         */
+        public List<Entry> getFailures() {
+            return this.failures;
+        }
+
+        /**
+         * @return 全ての型で成功したらtrue.
+         */
+        public boolean isSucceeded() {
+            return this.failures.isEmpty();
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public String toString() {
+            return "Result [count=" + this.entries.size() + ", failureCount=" + this.failures.size() + ", elapsedNanos=" + this.elapsedNanos + "]";
+        }
+    }
+
+    private static final class Target {
+        private final String      className;
+        private final Class<?>    beanType;
+        private final ClassLoader classLoader;
+
+        Target(final String pClassName, final Class<?> pBeanType, final ClassLoader pClassLoader) {
+            this.className = pClassName;
+            this.beanType = pBeanType;
+            this.classLoader = pClassLoader;
+        }
+
+        Entry load() {
+            final long start = System.nanoTime();
+            Class<?> type = this.beanType;
+            try {
+                if (type == null) {
+                    type = Class.forName(this.className, false, this.classLoader);
+                }
+                final int propertyCount = BeanPropertiesCache.get(type, BeanProperties.Resolution.EAGER).size();
+                return new Entry(this.className, type, propertyCount, System.nanoTime() - start, null);
+
+            } catch (final ClassNotFoundException e) {
+                return new Entry(this.className, type, -1, System.nanoTime() - start, e);
+            } catch (final RuntimeException e) {
+                return new Entry(this.className, type, -1, System.nanoTime() - start, e);
+            } catch (final LinkageError e) {
+                return new Entry(this.className, type, -1, System.nanoTime() - start, e);
+            }
+        }
+    }
+}
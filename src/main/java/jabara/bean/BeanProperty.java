@@ -10,63 +10,127 @@ import jabara.bean.annotation.Nullable;
 import jabara.bean.annotation.Order;
 import jabara.general.ArgUtil;
 import jabara.general.ExceptionUtil;
-import jabara.general.MethodKey;
 import jabara.general.NotFound;
 
 import java.beans.PropertyDescriptor;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.MissingResourceException;
-import java.util.ResourceBundle;
+import java.util.Locale;
 
 /**
  * @author jabaraster
  */
 public class BeanProperty implements Serializable {
-    private static final long serialVersionUID    = -5577222431246281031L;
-
-    private static final int  DEFAULT_ORDER_INDEX = Integer.MAX_VALUE;
-
-    private final MethodKey   getterKey;
-    private final MethodKey   setterKey;
-
-    private final Class<?>    beanType;
-    private final boolean     readOnly;
-    private final String      name;
-    private final String      localizedName;
-    private final Class<?>    type;
-    private final int         orderIndex;
-    private final boolean     hidden;
-    private final boolean     multiLine;
-    private final boolean     nullable;
-
-    private transient Method  getter;
-    private transient Method  setter;
+    private static final long                     serialVersionUID    = -5577222431246281031L;
+
+    private static final int                      DEFAULT_ORDER_INDEX = Integer.MAX_VALUE;
+
+    private static final AnnotationKey<Hidden>    HIDDEN              = AnnotationKey.register(Hidden.class);
+    private static final AnnotationKey<Localized> LOCALIZED           = AnnotationKey.register(Localized.class);
+    private static final AnnotationKey<MultiLine> MULTI_LINE          = AnnotationKey.register(MultiLine.class);
+    private static final AnnotationKey<Nullable>  NULLABLE            = AnnotationKey.register(Nullable.class);
+    private static final AnnotationKey<Order>     ORDER               = AnnotationKey.register(Order.class);
+
+    private final Class<?>                        beanType;
+    private final boolean                         readOnly;
+    private final String                          name;
+    private final Class<?>                        type;
+
+    // 以下は初回アクセス時に解決する. EAGERの場合はコンストラクタで解決済み.
+    // 何度解決しても結果は同じなので、volatileで公開するだけで同期はしない.
+    private transient volatile String             localizedName;
+    private transient volatile Boolean            localized;
+    private transient volatile Integer            orderIndex;
+    private transient volatile Boolean            hidden;
+    private transient volatile Boolean            multiLine;
+    private transient volatile Boolean            nullable;
+    private transient volatile AnnotationTable    annotations;
+
+    // 以下は直列化しない. 直列化はSerializedFormで行う.
+    private final transient Method                getter;
+    private final transient Method                setter;
+    private final transient LocalizedNameCache    localizedNames;
+    private final transient PropertyMetadata      metadata;
+    private final transient Class<?>              primitiveType;
+    private transient String                      localizedValue; // localizedの書き込みより前に書くこと.
+    private transient int                         hash; // 0なら未計算.
+    private transient PropertyAccessor            accessor;
 
     /**
      * @param pBeanType
      * @param pProperty
+     * @param pResolution
+     * @param pLocalizedNames 同じBeanの型の全プロパティで共有するキャッシュ.
      */
-    BeanProperty(final Class<?> pBeanType, final PropertyDescriptor pProperty) {
+    BeanProperty( //
+            final Class<?> pBeanType //
+            , final PropertyDescriptor pProperty //
+            , final BeanProperties.Resolution pResolution //
+            , final LocalizedNameCache pLocalizedNames) {
         ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
         ArgUtil.checkNull(pProperty, "pProperty"); //$NON-NLS-1$
+        ArgUtil.checkNull(pResolution, "pResolution"); //$NON-NLS-1$
+        ArgUtil.checkNull(pLocalizedNames, "pLocalizedNames"); //$NON-NLS-1$
 
         this.getter = getGetter(pBeanType, pProperty);
         this.setter = pProperty.getWriteMethod();
 
-        this.getterKey = new MethodKey(this.getter);
-        this.setterKey = new MethodKey(this.setter);
-
         this.beanType = pBeanType;
         this.readOnly = this.getter != null && this.setter == null;
         this.name = pProperty.getName();
-        this.localizedName = getLocalizedNameS(pBeanType, this.getter, this.setter, this.name);
-        this.orderIndex = getOrderIndexS(this.getter, this.setter);
         this.type = pProperty.getPropertyType();
-        this.hidden = getHiddenS(this.getter, this.setter);
-        this.multiLine = getMultiLineS(this.type, this.getter, this.setter);
-        this.nullable = getNullableS(this.getter, this.setter);
+        this.primitiveType = toPrimitiveType(this.type);
+        this.localizedNames = pLocalizedNames;
+        this.metadata = null;
+
+        if (pResolution == BeanProperties.Resolution.EAGER) {
+            resolveAll();
+        }
+    }
+
+    /**
+     * コンパイル時に生成されたメタデータからインスタンスを構築します. <br>
+     * アノテーションの走査は行わず、値の読み書きには生成されたアクセサを使います. <br>
+     * 
+     * @param pBeanType
+     * @param pMetadata
+     * @param pResolution
+     * @param pLocalizedNames 同じBeanの型の全プロパティで共有するキャッシュ.
+     */
+    BeanProperty( //
+            final Class<?> pBeanType //
+            , final PropertyMetadata pMetadata //
+            , final BeanProperties.Resolution pResolution //
+            , final LocalizedNameCache pLocalizedNames) {
+        ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
+        ArgUtil.checkNull(pMetadata, "pMetadata"); //$NON-NLS-1$
+        ArgUtil.checkNull(pResolution, "pResolution"); //$NON-NLS-1$
+        ArgUtil.checkNull(pLocalizedNames, "pLocalizedNames"); //$NON-NLS-1$
+
+        this.getter = getMethodS(pBeanType, pMetadata.getGetterName());
+        this.setter = getMethodS(pBeanType, pMetadata.getSetterName(), pMetadata.getType());
+
+        this.beanType = pBeanType;
+        this.readOnly = this.getter != null && this.setter == null;
+        this.name = pMetadata.getName();
+        this.type = pMetadata.getType();
+        this.primitiveType = toPrimitiveType(this.type);
+        this.localizedNames = pLocalizedNames;
+
+        // ResourceBundleを引く必要のあるlocalizedName以外は既に分かっている.
+        this.metadata = pMetadata;
+        this.orderIndex = Integer.valueOf(pMetadata.getOrderIndex());
+        this.hidden = Boolean.valueOf(pMetadata.isHidden());
+        this.multiLine = Boolean.valueOf(pMetadata.isMultiLine());
+        this.nullable = Boolean.valueOf(pMetadata.isNullable());
+        this.accessor = pMetadata.getAccessor();
+
+        if (pResolution == BeanProperties.Resolution.EAGER) {
+            resolveAll();
+        }
     }
 
     /**
@@ -84,6 +148,10 @@ public class BeanProperty implements Serializable {
             return false;
         }
         final BeanProperty other = (BeanProperty) obj;
+        // ハッシュ値はキャッシュされているので、比較の前に安く弾けるものを弾く.
+        if (hashCode() != other.hashCode()) {
+            return false;
+        }
         if (this.beanType == null) {
             if (other.beanType != null) {
                 return false;
@@ -91,24 +159,20 @@ public class BeanProperty implements Serializable {
         } else if (!this.beanType.equals(other.beanType)) {
             return false;
         }
-        if (this.getterKey == null) {
-            if (other.getterKey != null) {
+        if (this.getter == null) {
+            if (other.getter != null) {
                 return false;
             }
-        } else if (!this.getterKey.equals(other.getterKey)) {
+        } else if (!this.getter.equals(other.getter)) {
             return false;
         }
-        if (this.hidden != other.hidden) {
+        if (isHidden() != other.isHidden()) {
             return false;
         }
-        if (this.localizedName == null) {
-            if (other.localizedName != null) {
-                return false;
-            }
-        } else if (!this.localizedName.equals(other.localizedName)) {
+        if (!getLocalizedName().equals(other.getLocalizedName())) {
             return false;
         }
-        if (this.multiLine != other.multiLine) {
+        if (isMultiLine() != other.isMultiLine()) {
             return false;
         }
         if (this.name == null) {
@@ -118,20 +182,20 @@ public class BeanProperty implements Serializable {
         } else if (!this.name.equals(other.name)) {
             return false;
         }
-        if (this.nullable != other.nullable) {
+        if (isNullable() != other.isNullable()) {
             return false;
         }
-        if (this.orderIndex != other.orderIndex) {
+        if (getOrderIndex() != other.getOrderIndex()) {
             return false;
         }
         if (this.readOnly != other.readOnly) {
             return false;
         }
-        if (this.setterKey == null) {
-            if (other.setterKey != null) {
+        if (this.setter == null) {
+            if (other.setter != null) {
                 return false;
             }
-        } else if (!this.setterKey.equals(other.setterKey)) {
+        } else if (!this.setter.equals(other.setter)) {
             return false;
         }
         if (this.type == null) {
@@ -144,10 +208,39 @@ public class BeanProperty implements Serializable {
         return true;
     }
 
+    /**
+     * getterあるいはsetterに指定の型のアノテーションが付与されていれば返します. <br>
+     * 両方に付与されている場合はgetterに付与されているものが優先して返されます. <br>
+     * アノテーションはプロパティごとに1度だけ走査され、以降は事前に解決された表から引きます. <br>
+     * 
+     * @param pKey {@link AnnotationKey#register(Class)}で登録したキー.
+     * @return アノテーション. 付与されていなければnull.
+     * @param <A> 取得するアノテーションの型.
+     */
+    public <A extends Annotation> A findAnnotation(final AnnotationKey<A> pKey) {
+        ArgUtil.checkNull(pKey, "pKey"); //$NON-NLS-1$
+        return getAnnotations().find(pKey);
+    }
+
+    /**
+     * getterあるいはsetterに指定の型のアノテーションが付与されていれば返します. <br>
+     * 両方に付与されている場合はgetterに付与されているものが優先して返されます. <br>
+     * アノテーションはプロパティごとに1度だけ走査され、以降は事前に解決された表から引きます. <br>
+     * 
+     * @param pType 取得するアノテーションの型.
+     * @return アノテーション. 付与されていなければnull.
+     * @param <A> 取得するアノテーションの型.
+     */
+    public <A extends Annotation> A findAnnotation(final Class<A> pType) {
+        ArgUtil.checkNull(pType, "pType"); //$NON-NLS-1$
+        return getAnnotations().find(pType);
+    }
+
     /**
      * getterあるいはsetterにアノテーションAが付与されていれば返します. <br>
      * 両方共に付与されていない場合は{@link NotFound}がスローされます. <br>
      * 両方に付与されている場合はgetterに付与されているものが優先して返されます. <br>
+     * 付与されていないことがあり得る場合は、例外を伴わない{@link #findAnnotation(Class)}を使って下さい. <br>
      * 
      * @param pType -
      * @return -
@@ -155,7 +248,11 @@ public class BeanProperty implements Serializable {
      * @throws NotFound 指定のアノテーションが付与されていない場合.
      */
     public <A extends Annotation> A getAnnocation(final Class<A> pType) throws NotFound {
-        return getMethodsAnnotation(pType, this.getter, this.setter);
+        final A ret = findAnnotation(pType);
+        if (ret == null) {
+            throw NotFound.GLOBAL;
+        }
+        return ret;
     }
 
     /**
@@ -166,10 +263,92 @@ public class BeanProperty implements Serializable {
     }
 
     /**
+     * プロパティの型がbooleanあるいは{@link Boolean}の場合に、値をボクシングせずに取得します.
+     * 
+     * @param pBean 値を取得するBean.
+     * @return プロパティの値.
+     * @throws IllegalStateException プロパティの型がbooleanでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException {@link Boolean}型のプロパティの値がnullの場合.
+     */
+    public boolean getBoolean(final Object pBean) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        checkPrimitiveType(Boolean.TYPE);
+        return getAccessor().getBoolean(pBean);
+    }
+
+    /**
+     * プロパティの型がdoubleあるいは{@link Double}の場合に、値をボクシングせずに取得します.
+     * 
+     * @param pBean 値を取得するBean.
+     * @return プロパティの値.
+     * @throws IllegalStateException プロパティの型がdoubleでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException {@link Double}型のプロパティの値がnullの場合.
+     */
+    public double getDouble(final Object pBean) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        checkPrimitiveType(Double.TYPE);
+        return getAccessor().getDouble(pBean);
+    }
+
+    /**
+     * プロパティの型がintあるいは{@link Integer}の場合に、値をボクシングせずに取得します.
+     * 
+     * @param pBean 値を取得するBean.
+     * @return プロパティの値.
+     * @throws IllegalStateException プロパティの型がintでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException {@link Integer}型のプロパティの値がnullの場合.
+     */
+    public int getInt(final Object pBean) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        checkPrimitiveType(Integer.TYPE);
+        return getAccessor().getInt(pBean);
+    }
+
+    /**
+     * 既定のロケールでの名称を返します. <br>
+     * 値は初回の解決時のものが保持されるので、以降に既定のロケールが変更されても結果は変わりません. <br>
+     * 
      * @return 言語環境に即した名称.
+     * @see #getLocalizedName(Locale)
      */
     public String getLocalizedName() {
-        return this.localizedName;
+        String ret = this.localizedName;
+        if (ret == null) {
+            ret = getLocalizedName(Locale.getDefault());
+            this.localizedName = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * 指定のロケールでの名称を返します. <br>
+     * {@link Localized}が付与されている場合、Beanの型と同名のResourceBundleにプロパティ名のキーがあればその値、
+     * なければ{@link Localized#value()}、それも空ならプロパティ名を返します. <br>
+     * ResourceBundleはBeanの型とロケールの組ごとに1度だけ読み込まれ、{@link LocalizedNameCache}にキャッシュされます. <br>
+     * 
+     * @param pLocale 名称のロケール.
+     * @return 言語環境に即した名称.
+     */
+    public String getLocalizedName(final Locale pLocale) {
+        ArgUtil.checkNull(pLocale, "pLocale"); //$NON-NLS-1$
+        if (!isLocalized()) {
+            return this.name;
+        }
+        return this.localizedNames.get(this.name, this.localizedValue, pLocale);
+    }
+
+    /**
+     * プロパティの型がlongあるいは{@link Long}の場合に、値をボクシングせずに取得します.
+     * 
+     * @param pBean 値を取得するBean.
+     * @return プロパティの値.
+     * @throws IllegalStateException プロパティの型がlongでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException {@link Long}型のプロパティの値がnullの場合.
+     */
+    public long getLong(final Object pBean) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        checkPrimitiveType(Long.TYPE);
+        return getAccessor().getLong(pBean);
     }
 
     /**
@@ -183,7 +362,13 @@ public class BeanProperty implements Serializable {
      * @return -
      */
     public int getOrderIndex() {
-        return this.orderIndex;
+        Integer ret = this.orderIndex;
+        if (ret == null) {
+            final Order order = getAnnotations().find(ORDER);
+            ret = Integer.valueOf(order == null ? DEFAULT_ORDER_INDEX : order.value());
+            this.orderIndex = ret;
+        }
+        return ret.intValue();
     }
 
     /**
@@ -193,46 +378,80 @@ public class BeanProperty implements Serializable {
         return this.type;
     }
 
+    /**
+     * @param pBean 値を取得するBean.
+     * @return プロパティの値.
+     * @throws IllegalStateException getterが存在しない場合.
+     */
+    public Object getValue(final Object pBean) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        return getAccessor().get(pBean);
+    }
+
     /**
      * @see java.lang.Object#hashCode()
      */
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + (this.beanType == null ? 0 : this.beanType.hashCode());
-        result = prime * result + (this.getterKey == null ? 0 : this.getterKey.hashCode());
-        result = prime * result + (this.hidden ? 1231 : 1237);
-        result = prime * result + (this.localizedName == null ? 0 : this.localizedName.hashCode());
-        result = prime * result + (this.multiLine ? 1231 : 1237);
-        result = prime * result + (this.name == null ? 0 : this.name.hashCode());
-        result = prime * result + (this.nullable ? 1231 : 1237);
-        result = prime * result + this.orderIndex;
-        result = prime * result + (this.readOnly ? 1231 : 1237);
-        result = prime * result + (this.setterKey == null ? 0 : this.setterKey.hashCode());
-        result = prime * result + (this.type == null ? 0 : this.type.hashCode());
-        return result;
+        // 値が0の場合は毎回計算し直すことになるが、String#hashCode()と同じく実害はないので許容する.
+        int ret = this.hash;
+        if (ret == 0) {
+            ret = computeHashCode();
+            this.hash = ret;
+        }
+        return ret;
     }
 
     /**
      * @return {@link Hidden}が付与されていればtrue.
      */
     public boolean isHidden() {
-        return this.hidden;
+        Boolean ret = this.hidden;
+        if (ret == null) {
+            ret = Boolean.valueOf(getAnnotations().find(HIDDEN) != null);
+            this.hidden = ret;
+        }
+        return ret.booleanValue();
+    }
+
+    /**
+     * @param pKey {@link AnnotationKey#register(Class)}で登録したキー.
+     * @return getterあるいはsetterに指定の型のアノテーションが付与されていればtrue.
+     */
+    public boolean isAnnotationPresent(final AnnotationKey<?> pKey) {
+        return findAnnotation(pKey) != null;
+    }
+
+    /**
+     * @param pType アノテーションの型.
+     * @return getterあるいはsetterに指定の型のアノテーションが付与されていればtrue.
+     */
+    public boolean isAnnotationPresent(final Class<? extends Annotation> pType) {
+        return findAnnotation(pType) != null;
     }
 
     /**
      * @return multiLineを返す.
      */
     public boolean isMultiLine() {
-        return this.multiLine;
+        Boolean ret = this.multiLine;
+        if (ret == null) {
+            ret = Boolean.valueOf(String.class.equals(this.type) && getAnnotations().find(MULTI_LINE) != null);
+            this.multiLine = ret;
+        }
+        return ret.booleanValue();
     }
 
     /**
      * @return nullableを返す.
      */
     public boolean isNullable() {
-        return this.nullable;
+        Boolean ret = this.nullable;
+        if (ret == null) {
+            ret = Boolean.valueOf(getAnnotations().find(NULLABLE) != null);
+            this.nullable = ret;
+        }
+        return ret.booleanValue();
     }
 
     /**
@@ -242,6 +461,82 @@ public class BeanProperty implements Serializable {
         return this.readOnly;
     }
 
+    /**
+     * @return getterが存在すればtrue.
+     */
+    public boolean isReadable() {
+        return getAccessor().canRead();
+    }
+
+    /**
+     * @return setterが存在すればtrue.
+     */
+    public boolean isWritable() {
+        return getAccessor().canWrite();
+    }
+
+    /**
+     * プロパティの型がbooleanあるいは{@link Boolean}の場合に、値をボクシングせずに設定します.
+     * 
+     * @param pBean 値を設定するBean.
+     * @param pValue 設定する値.
+     * @throws IllegalStateException プロパティの型がbooleanでない場合、あるいはsetterが存在しない場合.
+     */
+    public void setBoolean(final Object pBean, final boolean pValue) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        checkPrimitiveType(Boolean.TYPE);
+        getAccessor().setBoolean(pBean, pValue);
+    }
+
+    /**
+     * プロパティの型がdoubleあるいは{@link Double}の場合に、値をボクシングせずに設定します.
+     * 
+     * @param pBean 値を設定するBean.
+     * @param pValue 設定する値.
+     * @throws IllegalStateException プロパティの型がdoubleでない場合、あるいはsetterが存在しない場合.
+     */
+    public void setDouble(final Object pBean, final double pValue) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        checkPrimitiveType(Double.TYPE);
+        getAccessor().setDouble(pBean, pValue);
+    }
+
+    /**
+     * プロパティの型がintあるいは{@link Integer}の場合に、値をボクシングせずに設定します.
+     * 
+     * @param pBean 値を設定するBean.
+     * @param pValue 設定する値.
+     * @throws IllegalStateException プロパティの型がintでない場合、あるいはsetterが存在しない場合.
+     */
+    public void setInt(final Object pBean, final int pValue) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        checkPrimitiveType(Integer.TYPE);
+        getAccessor().setInt(pBean, pValue);
+    }
+
+    /**
+     * プロパティの型がlongあるいは{@link Long}の場合に、値をボクシングせずに設定します.
+     * 
+     * @param pBean 値を設定するBean.
+     * @param pValue 設定する値.
+     * @throws IllegalStateException プロパティの型がlongでない場合、あるいはsetterが存在しない場合.
+     */
+    public void setLong(final Object pBean, final long pValue) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        checkPrimitiveType(Long.TYPE);
+        getAccessor().setLong(pBean, pValue);
+    }
+
+    /**
+     * @param pBean 値を設定するBean.
+     * @param pValue 設定する値.
+     * @throws IllegalStateException setterが存在しない場合.
+     */
+    public void setValue(final Object pBean, final Object pValue) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        getAccessor().set(pBean, pValue);
+    }
+
     /**
      * @see java.lang.Object#toString()
      */
@@ -249,23 +544,91 @@ public class BeanProperty implements Serializable {
     @Override
     public String toString() {
         return "BeanProperty [beanType=" + this.beanType + ", readOnly=" + this.readOnly + ", name=" + this.name + ", localizedName="
-                + this.localizedName + ", type=" + this.type + ", orderIndex=" + this.orderIndex + ", hidden=" + this.hidden + ", multiLine="
-                + this.multiLine + ", nullable=" + this.nullable + "]";
+                + getLocalizedName() + ", type=" + this.type + ", orderIndex=" + getOrderIndex() + ", hidden=" + isHidden() + ", multiLine="
+                + isMultiLine() + ", nullable=" + isNullable() + "]";
     }
 
-    private Object readResolve() {
-        try {
-            this.getter = this.getterKey.get(this.beanType);
-        } catch (final NotFound e) {
-            this.getter = null;
+    /**
+     * @param pPrimitiveType プロパティの型として期待するプリミティブ型.
+     * @throws IllegalStateException プロパティの型が期待する型(あるいはそのラッパー型)でない場合.
+     */
+    @SuppressWarnings("nls")
+    void checkPrimitiveType(final Class<?> pPrimitiveType) {
+        if (this.primitiveType != pPrimitiveType) {
+            throw new IllegalStateException("property '" + this.name + "' is not " + pPrimitiveType.getName() + " but " + this.type.getName()
+                    + ".");
         }
-        try {
-            this.setter = this.setterKey.get(this.beanType);
-        } catch (final NotFound e) {
-            this.setter = null;
+    }
+
+    PropertyAccessor getAccessor() {
+        // PropertyAccessorの実装はfinalフィールドしか持たないので、volatileでなくても安全に公開される.
+        PropertyAccessor ret = this.accessor;
+        if (ret == null) {
+            ret = PropertyAccessor.create(this.name, this.getter, this.setter);
+            this.accessor = ret;
+        }
+        return ret;
+    }
+
+    private int computeHashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + (this.beanType == null ? 0 : this.beanType.hashCode());
+        result = prime * result + (this.getter == null ? 0 : this.getter.hashCode());
+        result = prime * result + (isHidden() ? 1231 : 1237);
+        result = prime * result + getLocalizedName().hashCode();
+        result = prime * result + (isMultiLine() ? 1231 : 1237);
+        result = prime * result + (this.name == null ? 0 : this.name.hashCode());
+        result = prime * result + (isNullable() ? 1231 : 1237);
+        result = prime * result + getOrderIndex();
+        result = prime * result + (this.readOnly ? 1231 : 1237);
+        result = prime * result + (this.setter == null ? 0 : this.setter.hashCode());
+        result = prime * result + (this.type == null ? 0 : this.type.hashCode());
+        return result;
+    }
+
+    private AnnotationTable getAnnotations() {
+        // 生成が重複しても結果は同じなので、同期はしない.
+        AnnotationTable ret = this.annotations;
+        if (ret == null) {
+            ret = new AnnotationTable(this.getter, this.setter);
+            this.annotations = ret;
+        }
+        return ret;
+    }
+
+    private boolean isLocalized() {
+        Boolean ret = this.localized;
+        if (ret == null) {
+            final String value;
+            if (this.metadata != null) {
+                value = this.metadata.getLocalizedValue();
+            } else {
+                final Localized localizedAnnotation = getAnnotations().find(LOCALIZED);
+                value = localizedAnnotation == null ? null : localizedAnnotation.value();
+            }
+            this.localizedValue = value;
+            ret = Boolean.valueOf(value != null);
+            this.localized = ret;
         }
+        return ret.booleanValue();
+    }
+
+    private void resolveAll() {
+        getLocalizedName();
+        getOrderIndex();
+        isHidden();
+        isMultiLine();
+        isNullable();
+        getAccessor();
+    }
+
+    private void readObject(@SuppressWarnings("unused") final ObjectInputStream pIn) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm required."); //$NON-NLS-1$
+    }
 
-        return this;
+    private Object writeReplace() {
+        return new SerializedForm(this.beanType, this.name);
     }
 
     private static Method getGetter(final Class<?> pBeanType, final PropertyDescriptor pProperty) {
@@ -287,86 +650,61 @@ public class BeanProperty implements Serializable {
         }
     }
 
-    private static boolean getHiddenS(final Method pGetter, final Method pSetter) {
-        try {
-            getMethodsAnnotation(Hidden.class, pGetter, pSetter);
-            return true;
-        } catch (final NotFound e) {
-            return false;
+    private static Method getMethodS(final Class<?> pBeanType, final String pMethodName, final Class<?>... pParameterTypes) {
+        if (pMethodName == null) {
+            return null;
         }
-    }
-
-    private static String getLocalizedNameS( //
-            final Class<?> pBeanType //
-            , final Method pGetter //
-            , final Method pSetter //
-            , final String pPropertyName) {
         try {
-            final Localized ann = getMethodsAnnotation(Localized.class, pGetter, pSetter);
-            try {
-                return getNameFromResource(pBeanType, pPropertyName);
-
-            } catch (final NotFound e) {
-                final String value = ann.value();
-                if (value.length() == 0) {
-                    return pPropertyName;
-                }
-                return value;
-            }
-        } catch (final NotFound e) {
-            return pPropertyName;
+            return pBeanType.getMethod(pMethodName, pParameterTypes);
+        } catch (final NoSuchMethodException e) {
+            throw ExceptionUtil.rethrow(e);
         }
     }
 
-    private static <A extends Annotation> A getMethodsAnnotation(final Class<A> pType, final Method... pMethods) throws NotFound {
-        for (final Method method : pMethods) {
-            if (method == null) {
-                continue;
-            }
-            final A ann = method.getAnnotation(pType);
-            if (ann != null) {
-                return ann;
-            }
+    private static Class<?> toPrimitiveType(final Class<?> pType) {
+        if (pType == null || pType.isPrimitive()) {
+            return pType;
         }
-        throw NotFound.GLOBAL;
-    }
-
-    private static boolean getMultiLineS(final Class<?> pPropertyType, final Method pGetter, final Method pSetter) {
-        if (!String.class.equals(pPropertyType)) {
-            return false;
+        if (Boolean.class.equals(pType)) {
+            return Boolean.TYPE;
         }
-        try {
-            getMethodsAnnotation(MultiLine.class, pGetter, pSetter);
-            return true;
-        } catch (final NotFound e) {
-            return false;
+        if (Double.class.equals(pType)) {
+            return Double.TYPE;
         }
-    }
-
-    private static String getNameFromResource(final Class<?> pBeanType, final String pKey) throws NotFound {
-        try {
-            final ResourceBundle resources = ResourceBundle.getBundle(pBeanType.getName());
-            return resources.getString(pKey);
-        } catch (final MissingResourceException e) {
-            throw NotFound.GLOBAL;
+        if (Integer.class.equals(pType)) {
+            return Integer.TYPE;
+        }
+        if (Long.class.equals(pType)) {
+            return Long.TYPE;
         }
+        return null;
     }
 
-    private static boolean getNullableS(final Method pGetter, final Method pSetter) {
-        try {
-            getMethodsAnnotation(Nullable.class, pGetter, pSetter);
-            return true;
-        } catch (final NotFound e) {
-            return false;
+    /**
+     * {@link BeanProperty}の直列化形式です. <br>
+     * Beanの型とプロパティ名だけを書き出し、復元時には{@link BeanProperties#getInstance(Class)}でキャッシュされたインスタンスに解決します. <br>
+     * このためデシリアライズのコストはキャッシュの検索だけで済み、復元したインスタンスが個別にメタデータを持つこともありません. <br>
+     * 
+     * @author jabaraster
+     */
+    private static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 5316289468013425960L;
+
+        private final Class<?>    beanType;
+        private final String      name;
+
+        SerializedForm(final Class<?> pBeanType, final String pName) {
+            this.beanType = pBeanType;
+            this.name = pName;
         }
-    }
 
-    private static int getOrderIndexS(final Method pGetter, final Method pSetter) {
-        try {
-            final Order order = getMethodsAnnotation(Order.class, pGetter, pSetter);
-            return order.value();
-        } catch (final NotFound e) {
-            return DEFAULT_ORDER_INDEX;
+        private Object readResolve() throws InvalidObjectException {
+            final BeanProperties properties = BeanProperties.getInstance(this.beanType);
+            final int index = properties.find(this.name);
+            if (index < 0) {
+                throw new InvalidObjectException("no property for '" + this.name + "' found in " + this.beanType.getName() + "."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            }
+            return properties.get(index);
         }
     }
 }
@@ -0,0 +1,322 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Beanのプロパティの値を検証します. <br>
+ * {@link jabara.bean.annotation.Nullable}が付与されていない参照型のプロパティの値がnullでないこと、および
+ * {@link ValidationRule}を渡した場合は対応するアノテーションが付与されたプロパティの値がその規則を満たすことを検証します. <br>
+ * どのプロパティをどの規則で検証するかはインスタンス生成時に1度だけ決定し、検証時には解決済みの配列を辿るだけです. <br>
+ * 違反は例外ではなく{@link Violation}のリストで返します. 違反がなければ共有の空のリストを返すので、妥当なBeanの検証ではオブジェクトは生成されません
+ * (プリミティブ型のプロパティに規則を適用する場合のボクシングを除く). <br>
+ * 規則を使わない場合のインスタンスは{@link BeanProperties#getBeanValidator()}で、規則を使う場合は{@link #getInstance(BeanProperties, ValidationRule...)}で取得して下さい.
+ * インスタンスはスレッドセーフです. <br>
+ * 
+ * @author jabaraster
+ */
+public final class BeanValidator {
+
+    private final Class<?>        beanType;
+    private final PropertyCheck[] checks;
+
+    BeanValidator(final Class<?> pBeanType, final List<BeanProperty> pProperties, final ValidationRule<?>[] pRules) {
+        this.beanType = pBeanType;
+
+        final List<PropertyCheck> list = new ArrayList<PropertyCheck>();
+        for (final BeanProperty property : pProperties) {
+            if (!property.isReadable()) {
+                continue;
+            }
+            final boolean notNull = !property.getType().isPrimitive() && !property.isNullable();
+            final List<ValidationRule<?>> rules = new ArrayList<ValidationRule<?>>();
+            final List<Annotation> annotations = new ArrayList<Annotation>();
+            for (final ValidationRule<?> rule : pRules) {
+                final Annotation annotation = property.findAnnotation(rule.getAnnotationKey());
+                if (annotation != null) {
+                    rules.add(rule);
+                    annotations.add(annotation);
+                }
+            }
+            if (notNull || !rules.isEmpty()) {
+                list.add(new PropertyCheck(property, notNull, rules.toArray(new ValidationRule<?>[rules.size()]),
+                        annotations.toArray(new Annotation[annotations.size()])));
+            }
+        }
+        this.checks = list.toArray(new PropertyCheck[list.size()]);
+    }
+
+    /**
+     * @return Beanの型.
+     */
+    public Class<?> getBeanType() {
+        return this.beanType;
+    }
+
+    /**
+     * @param pBean 検証するBean.
+     * @return 違反がなければtrue. 最初の違反が見つかった時点で検証を終えます.
+     */
+    public boolean isValid(final Object pBean) {
+        checkBean(pBean, 0);
+        for (final PropertyCheck check : this.checks) {
+            if (!check.isValid(pBean)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 複数のBeanを検証します. <br>
+     * 
+     * @param pBeans 検証するBean.
+     * @return 違反の一覧. pBeansの順、同じBeanの中では{@link BeanProperties}の並び順です. 違反がなければ空のリスト.
+     */
+    public List<Violation> validateAll(final List<?> pBeans) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        List<Violation> ret = null;
+        int index = 0;
+        for (final Object bean : pBeans) {
+            ret = validate(bean, index++, ret);
+        }
+        return ret == null ? Collections.<Violation> emptyList() : ret;
+    }
+
+    /**
+     * 複数のBeanを検証します. 結果は{@link #validateAll(List)}と同じです. <br>
+     * 要素数が十分に多い場合は範囲を分割してpExecutorで並列に検証します. 要素数が少なければ呼び出し元のスレッドで検証します. <br>
+     * 
+     * @param pBeans 検証するBean.
+     * @param pExecutor 並列に検証するためのスレッドプール.
+     * @return 違反の一覧. pBeansの順、同じBeanの中では{@link BeanProperties}の並び順です. 違反がなければ空のリスト.
+     */
+    public List<Violation> validateAll(final List<?> pBeans, final ExecutorService pExecutor) {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        ArgUtil.checkNull(pExecutor, "pExecutor"); //$NON-NLS-1$
+
+        final List<?> beans = pBeans instanceof RandomAccess ? pBeans : Arrays.asList(pBeans.toArray());
+        final int size = beans.size();
+        final int chunkCount = Math.min(Runtime.getRuntime().availableProcessors() * 4, (size + ColumnReader.MIN_CHUNK_SIZE - 1)
+                / ColumnReader.MIN_CHUNK_SIZE);
+        if (chunkCount <= 1) {
+            return validateAll(beans);
+        }
+
+        final int chunkSize = (size + chunkCount - 1) / chunkCount;
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final List<Violation>[] results = new List[chunkCount];
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            final int chunk = i;
+            final int from = Math.min(i * chunkSize, size);
+            final int to = Math.min(from + chunkSize, size);
+            tasks.add(new Callable<Void>() {
+                @SuppressWarnings("synthetic-access")
+                @Override
+                public Void call() {
+                    List<Violation> result = null;
+                    for (int j = from; j < to; j++) {
+                        result = validate(beans.get(j), j, result);
+                    }
+                    results[chunk] = result;
+                    return null;
+                }
+            });
+        }
+        ColumnReader.runAll(pExecutor, tasks);
+
+        List<Violation> ret = null;
+        for (final List<Violation> result : results) {
+            if (result == null) {
+                continue;
+            }
+            if (ret == null) {
+                ret = result;
+            } else {
+                ret.addAll(result);
+            }
+        }
+        return ret == null ? Collections.<Violation> emptyList() : ret;
+    }
+
+    /**
+     * @param pBean 検証するBean.
+     * @return 違反の一覧. {@link BeanProperties}の並び順です. 違反がなければ空のリスト.
+     */
+    public List<Violation> validate(final Object pBean) {
+        final List<Violation> ret = validate(pBean, 0, null);
+        return ret == null ? Collections.<Violation> emptyList() : ret;
+    }
+
+    @SuppressWarnings("nls")
+    private void checkBean(final Object pBean, final int pIndex) {
+        if (pBean == null) {
+            throw new IllegalArgumentException("element at " + pIndex + " is null.");
+        }
+        if (!this.beanType.isInstance(pBean)) {
+            throw new IllegalArgumentException("element at " + pIndex + " is not instance of " + this.beanType.getName() + "(" + pBean + ").");
+        }
+    }
+
+    /**
+     * @param pViolations 違反の格納先. nullの場合は違反が見つかった時点で生成する.
+     * @return pViolations、あるいは新たに生成した格納先. 違反がなくpViolationsがnullならnull.
+     */
+    private List<Violation> validate(final Object pBean, final int pIndex, final List<Violation> pViolations) {
+        checkBean(pBean, pIndex);
+        List<Violation> ret = pViolations;
+        for (final PropertyCheck check : this.checks) {
+            ret = check.check(pBean, pIndex, ret);
+        }
+        return ret;
+    }
+
+    /**
+     * @param pProperties 検証するプロパティ.
+     * @param pRules プロパティに適用する規則.
+     * @return 新しい{@link BeanValidator}. 生成のコストがかかるので、保持して使い回して下さい.
+     */
+    public static BeanValidator getInstance(final BeanProperties pProperties, final ValidationRule<?>... pRules) {
+        ArgUtil.checkNull(pProperties, "pProperties"); //$NON-NLS-1$
+        ArgUtil.checkNull(pRules, "pRules"); //$NON-NLS-1$
+        for (final ValidationRule<?> rule : pRules) {
+            ArgUtil.checkNull(rule, "pRules[]"); //$NON-NLS-1$
+        }
+        return new BeanValidator(pProperties.getBeanType(), pProperties.toList(), pRules.clone());
+    }
+
+    /**
+     * 検証の違反です. <br>
+     * 
+     * @author jabaraster
+     */
+    public static final class Violation {
+        private final int          index;
+        private final Object       bean;
+        private final BeanProperty property;
+        private final Annotation   annotation;
+
+        Violation(final int pIndex, final Object pBean, final BeanProperty pProperty, final Annotation pAnnotation) {
+            this.index = pIndex;
+            this.bean = pBean;
+            this.property = pProperty;
+            this.annotation = pAnnotation;
+        }
+
+        /**
+         * @return 違反した規則のアノテーション. nullでないことの違反の場合はnull.
+         */
+        public Annotation getAnnotation() {
+            return this.annotation;
+        }
+
+        /**
+         * @return 違反したBean.
+         */
+        public Object getBean() {
+            return this.bean;
+        }
+
+        /**
+         * @return 違反したBeanの位置. 複数のBeanを検証した場合はリストでの位置、1つのBeanを検証した場合は0.
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * @return 違反したプロパティ.
+         */
+        public BeanProperty getProperty() {
+            return this.property;
+        }
+
+        /**
+         * @return nullでないことの違反ならtrue.
+         */
+        public boolean isNullViolation() {
+            return this.annotation == null;
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public String toString() {
+            return "Violation [index=" + this.index + ", property=" + this.property.getName() + ", "
+                    + (this.annotation == null ? "null" : "@" + this.annotation.annotationType().getSimpleName()) + "]";
+        }
+    }
+
+    private static final class PropertyCheck {
+        final BeanProperty        property;
+        final PropertyAccessor    accessor;
+        final boolean             notNull;
+        final ValidationRule<?>[] rules;
+        final Annotation[]        annotations;
+
+        PropertyCheck(final BeanProperty pProperty, final boolean pNotNull, final ValidationRule<?>[] pRules, final Annotation[] pAnnotations) {
+            this.property = pProperty;
+            this.accessor = pProperty.getAccessor();
+            this.notNull = pNotNull;
+            this.rules = pRules;
+            this.annotations = pAnnotations;
+        }
+
+        /**
+         * @param pViolations 違反の格納先. nullの場合は違反が見つかった時点で生成する.
+         * @return pViolations、あるいは新たに生成した格納先. 違反がなくpViolationsがnullならnull.
+         */
+        List<Violation> check(final Object pBean, final int pIndex, final List<Violation> pViolations) {
+            final Object value = this.accessor.get(pBean);
+            if (value == null) {
+                // nullの場合は規則を適用しない.
+                return this.notNull ? add(pViolations, new Violation(pIndex, pBean, this.property, null)) : pViolations;
+            }
+            List<Violation> ret = pViolations;
+            for (int i = 0; i < this.rules.length; i++) {
+                if (!isValid(this.rules[i], value, this.annotations[i])) {
+                    ret = add(ret, new Violation(pIndex, pBean, this.property, this.annotations[i]));
+                }
+            }
+            return ret;
+        }
+
+        boolean isValid(final Object pBean) {
+            final Object value = this.accessor.get(pBean);
+            if (value == null) {
+                return !this.notNull;
+            }
+            for (int i = 0; i < this.rules.length; i++) {
+                if (!isValid(this.rules[i], value, this.annotations[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static List<Violation> add(final List<Violation> pViolations, final Violation pViolation) {
+            final List<Violation> ret = pViolations == null ? new ArrayList<Violation>() : pViolations;
+            ret.add(pViolation);
+            return ret;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static boolean isValid(final ValidationRule pRule, final Object pValue, final Annotation pAnnotation) {
+            return pRule.isValid(pValue, pAnnotation);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ExceptionUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Beanの集合から1つのプロパティの値を取り出し、配列(列)に格納します. <br>
+ * プリミティブ型の列にはボクシングせずに格納するので、要素ごとのオブジェクト生成はありません
+ * (jabara-bean-processorが生成したアクセサを使う場合. リフレクションの場合は{@link PropertyAccessor}の説明を参照). <br>
+ * インスタンスは{@link BeanProperties#readIntColumn(Iterable, BeanProperty)}等の内部で生成されます. <br>
+ * 
+ * @author jabaraster
+ */
+final class ColumnReader {
+
+    // これより小さい範囲は分割せずに1つのタスクで処理する. タスクの生成と受け渡しのコストの方が大きくなるため.
+    static final int               MIN_CHUNK_SIZE   = 8192;
+    private static final int       INITIAL_CAPACITY = 16;
+
+    private final Class<?>         beanType;
+    private final PropertyAccessor accessor;
+
+    ColumnReader(final Class<?> pBeanType, final PropertyAccessor pAccessor) {
+        this.beanType = pBeanType;
+        this.accessor = pAccessor;
+    }
+
+    double[] readDoubles(final Iterable<?> pBeans) {
+        if (pBeans instanceof List<?> && pBeans instanceof RandomAccess) {
+            final List<?> list = (List<?>) pBeans;
+            final double[] ret = new double[list.size()];
+            fillDoubles(list, 0, ret.length, ret);
+            return ret;
+        }
+        double[] ret = new double[initialCapacity(pBeans)];
+        int size = 0;
+        for (final Object bean : pBeans) {
+            if (size == ret.length) {
+                ret = Arrays.copyOf(ret, grow(size));
+            }
+            ret[size] = this.accessor.getDouble(checkBean(bean, size));
+            size++;
+        }
+        return size == ret.length ? ret : Arrays.copyOf(ret, size);
+    }
+
+    double[] readDoubles(final List<?> pBeans, final ExecutorService pExecutor) {
+        final List<?> list = toRandomAccess(pBeans);
+        final double[] ret = new double[list.size()];
+        runInChunks(pExecutor, ret.length, new Chunk() {
+            @Override
+            void run(final int pFrom, final int pTo) {
+                fillDoubles(list, pFrom, pTo, ret);
+            }
+        });
+        return ret;
+    }
+
+    int[] readInts(final Iterable<?> pBeans) {
+        if (pBeans instanceof List<?> && pBeans instanceof RandomAccess) {
+            final List<?> list = (List<?>) pBeans;
+            final int[] ret = new int[list.size()];
+            fillInts(list, 0, ret.length, ret);
+            return ret;
+        }
+        int[] ret = new int[initialCapacity(pBeans)];
+        int size = 0;
+        for (final Object bean : pBeans) {
+            if (size == ret.length) {
+                ret = Arrays.copyOf(ret, grow(size));
+            }
+            ret[size] = this.accessor.getInt(checkBean(bean, size));
+            size++;
+        }
+        return size == ret.length ? ret : Arrays.copyOf(ret, size);
+    }
+
+    int[] readInts(final List<?> pBeans, final ExecutorService pExecutor) {
+        final List<?> list = toRandomAccess(pBeans);
+        final int[] ret = new int[list.size()];
+        runInChunks(pExecutor, ret.length, new Chunk() {
+            @Override
+            void run(final int pFrom, final int pTo) {
+                fillInts(list, pFrom, pTo, ret);
+            }
+        });
+        return ret;
+    }
+
+    long[] readLongs(final Iterable<?> pBeans) {
+        if (pBeans instanceof List<?> && pBeans instanceof RandomAccess) {
+            final List<?> list = (List<?>) pBeans;
+            final long[] ret = new long[list.size()];
+            fillLongs(list, 0, ret.length, ret);
+            return ret;
+        }
+        long[] ret = new long[initialCapacity(pBeans)];
+        int size = 0;
+        for (final Object bean : pBeans) {
+            if (size == ret.length) {
+                ret = Arrays.copyOf(ret, grow(size));
+            }
+            ret[size] = this.accessor.getLong(checkBean(bean, size));
+            size++;
+        }
+        return size == ret.length ? ret : Arrays.copyOf(ret, size);
+    }
+
+    long[] readLongs(final List<?> pBeans, final ExecutorService pExecutor) {
+        final List<?> list = toRandomAccess(pBeans);
+        final long[] ret = new long[list.size()];
+        runInChunks(pExecutor, ret.length, new Chunk() {
+            @Override
+            void run(final int pFrom, final int pTo) {
+                fillLongs(list, pFrom, pTo, ret);
+            }
+        });
+        return ret;
+    }
+
+    Object[] readObjects(final Iterable<?> pBeans) {
+        if (pBeans instanceof List<?> && pBeans instanceof RandomAccess) {
+            final List<?> list = (List<?>) pBeans;
+            final Object[] ret = new Object[list.size()];
+            fillObjects(list, 0, ret.length, ret);
+            return ret;
+        }
+        Object[] ret = new Object[initialCapacity(pBeans)];
+        int size = 0;
+        for (final Object bean : pBeans) {
+            if (size == ret.length) {
+                ret = Arrays.copyOf(ret, grow(size));
+            }
+            ret[size] = this.accessor.get(checkBean(bean, size));
+            size++;
+        }
+        return size == ret.length ? ret : Arrays.copyOf(ret, size);
+    }
+
+    Object[] readObjects(final List<?> pBeans, final ExecutorService pExecutor) {
+        final List<?> list = toRandomAccess(pBeans);
+        final Object[] ret = new Object[list.size()];
+        runInChunks(pExecutor, ret.length, new Chunk() {
+            @Override
+            void run(final int pFrom, final int pTo) {
+                fillObjects(list, pFrom, pTo, ret);
+            }
+        });
+        return ret;
+    }
+
+    @SuppressWarnings("nls")
+    private Object checkBean(final Object pBean, final int pIndex) {
+        if (!this.beanType.isInstance(pBean)) {
+            throw new IllegalArgumentException("element at " + pIndex + " is not instance of " + this.beanType.getName() + "(" + pBean + ").");
+        }
+        return pBean;
+    }
+
+    private void fillDoubles(final List<?> pBeans, final int pFrom, final int pTo, final double[] pDestination) {
+        final PropertyAccessor a = this.accessor;
+        for (int i = pFrom; i < pTo; i++) {
+            pDestination[i] = a.getDouble(checkBean(pBeans.get(i), i));
+        }
+    }
+
+    private void fillInts(final List<?> pBeans, final int pFrom, final int pTo, final int[] pDestination) {
+        final PropertyAccessor a = this.accessor;
+        for (int i = pFrom; i < pTo; i++) {
+            pDestination[i] = a.getInt(checkBean(pBeans.get(i), i));
+        }
+    }
+
+    private void fillLongs(final List<?> pBeans, final int pFrom, final int pTo, final long[] pDestination) {
+        final PropertyAccessor a = this.accessor;
+        for (int i = pFrom; i < pTo; i++) {
+            pDestination[i] = a.getLong(checkBean(pBeans.get(i), i));
+        }
+    }
+
+    private void fillObjects(final List<?> pBeans, final int pFrom, final int pTo, final Object[] pDestination) {
+        final PropertyAccessor a = this.accessor;
+        for (int i = pFrom; i < pTo; i++) {
+            pDestination[i] = a.get(checkBean(pBeans.get(i), i));
+        }
+    }
+
+    private static int grow(final int pSize) {
+        return pSize + (pSize >> 1) + 1;
+    }
+
+    private static int initialCapacity(final Iterable<?> pBeans) {
+        if (pBeans instanceof Collection<?>) {
+            return ((Collection<?>) pBeans).size();
+        }
+        return INITIAL_CAPACITY;
+    }
+
+    private static void runInChunks(final ExecutorService pExecutor, final int pSize, final Chunk pChunk) {
+        final int chunkCount = Math.min(Runtime.getRuntime().availableProcessors() * 4, (pSize + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+        if (chunkCount <= 1) {
+            pChunk.run(0, pSize);
+            return;
+        }
+
+        final int chunkSize = (pSize + chunkCount - 1) / chunkCount;
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(chunkCount);
+        for (int from = 0; from < pSize; from += chunkSize) {
+            tasks.add(pChunk.toCallable(from, Math.min(from + chunkSize, pSize)));
+        }
+        runAll(pExecutor, tasks);
+    }
+
+    /**
+     * タスクを全てpExecutorに投入し、全ての完了を待ちます. <br>
+     * いずれかのタスクが失敗した場合は残りのタスクをキャンセルし、その例外をスローします. <br>
+     * 
+     * @param pExecutor タスクを実行するスレッドプール.
+     * @param pTasks 実行するタスク.
+     */
+    static void runAll(final ExecutorService pExecutor, final List<Callable<Void>> pTasks) {
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>(pTasks.size());
+        try {
+            for (final Callable<Void> task : pTasks) {
+                futures.add(pExecutor.submit(task));
+            }
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtil.rethrow(e);
+        } catch (final ExecutionException e) {
+            throw ExceptionUtil.rethrow(e.getCause());
+        } finally {
+            for (final Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static List<?> toRandomAccess(final List<?> pBeans) {
+        if (pBeans instanceof RandomAccess) {
+            return pBeans;
+        }
+        return Arrays.asList(pBeans.toArray());
+    }
+
+    private static abstract class Chunk {
+
+        abstract void run(int pFrom, int pTo);
+
+        Callable<Void> toCallable(final int pFrom, final int pTo) {
+            return new Callable<Void>() {
+                @Override
+                public Void call() {
+                    run(pFrom, pTo);
+                    return null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.Queue;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link jabara.bean.annotation.Localized}が付与されたプロパティの名称を引くためのResourceBundleを、Beanの型とロケールの組ごとにキャッシュします. <br>
+ * インスタンスはBeanの型ごとに1つ作られ、その型の全ての{@link BeanProperty}で共有されます. <br>
+ * 読み出しはロックを取りません. キャッシュするロケールの数が{@link #getMaxLocales()}を超えると、古いものから破棄されます. <br>
+ * 
+ * @author jabaraster
+ */
+public final class LocalizedNameCache {
+
+    /**
+     * ロケール数の上限の既定値. <br>
+     * システムプロパティ{@value #MAX_LOCALES_PROPERTY}で変更出来ます. <br>
+     */
+    public static final int                     DEFAULT_MAX_LOCALES  = 32;
+
+    /**
+     * ロケール数の上限を指定するシステムプロパティ名.
+     */
+    public static final String                  MAX_LOCALES_PROPERTY = "jabara.bean.LocalizedNameCache.maxLocales"; //$NON-NLS-1$
+
+    private static volatile int                 maxLocales           = getDefaultMaxLocales();
+
+    private static final Bundle                 MISSING              = new Bundle(null);
+
+    private final Class<?>                      beanType;
+    private final ConcurrentMap<Locale, Bundle> bundles              = new ConcurrentHashMap<Locale, Bundle>();
+    private final Queue<Locale>                 loadedOrder          = new ConcurrentLinkedQueue<Locale>();
+
+    LocalizedNameCache(final Class<?> pBeanType) {
+        this.beanType = pBeanType;
+    }
+
+    /**
+     * @param pPropertyName プロパティ名. ResourceBundleのキーになります.
+     * @param pLocalizedValue {@link jabara.bean.annotation.Localized}の値.
+     * @param pLocale -
+     * @return ResourceBundleにプロパティ名のキーがあればその値、なければ{@link jabara.bean.annotation.Localized}の値. それも空ならプロパティ名.
+     */
+    String get(final String pPropertyName, final String pLocalizedValue, final Locale pLocale) {
+        final ResourceBundle bundle = getBundle(pLocale).resources;
+        if (bundle != null && bundle.containsKey(pPropertyName)) {
+            return bundle.getString(pPropertyName);
+        }
+        if (pLocalizedValue.length() == 0) {
+            return pPropertyName;
+        }
+        return pLocalizedValue;
+    }
+
+    /**
+     * @return キャッシュしているロケールの数.
+     */
+    int size() {
+        return this.bundles.size();
+    }
+
+    private Bundle getBundle(final Locale pLocale) {
+        final Bundle cached = this.bundles.get(pLocale);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Bundle loaded = load(pLocale);
+        final Bundle prev = this.bundles.putIfAbsent(pLocale, loaded);
+        if (prev != null) {
+            return prev;
+        }
+        this.loadedOrder.add(pLocale);
+        while (this.bundles.size() > maxLocales) {
+            final Locale oldest = this.loadedOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            this.bundles.remove(oldest);
+        }
+        return loaded;
+    }
+
+    private Bundle load(final Locale pLocale) {
+        if (!BeanPropertiesMonitor.isEnabled()) {
+            return loadBundle(pLocale);
+        }
+        final long start = System.nanoTime();
+        final Bundle ret = loadBundle(pLocale);
+        BeanPropertiesMonitor.fireLocalizedNameBundleLoaded(this.beanType, pLocale, ret != MISSING, System.nanoTime() - start);
+        return ret;
+    }
+
+    private Bundle loadBundle(final Locale pLocale) {
+        final ClassLoader loader = this.beanType.getClassLoader() != null ? this.beanType.getClassLoader() : LocalizedNameCache.class
+                .getClassLoader();
+        try {
+            return new Bundle(ResourceBundle.getBundle(this.beanType.getName(), pLocale, loader));
+        } catch (final MissingResourceException e) {
+            return MISSING;
+        }
+    }
+
+    /**
+     * @return Beanの型ごとにキャッシュするロケール数の上限.
+     */
+    public static int getMaxLocales() {
+        return maxLocales;
+    }
+
+    /**
+     * Beanの型ごとにキャッシュするロケール数の上限を設定します. <br>
+     * 既にキャッシュされている分は、次に新しいロケールが読み込まれた時に上限まで破棄されます. <br>
+     * 
+     * @param pMaxLocales 1以上.
+     */
+    public static void setMaxLocales(final int pMaxLocales) {
+        if (pMaxLocales < 1) {
+            throw new IllegalArgumentException("pMaxLocales must be positive."); //$NON-NLS-1$
+        }
+        maxLocales = pMaxLocales;
+    }
+
+    private static int getDefaultMaxLocales() {
+        return Math.max(1, Integer.getInteger(MAX_LOCALES_PROPERTY, DEFAULT_MAX_LOCALES).intValue());
+    }
+
+    private static final class Bundle {
+        final ResourceBundle resources; // 見つからなかった場合はnull.
+
+        Bundle(final ResourceBundle pResources) {
+            this.resources = pResources;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+/**
+ * {@link BeanProperties#populate(Object, java.util.Map)}で、Mapのキーの並びを解決した結果です. <br>
+ * 同じキーが同じ順番で並ぶMap(同じ処理で作られたMap等)なら、キーの比較だけで再利用出来ます. <br>
+ * キーは同じインスタンスであることが多いので、比較はほとんどの場合==で済みます. <br>
+ * 
+ * @author jabaraster
+ */
+final class PopulatePlan {
+
+    private final String[] keys;
+    private final int[]    positions;
+
+    PopulatePlan(final String[] pKeys, final int[] pPositions) {
+        this.keys = pKeys;
+        this.positions = pPositions;
+    }
+
+    /**
+     * @param pIndex キーの並びでの位置.
+     * @param pKey キー.
+     * @return この計画の同じ位置のキーと等しければtrue.
+     */
+    boolean matches(final int pIndex, final String pKey) {
+        final String key = this.keys[pIndex];
+        return key == pKey || key.equals(pKey);
+    }
+
+    /**
+     * @param pIndex キーの並びでの位置.
+     * @return キーに対応するプロパティの{@link BeanProperties}での位置.
+     */
+    int position(final int pIndex) {
+        return this.positions[pIndex];
+    }
+
+    /**
+     * @return キーの数.
+     */
+    int size() {
+        return this.keys.length;
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ExceptionUtil;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * プロパティの値を読み書きします. <br>
+ * {@link BeanProperty}ごとに1度だけ生成され、以降の読み書きで使い回されます. <br>
+ * 通常はリフレクションで読み書きしますが、jabara-bean-processorが生成した{@link BeanMetadata}がある場合は生成されたサブクラスが使われます. <br>
+ * アプリケーションから直接使うことは想定していません. 値の読み書きには{@link BeanProperty#getValue(Object)}等を使って下さい. <br>
+ * 
+ * @author jabaraster
+ */
+public abstract class PropertyAccessor {
+
+    /**
+     * @return 値を読めるならtrue.
+     */
+    public abstract boolean canRead();
+
+    /**
+     * @return 値を書けるならtrue.
+     */
+    public abstract boolean canWrite();
+
+    /**
+     * @param pBean -
+     * @return プロパティの値.
+     */
+    public abstract Object get(Object pBean);
+
+    /**
+     * @param pBean -
+     * @return プロパティの値.
+     */
+    public boolean getBoolean(final Object pBean) {
+        return ((Boolean) get(pBean)).booleanValue();
+    }
+
+    /**
+     * @param pBean -
+     * @return プロパティの値.
+     */
+    public double getDouble(final Object pBean) {
+        return ((Double) get(pBean)).doubleValue();
+    }
+
+    /**
+     * @param pBean -
+     * @return プロパティの値.
+     */
+    public int getInt(final Object pBean) {
+        return ((Integer) get(pBean)).intValue();
+    }
+
+    /**
+     * @param pBean -
+     * @return プロパティの値.
+     */
+    public long getLong(final Object pBean) {
+        return ((Long) get(pBean)).longValue();
+    }
+
+    /**
+     * @param pBean -
+     * @param pValue -
+     */
+    public abstract void set(Object pBean, Object pValue);
+
+    /**
+     * @param pBean -
+     * @param pValue -
+     */
+    public void setBoolean(final Object pBean, final boolean pValue) {
+        set(pBean, Boolean.valueOf(pValue));
+    }
+
+    /**
+     * @param pBean -
+     * @param pValue -
+     */
+    public void setDouble(final Object pBean, final double pValue) {
+        set(pBean, Double.valueOf(pValue));
+    }
+
+    /**
+     * @param pBean -
+     * @param pValue -
+     */
+    public void setInt(final Object pBean, final int pValue) {
+        set(pBean, Integer.valueOf(pValue));
+    }
+
+    /**
+     * @param pBean -
+     * @param pValue -
+     */
+    public void setLong(final Object pBean, final long pValue) {
+        set(pBean, Long.valueOf(pValue));
+    }
+
+    /**
+     * @param pPropertyName -
+     * @param pGetter -
+     * @param pSetter -
+     * @return -
+     */
+    static PropertyAccessor create(final String pPropertyName, final Method pGetter, final Method pSetter) {
+        return new MethodAccessor(pPropertyName, pGetter, pSetter);
+    }
+
+    /**
+     * 1.6ではMethodHandleやLambdaMetafactoryが使えないため、{@link Method#invoke(Object, Object...)}で読み書きします. <br>
+     * アクセスチェックは{@link Method#setAccessible(boolean)}で事前に外し、引数の配列の生成も出来る限り避けます. <br>
+     * なお呼び出し回数が一定数を超えるとJVMが専用のアクセサクラスを生成するので、JITによるインライン化の対象になります. <br>
+     * プリミティブ型の読み書きも{@link Method#invoke(Object, Object...)}の内部でボクシングが発生しますが、
+     * 呼び出し直後にアンボクシングするのでインライン化されればエスケープ解析で除去されることが期待出来ます. <br>
+     * 
+     * @author jabaraster
+     */
+    private static final class MethodAccessor extends PropertyAccessor {
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+
+        private final String          propertyName;
+        private final Method          getter;
+        private final Method          setter;
+
+        MethodAccessor(final String pPropertyName, final Method pGetter, final Method pSetter) {
+            this.propertyName = pPropertyName;
+            this.getter = accessible(pGetter);
+            this.setter = accessible(pSetter);
+        }
+
+        @Override
+        public boolean canRead() {
+            return this.getter != null;
+        }
+
+        @Override
+        public boolean canWrite() {
+            return this.setter != null;
+        }
+
+        @SuppressWarnings("nls")
+        @Override
+        public Object get(final Object pBean) {
+            if (this.getter == null) {
+                throw new IllegalStateException("property '" + this.propertyName + "' is not readable.");
+            }
+            try {
+                return this.getter.invoke(pBean, NO_ARGUMENTS);
+            } catch (final IllegalAccessException e) {
+                throw ExceptionUtil.rethrow(e);
+            } catch (final InvocationTargetException e) {
+                throw ExceptionUtil.rethrow(e.getCause());
+            }
+        }
+
+        @SuppressWarnings("nls")
+        @Override
+        public void set(final Object pBean, final Object pValue) {
+            if (this.setter == null) {
+                throw new IllegalStateException("property '" + this.propertyName + "' is not writable.");
+            }
+            try {
+                this.setter.invoke(pBean, pValue);
+            } catch (final IllegalAccessException e) {
+                throw ExceptionUtil.rethrow(e);
+            } catch (final InvocationTargetException e) {
+                throw ExceptionUtil.rethrow(e.getCause());
+            }
+        }
+
+        private static Method accessible(final Method pMethod) {
+            if (pMethod == null) {
+                return null;
+            }
+            try {
+                // Introspectorがキャッシュしているインスタンスに影響しないよう、複製に対して設定する.
+                final Method ret = pMethod.getDeclaringClass().getDeclaredMethod(pMethod.getName(), pMethod.getParameterTypes());
+                ret.setAccessible(true);
+                return ret;
+            } catch (final NoSuchMethodException e) {
+                throw ExceptionUtil.rethrow(e);
+            } catch (final SecurityException e) {
+                // セキュリティマネージャに拒否された場合は通常のアクセスチェックに任せる.
+                return pMethod;
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+/**
+ * {@link BeanProperties#filter(PropertyFilter)}で使う、プロパティの抽出条件です. <br>
+ * 同じ条件で何度も抽出する場合は、インスタンスを定数として使い回して下さい. 抽出結果がメモ化されます. <br>
+ * 
+ * @author jabaraster
+ */
+public interface PropertyFilter {
+
+    /**
+     * @param pProperty -
+     * @return 抽出するならtrue.
+     */
+    boolean accept(BeanProperty pProperty);
+}
@@ -0,0 +1,135 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+/**
+ * コンパイル時に解析したプロパティの情報です. <br>
+ * jabara-bean-processorが生成するコードから使われます. <br>
+ * 
+ * @author jabaraster
+ */
+public final class PropertyMetadata {
+
+    private final String           name;
+    private final Class<?>         type;
+    private final String           getterName;
+    private final String           setterName;
+    private final int              orderIndex;
+    private final boolean          hidden;
+    private final boolean          multiLine;
+    private final boolean          nullable;
+    private final String           localizedValue;
+    private final PropertyAccessor accessor;
+
+    /**
+     * @param pName プロパティ名.
+     * @param pType プロパティの型.
+     * @param pGetterName getterの名前. getterがない場合はnull.
+     * @param pSetterName setterの名前. setterがない場合はnull.
+     * @param pOrderIndex {@link jabara.bean.annotation.Order}の値. 付与されていない場合は{@link Integer#MAX_VALUE}.
+     * @param pHidden {@link jabara.bean.annotation.Hidden}が付与されていればtrue.
+     * @param pMultiLine {@link jabara.bean.annotation.MultiLine}が付与されたString型のプロパティならtrue.
+     * @param pNullable {@link jabara.bean.annotation.Nullable}が付与されていればtrue.
+     * @param pLocalizedValue {@link jabara.bean.annotation.Localized}の値. 付与されていない場合はnull.
+     * @param pAccessor 値を読み書きするオブジェクト.
+     */
+    public PropertyMetadata( //
+            final String pName //
+            , final Class<?> pType //
+            , final String pGetterName //
+            , final String pSetterName //
+            , final int pOrderIndex //
+            , final boolean pHidden //
+            , final boolean pMultiLine //
+            , final boolean pNullable //
+            , final String pLocalizedValue //
+            , final PropertyAccessor pAccessor) {
+        ArgUtil.checkNullOrEmpty(pName, "pName"); //$NON-NLS-1$
+        ArgUtil.checkNull(pType, "pType"); //$NON-NLS-1$
+        ArgUtil.checkNull(pAccessor, "pAccessor"); //$NON-NLS-1$
+
+        this.name = pName;
+        this.type = pType;
+        this.getterName = pGetterName;
+        this.setterName = pSetterName;
+        this.orderIndex = pOrderIndex;
+        this.hidden = pHidden;
+        this.multiLine = pMultiLine;
+        this.nullable = pNullable;
+        this.localizedValue = pLocalizedValue;
+        this.accessor = pAccessor;
+    }
+
+    /**
+     * @return accessorを返す.
+     */
+    public PropertyAccessor getAccessor() {
+        return this.accessor;
+    }
+
+    /**
+     * @return getterNameを返す.
+     */
+    public String getGetterName() {
+        return this.getterName;
+    }
+
+    /**
+     * @return localizedValueを返す.
+     */
+    public String getLocalizedValue() {
+        return this.localizedValue;
+    }
+
+    /**
+     * @return nameを返す.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return orderIndexを返す.
+     */
+    public int getOrderIndex() {
+        return this.orderIndex;
+    }
+
+    /**
+     * @return setterNameを返す.
+     */
+    public String getSetterName() {
+        return this.setterName;
+    }
+
+    /**
+     * @return typeを返す.
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * @return hiddenを返す.
+     */
+    public boolean isHidden() {
+        return this.hidden;
+    }
+
+    /**
+     * @return multiLineを返す.
+     */
+    public boolean isMultiLine() {
+        return this.multiLine;
+    }
+
+    /**
+     * @return nullableを返す.
+     */
+    public boolean isNullable() {
+        return this.nullable;
+    }
+}
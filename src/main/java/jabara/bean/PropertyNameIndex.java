@@ -0,0 +1,96 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.io.Serializable;
+
+/**
+ * プロパティ名から位置を引くための索引です. <br>
+ * 先頭の1文字の大文字小文字を区別せずに引けます. 例えばプロパティ名がnameなら、nameでもNameでも引けます. <br>
+ * 生成時に開番地法のハッシュ表を作っておき、検索時には{@link CharSequence}を直接ハッシュして比較するので、
+ * 文字列の生成やボクシング等のオブジェクトの生成は一切行いません. <br>
+ * 
+ * @author jabaraster
+ */
+final class PropertyNameIndex implements Serializable {
+    private static final long serialVersionUID = -2818262044406960185L;
+
+    private final String[]    names;
+    private final int[]       table; // 位置+1を格納する. 0は空き.
+    private final int         mask;
+
+    /**
+     * @param pNames プロパティ名の配列. 配列内での位置が{@link #find(CharSequence)}の戻り値になります.
+     */
+    PropertyNameIndex(final String[] pNames) {
+        this.names = pNames.clone();
+
+        // 充填率を1/2以下に抑えて、探索の連鎖を短くする.
+        int capacity = 2;
+        while (capacity < this.names.length * 2) {
+            capacity <<= 1;
+        }
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < this.names.length; i++) {
+            int slot = hash(this.names[i]) & this.mask;
+            while (this.table[slot] != 0) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.table[slot] = i + 1;
+        }
+    }
+
+    /**
+     * 先頭の1文字の大文字小文字だけが異なるプロパティが複数ある場合は、完全に一致するものを優先します. <br>
+     * 
+     * @param pName プロパティ名.
+     * @return プロパティの位置. 存在しない場合は-1.
+     */
+    int find(final CharSequence pName) {
+        if (pName.length() == 0) {
+            return -1;
+        }
+        int candidate = -1;
+        for (int slot = hash(pName) & this.mask;; slot = (slot + 1) & this.mask) {
+            final int entry = this.table[slot];
+            if (entry == 0) {
+                return candidate;
+            }
+            final String name = this.names[entry - 1];
+            if (!equalsIgnoreFirstCase(name, pName)) {
+                continue;
+            }
+            if (name.charAt(0) == pName.charAt(0)) {
+                return entry - 1;
+            }
+            candidate = entry - 1;
+        }
+    }
+
+    private static boolean equalsIgnoreFirstCase(final String pName, final CharSequence pKey) {
+        final int length = pName.length();
+        if (length != pKey.length()) {
+            return false;
+        }
+        if (Character.toLowerCase(pName.charAt(0)) != Character.toLowerCase(pKey.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (pName.charAt(i) != pKey.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(final CharSequence pName) {
+        int h = Character.toLowerCase(pName.charAt(0));
+        for (int i = 1; i < pName.length(); i++) {
+            h = 31 * h + pName.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+}
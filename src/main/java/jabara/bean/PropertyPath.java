@@ -0,0 +1,320 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * "customer.address.city"のような、ドット区切りで入れ子のプロパティを辿るパスです. <br>
+ * パスの解析と、各段のプロパティの解決(宣言された型の{@link BeanProperties}による)はインスタンス生成時に1度だけ行い、
+ * 値の読み書きでは解決済みの{@link PropertyAccessor}の配列を辿るだけです. <br>
+ * 途中のプロパティの値がnullだった場合の扱いは{@link NullHandling}で指定します. <br>
+ * インスタンスは{@link #getInstance(Class, String, NullHandling)}で取得して下さい. 同じ組み合わせに対しては同じインスタンスが返ります(メモリが逼迫した場合と、{@link BeanPropertiesCache}で破棄した場合を除く).
+ * インスタンスはスレッドセーフです. <br>
+ * 
+ * @author jabaraster
+ */
+public final class PropertyPath {
+
+    private static final TypeCache<PathCache> CACHE = new TypeCache<PathCache>(); // 起点の型ごと.
+
+    private final Class<?>                    rootType;
+    private final String                      path;
+    private final NullHandling                nullHandling;
+    private final List<BeanProperty>          properties;
+    private final PropertyAccessor[]          intermediates;
+    private final BeanProperty                leaf;
+    private final PropertyAccessor            leafAccessor;
+
+    @SuppressWarnings("nls")
+    private PropertyPath(final Class<?> pRootType, final String pPath, final NullHandling pNullHandling) {
+        this.rootType = pRootType;
+        this.path = pPath;
+        this.nullHandling = pNullHandling;
+
+        final List<BeanProperty> list = new ArrayList<BeanProperty>();
+        Class<?> type = pRootType;
+        int start = 0;
+        while (true) {
+            final int end = pPath.indexOf('.', start);
+            final String name = end < 0 ? pPath.substring(start) : pPath.substring(start, end);
+            if (name.length() == 0) {
+                throw new IllegalArgumentException("path '" + pPath + "' has empty property name.");
+            }
+            if (type.isPrimitive()) {
+                throw new IllegalArgumentException("cannot resolve '" + name + "' of primitive type " + type.getName() + " in path '" + pPath + "'.");
+            }
+            final BeanProperties candidates = BeanProperties.getInstance(type);
+            final int index = candidates.find(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("no property '" + name + "' in " + type.getName() + " for path '" + pPath + "'.");
+            }
+            final BeanProperty property = candidates.get(index);
+            list.add(property);
+            if (end < 0) {
+                break;
+            }
+            if (!property.isReadable()) {
+                throw new IllegalArgumentException("property '" + name + "' of " + type.getName() + " in path '" + pPath + "' is not readable.");
+            }
+            type = property.getType();
+            start = end + 1;
+        }
+
+        this.properties = Collections.unmodifiableList(list);
+        this.intermediates = new PropertyAccessor[list.size() - 1];
+        for (int i = 0; i < this.intermediates.length; i++) {
+            this.intermediates[i] = list.get(i).getAccessor();
+        }
+        this.leaf = list.get(list.size() - 1);
+        this.leafAccessor = this.leaf.getAccessor();
+    }
+
+    /**
+     * 値がbooleanあるいは{@link Boolean}型の場合に、末端のプロパティの値をボクシングせずに取得します. <br>
+     * 
+     * @param pRoot 起点のBean.
+     * @return 末端のプロパティの値.
+     * @throws IllegalStateException 末端のプロパティの型がbooleanでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException 途中のプロパティの値がnullの場合({@link NullHandling}に関わらず)、あるいは{@link Boolean}型の値がnullの場合.
+     */
+    public boolean getBoolean(final Object pRoot) {
+        this.leaf.checkPrimitiveType(Boolean.TYPE);
+        return this.leafAccessor.getBoolean(getParent(pRoot, false));
+    }
+
+    /**
+     * 値がdoubleあるいは{@link Double}型の場合に、末端のプロパティの値をボクシングせずに取得します. <br>
+     * 
+     * @param pRoot 起点のBean.
+     * @return 末端のプロパティの値.
+     * @throws IllegalStateException 末端のプロパティの型がdoubleでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException 途中のプロパティの値がnullの場合({@link NullHandling}に関わらず)、あるいは{@link Double}型の値がnullの場合.
+     */
+    public double getDouble(final Object pRoot) {
+        this.leaf.checkPrimitiveType(Double.TYPE);
+        return this.leafAccessor.getDouble(getParent(pRoot, false));
+    }
+
+    /**
+     * 値がintあるいは{@link Integer}型の場合に、末端のプロパティの値をボクシングせずに取得します. <br>
+     * 
+     * @param pRoot 起点のBean.
+     * @return 末端のプロパティの値.
+     * @throws IllegalStateException 末端のプロパティの型がintでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException 途中のプロパティの値がnullの場合({@link NullHandling}に関わらず)、あるいは{@link Integer}型の値がnullの場合.
+     */
+    public int getInt(final Object pRoot) {
+        this.leaf.checkPrimitiveType(Integer.TYPE);
+        return this.leafAccessor.getInt(getParent(pRoot, false));
+    }
+
+    /**
+     * @return 末端のプロパティ.
+     */
+    public BeanProperty getLeafProperty() {
+        return this.leaf;
+    }
+
+    /**
+     * 値がlongあるいは{@link Long}型の場合に、末端のプロパティの値をボクシングせずに取得します. <br>
+     * 
+     * @param pRoot 起点のBean.
+     * @return 末端のプロパティの値.
+     * @throws IllegalStateException 末端のプロパティの型がlongでない場合、あるいはgetterが存在しない場合.
+     * @throws NullPointerException 途中のプロパティの値がnullの場合({@link NullHandling}に関わらず)、あるいは{@link Long}型の値がnullの場合.
+     */
+    public long getLong(final Object pRoot) {
+        this.leaf.checkPrimitiveType(Long.TYPE);
+        return this.leafAccessor.getLong(getParent(pRoot, false));
+    }
+
+    /**
+     * @return 途中のプロパティの値がnullだった場合の扱い.
+     */
+    public NullHandling getNullHandling() {
+        return this.nullHandling;
+    }
+
+    /**
+     * @return パス. {@link #getInstance(Class, String, NullHandling)}に渡したものです.
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * @return パスを構成するプロパティの一覧. 起点に近い順です.
+     */
+    public List<BeanProperty> getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * @return 起点のBeanの型.
+     */
+    public Class<?> getRootType() {
+        return this.rootType;
+    }
+
+    /**
+     * @return 末端のプロパティの型.
+     */
+    public Class<?> getType() {
+        return this.leaf.getType();
+    }
+
+    /**
+     * @param pRoot 起点のBean.
+     * @return 末端のプロパティの値. 途中のプロパティの値がnullの場合、{@link NullHandling#RETURN_NULL}ならnull.
+     * @throws IllegalStateException 末端のプロパティにgetterが存在しない場合.
+     * @throws NullPointerException 途中のプロパティの値がnullで、{@link NullHandling#THROW}の場合.
+     */
+    public Object getValue(final Object pRoot) {
+        final Object parent = getParent(pRoot, this.nullHandling == NullHandling.RETURN_NULL);
+        return parent == null ? null : this.leafAccessor.get(parent);
+    }
+
+    /**
+     * @param pRoot 起点のBean.
+     * @param pValue 末端のプロパティに設定する値.
+     * @return 値を設定した場合はtrue. 途中のプロパティの値がnullで、{@link NullHandling#RETURN_NULL}のため設定しなかった場合はfalse.
+     * @throws IllegalStateException 末端のプロパティにsetterが存在しない場合.
+     * @throws NullPointerException 途中のプロパティの値がnullで、{@link NullHandling#THROW}の場合.
+     */
+    public boolean setValue(final Object pRoot, final Object pValue) {
+        final Object parent = getParent(pRoot, this.nullHandling == NullHandling.RETURN_NULL);
+        if (parent == null) {
+            return false;
+        }
+        this.leafAccessor.set(parent, pValue);
+        return true;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return this.rootType.getSimpleName() + "#" + this.path; //$NON-NLS-1$
+    }
+
+    /**
+     * 途中のプロパティの値がnullの場合は{@link NullHandling#RETURN_NULL}として扱います. <br>
+     * 
+     * @param pRootType 起点のBeanの型.
+     * @param pPath ドット区切りのプロパティ名. 各プロパティ名は{@link BeanProperties#get(String)}と同様に先頭の1文字の大文字小文字を区別しません.
+     * @return 指定の組み合わせに対する{@link PropertyPath}.
+     * @throws IllegalArgumentException パスを解決出来ない場合.
+     * @see #getInstance(Class, String, NullHandling)
+     */
+    public static PropertyPath getInstance(final Class<?> pRootType, final String pPath) {
+        return getInstance(pRootType, pPath, NullHandling.RETURN_NULL);
+    }
+
+    /**
+     * @param pRootType 起点のBeanの型.
+     * @param pPath ドット区切りのプロパティ名. 各プロパティ名は{@link BeanProperties#get(String)}と同様に先頭の1文字の大文字小文字を区別しません.
+     * @param pNullHandling 途中のプロパティの値がnullだった場合の扱い.
+     * @return 指定の組み合わせに対する{@link PropertyPath}.
+     * @throws IllegalArgumentException パスを解決出来ない場合. 途中のプロパティは宣言された型で解決されます.
+     */
+    public static PropertyPath getInstance(final Class<?> pRootType, final String pPath, final NullHandling pNullHandling) {
+        ArgUtil.checkNull(pRootType, "pRootType"); //$NON-NLS-1$
+        ArgUtil.checkNullOrEmpty(pPath, "pPath"); //$NON-NLS-1$
+        ArgUtil.checkNull(pNullHandling, "pNullHandling"); //$NON-NLS-1$
+
+        final PathCache paths = getPathCache(pRootType);
+        final PropertyPath cached = paths.get(pPath, pNullHandling);
+        if (cached != null) {
+            return cached;
+        }
+        // 競合した場合は先に登録されたものを使う.
+        return paths.putIfAbsent(pPath, pNullHandling, new PropertyPath(pRootType, pPath, pNullHandling));
+    }
+
+    private Object getParent(final Object pRoot, final boolean pNullSafe) {
+        ArgUtil.checkNull(pRoot, "pRoot"); //$NON-NLS-1$
+        if (!this.rootType.isInstance(pRoot)) {
+            throw new IllegalArgumentException("pRoot is not instance of " + this.rootType.getName() + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        final PropertyAccessor[] as = this.intermediates;
+        Object current = pRoot;
+        for (int i = 0; i < as.length; i++) {
+            current = as[i].get(current);
+            if (current == null) {
+                if (pNullSafe) {
+                    return null;
+                }
+                throw new NullPointerException(intermediatePath(i) + " is null in path '" + this.path + "'."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+        return current;
+    }
+
+    private String intermediatePath(final int pIndex) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('\'');
+        for (int i = 0; i <= pIndex; i++) {
+            if (i > 0) {
+                sb.append('.');
+            }
+            sb.append(this.properties.get(i).getName());
+        }
+        return sb.append('\'').toString();
+    }
+
+    private static PathCache getPathCache(final Class<?> pRootType) {
+        final PathCache ret = CACHE.get(pRootType);
+        if (ret != null) {
+            return ret;
+        }
+        return CACHE.putIfAbsent(pRootType, new PathCache());
+    }
+
+    /**
+     * 途中のプロパティの値がnullだった場合の扱いです.
+     * 
+     * @author jabaraster
+     */
+    public enum NullHandling {
+        /**
+         * 読み込みではnullを返し、書き込みでは何もしません.
+         */
+        RETURN_NULL,
+
+        /**
+         * {@link NullPointerException}をスローします.
+         */
+        THROW
+    }
+
+    private static final class PathCache {
+        private final Map<NullHandling, ConcurrentMap<String, PropertyPath>> paths = new EnumMap<NullHandling, ConcurrentMap<String, PropertyPath>>(
+                                                                                       NullHandling.class); // 生成後は変更しない.
+
+        PathCache() {
+            for (final NullHandling nullHandling : NullHandling.values()) {
+                this.paths.put(nullHandling, new ConcurrentHashMap<String, PropertyPath>());
+            }
+        }
+
+        PropertyPath get(final String pPath, final NullHandling pNullHandling) {
+            return this.paths.get(pNullHandling).get(pPath);
+        }
+
+        PropertyPath putIfAbsent(final String pPath, final NullHandling pNullHandling, final PropertyPath pPropertyPath) {
+            final PropertyPath prev = this.paths.get(pNullHandling).putIfAbsent(pPath, pPropertyPath);
+            return prev == null ? pPropertyPath : prev;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Beanの型ごとに、{@link BeanProperties}から派生した値({@link BeanCopier}、{@link PropertyPath}、入出力の手順等)をキャッシュします. <br>
+ * 型は弱参照で、値は{@link SoftReference}で保持します. 取得はロックを取りません. <br>
+ * 値はふつうBeanの型を参照しているので、値がGCでクリアされるまで型とそのクラスローダは解放されません.
+ * 生成された全てのインスタンスは{@link BeanPropertiesCache#clear()}、{@link BeanPropertiesCache#remove(Class)}、
+ * {@link BeanPropertiesCache#remove(ClassLoader)}で{@link BeanPropertiesCache}と同時に破棄されるので、
+ * ホットデプロイ時は{@link BeanPropertiesCache#remove(ClassLoader)}を呼び出して下さい. <br>
+ * 
+ * @param <V> 値の型.
+ * @author jabaraster
+ */
+public final class TypeCache<V> {
+
+    private static final List<WeakReference<TypeCache<?>>> INSTANCES = new ArrayList<WeakReference<TypeCache<?>>>(); // INSTANCESでロック.
+
+    // キーはWeakTypeKey.
+    private final ConcurrentMap<Object, Value<V>>          values    = new ConcurrentHashMap<Object, Value<V>>();
+    private final ReferenceQueue<Object>                   queue     = new ReferenceQueue<Object>(); // 回収されたキーと値.
+
+    /**
+     * 
+     */
+    public TypeCache() {
+        synchronized (INSTANCES) {
+            for (final Iterator<WeakReference<TypeCache<?>>> it = INSTANCES.iterator(); it.hasNext();) {
+                if (it.next().get() == null) {
+                    it.remove();
+                }
+            }
+            INSTANCES.add(new WeakReference<TypeCache<?>>(this));
+        }
+    }
+
+    /**
+     * @param pType -
+     * @return キャッシュされた値. なければnull.
+     */
+    public V get(final Class<?> pType) {
+        ArgUtil.checkNull(pType, "pType"); //$NON-NLS-1$
+        final Value<V> ref = this.values.get(WeakTypeKey.lookup(pType));
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * 値がキャッシュされていなければ登録します. 競合した場合は先に登録された値が使われます. <br>
+     * 
+     * @param pType -
+     * @param pValue -
+     * @return キャッシュされた値. 先に登録された値があればそれ、なければpValue.
+     */
+    public V putIfAbsent(final Class<?> pType, final V pValue) {
+        ArgUtil.checkNull(pType, "pType"); //$NON-NLS-1$
+        ArgUtil.checkNull(pValue, "pValue"); //$NON-NLS-1$
+        expunge();
+        final WeakTypeKey key = new WeakTypeKey(pType, this.queue);
+        final Value<V> value = new Value<V>(key, pValue, this.queue);
+        for (;;) {
+            final Value<V> prev = this.values.putIfAbsent(key, value);
+            if (prev == null) {
+                return pValue;
+            }
+            final V cached = prev.get();
+            if (cached != null) {
+                return cached;
+            }
+            // GCでクリアされた値が残っている.
+            if (this.values.replace(key, prev, value)) {
+                return pValue;
+            }
+        }
+    }
+
+    void clear() {
+        this.values.clear();
+        expunge();
+    }
+
+    void remove(final Class<?> pType) {
+        this.values.remove(WeakTypeKey.lookup(pType));
+        expunge();
+    }
+
+    void remove(final ClassLoader pClassLoader) {
+        for (final Map.Entry<Object, Value<V>> entry : this.values.entrySet()) {
+            final Class<?> type = ((WeakTypeKey) entry.getKey()).get();
+            if (type != null && BeanPropertiesCache.isLoadedBy(type, pClassLoader)) {
+                this.values.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        expunge();
+    }
+
+    int size() {
+        expunge();
+        return this.values.size();
+    }
+
+    private void expunge() {
+        for (Reference<?> ref = this.queue.poll(); ref != null; ref = this.queue.poll()) {
+            if (ref instanceof Value<?>) {
+                final Value<?> value = (Value<?>) ref;
+                this.values.remove(value.key, value);
+            } else {
+                this.values.remove(ref);
+            }
+        }
+    }
+
+    static void clearAll() {
+        for (final TypeCache<?> cache : getInstances()) {
+            cache.clear();
+        }
+    }
+
+    static void removeAll(final Class<?> pType) {
+        for (final TypeCache<?> cache : getInstances()) {
+            cache.remove(pType);
+        }
+    }
+
+    static void removeAll(final ClassLoader pClassLoader) {
+        for (final TypeCache<?> cache : getInstances()) {
+            cache.remove(pClassLoader);
+        }
+    }
+
+    private static List<TypeCache<?>> getInstances() {
+        synchronized (INSTANCES) {
+            final List<TypeCache<?>> ret = new ArrayList<TypeCache<?>>(INSTANCES.size());
+            for (final WeakReference<TypeCache<?>> ref : INSTANCES) {
+                final TypeCache<?> cache = ref.get();
+                if (cache != null) {
+                    ret.add(cache);
+                }
+            }
+            return ret;
+        }
+    }
+
+    private static final class Value<V> extends SoftReference<V> {
+        final WeakTypeKey key; // 回収された時にエントリを除くため.
+
+        Value(final WeakTypeKey pKey, final V pValue, final ReferenceQueue<Object> pQueue) {
+            super(pValue, pQueue);
+            this.key = pKey;
+        }
+    }
+}
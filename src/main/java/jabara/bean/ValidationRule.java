@@ -0,0 +1,43 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ArgUtil;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * 特定のアノテーションが付与されたプロパティの値を検証する規則です. <br>
+ * {@link BeanValidator#getInstance(BeanProperties, ValidationRule...)}に渡すと、アノテーションが付与されたプロパティの値がnullでない場合に呼び出されます. <br>
+ * 複数のスレッドから同時に呼び出されることがあるので、状態を持たないように実装して下さい. <br>
+ * 
+ * @param <A> アノテーションの型.
+ * @author jabaraster
+ */
+public abstract class ValidationRule<A extends Annotation> {
+
+    private final AnnotationKey<A> annotationKey;
+
+    /**
+     * @param pAnnotationType この規則を適用するアノテーションの型. {@link AnnotationKey#register(Class)}で登録されます.
+     */
+    protected ValidationRule(final Class<A> pAnnotationType) {
+        ArgUtil.checkNull(pAnnotationType, "pAnnotationType"); //$NON-NLS-1$
+        this.annotationKey = AnnotationKey.register(pAnnotationType);
+    }
+
+    /**
+     * @return この規則を適用するアノテーションのキー.
+     */
+    public AnnotationKey<A> getAnnotationKey() {
+        return this.annotationKey;
+    }
+
+    /**
+     * @param pValue プロパティの値. nullは渡されません. プリミティブ型の場合はラッパー型になります.
+     * @param pAnnotation プロパティに付与されたアノテーション.
+     * @return 値が妥当ならtrue.
+     */
+    public abstract boolean isValid(Object pValue, A pAnnotation);
+}
@@ -0,0 +1,89 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * 型を弱参照で保持する、{@link java.util.concurrent.ConcurrentMap}のキーです. <br>
+ * 型の同一性で比較します. 検索には型を強参照で保持する軽量な{@link #lookup(Class)}を使い、{@link WeakReference}の生成を避けます. <br>
+ * 型が回収された後は自分自身とのみ等価なので、参照キューから取り出したキーでエントリを除けます. <br>
+ * 
+ * @author jabaraster
+ */
+final class WeakTypeKey extends WeakReference<Class<?>> {
+
+    private final int hash;
+
+    /**
+     * @param pType -
+     * @param pQueue 型が回収された時にこのキーを登録するキュー.
+     */
+    WeakTypeKey(final Class<?> pType, final ReferenceQueue<Object> pQueue) {
+        super(pType, pQueue);
+        this.hash = System.identityHashCode(pType);
+    }
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        final Class<?> type = get();
+        if (type == null) {
+            return false;
+        }
+        if (obj instanceof WeakTypeKey) {
+            return type == ((WeakTypeKey) obj).get();
+        }
+        if (obj instanceof Lookup) {
+            return type == ((Lookup) obj).type;
+        }
+        return false;
+    }
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * @param pType -
+     * @return pTypeを保持する{@link WeakTypeKey}と等価な、検索用のキー.
+     */
+    static Object lookup(final Class<?> pType) {
+        return new Lookup(pType);
+    }
+
+    private static final class Lookup {
+        final Class<?> type;
+
+        Lookup(final Class<?> pType) {
+            this.type = pType;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj instanceof Lookup) {
+                return this.type == ((Lookup) obj).type;
+            }
+            if (obj instanceof WeakTypeKey) {
+                return this.type == ((WeakTypeKey) obj).get();
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.type);
+        }
+    }
+}
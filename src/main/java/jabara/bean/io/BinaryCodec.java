@@ -0,0 +1,464 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.BeanProperties;
+import jabara.bean.BeanProperty;
+import jabara.bean.TypeCache;
+import jabara.general.ArgUtil;
+import jabara.general.ExceptionUtil;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Beanの型ごとの、コンパクトなバイナリ形式の読み書きの手順です. <br>
+ * 対象となるプロパティは{@link CsvSchema}と同じく、getterが存在し、{@link jabara.bean.annotation.Hidden}が付与されておらず、
+ * 扱える型のものです. 並び順は{@link BeanProperties}の並び順({@link jabara.bean.annotation.Order})です. <br>
+ * <h3>行の形式</h3>
+ * <ul>
+ * <li>参照型のプロパティの数だけのビットからなるnullのビットマップ(1ならnull).</li>
+ * <li>nullでない値を順に. int、longはZigZag符号化した可変長整数、doubleは8バイト固定、booleanは1バイト、
+ * 文字列はUTF-8のバイト数(可変長整数)とUTF-8のバイト列、列挙型は序数(可変長整数)です.</li>
+ * </ul>
+ * 行にはスキーマの情報を含めません. 読み手と書き手の間では、最初に{@link #writeSchema(ByteBuffer)}で書き出したスキーマを
+ * {@link #newReader(ByteBuffer, Mismatch)}に渡して、構成が一致するかどうかを確かめて下さい. <br>
+ * スキーマのフィンガープリント({@link #getFingerprint()})はプロパティの名前、型、順番(列挙型の場合は定数名も)から計算されます. <br>
+ * インスタンスは{@link #getInstance(Class)}で取得して下さい. インスタンスはスレッドセーフです. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class BinaryCodec<T> {
+
+    static final int                               SCHEMA_VERSION = 1;
+
+    static final int                               PRIMITIVE      = 0x80;
+
+    private static final TypeCache<BinaryCodec<?>> CACHE          = new TypeCache<BinaryCodec<?>>();
+
+    private final Class<T>                         beanType;
+    private final Field[]                          fields;
+    private final int                              bitmapSize;
+    private final byte[]                           schema;
+    private final long                             fingerprint;
+    private final List<String>                     propertyNames;
+
+    private BinaryCodec(final Class<T> pBeanType) {
+        this.beanType = pBeanType;
+
+        final List<Field> list = new ArrayList<Field>();
+        final List<String> names = new ArrayList<String>();
+        int nullables = 0;
+        for (final BeanProperty property : BeanProperties.getInstance(pBeanType)) {
+            final ValueType valueType = ValueType.of(property.getType());
+            if (valueType == null || property.isHidden() || !property.isReadable()) {
+                continue;
+            }
+            final boolean primitive = property.getType().isPrimitive();
+            list.add(new Field(property, valueType, primitive ? -1 : nullables++));
+            names.add(property.getName());
+        }
+        this.fields = list.toArray(new Field[list.size()]);
+        this.bitmapSize = (nullables + 7) / 8;
+        this.propertyNames = Collections.unmodifiableList(names);
+
+        final ByteBuffer body = ByteBuffer.allocate(schemaBodySize(this.fields));
+        for (final Field field : this.fields) {
+            putString(body, field.property.getName());
+            body.put((byte) field.typeCode);
+            if (field.enumConstants != null) {
+                putVarLong(body, field.enumConstants.length);
+                for (final Enum<?> constant : field.enumConstants) {
+                    putString(body, constant.name());
+                }
+            }
+        }
+        this.fingerprint = fingerprint(body, 0, body.position());
+
+        final ByteBuffer header = ByteBuffer.allocate(1 + 8 + 5 + body.position());
+        header.put((byte) SCHEMA_VERSION);
+        header.putLong(this.fingerprint);
+        putVarLong(header, this.fields.length);
+        header.put(body.array(), 0, body.position());
+        this.schema = new byte[header.position()];
+        System.arraycopy(header.array(), 0, this.schema, 0, this.schema.length);
+    }
+
+    /**
+     * @return Beanの型.
+     */
+    public Class<T> getBeanType() {
+        return this.beanType;
+    }
+
+    /**
+     * @return スキーマのフィンガープリント. プロパティの名前、型、順番のいずれかが異なれば、異なる値になります(衝突の可能性はあります).
+     */
+    public long getFingerprint() {
+        return this.fingerprint;
+    }
+
+    /**
+     * @return 読み書きの対象となるプロパティ名の一覧. 書き出す順番です.
+     */
+    public List<String> getPropertyNames() {
+        return this.propertyNames;
+    }
+
+    /**
+     * この型のスキーマで書かれた行を読むための{@link BinaryReader}を返します. スキーマの確認は行いません. <br>
+     * 
+     * @return 読み込み用オブジェクト.
+     */
+    public BinaryReader<T> newReader() {
+        return new BinaryReader<T>(this, BinaryReader.identityPlan(this.fields));
+    }
+
+    /**
+     * {@link #writeSchema(ByteBuffer)}で書き出されたスキーマを読み込み、そのスキーマで書かれた行を読むための{@link BinaryReader}を返します. <br>
+     * スキーマのフィンガープリントがこの型のものと一致しない場合、pMismatchが{@link Mismatch#REJECT}なら{@link IOException}をスローし、
+     * {@link Mismatch#ADAPT}ならプロパティ名で対応付けて読みます. その場合、型の異なるプロパティや存在しないプロパティの値は読み飛ばし、
+     * 存在しない列挙型の定数はnullとして読みます. <br>
+     * 
+     * @param pSchema スキーマ. 位置はスキーマの直後まで進みます.
+     * @param pMismatch スキーマが一致しない場合の扱い.
+     * @return 読み込み用オブジェクト.
+     * @throws IOException スキーマの形式が不正な場合、あるいは一致しない場合({@link Mismatch#REJECT}の時).
+     */
+    public BinaryReader<T> newReader(final ByteBuffer pSchema, final Mismatch pMismatch) throws IOException {
+        ArgUtil.checkNull(pSchema, "pSchema"); //$NON-NLS-1$
+        ArgUtil.checkNull(pMismatch, "pMismatch"); //$NON-NLS-1$
+
+        if (pSchema.remaining() < 1 + 8) {
+            throw new IOException("truncated schema."); //$NON-NLS-1$
+        }
+        final int version = pSchema.get();
+        if (version != SCHEMA_VERSION) {
+            throw new IOException("unsupported schema version " + version + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        final long writerFingerprint = pSchema.getLong();
+        final int bodyStart;
+        final BinaryReader.Plan plan;
+        try {
+            final long count = getVarLong(pSchema);
+            // プロパティ1つにつき、名前の長さと型で少なくとも2バイト.
+            if (count < 0 || pSchema.remaining() / 2 < count) {
+                throw new IOException("invalid property count " + count + "."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            bodyStart = pSchema.position();
+            plan = BinaryReader.readPlan(pSchema, (int) count, this.fields);
+        } catch (final BufferUnderflowException e) {
+            throw new IOException("truncated schema.", e); //$NON-NLS-1$
+        }
+        if (fingerprint(pSchema, bodyStart, pSchema.position()) != writerFingerprint) {
+            throw new IOException("corrupted schema."); //$NON-NLS-1$
+        }
+
+        if (writerFingerprint == this.fingerprint) {
+            return newReader();
+        }
+        if (pMismatch == Mismatch.REJECT) {
+            throw new IOException("schema fingerprint mismatch for " + this.beanType.getName() + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return new BinaryReader<T>(this, plan);
+    }
+
+    /**
+     * {@link ByteBuffer}の現在位置に1行を書き込みます. <br>
+     * 
+     * @param pBean 書き出すBean.
+     * @param pBuffer 書き込み先.
+     * @throws java.nio.BufferOverflowException 容量が足りない場合. それまでに書き込んだ分は残ります.
+     */
+    public void write(final T pBean, final ByteBuffer pBuffer) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        ArgUtil.checkNull(pBuffer, "pBuffer"); //$NON-NLS-1$
+
+        final int bitmapStart = pBuffer.position();
+        for (int i = 0; i < this.bitmapSize; i++) {
+            pBuffer.put((byte) 0);
+        }
+        for (final Field field : this.fields) {
+            final BeanProperty property = field.property;
+            switch (field.typeCode) {
+            case PRIMITIVE | ValueTypeCode.BOOLEAN:
+                pBuffer.put((byte) (property.getBoolean(pBean) ? 1 : 0));
+                continue;
+            case PRIMITIVE | ValueTypeCode.INT:
+                putVarLong(pBuffer, zigzag(property.getInt(pBean)));
+                continue;
+            case PRIMITIVE | ValueTypeCode.LONG:
+                putVarLong(pBuffer, zigzag(property.getLong(pBean)));
+                continue;
+            case PRIMITIVE | ValueTypeCode.DOUBLE:
+                pBuffer.putDouble(property.getDouble(pBean));
+                continue;
+            default:
+                break;
+            }
+
+            final Object value = property.getValue(pBean);
+            if (value == null) {
+                final int index = bitmapStart + field.nullIndex / 8;
+                pBuffer.put(index, (byte) (pBuffer.get(index) | (1 << (field.nullIndex % 8))));
+                continue;
+            }
+            switch (field.typeCode) {
+            case ValueTypeCode.STRING:
+                putString(pBuffer, (String) value);
+                break;
+            case ValueTypeCode.BOOLEAN:
+                pBuffer.put((byte) (((Boolean) value).booleanValue() ? 1 : 0));
+                break;
+            case ValueTypeCode.INT:
+            case ValueTypeCode.LONG:
+                putVarLong(pBuffer, zigzag(((Number) value).longValue()));
+                break;
+            case ValueTypeCode.DOUBLE:
+                pBuffer.putDouble(((Double) value).doubleValue());
+                break;
+            case ValueTypeCode.BIG_DECIMAL:
+                final BigDecimal decimal = (BigDecimal) value;
+                putVarLong(pBuffer, zigzag(decimal.scale()));
+                putBytes(pBuffer, decimal.unscaledValue().toByteArray());
+                break;
+            case ValueTypeCode.BIG_INTEGER:
+                putBytes(pBuffer, ((BigInteger) value).toByteArray());
+                break;
+            case ValueTypeCode.ENUM:
+                putVarLong(pBuffer, ((Enum<?>) value).ordinal());
+                break;
+            default:
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    /**
+     * {@link ByteBuffer}の現在位置にスキーマを書き込みます. <br>
+     * 
+     * @param pBuffer 書き込み先.
+     * @throws java.nio.BufferOverflowException 容量が足りない場合.
+     */
+    public void writeSchema(final ByteBuffer pBuffer) {
+        ArgUtil.checkNull(pBuffer, "pBuffer"); //$NON-NLS-1$
+        pBuffer.put(this.schema);
+    }
+
+    int getBitmapSize() {
+        return this.bitmapSize;
+    }
+
+    T newBean() {
+        try {
+            return this.beanType.newInstance();
+        } catch (final InstantiationException e) {
+            throw new IllegalStateException(this.beanType.getName() + " has no public default constructor.", e); //$NON-NLS-1$
+        } catch (final IllegalAccessException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    /**
+     * @param <T> Beanの型.
+     * @param pBeanType Beanの型.
+     * @return 指定の型の{@link BinaryCodec}. 同じ型に対しては同じインスタンスが返ります(メモリが逼迫した場合と、{@link jabara.bean.BeanPropertiesCache}で破棄した場合を除く).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryCodec<T> getInstance(final Class<T> pBeanType) {
+        ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
+
+        final BinaryCodec<?> cached = CACHE.get(pBeanType);
+        if (cached != null) {
+            return (BinaryCodec<T>) cached;
+        }
+        // 競合した場合は先に登録されたものを使う.
+        return (BinaryCodec<T>) CACHE.putIfAbsent(pBeanType, new BinaryCodec<T>(pBeanType));
+    }
+
+    static long getVarLong(final ByteBuffer pBuffer) throws IOException {
+        long ret = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = pBuffer.get();
+            ret |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return ret;
+            }
+        }
+        throw new IOException("malformed varint."); //$NON-NLS-1$
+    }
+
+    static void putVarLong(final ByteBuffer pBuffer, final long pValue) {
+        long v = pValue;
+        while ((v & ~0x7fL) != 0) {
+            pBuffer.put((byte) ((v & 0x7f) | 0x80));
+            v >>>= 7;
+        }
+        pBuffer.put((byte) v);
+    }
+
+    static long unzigzag(final long pValue) {
+        return (pValue >>> 1) ^ -(pValue & 1);
+    }
+
+    private static long fingerprint(final ByteBuffer pBuffer, final int pFrom, final int pTo) {
+        // FNV-1a (64bit).
+        long h = 0xcbf29ce484222325L;
+        for (int i = pFrom; i < pTo; i++) {
+            h ^= pBuffer.get(i) & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static void putBytes(final ByteBuffer pBuffer, final byte[] pBytes) {
+        putVarLong(pBuffer, pBytes.length);
+        pBuffer.put(pBytes);
+    }
+
+    private static void putString(final ByteBuffer pBuffer, final String pText) {
+        final int length = pText.length();
+        putVarLong(pBuffer, utf8Length(pText));
+        for (int i = 0; i < length; i++) {
+            final char c = pText.charAt(i);
+            if (c < 0x80) {
+                pBuffer.put((byte) c);
+            } else if (c < 0x800) {
+                pBuffer.put((byte) (0xc0 | (c >> 6)));
+                pBuffer.put((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(pText.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, pText.charAt(++i));
+                pBuffer.put((byte) (0xf0 | (codePoint >> 18)));
+                pBuffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                pBuffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                pBuffer.put((byte) (0x80 | (codePoint & 0x3f)));
+            } else {
+                // 対になっていないサロゲートもそのまま3バイトで表す(CESU-8と同じ). 読み込み時に元の文字に戻る.
+                pBuffer.put((byte) (0xe0 | (c >> 12)));
+                pBuffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                pBuffer.put((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+    }
+
+    private static int schemaBodySize(final Field[] pFields) {
+        int ret = 0;
+        for (final Field field : pFields) {
+            ret += 5 + utf8Length(field.property.getName()) + 1;
+            if (field.enumConstants != null) {
+                ret += 5;
+                for (final Enum<?> constant : field.enumConstants) {
+                    ret += 5 + utf8Length(constant.name());
+                }
+            }
+        }
+        return ret;
+    }
+
+    private static int utf8Length(final String pText) {
+        final int length = pText.length();
+        int ret = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = pText.charAt(i);
+            if (c < 0x80) {
+                ret += 1;
+            } else if (c < 0x800) {
+                ret += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(pText.charAt(i + 1))) {
+                ret += 4;
+                i++;
+            } else {
+                ret += 3;
+            }
+        }
+        return ret;
+    }
+
+    private static long zigzag(final long pValue) {
+        return (pValue << 1) ^ (pValue >> 63);
+    }
+
+    /**
+     * スキーマが一致しない場合の扱いです.
+     * 
+     * @author jabaraster
+     */
+    public enum Mismatch {
+        /**
+         * {@link IOException}をスローします.
+         */
+        REJECT,
+
+        /**
+         * プロパティ名で対応付けて読みます.
+         */
+        ADAPT
+    }
+
+    static final class Field {
+        final BeanProperty property;
+        final ValueType    valueType;
+        final int          typeCode;
+        final int          nullIndex; // nullのビットマップ中の位置. プリミティブ型の場合は-1.
+        final boolean      writable;
+        final Enum<?>[]    enumConstants; // 列挙型以外はnull.
+
+        Field(final BeanProperty pProperty, final ValueType pValueType, final int pNullIndex) {
+            this.property = pProperty;
+            this.valueType = pValueType;
+            this.typeCode = ValueTypeCode.of(pValueType) | (pNullIndex < 0 ? PRIMITIVE : 0);
+            this.nullIndex = pNullIndex;
+            this.writable = pProperty.isWritable();
+            this.enumConstants = pValueType == ValueType.ENUM ? (Enum<?>[]) pProperty.getType().getEnumConstants() : null;
+        }
+    }
+
+    /**
+     * スキーマ上の型の番号. 形式の一部なので、値を変えてはいけません.
+     */
+    static final class ValueTypeCode {
+        static final int STRING      = 1;
+        static final int BOOLEAN     = 2;
+        static final int INT         = 3;
+        static final int LONG        = 4;
+        static final int DOUBLE      = 5;
+        static final int BIG_DECIMAL = 6;
+        static final int BIG_INTEGER = 7;
+        static final int ENUM        = 8;
+
+        private ValueTypeCode() {
+            //
+        }
+
+        static int of(final ValueType pValueType) {
+            switch (pValueType) {
+            case STRING:
+                return STRING;
+            case BOOLEAN:
+                return BOOLEAN;
+            case INT:
+                return INT;
+            case LONG:
+                return LONG;
+            case DOUBLE:
+                return DOUBLE;
+            case BIG_DECIMAL:
+                return BIG_DECIMAL;
+            case BIG_INTEGER:
+                return BIG_INTEGER;
+            case ENUM:
+                return ENUM;
+            default:
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.BeanProperty;
+import jabara.bean.io.BinaryCodec.Field;
+import jabara.bean.io.BinaryCodec.ValueTypeCode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link BinaryCodec}の形式の行を読み込んでBeanに変換します. <br>
+ * 値は{@link ByteBuffer}から直接読み、文字列のデコードには再利用されるバッファを使うので、
+ * 生成されるオブジェクトはBeanとその値(文字列、ラッパー型、{@link BigDecimal}等)だけです. <br>
+ * インスタンスは{@link BinaryCodec#newReader()}あるいは{@link BinaryCodec#newReader(ByteBuffer, BinaryCodec.Mismatch)}で取得して下さい.
+ * スレッドセーフではありません. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class BinaryReader<T> {
+
+    private final BinaryCodec<T> codec;
+    private final Plan           plan;
+    private char[]               chars = new char[64];
+
+    BinaryReader(final BinaryCodec<T> pCodec, final Plan pPlan) {
+        this.codec = pCodec;
+        this.plan = pPlan;
+    }
+
+    /**
+     * {@link ByteBuffer}の現在位置から1行を読み込みます. 位置は行の直後まで進みます. <br>
+     * 
+     * @param pBuffer 読み込み元.
+     * @return 読み込んだBean.
+     * @throws IOException 形式が不正な場合.
+     * @throws java.nio.BufferUnderflowException 行の途中で終端に達した場合.
+     */
+    public T read(final ByteBuffer pBuffer) throws IOException {
+        final Plan p = this.plan;
+        final T bean = this.codec.newBean();
+        final int bitmapStart = pBuffer.position();
+        pBuffer.position(bitmapStart + p.bitmapSize);
+
+        for (int i = 0; i < p.typeCodes.length; i++) {
+            final Field target = p.targets[i];
+            final int nullIndex = p.nullIndices[i];
+            if (nullIndex >= 0 && (pBuffer.get(bitmapStart + nullIndex / 8) & (1 << (nullIndex % 8))) != 0) {
+                if (target != null && target.nullIndex >= 0) {
+                    target.property.setValue(bean, null);
+                }
+                continue;
+            }
+            if (target == null) {
+                skip(pBuffer, p.typeCodes[i]);
+                continue;
+            }
+            readValue(pBuffer, bean, target, p.enumMaps[i]);
+        }
+        return bean;
+    }
+
+    private String decode(final ByteBuffer pBuffer, final int pLength) throws IOException {
+        if (this.chars.length < pLength) {
+            // UTF-8の1バイトは高々1文字になる.
+            this.chars = new char[Math.max(pLength, this.chars.length * 2)];
+        }
+        final char[] cs = this.chars;
+        final int end = pBuffer.position() + pLength;
+        int count = 0;
+        while (pBuffer.position() < end) {
+            final int c = pBuffer.get() & 0xff;
+            if (c < 0x80) {
+                cs[count++] = (char) c;
+            } else if ((c & 0xe0) == 0xc0) {
+                cs[count++] = (char) (((c & 0x1f) << 6) | continuation(pBuffer));
+            } else if ((c & 0xf0) == 0xe0) {
+                cs[count++] = (char) (((c & 0x0f) << 12) | (continuation(pBuffer) << 6) | continuation(pBuffer));
+            } else if ((c & 0xf8) == 0xf0) {
+                final int codePoint = ((c & 0x07) << 18) | (continuation(pBuffer) << 12) | (continuation(pBuffer) << 6) | continuation(pBuffer);
+                if (!Character.isValidCodePoint(codePoint)) {
+                    // F5～F7で始まる、あるいは0x10FFFFを超える.
+                    throw new IOException("malformed UTF-8."); //$NON-NLS-1$
+                }
+                count += Character.toChars(codePoint, cs, count);
+            } else {
+                throw new IOException("malformed UTF-8."); //$NON-NLS-1$
+            }
+        }
+        return new String(cs, 0, count);
+    }
+
+    private void readValue(final ByteBuffer pBuffer, final Object pBean, final Field pTarget, final Enum<?>[] pEnumMap) throws IOException {
+        final BeanProperty property = pTarget.property;
+        final boolean primitive = pTarget.nullIndex < 0;
+        switch (pTarget.typeCode & ~BinaryCodec.PRIMITIVE) {
+        case ValueTypeCode.STRING:
+            property.setValue(pBean, decode(pBuffer, length(pBuffer)));
+            return;
+        case ValueTypeCode.BOOLEAN:
+            final boolean b = pBuffer.get() != 0;
+            if (primitive) {
+                property.setBoolean(pBean, b);
+            } else {
+                property.setValue(pBean, Boolean.valueOf(b));
+            }
+            return;
+        case ValueTypeCode.INT:
+            final long l = BinaryCodec.unzigzag(BinaryCodec.getVarLong(pBuffer));
+            if (l < Integer.MIN_VALUE || Integer.MAX_VALUE < l) {
+                throw new IOException("value out of int range for '" + property.getName() + "'."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            if (primitive) {
+                property.setInt(pBean, (int) l);
+            } else {
+                property.setValue(pBean, Integer.valueOf((int) l));
+            }
+            return;
+        case ValueTypeCode.LONG:
+            final long v = BinaryCodec.unzigzag(BinaryCodec.getVarLong(pBuffer));
+            if (primitive) {
+                property.setLong(pBean, v);
+            } else {
+                property.setValue(pBean, Long.valueOf(v));
+            }
+            return;
+        case ValueTypeCode.DOUBLE:
+            final double d = pBuffer.getDouble();
+            if (primitive) {
+                property.setDouble(pBean, d);
+            } else {
+                property.setValue(pBean, Double.valueOf(d));
+            }
+            return;
+        case ValueTypeCode.BIG_DECIMAL:
+            final long scale = BinaryCodec.unzigzag(BinaryCodec.getVarLong(pBuffer));
+            property.setValue(pBean, new BigDecimal(readBigInteger(pBuffer), (int) scale));
+            return;
+        case ValueTypeCode.BIG_INTEGER:
+            property.setValue(pBean, readBigInteger(pBuffer));
+            return;
+        case ValueTypeCode.ENUM:
+            final Enum<?>[] constants = pEnumMap != null ? pEnumMap : pTarget.enumConstants;
+            final long ordinal = BinaryCodec.getVarLong(pBuffer);
+            if (ordinal < 0 || constants.length <= ordinal) {
+                throw new IOException("invalid ordinal " + ordinal + " for '" + property.getName() + "'."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            }
+            property.setValue(pBean, constants[(int) ordinal]);
+            return;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    static Plan identityPlan(final Field[] pFields) {
+        final Plan ret = new Plan(pFields.length);
+        int nullables = 0;
+        for (int i = 0; i < pFields.length; i++) {
+            final Field field = pFields[i];
+            ret.typeCodes[i] = field.typeCode;
+            ret.nullIndices[i] = field.nullIndex;
+            ret.targets[i] = field.writable ? field : null;
+            if (field.nullIndex >= 0) {
+                nullables++;
+            }
+        }
+        ret.bitmapSize = (nullables + 7) / 8;
+        return ret;
+    }
+
+    /**
+     * スキーマの本体を読み、書き手のプロパティを読み手のプロパティに名前で対応付けます.
+     */
+    static Plan readPlan(final ByteBuffer pSchema, final int pCount, final Field[] pFields) throws IOException {
+        final Plan ret = new Plan(pCount);
+        int nullables = 0;
+        for (int i = 0; i < pCount; i++) {
+            final String name = readString(pSchema);
+            final int typeCode = pSchema.get() & 0xff;
+            final int baseType = typeCode & ~BinaryCodec.PRIMITIVE;
+            if (baseType < ValueTypeCode.STRING || ValueTypeCode.ENUM < baseType) {
+                throw new IOException("unknown type code " + typeCode + "."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            ret.typeCodes[i] = typeCode;
+            ret.nullIndices[i] = (typeCode & BinaryCodec.PRIMITIVE) != 0 ? -1 : nullables++;
+
+            final Field target = findField(pFields, name, typeCode);
+            ret.targets[i] = target != null && target.writable ? target : null;
+
+            if (baseType == ValueTypeCode.ENUM) {
+                final Enum<?>[] map = new Enum<?>[length(pSchema)];
+                for (int j = 0; j < map.length; j++) {
+                    final String constant = readString(pSchema);
+                    map[j] = target == null ? null : ValueType.findConstant(target.enumConstants, constant);
+                }
+                ret.enumMaps[i] = map;
+            }
+        }
+        ret.bitmapSize = (nullables + 7) / 8;
+        return ret;
+    }
+
+    private static int continuation(final ByteBuffer pBuffer) throws IOException {
+        final int c = pBuffer.get();
+        if ((c & 0xc0) != 0x80) {
+            throw new IOException("malformed UTF-8."); //$NON-NLS-1$
+        }
+        return c & 0x3f;
+    }
+
+    private static Field findField(final Field[] pFields, final String pName, final int pTypeCode) {
+        for (final Field field : pFields) {
+            if (field.property.getName().equals(pName)) {
+                // プリミティブ型とラッパー型の違いは許容する.
+                return (field.typeCode & ~BinaryCodec.PRIMITIVE) == (pTypeCode & ~BinaryCodec.PRIMITIVE) ? field : null;
+            }
+        }
+        return null;
+    }
+
+    private static int length(final ByteBuffer pBuffer) throws IOException {
+        final long ret = BinaryCodec.getVarLong(pBuffer);
+        if (ret < 0 || pBuffer.remaining() < ret) {
+            throw new IOException("invalid length " + ret + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return (int) ret;
+    }
+
+    private static BigInteger readBigInteger(final ByteBuffer pBuffer) throws IOException {
+        final byte[] bytes = new byte[length(pBuffer)];
+        if (bytes.length == 0) {
+            throw new IOException("invalid length 0."); //$NON-NLS-1$
+        }
+        pBuffer.get(bytes);
+        return new BigInteger(bytes);
+    }
+
+    private static String readString(final ByteBuffer pBuffer) throws IOException {
+        final byte[] bytes = new byte[length(pBuffer)];
+        pBuffer.get(bytes);
+        return new String(bytes, "UTF-8"); //$NON-NLS-1$
+    }
+
+    private static void skip(final ByteBuffer pBuffer, final int pTypeCode) throws IOException {
+        switch (pTypeCode & ~BinaryCodec.PRIMITIVE) {
+        case ValueTypeCode.BOOLEAN:
+            pBuffer.get();
+            return;
+        case ValueTypeCode.INT:
+        case ValueTypeCode.LONG:
+        case ValueTypeCode.ENUM:
+            BinaryCodec.getVarLong(pBuffer);
+            return;
+        case ValueTypeCode.DOUBLE:
+            pBuffer.getDouble();
+            return;
+        case ValueTypeCode.BIG_DECIMAL:
+            BinaryCodec.getVarLong(pBuffer);
+            skipBytes(pBuffer);
+            return;
+        case ValueTypeCode.STRING:
+        case ValueTypeCode.BIG_INTEGER:
+            skipBytes(pBuffer);
+            return;
+        default:
+            throw new IOException("unknown type code " + pTypeCode + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private static void skipBytes(final ByteBuffer pBuffer) throws IOException {
+        final int length = length(pBuffer); // 長さを読んだ後の位置から数える.
+        pBuffer.position(pBuffer.position() + length);
+    }
+
+    static final class Plan {
+        final int[]       typeCodes; // 書き手の型.
+        final int[]       nullIndices; // 書き手のnullのビットマップ中の位置. プリミティブ型の場合は-1.
+        final Field[]     targets; // 値を設定する読み手のプロパティ. 読み飛ばす場合はnull.
+        final Enum<?>[][] enumMaps; // 書き手の序数 -> 読み手の定数. 読み手と同じ定義の場合はnull.
+        int               bitmapSize;
+
+        Plan(final int pCount) {
+            this.typeCodes = new int[pCount];
+            this.nullIndices = new int[pCount];
+            this.targets = new Field[pCount];
+            this.enumMaps = new Enum<?>[pCount][];
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.general.ArgUtil;
+
+/**
+ * CSV/TSVの書式です. 生成後は変更されません. <br>
+ * 区切り文字、ダブルクォート、改行を含む値はダブルクォートで囲み、値中のダブルクォートは2つ重ねます(RFC 4180). <br>
+ * nullは空の値として、空文字列は""として書き出します. 読み込み時も同様に区別します. <br>
+ * 
+ * @author jabaraster
+ */
+public final class CsvFormat {
+
+    /**
+     * カンマ区切り、改行はCRLF、ヘッダ行あり.
+     */
+    public static final CsvFormat CSV = new CsvFormat(',', "\r\n", true); //$NON-NLS-1$
+
+    /**
+     * タブ区切り、改行はLF、ヘッダ行あり.
+     */
+    public static final CsvFormat TSV = new CsvFormat('\t', "\n", true); //$NON-NLS-1$
+
+    private final char            delimiter;
+    private final String          lineSeparator;
+    private final boolean         header;
+
+    /**
+     * @param pDelimiter 区切り文字. ダブルクォートやCR、LFは指定出来ません.
+     * @param pLineSeparator 書き出し時の改行文字列. 読み込み時はCR、LF、CRLFのいずれも改行として扱います.
+     * @param pHeader ヘッダ行を読み書きするならtrue.
+     */
+    @SuppressWarnings("nls")
+    public CsvFormat(final char pDelimiter, final String pLineSeparator, final boolean pHeader) {
+        ArgUtil.checkNullOrEmpty(pLineSeparator, "pLineSeparator");
+        if (pDelimiter == '"' || pDelimiter == '\r' || pDelimiter == '\n') {
+            throw new IllegalArgumentException("invalid delimiter '" + pDelimiter + "'.");
+        }
+        this.delimiter = pDelimiter;
+        this.lineSeparator = pLineSeparator;
+        this.header = pHeader;
+    }
+
+    /**
+     * @return 区切り文字.
+     */
+    public char getDelimiter() {
+        return this.delimiter;
+    }
+
+    /**
+     * @return 書き出し時の改行文字列.
+     */
+    public String getLineSeparator() {
+        return this.lineSeparator;
+    }
+
+    /**
+     * @return ヘッダ行を読み書きするならtrue.
+     */
+    public boolean hasHeader() {
+        return this.header;
+    }
+
+    /**
+     * @param pHeader ヘッダ行を読み書きするならtrue.
+     * @return ヘッダ行の有無だけを変えた書式.
+     */
+    public CsvFormat withHeader(final boolean pHeader) {
+        return new CsvFormat(this.delimiter, this.lineSeparator, pHeader);
+    }
+}
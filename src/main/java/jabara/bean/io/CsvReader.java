@@ -0,0 +1,344 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.BeanProperty;
+import jabara.bean.io.CsvSchema.Column;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * CSV/TSVを1行ずつ読み込んでBeanに変換します. <br>
+ * 読み込みは固定長のバッファとセル1つ分の{@link StringBuilder}だけで行うので、使用するメモリはファイルの大きさに依存しません. <br>
+ * int、long、booleanの値は文字列を経由せずに解析します. <br>
+ * ヘッダ行がある場合、ヘッダの値(地域化された名称あるいはプロパティ名)で列を対応付けます. 対応する列のない値は無視します. <br>
+ * ヘッダ行がない場合、{@link CsvSchema}の列の順番で対応付けます. <br>
+ * ダブルクォートで囲まれていない空の値はnullとして扱います. プリミティブ型のプロパティの場合は値を設定しません. <br>
+ * 空行は読み飛ばします. ただし列が1つの場合、空行はnullの値を1つ持つ行として扱います({@link CsvWriter}はnullの値1つの行を空行として書き出すため). <br>
+ * インスタンスは{@link CsvSchema#newReader(Reader, CsvFormat)}で取得して下さい. スレッドセーフではありません. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class CsvReader<T> implements Closeable {
+
+    private static final int    BUFFER_SIZE = 8192;
+    private static final char   QUOTE       = '"';
+    private static final int    EOF         = -1;
+
+    // readCellの戻り値. セルの後ろの区切り.
+    private static final int    DELIMITER   = 0;
+    private static final int    END_OF_LINE = 1;
+    private static final int    END_OF_FILE = 2;
+
+    private final CsvSchema<T>  schema;
+    private final Reader        in;
+    private final char          delimiter;
+    private final boolean       header;
+    private final char[]        buffer      = new char[BUFFER_SIZE];
+    private final StringBuilder cell        = new StringBuilder();
+    private int                 position;
+    private int                 limit;
+    private boolean             quoted; // 直前に読んだセルがダブルクォートで囲まれていたか.
+    private int                 lineNumber  = 1;
+    private int[]               mapping; // セルの位置 -> 列の位置. 対応しない場合は-1.
+
+    CsvReader(final CsvSchema<T> pSchema, final Reader pIn, final CsvFormat pFormat) {
+        this.schema = pSchema;
+        this.in = pIn;
+        this.delimiter = pFormat.getDelimiter();
+        this.header = pFormat.hasHeader();
+    }
+
+    /**
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * @return 次に読む行の行番号(1始まり). ダブルクォート内の改行も1行として数えます.
+     */
+    public int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * 次の1行を読み込みます. 列が1つの場合を除き、空行は読み飛ばします. <br>
+     * 
+     * @return 読み込んだBean. 終端に達した場合はnull.
+     * @throws IOException 読み込みに失敗した場合、あるいは書式が不正な場合.
+     */
+    public T read() throws IOException {
+        if (this.mapping == null) {
+            this.mapping = this.header ? readHeader() : identityMapping(this.schema.size());
+            if (this.mapping == null) {
+                return null;
+            }
+        }
+        // 列が1つの場合、空行はnullの値1つの行.
+        if (this.mapping.length == 1 ? peek() == EOF : !skipEmptyLines()) {
+            return null;
+        }
+
+        final int line = this.lineNumber;
+        final T bean = this.schema.newBean();
+        int terminator;
+        int index = 0;
+        do {
+            terminator = readCell();
+            final int columnIndex = index < this.mapping.length ? this.mapping[index] : -1;
+            if (columnIndex >= 0) {
+                setCell(this.schema.getColumn(columnIndex), bean, line);
+            }
+            index++;
+        } while (terminator == DELIMITER);
+        return bean;
+    }
+
+    private boolean fill() throws IOException {
+        final int count = this.in.read(this.buffer);
+        if (count <= 0) {
+            return false;
+        }
+        this.position = 0;
+        this.limit = count;
+        return true;
+    }
+
+    private int next() throws IOException {
+        if (this.position == this.limit && !fill()) {
+            return EOF;
+        }
+        return this.buffer[this.position++];
+    }
+
+    private int peek() throws IOException {
+        if (this.position == this.limit && !fill()) {
+            return EOF;
+        }
+        return this.buffer[this.position];
+    }
+
+    private int readCell() throws IOException {
+        this.cell.setLength(0);
+        int c = next();
+        this.quoted = c == QUOTE;
+        if (this.quoted) {
+            for (;;) {
+                c = next();
+                if (c == EOF) {
+                    throw new IOException("unterminated quoted value at line " + this.lineNumber + "."); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+                if (c == QUOTE) {
+                    if (peek() != QUOTE) {
+                        break;
+                    }
+                    next();
+                } else if (c == '\n' || c == '\r' && peek() != '\n') {
+                    this.lineNumber++;
+                }
+                this.cell.append((char) c);
+            }
+            c = next();
+            if (c != this.delimiter && c != '\r' && c != '\n' && c != EOF) {
+                throw new IOException("unexpected character '" + (char) c + "' after quoted value at line " + this.lineNumber + "."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            }
+        } else {
+            while (c != this.delimiter && c != '\r' && c != '\n' && c != EOF) {
+                this.cell.append((char) c);
+                c = next();
+            }
+        }
+
+        if (c == this.delimiter) {
+            return DELIMITER;
+        }
+        if (c == EOF) {
+            return END_OF_FILE;
+        }
+        if (c == '\r' && peek() == '\n') {
+            next();
+        }
+        this.lineNumber++;
+        return END_OF_LINE;
+    }
+
+    private int[] readHeader() throws IOException {
+        if (!skipEmptyLines()) {
+            return null;
+        }
+        int[] ret = new int[this.schema.size()];
+        int size = 0;
+        int terminator;
+        do {
+            terminator = readCell();
+            if (size == ret.length) {
+                ret = Arrays.copyOf(ret, size * 2 + 1);
+            }
+            ret[size++] = this.schema.indexOfHeader(this.cell.toString());
+        } while (terminator == DELIMITER);
+        return Arrays.copyOf(ret, size);
+    }
+
+    private void setCell(final Column pColumn, final T pBean, final int pLine) throws IOException {
+        if (!pColumn.writable) {
+            return;
+        }
+        final StringBuilder value = this.cell;
+        final BeanProperty property = pColumn.property;
+        if (!this.quoted && value.length() == 0) {
+            if (!pColumn.primitive) {
+                property.setValue(pBean, null);
+            }
+            return;
+        }
+
+        try {
+            switch (pColumn.valueType) {
+            case STRING:
+                property.setValue(pBean, value.toString());
+                return;
+            case BOOLEAN:
+                final boolean b = parseBoolean(value);
+                if (pColumn.primitive) {
+                    property.setBoolean(pBean, b);
+                } else {
+                    property.setValue(pBean, Boolean.valueOf(b));
+                }
+                return;
+            case INT:
+                final long l = parseLong(value);
+                if (l < Integer.MIN_VALUE || Integer.MAX_VALUE < l) {
+                    throw new NumberFormatException("out of int range."); //$NON-NLS-1$
+                }
+                if (pColumn.primitive) {
+                    property.setInt(pBean, (int) l);
+                } else {
+                    property.setValue(pBean, Integer.valueOf((int) l));
+                }
+                return;
+            case LONG:
+                if (pColumn.primitive) {
+                    property.setLong(pBean, parseLong(value));
+                } else {
+                    property.setValue(pBean, Long.valueOf(parseLong(value)));
+                }
+                return;
+            case DOUBLE:
+                final double d = Double.parseDouble(value.toString());
+                if (pColumn.primitive) {
+                    property.setDouble(pBean, d);
+                } else {
+                    property.setValue(pBean, Double.valueOf(d));
+                }
+                return;
+            case BIG_DECIMAL:
+                property.setValue(pBean, new BigDecimal(value.toString()));
+                return;
+            case BIG_INTEGER:
+                property.setValue(pBean, new BigInteger(value.toString()));
+                return;
+            case ENUM:
+                final Enum<?> constant = ValueType.findConstant(pColumn.enumConstants, value);
+                if (constant == null) {
+                    throw new IllegalArgumentException("no constant."); //$NON-NLS-1$
+                }
+                property.setValue(pBean, constant);
+                return;
+            default:
+                throw new IllegalStateException();
+            }
+        } catch (final IllegalArgumentException e) {
+            // NumberFormatExceptionも含む.
+            throw new IOException("invalid value '" + value + "' for '" + property.getName() + "' at line " + pLine + ".", e); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        }
+    }
+
+    /**
+     * @return 空でない行が残っていればtrue.
+     */
+    private boolean skipEmptyLines() throws IOException {
+        for (;;) {
+            final int c = peek();
+            if (c == EOF) {
+                return false;
+            }
+            if (c != '\r' && c != '\n') {
+                return true;
+            }
+            next();
+            if (c == '\n' || peek() != '\n') {
+                this.lineNumber++;
+            }
+        }
+    }
+
+    private static int[] identityMapping(final int pSize) {
+        final int[] ret = new int[pSize];
+        for (int i = 0; i < pSize; i++) {
+            ret[i] = i;
+        }
+        return ret;
+    }
+
+    private static boolean parseBoolean(final CharSequence pValue) {
+        if (equalsIgnoreCase("true", pValue)) { //$NON-NLS-1$
+            return true;
+        }
+        if (equalsIgnoreCase("false", pValue)) { //$NON-NLS-1$
+            return false;
+        }
+        throw new IllegalArgumentException("not boolean."); //$NON-NLS-1$
+    }
+
+    private static boolean equalsIgnoreCase(final String pText, final CharSequence pChars) {
+        final int length = pText.length();
+        if (length != pChars.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pText.charAt(i) != Character.toLowerCase(pChars.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseLong(final CharSequence pValue) {
+        // Long.MIN_VALUEを扱えるよう、負の値として積み上げる.
+        final int length = pValue.length();
+        if (length == 0) {
+            // ダブルクォートで囲まれた空の値.
+            throw new NumberFormatException();
+        }
+        final boolean negative = pValue.charAt(0) == '-';
+        int i = negative || pValue.charAt(0) == '+' ? 1 : 0;
+        if (i == length) {
+            throw new NumberFormatException();
+        }
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long ret = 0;
+        for (; i < length; i++) {
+            final int digit = pValue.charAt(i) - '0';
+            if (digit < 0 || 9 < digit || ret < multiplyLimit) {
+                throw new NumberFormatException();
+            }
+            ret *= 10;
+            if (ret < limit + digit) {
+                throw new NumberFormatException();
+            }
+            ret -= digit;
+        }
+        return negative ? ret : -ret;
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.BeanProperties;
+import jabara.bean.BeanProperty;
+import jabara.bean.TypeCache;
+import jabara.general.ArgUtil;
+import jabara.general.ExceptionUtil;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Beanの型ごとの、CSV/TSVの列の構成です. <br>
+ * 列は{@link BeanProperties}の並び順({@link jabara.bean.annotation.Order})で、以下の条件を満たすプロパティから構成されます. <br>
+ * <ul>
+ * <li>getterが存在する.</li>
+ * <li>{@link jabara.bean.annotation.Hidden}が付与されていない.</li>
+ * <li>型が{@link String}、boolean、int、long、double(ラッパー型を含む)、{@link java.math.BigDecimal}、{@link java.math.BigInteger}、列挙型のいずれか.</li>
+ * </ul>
+ * ヘッダ行には{@link BeanProperty#getLocalizedName()}を使います. 読み込み時はプロパティ名も受け付けます. <br>
+ * 列の構成はインスタンス生成時に1度だけ組み立てられます. インスタンスは{@link #getInstance(Class)}で取得して下さい. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class CsvSchema<T> {
+
+    private static final TypeCache<CsvSchema<?>> CACHE = new TypeCache<CsvSchema<?>>();
+
+    private final Class<T>                       beanType;
+    private final BeanProperties                 properties;
+    private final Column[]                       columns;
+    private final Map<String, Integer>           headerIndex;
+    private final List<String>                   columnNames;
+
+    private CsvSchema(final Class<T> pBeanType) {
+        this.beanType = pBeanType;
+        this.properties = BeanProperties.getInstance(pBeanType);
+
+        final List<Column> list = new ArrayList<Column>();
+        for (final BeanProperty property : this.properties) {
+            final ValueType valueType = ValueType.of(property.getType());
+            if (valueType == null || property.isHidden() || !property.isReadable()) {
+                continue;
+            }
+            list.add(new Column(property, valueType));
+        }
+        this.columns = list.toArray(new Column[list.size()]);
+
+        final Map<String, Integer> index = new HashMap<String, Integer>();
+        final List<String> names = new ArrayList<String>(this.columns.length);
+        for (int i = 0; i < this.columns.length; i++) {
+            final Column column = this.columns[i];
+            index.put(column.property.getName(), Integer.valueOf(i));
+            names.add(column.property.getName());
+        }
+        // プロパティ名と地域化された名称が衝突した場合は、地域化された名称を優先する.
+        for (int i = 0; i < this.columns.length; i++) {
+            index.put(this.columns[i].header, Integer.valueOf(i));
+        }
+        this.headerIndex = index;
+        this.columnNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * @return Beanの型.
+     */
+    public Class<T> getBeanType() {
+        return this.beanType;
+    }
+
+    /**
+     * @return 列となるプロパティ名の一覧. 列の順番です.
+     */
+    public List<String> getColumnNames() {
+        return this.columnNames;
+    }
+
+    /**
+     * @param pIn 読み込み元. {@link CsvReader}の内部でバッファリングするので、{@link java.io.BufferedReader}で包む必要はありません.
+     * @param pFormat 書式.
+     * @return 読み込み用オブジェクト.
+     */
+    public CsvReader<T> newReader(final Reader pIn, final CsvFormat pFormat) {
+        ArgUtil.checkNull(pIn, "pIn"); //$NON-NLS-1$
+        ArgUtil.checkNull(pFormat, "pFormat"); //$NON-NLS-1$
+        return new CsvReader<T>(this, pIn, pFormat);
+    }
+
+    /**
+     * @param pOut 書き出し先. {@link CsvWriter}の内部でバッファリングするので、{@link java.io.BufferedWriter}で包む必要はありません.
+     * @param pFormat 書式.
+     * @return 書き出し用オブジェクト.
+     */
+    public CsvWriter<T> newWriter(final Writer pOut, final CsvFormat pFormat) {
+        ArgUtil.checkNull(pOut, "pOut"); //$NON-NLS-1$
+        ArgUtil.checkNull(pFormat, "pFormat"); //$NON-NLS-1$
+        return new CsvWriter<T>(this, pOut, pFormat);
+    }
+
+    /**
+     * @return 列の数.
+     */
+    public int size() {
+        return this.columns.length;
+    }
+
+    Column getColumn(final int pIndex) {
+        return this.columns[pIndex];
+    }
+
+    /**
+     * @param pHeader ヘッダ行の値.
+     * @return 列の位置. 該当する列がない場合は-1.
+     */
+    int indexOfHeader(final String pHeader) {
+        final Integer index = this.headerIndex.get(pHeader);
+        if (index != null) {
+            return index.intValue();
+        }
+        // 先頭の1文字の大文字小文字だけが異なる場合.
+        final int position = this.properties.find(pHeader);
+        if (position < 0) {
+            return -1;
+        }
+        final Integer found = this.headerIndex.get(this.properties.get(position).getName());
+        return found == null ? -1 : found.intValue();
+    }
+
+    @SuppressWarnings("nls")
+    T newBean() {
+        try {
+            return this.beanType.newInstance();
+        } catch (final InstantiationException e) {
+            throw new IllegalStateException(this.beanType.getName() + " has no public default constructor.", e);
+        } catch (final IllegalAccessException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    /**
+     * @param pBeanType Beanの型.
+     * @return 指定の型の{@link CsvSchema}. 同じ型に対しては同じインスタンスが返ります(メモリが逼迫した場合と、{@link jabara.bean.BeanPropertiesCache}で破棄した場合を除く).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CsvSchema<T> getInstance(final Class<T> pBeanType) {
+        ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
+
+        final CsvSchema<?> cached = CACHE.get(pBeanType);
+        if (cached != null) {
+            return (CsvSchema<T>) cached;
+        }
+        // 競合した場合は先に登録されたものを使う.
+        return (CsvSchema<T>) CACHE.putIfAbsent(pBeanType, new CsvSchema<T>(pBeanType));
+    }
+
+    static final class Column {
+        final BeanProperty property;
+        final ValueType    valueType;
+        final boolean      primitive;
+        final boolean      writable;
+        final String       header;
+        final Enum<?>[]    enumConstants; // 列挙型以外はnull.
+
+        Column(final BeanProperty pProperty, final ValueType pValueType) {
+            this.property = pProperty;
+            this.valueType = pValueType;
+            this.primitive = pProperty.getType().isPrimitive();
+            this.writable = pProperty.isWritable();
+            this.header = pProperty.getLocalizedName();
+            this.enumConstants = pValueType == ValueType.ENUM ? (Enum<?>[]) pProperty.getType().getEnumConstants() : null;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.BeanProperty;
+import jabara.bean.io.CsvSchema.Column;
+import jabara.general.ArgUtil;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * BeanをCSV/TSVの1行として書き出します. <br>
+ * 書き出しは内部のバッファに対して行い、バッファが一杯になった時に書き出し先に渡します. <br>
+ * int、longの値は文字列を経由せずにバッファに直接書き込むので、セルごとのオブジェクト生成はありません. <br>
+ * double、{@link java.math.BigDecimal}、{@link java.math.BigInteger}は文字列表現を経由します. <br>
+ * ヘッダ行は最初の{@link #write(Object)}の時、あるいは1行も書かずに{@link #close()}した時に書き出されます. <br>
+ * インスタンスは{@link CsvSchema#newWriter(Writer, CsvFormat)}で取得して下さい. スレッドセーフではありません. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class CsvWriter<T> implements Closeable, Flushable {
+
+    private static final int   BUFFER_SIZE = 8192;
+    private static final char  QUOTE       = '"';
+
+    private final CsvSchema<T> schema;
+    private final Writer       out;
+    private final char         delimiter;
+    private final String       lineSeparator;
+    private final char[]       buffer      = new char[BUFFER_SIZE];
+    private final char[]       digits      = new char[20]; // longの最大桁数(符号を除く).
+    private int                position;
+    private boolean            headerWritten;
+
+    CsvWriter(final CsvSchema<T> pSchema, final Writer pOut, final CsvFormat pFormat) {
+        this.schema = pSchema;
+        this.out = pOut;
+        this.delimiter = pFormat.getDelimiter();
+        this.lineSeparator = pFormat.getLineSeparator();
+        this.headerWritten = !pFormat.hasHeader();
+    }
+
+    /**
+     * ヘッダ行がまだなら書き出した上で、バッファの内容を書き出し先に渡して閉じます.
+     * 
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeHeaderIfNeeded();
+            flushBuffer();
+        } finally {
+            this.out.close();
+        }
+    }
+
+    /**
+     * @see java.io.Flushable#flush()
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        this.out.flush();
+    }
+
+    /**
+     * @param pBean 書き出すBean.
+     * @throws IOException 書き出しに失敗した場合.
+     */
+    public void write(final T pBean) throws IOException {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        writeHeaderIfNeeded();
+        final CsvSchema<T> s = this.schema;
+        for (int i = 0; i < s.size(); i++) {
+            if (i > 0) {
+                append(this.delimiter);
+            }
+            writeCell(s.getColumn(i), pBean);
+        }
+        append(this.lineSeparator);
+    }
+
+    /**
+     * @param pBeans 書き出すBeanの集合.
+     * @throws IOException 書き出しに失敗した場合.
+     */
+    public void writeAll(final Iterable<? extends T> pBeans) throws IOException {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        for (final T bean : pBeans) {
+            write(bean);
+        }
+    }
+
+    private void append(final char pChar) throws IOException {
+        if (this.position == this.buffer.length) {
+            flushBuffer();
+        }
+        this.buffer[this.position++] = pChar;
+    }
+
+    private void append(final String pText) throws IOException {
+        final int length = pText.length();
+        int offset = 0;
+        while (offset < length) {
+            if (this.position == this.buffer.length) {
+                flushBuffer();
+            }
+            final int count = Math.min(length - offset, this.buffer.length - this.position);
+            pText.getChars(offset, offset + count, this.buffer, this.position);
+            this.position += count;
+            offset += count;
+        }
+    }
+
+    private void appendLong(final long pValue) throws IOException {
+        // Long.MIN_VALUEの符号を反転出来ないので、負の値のまま桁を取り出す.
+        long v = pValue < 0 ? pValue : -pValue;
+        int start = this.digits.length;
+        do {
+            this.digits[--start] = (char) ('0' - (v % 10));
+            v /= 10;
+        } while (v != 0);
+
+        if (pValue < 0) {
+            append('-');
+        }
+        final int count = this.digits.length - start;
+        if (this.buffer.length - this.position < count) {
+            flushBuffer();
+        }
+        System.arraycopy(this.digits, start, this.buffer, this.position, count);
+        this.position += count;
+    }
+
+    private void appendText(final String pText) throws IOException {
+        if (pText.length() == 0) {
+            // nullと区別するため、空文字列は""として書き出す.
+            append(QUOTE);
+            append(QUOTE);
+            return;
+        }
+        if (!needsQuote(pText)) {
+            append(pText);
+            return;
+        }
+        append(QUOTE);
+        for (int i = 0; i < pText.length(); i++) {
+            final char c = pText.charAt(i);
+            if (c == QUOTE) {
+                append(QUOTE);
+            }
+            append(c);
+        }
+        append(QUOTE);
+    }
+
+    private void flushBuffer() throws IOException {
+        if (this.position > 0) {
+            this.out.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+    private boolean needsQuote(final String pText) {
+        for (int i = 0; i < pText.length(); i++) {
+            final char c = pText.charAt(i);
+            if (c == this.delimiter || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeCell(final Column pColumn, final Object pBean) throws IOException {
+        final BeanProperty property = pColumn.property;
+        if (pColumn.primitive) {
+            switch (pColumn.valueType) {
+            case BOOLEAN:
+                append(property.getBoolean(pBean) ? "true" : "false"); //$NON-NLS-1$ //$NON-NLS-2$
+                return;
+            case INT:
+                appendLong(property.getInt(pBean));
+                return;
+            case LONG:
+                appendLong(property.getLong(pBean));
+                return;
+            case DOUBLE:
+                append(Double.toString(property.getDouble(pBean)));
+                return;
+            default:
+                throw new IllegalStateException();
+            }
+        }
+
+        final Object value = property.getValue(pBean);
+        if (value == null) {
+            return;
+        }
+        switch (pColumn.valueType) {
+        case STRING:
+            appendText((String) value);
+            return;
+        case BOOLEAN:
+            append(((Boolean) value).booleanValue() ? "true" : "false"); //$NON-NLS-1$ //$NON-NLS-2$
+            return;
+        case INT:
+        case LONG:
+            appendLong(((Number) value).longValue());
+            return;
+        case ENUM:
+            appendText(((Enum<?>) value).name());
+            return;
+        case DOUBLE:
+        case BIG_DECIMAL:
+        case BIG_INTEGER:
+            append(value.toString());
+            return;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    private void writeHeaderIfNeeded() throws IOException {
+        if (this.headerWritten) {
+            return;
+        }
+        this.headerWritten = true;
+        for (int i = 0; i < this.schema.size(); i++) {
+            if (i > 0) {
+                append(this.delimiter);
+            }
+            appendText(this.schema.getColumn(i).header);
+        }
+        append(this.lineSeparator);
+    }
+}
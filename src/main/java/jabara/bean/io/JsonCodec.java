@@ -0,0 +1,463 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.BeanProperties;
+import jabara.bean.BeanProperty;
+import jabara.bean.TypeCache;
+import jabara.general.ArgUtil;
+import jabara.general.ExceptionUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Beanの型ごとの、JSONの読み書きの手順です. <br>
+ * 対象となるプロパティは{@link CsvSchema}と同じく、getterが存在し、{@link jabara.bean.annotation.Hidden}が付与されておらず、
+ * 扱える型({@link String}、boolean、int、long、double(ラッパー型を含む)、{@link BigDecimal}、{@link BigInteger}、列挙型)のものです. <br>
+ * オブジェクトのキーは{@link BeanProperties}の並び順({@link jabara.bean.annotation.Order})で書き出します. <br>
+ * キーと列挙型の定数名はインスタンス生成時にUTF-8のバイト列にしておき、書き出し時はそのままコピーします. <br>
+ * {@link jabara.bean.annotation.Nullable}が付与されていない参照型のプロパティは、nullを書き出そうとすると{@link IllegalStateException}、
+ * nullを読み込もうとすると(キーがなくて値がnullのままの場合も含む){@link IOException}がスローされます. <br>
+ * 書き出し時のnullの検査はオブジェクトを書き出し始める前に行うので、途中まで書き出されたオブジェクトが残ることはありません. <br>
+ * doubleのNaNと無限大はJSONの数値で表せないので、"NaN"、"Infinity"、"-Infinity"という文字列として読み書きします. <br>
+ * インスタンスは{@link #getInstance(Class)}で取得して下さい. インスタンスはスレッドセーフです. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class JsonCodec<T> {
+
+    private static final TypeCache<JsonCodec<?>> CACHE = new TypeCache<JsonCodec<?>>();
+
+    private static final byte[]                  NULL  = toUtf8("null"); //$NON-NLS-1$
+    private static final byte[]                  TRUE  = toUtf8("true"); //$NON-NLS-1$
+    private static final byte[]                  FALSE = toUtf8("false"); //$NON-NLS-1$
+
+    private final Class<T>                       beanType;
+    private final Field[]                        fields;
+    private final Field[]                        requiredFields; // 読み込み時にnullを許さないもの.
+    private final Field[]                        nonNullFields; // 書き出し時にnullを許さないもの.
+    private final byte[][]                       names;
+    private final List<String>                   propertyNames;
+
+    private JsonCodec(final Class<T> pBeanType) {
+        this.beanType = pBeanType;
+
+        final List<Field> list = new ArrayList<Field>();
+        final List<Field> required = new ArrayList<Field>();
+        final List<Field> nonNull = new ArrayList<Field>();
+        for (final BeanProperty property : BeanProperties.getInstance(pBeanType)) {
+            final ValueType valueType = ValueType.of(property.getType());
+            if (valueType == null || property.isHidden() || !property.isReadable()) {
+                continue;
+            }
+            final Field field = new Field(property, valueType, list.isEmpty());
+            list.add(field);
+            if (!field.primitive && !field.nullable) {
+                nonNull.add(field);
+                if (field.writable) {
+                    required.add(field);
+                }
+            }
+        }
+        this.fields = list.toArray(new Field[list.size()]);
+        this.requiredFields = required.toArray(new Field[required.size()]);
+        this.nonNullFields = nonNull.toArray(new Field[nonNull.size()]);
+
+        this.names = new byte[this.fields.length][];
+        final List<String> nameList = new ArrayList<String>(this.fields.length);
+        for (int i = 0; i < this.fields.length; i++) {
+            this.names[i] = toUtf8(this.fields[i].property.getName());
+            nameList.add(this.fields[i].property.getName());
+        }
+        this.propertyNames = Collections.unmodifiableList(nameList);
+    }
+
+    /**
+     * @return Beanの型.
+     */
+    public Class<T> getBeanType() {
+        return this.beanType;
+    }
+
+    /**
+     * @return 読み書きの対象となるプロパティ名の一覧. 書き出す順番です.
+     */
+    public List<String> getPropertyNames() {
+        return this.propertyNames;
+    }
+
+    /**
+     * @param pIn 読み込み元. {@link JsonReader}の内部でバッファリングするので、{@link java.io.BufferedInputStream}で包む必要はありません.
+     * @return 読み込み用オブジェクト.
+     */
+    public JsonReader<T> newReader(final InputStream pIn) {
+        ArgUtil.checkNull(pIn, "pIn"); //$NON-NLS-1$
+        return new JsonReader<T>(this, new JsonInput.StreamInput(pIn));
+    }
+
+    /**
+     * @param pOut 書き出し先. {@link JsonWriter}の内部でバッファリングするので、{@link java.io.BufferedOutputStream}で包む必要はありません.
+     * @return 書き出し用オブジェクト.
+     */
+    public JsonWriter<T> newWriter(final OutputStream pOut) {
+        ArgUtil.checkNull(pOut, "pOut"); //$NON-NLS-1$
+        return new JsonWriter<T>(this, new JsonOutput.StreamOutput(pOut));
+    }
+
+    /**
+     * {@link ByteBuffer}の現在位置からJSONのオブジェクトを1つ読み込みます. <br>
+     * 位置はオブジェクトの閉じ括弧の直後まで進みます. <br>
+     * 
+     * @param pBuffer 読み込み元.
+     * @return 読み込んだBean.
+     * @throws IOException 書式が不正な場合.
+     */
+    public T read(final ByteBuffer pBuffer) throws IOException {
+        ArgUtil.checkNull(pBuffer, "pBuffer"); //$NON-NLS-1$
+        final JsonInput in = new JsonInput.BufferInput(pBuffer);
+        in.expect('{');
+        return readObject(in);
+    }
+
+    /**
+     * {@link ByteBuffer}の現在位置にJSONのオブジェクトを1つ書き込みます. <br>
+     * 
+     * @param pBean 書き出すBean.
+     * @param pBuffer 書き込み先.
+     * @throws java.nio.BufferOverflowException 容量が足りない場合. それまでに書き込んだ分は残ります.
+     */
+    public void write(final T pBean, final ByteBuffer pBuffer) {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        ArgUtil.checkNull(pBuffer, "pBuffer"); //$NON-NLS-1$
+        checkWritable(pBean);
+        try {
+            writeObject(pBean, new JsonOutput.BufferOutput(pBuffer));
+        } catch (final IOException e) {
+            // ByteBufferへの書き込みではIOExceptionは発生しない.
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    /**
+     * 開始の中括弧は読み込み済みとします.
+     */
+    T readObject(final JsonInput pIn) throws IOException {
+        final T bean = newBean();
+        int c = pIn.nextNonWhitespace();
+        if (c != '}') {
+            int hint = 0;
+            for (;;) {
+                if (c != '"') {
+                    throw pIn.unexpected(c);
+                }
+                pIn.readKey();
+                pIn.expect(':');
+                final int index = pIn.findKey(this.names, hint);
+                if (index < 0 || !this.fields[index].writable) {
+                    pIn.skipValue();
+                } else {
+                    readValue(this.fields[index], bean, pIn);
+                    hint = index + 1;
+                }
+                c = pIn.nextNonWhitespace();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw pIn.unexpected(c);
+                }
+                c = pIn.nextNonWhitespace();
+            }
+        }
+
+        for (final Field field : this.requiredFields) {
+            if (field.property.getValue(bean) == null) {
+                throw pIn.error("property '" + field.property.getName() + "' is not @Nullable but missing"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * 書き出しの前に、{@link jabara.bean.annotation.Nullable}が付与されていないプロパティの値がnullでないことを確認します. <br>
+     * 書き出しの途中で失敗して不完全なJSONが残らないよう、何も書き出す前に呼び出して下さい. <br>
+     * 
+     * @param pBean 書き出すBean.
+     * @throws IllegalStateException {@link jabara.bean.annotation.Nullable}が付与されていないプロパティの値がnullの場合.
+     */
+    void checkWritable(final T pBean) {
+        for (final Field field : this.nonNullFields) {
+            if (field.property.getValue(pBean) == null) {
+                throw notNullable(field.property);
+            }
+        }
+    }
+
+    /**
+     * 先に{@link #checkWritable(Object)}を呼び出して下さい.
+     */
+    void writeObject(final T pBean, final JsonOutput pOut) throws IOException {
+        final Field[] fs = this.fields;
+        if (fs.length == 0) {
+            pOut.put('{');
+            pOut.put('}');
+            return;
+        }
+        for (final Field field : fs) {
+            pOut.put(field.key);
+            writeValue(field, pBean, pOut);
+        }
+        pOut.put('}');
+    }
+
+    private T newBean() {
+        try {
+            return this.beanType.newInstance();
+        } catch (final InstantiationException e) {
+            throw new IllegalStateException(this.beanType.getName() + " has no public default constructor.", e); //$NON-NLS-1$
+        } catch (final IllegalAccessException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    /**
+     * @param <T> Beanの型.
+     * @param pBeanType Beanの型.
+     * @return 指定の型の{@link JsonCodec}. 同じ型に対しては同じインスタンスが返ります(メモリが逼迫した場合と、{@link jabara.bean.BeanPropertiesCache}で破棄した場合を除く).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> getInstance(final Class<T> pBeanType) {
+        ArgUtil.checkNull(pBeanType, "pBeanType"); //$NON-NLS-1$
+
+        final JsonCodec<?> cached = CACHE.get(pBeanType);
+        if (cached != null) {
+            return (JsonCodec<T>) cached;
+        }
+        // 競合した場合は先に登録されたものを使う.
+        return (JsonCodec<T>) CACHE.putIfAbsent(pBeanType, new JsonCodec<T>(pBeanType));
+    }
+
+    private static double parseDouble(final JsonInput pIn, final int pFirst) throws IOException {
+        if (pFirst == '"') {
+            pIn.readText();
+        } else {
+            pIn.readNumberText(pFirst);
+        }
+        try {
+            return Double.parseDouble(pIn.getText().toString());
+        } catch (final NumberFormatException e) {
+            throw pIn.error("invalid number '" + pIn.getText() + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private static void putDouble(final JsonOutput pOut, final double pValue) throws IOException {
+        if (Double.isNaN(pValue) || Double.isInfinite(pValue)) {
+            pOut.put('"');
+            pOut.putAscii(Double.toString(pValue));
+            pOut.put('"');
+        } else {
+            pOut.putAscii(Double.toString(pValue));
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private static void readValue(final Field pField, final Object pBean, final JsonInput pIn) throws IOException {
+        final BeanProperty property = pField.property;
+        final int c = pIn.nextNonWhitespace();
+        if (c == 'n') {
+            pIn.literal("null");
+            if (pField.primitive || !pField.nullable) {
+                throw pIn.error("property '" + property.getName() + "' is not @Nullable but null");
+            }
+            property.setValue(pBean, null);
+            return;
+        }
+
+        switch (pField.valueType) {
+        case STRING:
+            if (c != '"') {
+                throw pIn.unexpected(c);
+            }
+            pIn.readText();
+            property.setValue(pBean, pIn.getText().toString());
+            return;
+        case BOOLEAN:
+            final boolean b;
+            if (c == 't') {
+                pIn.literal("true");
+                b = true;
+            } else if (c == 'f') {
+                pIn.literal("false");
+                b = false;
+            } else {
+                throw pIn.unexpected(c);
+            }
+            if (pField.primitive) {
+                property.setBoolean(pBean, b);
+            } else {
+                property.setValue(pBean, Boolean.valueOf(b));
+            }
+            return;
+        case INT:
+            final long l = pIn.readLong(c);
+            if (l < Integer.MIN_VALUE || Integer.MAX_VALUE < l) {
+                throw pIn.error("number out of int range");
+            }
+            if (pField.primitive) {
+                property.setInt(pBean, (int) l);
+            } else {
+                property.setValue(pBean, Integer.valueOf((int) l));
+            }
+            return;
+        case LONG:
+            if (pField.primitive) {
+                property.setLong(pBean, pIn.readLong(c));
+            } else {
+                property.setValue(pBean, Long.valueOf(pIn.readLong(c)));
+            }
+            return;
+        case DOUBLE:
+            if (pField.primitive) {
+                property.setDouble(pBean, parseDouble(pIn, c));
+            } else {
+                property.setValue(pBean, Double.valueOf(parseDouble(pIn, c)));
+            }
+            return;
+        case BIG_DECIMAL:
+        case BIG_INTEGER:
+            pIn.readNumberText(c);
+            try {
+                final String text = pIn.getText().toString();
+                property.setValue(pBean, pField.valueType == ValueType.BIG_DECIMAL ? new BigDecimal(text) : new BigInteger(text));
+            } catch (final NumberFormatException e) {
+                throw pIn.error("invalid number '" + pIn.getText() + "'");
+            }
+            return;
+        case ENUM:
+            if (c != '"') {
+                throw pIn.unexpected(c);
+            }
+            pIn.readText();
+            final Enum<?> constant = ValueType.findConstant(pField.enumConstants, pIn.getText());
+            if (constant == null) {
+                throw pIn.error("no constant '" + pIn.getText() + "' in " + property.getType().getName());
+            }
+            property.setValue(pBean, constant);
+            return;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    private static byte[] toUtf8(final String pText) {
+        try {
+            return pText.getBytes("UTF-8"); //$NON-NLS-1$
+        } catch (final UnsupportedEncodingException e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private static IllegalStateException notNullable(final BeanProperty pProperty) {
+        return new IllegalStateException("property '" + pProperty.getName() + "' of " + pProperty.getBeanType().getName()
+                + " is not @Nullable but null.");
+    }
+
+    private static void writeValue(final Field pField, final Object pBean, final JsonOutput pOut) throws IOException {
+        final BeanProperty property = pField.property;
+        if (pField.primitive) {
+            switch (pField.valueType) {
+            case BOOLEAN:
+                pOut.put(property.getBoolean(pBean) ? TRUE : FALSE);
+                return;
+            case INT:
+                pOut.putLong(property.getInt(pBean));
+                return;
+            case LONG:
+                pOut.putLong(property.getLong(pBean));
+                return;
+            case DOUBLE:
+                putDouble(pOut, property.getDouble(pBean));
+                return;
+            default:
+                throw new IllegalStateException();
+            }
+        }
+
+        final Object value = property.getValue(pBean);
+        if (value == null) {
+            if (!pField.nullable) {
+                // checkWritable()の後でgetterが返す値が変わった場合.
+                throw notNullable(property);
+            }
+            pOut.put(NULL);
+            return;
+        }
+        switch (pField.valueType) {
+        case STRING:
+            pOut.putString((String) value);
+            return;
+        case BOOLEAN:
+            pOut.put(((Boolean) value).booleanValue() ? TRUE : FALSE);
+            return;
+        case INT:
+        case LONG:
+            pOut.putLong(((Number) value).longValue());
+            return;
+        case DOUBLE:
+            putDouble(pOut, ((Double) value).doubleValue());
+            return;
+        case BIG_DECIMAL:
+        case BIG_INTEGER:
+            pOut.putAscii(value.toString());
+            return;
+        case ENUM:
+            pOut.put(pField.enumNames[((Enum<?>) value).ordinal()]);
+            return;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    private static final class Field {
+        final BeanProperty property;
+        final ValueType    valueType;
+        final boolean      primitive;
+        final boolean      nullable;
+        final boolean      writable;
+        final byte[]       key; // {"name": あるいは ,"name":
+        final Enum<?>[]    enumConstants; // 列挙型以外はnull.
+        final byte[][]     enumNames; // "NAME". 列挙型以外はnull.
+
+        @SuppressWarnings("nls")
+        Field(final BeanProperty pProperty, final ValueType pValueType, final boolean pFirst) {
+            this.property = pProperty;
+            this.valueType = pValueType;
+            this.primitive = pProperty.getType().isPrimitive();
+            this.nullable = pProperty.isNullable();
+            this.writable = pProperty.isWritable();
+            this.key = toUtf8((pFirst ? "{\"" : ",\"") + pProperty.getName() + "\":");
+            if (pValueType == ValueType.ENUM) {
+                this.enumConstants = (Enum<?>[]) pProperty.getType().getEnumConstants();
+                this.enumNames = new byte[this.enumConstants.length][];
+                for (int i = 0; i < this.enumConstants.length; i++) {
+                    this.enumNames[i] = toUtf8("\"" + this.enumConstants[i].name() + "\"");
+                }
+            } else {
+                this.enumConstants = null;
+                this.enumNames = null;
+            }
+        }
+    }
+}
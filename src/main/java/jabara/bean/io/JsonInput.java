@@ -0,0 +1,483 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * JSONのUTF-8のバイト列の読み込み元と、字句の解析です. <br>
+ * キーはデコードせずにバイト列のまま比較し、整数は文字列を経由せずに解析します. <br>
+ * 文字列の値は再利用される{@link StringBuilder}にデコードします. <br>
+ * 
+ * @author jabaraster
+ */
+abstract class JsonInput {
+
+    static final int            EOF       = -1;
+
+    /**
+     * {@link #skipValue()}で読み飛ばせる入れ子の深さの上限. 再帰で読み飛ばすので、深すぎる入力でスタックを使い果たさないよう制限します.
+     */
+    static final int            MAX_DEPTH = 512;
+
+    private final StringBuilder text      = new StringBuilder();
+    private byte[]              key       = new byte[32];
+    private int                 keyLength;
+    private long                offset; // 読み込んだバイト数. エラーメッセージ用.
+
+    /**
+     * @param pExpected 期待する文字.
+     * @throws IOException 次の文字(空白を除く)が期待する文字でない場合.
+     */
+    final void expect(final char pExpected) throws IOException {
+        final int c = nextNonWhitespace();
+        if (c != pExpected) {
+            throw unexpected(c);
+        }
+    }
+
+    /**
+     * @param pNames 候補のキーのUTF-8表現.
+     * @param pHint 最初に比較する候補の位置.
+     * @return 直前に読んだキーに一致する候補の位置. 一致するものがない場合は-1.
+     */
+    final int findKey(final byte[][] pNames, final int pHint) {
+        if (pHint < pNames.length && keyEquals(pNames[pHint])) {
+            return pHint;
+        }
+        for (int i = 0; i < pNames.length; i++) {
+            if (keyEquals(pNames[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return 直前に{@link #readText()}で読んだ文字列. 次の読み込みで上書きされます.
+     */
+    final StringBuilder getText() {
+        return this.text;
+    }
+
+    /**
+     * @param pExpected 読み飛ばすリテラル. 先頭の1文字は読み込み済みとします.
+     * @throws IOException リテラルが一致しない場合.
+     */
+    final void literal(final String pExpected) throws IOException {
+        for (int i = 1; i < pExpected.length(); i++) {
+            final int c = next();
+            if (c != pExpected.charAt(i)) {
+                throw unexpected(c);
+            }
+        }
+    }
+
+    final int next() throws IOException {
+        final int ret = read();
+        if (ret != EOF) {
+            this.offset++;
+        }
+        return ret;
+    }
+
+    final int nextNonWhitespace() throws IOException {
+        for (;;) {
+            final int c = next();
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return c;
+            }
+        }
+    }
+
+    final int peekNonWhitespace() throws IOException {
+        for (;;) {
+            final int c = peek();
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return c;
+            }
+            next();
+        }
+    }
+
+    /**
+     * 開始のダブルクォートは読み込み済みとします. 結果は{@link #findKey(byte[][], int)}で比較します.
+     * 
+     * @throws IOException -
+     */
+    final void readKey() throws IOException {
+        this.keyLength = 0;
+        for (;;) {
+            final int c = next();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\' || c == EOF || c < 0x20) {
+                // エスケープを含むキーは稀なので、文字列としてデコードし直す.
+                readKeySlow(c);
+                return;
+            }
+            appendKey(c);
+        }
+    }
+
+    /**
+     * 符号と数字だけからなる整数を読みます. 先頭の1文字は読み込み済みとします.
+     * 
+     * @param pFirst 先頭の1文字.
+     * @return 値.
+     * @throws IOException 整数でない場合、あるいはlongの範囲を超える場合.
+     */
+    final long readLong(final int pFirst) throws IOException {
+        // Long.MIN_VALUEを扱えるよう、負の値として積み上げる.
+        final boolean negative = pFirst == '-';
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        int c = negative ? next() : pFirst;
+        if (c < '0' || '9' < c) {
+            throw unexpected(c);
+        }
+        long ret = 0;
+        for (;;) {
+            final int digit = c - '0';
+            if (ret < multiplyLimit) {
+                throw error("number out of range"); //$NON-NLS-1$
+            }
+            ret *= 10;
+            if (ret < limit + digit) {
+                throw error("number out of range"); //$NON-NLS-1$
+            }
+            ret -= digit;
+
+            c = peek();
+            if (c < '0' || '9' < c) {
+                break;
+            }
+            next();
+        }
+        if (c == '.' || c == 'e' || c == 'E') {
+            throw error("integer expected"); //$NON-NLS-1$
+        }
+        return negative ? ret : -ret;
+    }
+
+    /**
+     * 数値の文字の並びを{@link #getText()}に読みます. 先頭の1文字は読み込み済みとします.
+     * 
+     * @param pFirst 先頭の1文字.
+     * @throws IOException -
+     */
+    final void readNumberText(final int pFirst) throws IOException {
+        this.text.setLength(0);
+        if (pFirst != '-' && (pFirst < '0' || '9' < pFirst)) {
+            throw unexpected(pFirst);
+        }
+        this.text.append((char) pFirst);
+        for (;;) {
+            final int c = peek();
+            if (('0' <= c && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                this.text.append((char) next());
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 文字列を{@link #getText()}にデコードします. 開始のダブルクォートは読み込み済みとします.
+     * 
+     * @throws IOException -
+     */
+    final void readText() throws IOException {
+        final StringBuilder sb = this.text;
+        sb.setLength(0);
+        for (;;) {
+            final int c = next();
+            if (c == '"') {
+                return;
+            }
+            if (c == EOF) {
+                throw error("unterminated string"); //$NON-NLS-1$
+            }
+            if (c == '\\') {
+                sb.append(readEscape());
+            } else if (c < 0x80) {
+                if (c < 0x20) {
+                    throw unexpected(c);
+                }
+                sb.append((char) c);
+            } else if ((c & 0xe0) == 0xc0) {
+                sb.append((char) (((c & 0x1f) << 6) | continuation()));
+            } else if ((c & 0xf0) == 0xe0) {
+                sb.append((char) (((c & 0x0f) << 12) | (continuation() << 6) | continuation()));
+            } else if ((c & 0xf8) == 0xf0) {
+                final int codePoint = ((c & 0x07) << 18) | (continuation() << 12) | (continuation() << 6) | continuation();
+                if (!Character.isValidCodePoint(codePoint)) {
+                    // F5～F7で始まる、あるいは0x10FFFFを超える.
+                    throw error("malformed UTF-8"); //$NON-NLS-1$
+                }
+                sb.appendCodePoint(codePoint);
+            } else {
+                throw error("malformed UTF-8"); //$NON-NLS-1$
+            }
+        }
+    }
+
+    /**
+     * 値を1つ読み飛ばします. 入れ子のオブジェクトや配列も読み飛ばします.
+     * 
+     * @throws IOException 入れ子が{@link #MAX_DEPTH}より深い場合も投げます.
+     */
+    final void skipValue() throws IOException {
+        skipValue(0);
+    }
+
+    final IOException error(final String pMessage) {
+        return new IOException(pMessage + " at offset " + this.offset + "."); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    final IOException unexpected(final int pChar) {
+        if (pChar == EOF) {
+            return error("unexpected end of input"); //$NON-NLS-1$
+        }
+        return error("unexpected character '" + (char) pChar + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * @return 次のバイトを消費せずに返します. 終端の場合は{@link #EOF}.
+     * @throws IOException -
+     */
+    abstract int peek() throws IOException;
+
+    /**
+     * @return 次のバイト. 終端の場合は{@link #EOF}.
+     * @throws IOException -
+     */
+    abstract int read() throws IOException;
+
+    private void appendKey(final int pByte) {
+        if (this.keyLength == this.key.length) {
+            this.key = Arrays.copyOf(this.key, this.keyLength * 2);
+        }
+        this.key[this.keyLength++] = (byte) pByte;
+    }
+
+    private int continuation() throws IOException {
+        final int c = next();
+        if ((c & 0xc0) != 0x80) {
+            throw error("malformed UTF-8"); //$NON-NLS-1$
+        }
+        return c & 0x3f;
+    }
+
+    private boolean keyEquals(final byte[] pName) {
+        if (pName.length != this.keyLength) {
+            return false;
+        }
+        for (int i = 0; i < this.keyLength; i++) {
+            if (pName[i] != this.key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private char readEscape() throws IOException {
+        final int c = next();
+        switch (c) {
+        case '"':
+        case '\\':
+        case '/':
+            return (char) c;
+        case 'b':
+            return '\b';
+        case 'f':
+            return '\f';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 't':
+            return '\t';
+        case 'u':
+            int ret = 0;
+            for (int i = 0; i < 4; i++) {
+                final int h = Character.digit(next(), 16);
+                if (h < 0) {
+                    throw error("invalid unicode escape"); //$NON-NLS-1$
+                }
+                ret = (ret << 4) | h;
+            }
+            return (char) ret;
+        default:
+            throw unexpected(c);
+        }
+    }
+
+    private void readKeySlow(final int pFirst) throws IOException {
+        if (pFirst != '\\') {
+            throw unexpected(pFirst);
+        }
+        // 読み込み済みの部分はASCIIかUTF-8の生のバイトなので、エスケープの部分だけをUTF-8に直して後ろに付け足す.
+        int c = pFirst;
+        for (;;) {
+            if (c == '"') {
+                return;
+            }
+            if (c == EOF || c < 0x20) {
+                throw unexpected(c);
+            }
+            if (c == '\\') {
+                final char decoded = readEscape();
+                if (decoded < 0x80) {
+                    appendKey(decoded);
+                } else if (decoded < 0x800) {
+                    appendKey(0xc0 | (decoded >> 6));
+                    appendKey(0x80 | (decoded & 0x3f));
+                } else {
+                    appendKey(0xe0 | (decoded >> 12));
+                    appendKey(0x80 | ((decoded >> 6) & 0x3f));
+                    appendKey(0x80 | (decoded & 0x3f));
+                }
+            } else {
+                appendKey(c);
+            }
+            c = next();
+        }
+    }
+
+    private void skipContainer(final char pClose, final int pDepth) throws IOException {
+        if (pDepth > MAX_DEPTH) {
+            throw error("nesting too deep"); //$NON-NLS-1$
+        }
+        if (peekNonWhitespace() == pClose) {
+            next();
+            return;
+        }
+        for (;;) {
+            if (pClose == '}') {
+                expect('"');
+                skipString();
+                expect(':');
+            }
+            skipValue(pDepth);
+            final int c = nextNonWhitespace();
+            if (c == pClose) {
+                return;
+            }
+            if (c != ',') {
+                throw unexpected(c);
+            }
+        }
+    }
+
+    private void skipString() throws IOException {
+        for (;;) {
+            final int c = next();
+            if (c == '"') {
+                return;
+            }
+            if (c == EOF) {
+                throw error("unterminated string"); //$NON-NLS-1$
+            }
+            if (c == '\\') {
+                readEscape();
+            }
+        }
+    }
+
+    private void skipValue(final int pDepth) throws IOException {
+        final int c = nextNonWhitespace();
+        switch (c) {
+        case '"':
+            skipString();
+            return;
+        case '{':
+        case '[':
+            skipContainer(c == '{' ? '}' : ']', pDepth + 1);
+            return;
+        case 't':
+            literal("true"); //$NON-NLS-1$
+            return;
+        case 'f':
+            literal("false"); //$NON-NLS-1$
+            return;
+        case 'n':
+            literal("null"); //$NON-NLS-1$
+            return;
+        default:
+            readNumberText(c);
+        }
+    }
+
+    /**
+     * {@link ByteBuffer}から直接読み込みます. 読み込んだ分だけ位置が進みます.
+     */
+    static final class BufferInput extends JsonInput {
+        private final ByteBuffer buffer;
+
+        BufferInput(final ByteBuffer pBuffer) {
+            this.buffer = pBuffer;
+        }
+
+        @Override
+        int peek() {
+            return this.buffer.hasRemaining() ? this.buffer.get(this.buffer.position()) & 0xff : EOF;
+        }
+
+        @Override
+        int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xff : EOF;
+        }
+    }
+
+    /**
+     * 内部のバッファを介して{@link InputStream}から読み込みます.
+     */
+    static final class StreamInput extends JsonInput {
+        private static final int  BUFFER_SIZE = 8192;
+
+        private final InputStream in;
+        private final byte[]      buffer      = new byte[BUFFER_SIZE];
+        private int               position;
+        private int               limit;
+
+        StreamInput(final InputStream pIn) {
+            this.in = pIn;
+        }
+
+        @Override
+        int peek() throws IOException {
+            if (this.position == this.limit && !fill()) {
+                return EOF;
+            }
+            return this.buffer[this.position] & 0xff;
+        }
+
+        @Override
+        int read() throws IOException {
+            if (this.position == this.limit && !fill()) {
+                return EOF;
+            }
+            return this.buffer[this.position++] & 0xff;
+        }
+
+        void close() throws IOException {
+            this.in.close();
+        }
+
+        private boolean fill() throws IOException {
+            final int count = this.in.read(this.buffer);
+            if (count <= 0) {
+                return false;
+            }
+            this.position = 0;
+            this.limit = count;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * JSONのUTF-8のバイト列の書き出し先です. <br>
+ * 文字列のエンコードと整数の書き出しは、中間の文字列やバイト配列を作らずに1バイトずつ行います. <br>
+ * 
+ * @author jabaraster
+ */
+abstract class JsonOutput {
+
+    private static final byte[] HEX    = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
+
+    private final byte[]        digits = new byte[20]; // longの最大桁数(符号を除く).
+
+    abstract void put(byte[] pBytes, int pOffset, int pLength) throws IOException;
+
+    abstract void put(int pByte) throws IOException;
+
+    final void put(final byte[] pBytes) throws IOException {
+        put(pBytes, 0, pBytes.length);
+    }
+
+    final void putAscii(final String pText) throws IOException {
+        for (int i = 0; i < pText.length(); i++) {
+            put(pText.charAt(i));
+        }
+    }
+
+    final void putLong(final long pValue) throws IOException {
+        // Long.MIN_VALUEの符号を反転出来ないので、負の値のまま桁を取り出す.
+        long v = pValue < 0 ? pValue : -pValue;
+        int start = this.digits.length;
+        do {
+            this.digits[--start] = (byte) ('0' - (v % 10));
+            v /= 10;
+        } while (v != 0);
+
+        if (pValue < 0) {
+            put('-');
+        }
+        put(this.digits, start, this.digits.length - start);
+    }
+
+    final void putString(final String pText) throws IOException {
+        put('"');
+        final int length = pText.length();
+        for (int i = 0; i < length; i++) {
+            final char c = pText.charAt(i);
+            if (c < 0x80) {
+                putAsciiChar(c);
+            } else if (c < 0x800) {
+                put(0xc0 | (c >> 6));
+                put(0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(pText.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, pText.charAt(++i));
+                put(0xf0 | (codePoint >> 18));
+                put(0x80 | ((codePoint >> 12) & 0x3f));
+                put(0x80 | ((codePoint >> 6) & 0x3f));
+                put(0x80 | (codePoint & 0x3f));
+            } else if (Character.MIN_SURROGATE <= c && c <= Character.MAX_SURROGATE) {
+                // 対になっていないサロゲートはUTF-8で表せないので、エスケープする.
+                putUnicodeEscape(c);
+            } else {
+                put(0xe0 | (c >> 12));
+                put(0x80 | ((c >> 6) & 0x3f));
+                put(0x80 | (c & 0x3f));
+            }
+        }
+        put('"');
+    }
+
+    private void putAsciiChar(final char pChar) throws IOException {
+        switch (pChar) {
+        case '"':
+        case '\\':
+            put('\\');
+            put(pChar);
+            return;
+        case '\n':
+            put('\\');
+            put('n');
+            return;
+        case '\r':
+            put('\\');
+            put('r');
+            return;
+        case '\t':
+            put('\\');
+            put('t');
+            return;
+        default:
+            if (pChar < 0x20) {
+                putUnicodeEscape(pChar);
+            } else {
+                put(pChar);
+            }
+        }
+    }
+
+    private void putUnicodeEscape(final char pChar) throws IOException {
+        put('\\');
+        put('u');
+        put(HEX[(pChar >> 12) & 0xf]);
+        put(HEX[(pChar >> 8) & 0xf]);
+        put(HEX[(pChar >> 4) & 0xf]);
+        put(HEX[pChar & 0xf]);
+    }
+
+    /**
+     * {@link ByteBuffer}に直接書き込みます. 容量が足りない場合は{@link java.nio.BufferOverflowException}がスローされます.
+     */
+    static final class BufferOutput extends JsonOutput {
+        private final ByteBuffer buffer;
+
+        BufferOutput(final ByteBuffer pBuffer) {
+            this.buffer = pBuffer;
+        }
+
+        @Override
+        void put(final byte[] pBytes, final int pOffset, final int pLength) {
+            this.buffer.put(pBytes, pOffset, pLength);
+        }
+
+        @Override
+        void put(final int pByte) {
+            this.buffer.put((byte) pByte);
+        }
+    }
+
+    /**
+     * 内部のバッファに書き込み、一杯になった時に{@link OutputStream}に渡します.
+     */
+    static final class StreamOutput extends JsonOutput {
+        private static final int   BUFFER_SIZE = 8192;
+
+        private final OutputStream out;
+        private final byte[]       buffer      = new byte[BUFFER_SIZE];
+        private int                position;
+
+        StreamOutput(final OutputStream pOut) {
+            this.out = pOut;
+        }
+
+        @Override
+        void put(final byte[] pBytes, final int pOffset, final int pLength) throws IOException {
+            if (this.buffer.length - this.position < pLength) {
+                flushBuffer();
+                if (this.buffer.length < pLength) {
+                    this.out.write(pBytes, pOffset, pLength);
+                    return;
+                }
+            }
+            System.arraycopy(pBytes, pOffset, this.buffer, this.position, pLength);
+            this.position += pLength;
+        }
+
+        @Override
+        void put(final int pByte) throws IOException {
+            if (this.position == this.buffer.length) {
+                flushBuffer();
+            }
+            this.buffer[this.position++] = (byte) pByte;
+        }
+
+        void close() throws IOException {
+            try {
+                flushBuffer();
+            } finally {
+                this.out.close();
+            }
+        }
+
+        void flush() throws IOException {
+            flushBuffer();
+            this.out.flush();
+        }
+
+        private void flushBuffer() throws IOException {
+            if (this.position > 0) {
+                this.out.write(this.buffer, 0, this.position);
+                this.position = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * JSONのオブジェクトを1つずつ読み込んでBeanに変換します. <br>
+ * 空白で区切られたオブジェクトの並び(JSON Lines等)と、オブジェクトの配列のどちらも読めます. 配列の場合も要素を1つずつ読むので、
+ * 使用するメモリは入力の大きさに依存しません. <br>
+ * 対応するプロパティのないキーの値は、入れ子のオブジェクトや配列も含めて読み飛ばします. <br>
+ * インスタンスは{@link JsonCodec#newReader(java.io.InputStream)}で取得して下さい. スレッドセーフではありません. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class JsonReader<T> implements Closeable {
+
+    private final JsonCodec<T>          codec;
+    private final JsonInput.StreamInput in;
+    private boolean                     started;
+    private boolean                     inArray;
+    private boolean                     finished;
+
+    JsonReader(final JsonCodec<T> pCodec, final JsonInput.StreamInput pIn) {
+        this.codec = pCodec;
+        this.in = pIn;
+    }
+
+    /**
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * @return 読み込んだBean. 終端(配列の場合は閉じ括弧)に達した場合はnull.
+     * @throws IOException 読み込みに失敗した場合、あるいは書式が不正な場合.
+     */
+    public T read() throws IOException {
+        if (this.finished) {
+            return null;
+        }
+        int c = this.in.nextNonWhitespace();
+        if (!this.started) {
+            this.started = true;
+            if (c == '[') {
+                this.inArray = true;
+                c = this.in.nextNonWhitespace();
+                if (c == ']') {
+                    this.finished = true;
+                    return null;
+                }
+            }
+        } else if (this.inArray) {
+            if (c == ']') {
+                this.finished = true;
+                return null;
+            }
+            if (c != ',') {
+                throw this.in.unexpected(c);
+            }
+            c = this.in.nextNonWhitespace();
+        }
+
+        if (c == JsonInput.EOF && !this.inArray) {
+            this.finished = true;
+            return null;
+        }
+        if (c != '{') {
+            throw this.in.unexpected(c);
+        }
+        return this.codec.readObject(this.in);
+    }
+}
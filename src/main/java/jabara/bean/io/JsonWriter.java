@@ -0,0 +1,84 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.general.ArgUtil;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * BeanをJSONのオブジェクトとして書き出します. <br>
+ * 書き出しは内部のバッファに対して行い、バッファが一杯になった時に書き出し先に渡します. <br>
+ * {@link #write(Object)}は1行に1オブジェクトの形式(JSON Lines)、{@link #writeArray(Iterable)}はJSONの配列として書き出します. <br>
+ * インスタンスは{@link JsonCodec#newWriter(java.io.OutputStream)}で取得して下さい. スレッドセーフではありません. <br>
+ * 
+ * @param <T> Beanの型.
+ * @author jabaraster
+ */
+public final class JsonWriter<T> implements Closeable, Flushable {
+
+    private final JsonCodec<T>            codec;
+    private final JsonOutput.StreamOutput out;
+
+    JsonWriter(final JsonCodec<T> pCodec, final JsonOutput.StreamOutput pOut) {
+        this.codec = pCodec;
+        this.out = pOut;
+    }
+
+    /**
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    /**
+     * @see java.io.Flushable#flush()
+     */
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    /**
+     * オブジェクトを1つ書き出し、改行します.
+     * 
+     * @param pBean 書き出すBean.
+     * @throws IOException 書き出しに失敗した場合.
+     * @throws IllegalStateException {@link jabara.bean.annotation.Nullable}が付与されていないプロパティの値がnullの場合.
+     */
+    public void write(final T pBean) throws IOException {
+        ArgUtil.checkNull(pBean, "pBean"); //$NON-NLS-1$
+        this.codec.checkWritable(pBean);
+        this.codec.writeObject(pBean, this.out);
+        this.out.put('\n');
+    }
+
+    /**
+     * 全てのBeanを1つの配列として書き出し、改行します.
+     * 
+     * @param pBeans 書き出すBeanの集合.
+     * @throws IOException 書き出しに失敗した場合.
+     * @throws IllegalStateException {@link jabara.bean.annotation.Nullable}が付与されていないプロパティの値がnullの場合.
+     */
+    public void writeArray(final Iterable<? extends T> pBeans) throws IOException {
+        ArgUtil.checkNull(pBeans, "pBeans"); //$NON-NLS-1$
+        this.out.put('[');
+        boolean first = true;
+        for (final T bean : pBeans) {
+            ArgUtil.checkNull(bean, "bean"); //$NON-NLS-1$
+            this.codec.checkWritable(bean);
+            if (!first) {
+                this.out.put(',');
+            }
+            first = false;
+            this.codec.writeObject(bean, this.out);
+        }
+        this.out.put(']');
+        this.out.put('\n');
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * jabara.bean.ioの各コーデックが扱えるプロパティの型の分類です. <br>
+ * プリミティブ型とそのラッパー型は同じ分類になります. <br>
+ * 
+ * @author jabaraster
+ */
+enum ValueType {
+
+    /**
+     * {@link String}.
+     */
+    STRING,
+
+    /**
+     * booleanあるいは{@link Boolean}.
+     */
+    BOOLEAN,
+
+    /**
+     * intあるいは{@link Integer}.
+     */
+    INT,
+
+    /**
+     * longあるいは{@link Long}.
+     */
+    LONG,
+
+    /**
+     * doubleあるいは{@link Double}.
+     */
+    DOUBLE,
+
+    /**
+     * {@link BigDecimal}.
+     */
+    BIG_DECIMAL,
+
+    /**
+     * {@link BigInteger}.
+     */
+    BIG_INTEGER,
+
+    /**
+     * 列挙型. 定数名で読み書きします.
+     */
+    ENUM;
+
+    /**
+     * @param pType プロパティの型.
+     * @return 分類. 扱えない型の場合はnull.
+     */
+    static ValueType of(final Class<?> pType) {
+        if (String.class.equals(pType)) {
+            return STRING;
+        }
+        if (Boolean.TYPE.equals(pType) || Boolean.class.equals(pType)) {
+            return BOOLEAN;
+        }
+        if (Integer.TYPE.equals(pType) || Integer.class.equals(pType)) {
+            return INT;
+        }
+        if (Long.TYPE.equals(pType) || Long.class.equals(pType)) {
+            return LONG;
+        }
+        if (Double.TYPE.equals(pType) || Double.class.equals(pType)) {
+            return DOUBLE;
+        }
+        if (BigDecimal.class.equals(pType)) {
+            return BIG_DECIMAL;
+        }
+        if (BigInteger.class.equals(pType)) {
+            return BIG_INTEGER;
+        }
+        if (pType.isEnum()) {
+            return ENUM;
+        }
+        return null;
+    }
+
+    /**
+     * @param pConstants 列挙型の定数.
+     * @param pName 定数名.
+     * @return 名前が一致する定数. 存在しない場合はnull.
+     */
+    static Enum<?> findConstant(final Enum<?>[] pConstants, final CharSequence pName) {
+        for (final Enum<?> constant : pConstants) {
+            if (contentEquals(constant.name(), pName)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    private static boolean contentEquals(final String pText, final CharSequence pChars) {
+        final int length = pText.length();
+        if (length != pChars.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pText.charAt(i) != pChars.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,9 @@
 package jabara.bean;
 
+import jabara.bean.io.BinaryTest;
+import jabara.bean.io.CsvTest;
+import jabara.bean.io.JsonTest;
+
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -8,7 +12,8 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author jabaraster
  */
 @RunWith(Suite.class)
-@SuiteClasses({ BeanPropertiesTest.class, BeanPropertyTest.class })
+@SuiteClasses({ BeanPropertiesTest.class, BeanPropertyTest.class, BeanPropertiesCacheTest.class, BeanAccessorTest.class, BeanCopierTest.class, BeanMetadataTest.class,
+        LocalizedNameCacheTest.class, PropertyNameIndexTest.class, BeanMapTest.class, ColumnReaderTest.class, CsvTest.class, JsonTest.class, BinaryTest.class, PropertyPathTest.class, BeanComparatorTest.class, BeanDifferTest.class, BeanValidatorTest.class, BeanPropertiesWarmUpTest.class, BeanPropertiesMonitorTest.class })
 public class AllTests {
     //
 }
@@ -0,0 +1,116 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.bean.annotation.Order;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BeanAccessorTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test
+    public void _read() {
+        final XBean bean = new XBean();
+        bean.setName("abc"); //$NON-NLS-1$
+        bean.setCount(3);
+
+        final Object[] values = new Object[] { "dummy", "dummy", "dummy" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        BeanProperties.getInstance(XBean.class).getBeanAccessor().read(bean, values);
+
+        assertThat(values[0], is((Object) "abc")); //$NON-NLS-1$
+        assertThat(values[1], is((Object) 3));
+        assertThat(values[2], is((Object) "readOnly")); //$NON-NLS-1$
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test
+    public void _インスタンスは使い回される() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        assertThat(properties.getBeanAccessor(), sameInstance(properties.getBeanAccessor()));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test
+    public void _write() {
+        final XBean bean = new XBean();
+        BeanProperties.getInstance(XBean.class).getBeanAccessor().write(new Object[] { "xyz", 10, "ignored" }, bean); //$NON-NLS-1$ //$NON-NLS-2$
+
+        assertThat(bean.getName(), is("xyz")); //$NON-NLS-1$
+        assertThat(bean.getCount(), is(10));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test
+    public void _書き込み専用プロパティにはnullが入る() {
+        final Object[] values = BeanProperties.getInstance(XWriteOnlyBean.class).getBeanAccessor().read(new XWriteOnlyBean());
+        assertThat(values[0], nullValue());
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings("static-method")
+    @Test(expected = IllegalArgumentException.class)
+    public void _配列が短い() {
+        BeanProperties.getInstance(XBean.class).getBeanAccessor().read(new XBean(), new Object[2]);
+    }
+
+    @SuppressWarnings({ "javadoc", "static-method" })
+    public static class XBean {
+        private String name;
+        private int    count;
+
+        @Order(20)
+        public int getCount() {
+            return this.count;
+        }
+
+        @Order(10)
+        public String getName() {
+            return this.name;
+        }
+
+        @Order(30)
+        public String getReadOnly() {
+            return "readOnly"; //$NON-NLS-1$
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+    }
+
+    @SuppressWarnings({ "javadoc" })
+    public static class XWriteOnlyBean {
+        public void setValue(@SuppressWarnings("unused") final String pValue) {
+            //
+        }
+    }
+}
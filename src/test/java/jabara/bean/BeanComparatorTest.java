@@ -0,0 +1,215 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.bean.BeanComparator.Direction;
+import jabara.bean.BeanComparator.Nulls;
+import jabara.bean.BeanComparator.SortKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BeanComparatorTest {
+
+    private static final BeanProperties PROPERTIES = BeanProperties.getInstance(XBean.class);
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _compare() {
+        final BeanComparator<XBean> sut = BeanComparator.getInstance(XBean.class, SortKey.ascending(PROPERTIES.get("name")),
+                SortKey.descending(PROPERTIES.get("count")));
+
+        assertThat(Integer.signum(sut.compare(bean("a", 1, 0, 0), bean("b", 0, 0, 0))), is(-1));
+        assertThat(Integer.signum(sut.compare(bean("a", 1, 0, 0), bean("a", 2, 0, 0))), is(1));
+        assertThat(sut.compare(bean("a", 1, 0, 0), bean("a", 1, 5, 5)), is(0));
+        // nullは並び順に関わらず末尾.
+        assertThat(Integer.signum(sut.compare(bean(null, 1, 0, 0), bean("a", 1, 0, 0))), is(1));
+        assertThat(sut.compare(bean(null, 1, 0, 0), bean(null, 1, 0, 0)), is(0));
+
+        final BeanComparator<XBean> nullsFirst = BeanComparator.getInstance(XBean.class, new SortKey(PROPERTIES.get("name"), Direction.DESCENDING,
+                Nulls.FIRST));
+        assertThat(Integer.signum(nullsFirst.compare(bean(null, 1, 0, 0), bean("a", 1, 0, 0))), is(-1));
+        assertThat(Integer.signum(nullsFirst.compare(bean("a", 1, 0, 0), bean("b", 1, 0, 0))), is(1));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _getInstance() {
+        final BeanComparator<XBean> sut = BeanComparator.getInstance(XBean.class, SortKey.ascending(PROPERTIES.get("name")));
+        assertThat(BeanComparator.getInstance(XBean.class, SortKey.ascending(PROPERTIES.get("name"))), sameInstance(sut));
+        assertThat(sut.getSortKeys().get(0).getProperty(), is(PROPERTIES.get("name")));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _getInstanceのメモ化はBeanPropertiesCacheと共に破棄される() {
+        final BeanComparator<XBean> sut = BeanComparator.getInstance(XBean.class, SortKey.descending(PROPERTIES.get("name")));
+        BeanPropertiesCache.remove(XBean.class);
+        final BeanComparator<XBean> recreated = BeanComparator.getInstance(XBean.class, SortKey.descending(PROPERTIES.get("name")));
+        assertThat(recreated == sut, is(false));
+        assertThat(BeanComparator.getInstance(XBean.class, SortKey.descending(PROPERTIES.get("name"))), sameInstance(recreated));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IllegalArgumentException.class)
+    public void _比較出来ない型() {
+        BeanComparator.getInstance(XBean.class, SortKey.ascending(PROPERTIES.get("tags")));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _sort() {
+        final BeanComparator<XBean> sut = BeanComparator.getInstance(XBean.class, new SortKey(PROPERTIES.get("name"), Direction.ASCENDING,
+                Nulls.FIRST), SortKey.descending(PROPERTIES.get("total")), SortKey.ascending(PROPERTIES.get("ratio")));
+
+        final List<XBean> expected = beans(100000);
+        Collections.sort(expected, sut);
+
+        final List<XBean> sequential = beans(100000);
+        sut.sort(sequential);
+        assertSameOrder(sequential, expected);
+
+        final List<XBean> linked = new LinkedList<XBean>(beans(1000));
+        final List<XBean> linkedExpected = beans(1000);
+        Collections.sort(linkedExpected, sut);
+        sut.sort(linked);
+        assertSameOrder(linked, linkedExpected);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<XBean> parallel = beans(100000);
+            sut.sort(parallel, executor);
+            assertSameOrder(parallel, expected);
+
+            final List<XBean> small = beans(10);
+            final List<XBean> smallExpected = beans(10);
+            Collections.sort(smallExpected, sut);
+            sut.sort(small, executor);
+            assertSameOrder(small, smallExpected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertSameOrder(final List<XBean> pActual, final List<XBean> pExpected) {
+        assertThat(Integer.valueOf(pActual.size()), is(Integer.valueOf(pExpected.size())));
+        for (int i = 0; i < pExpected.size(); i++) {
+            // 安定ソートなので、同じ値の要素も元の順番(id)まで一致する.
+            assertThat(Integer.valueOf(pActual.get(i).getId()), is(Integer.valueOf(pExpected.get(i).getId())));
+        }
+    }
+
+    private static XBean bean(final String pName, final int pCount, final long pTotal, final double pRatio) {
+        final XBean ret = new XBean();
+        ret.setName(pName);
+        ret.setCount(pCount);
+        ret.setTotal(pTotal);
+        ret.setRatio(pRatio);
+        return ret;
+    }
+
+    @SuppressWarnings("nls")
+    private static List<XBean> beans(final int pSize) {
+        final Random random = new Random(0);
+        final List<XBean> ret = new ArrayList<XBean>(pSize);
+        for (int i = 0; i < pSize; i++) {
+            final int n = random.nextInt(50);
+            final XBean bean = bean(n == 0 ? null : "n" + n, random.nextInt(), random.nextInt(20) - 10, random.nextInt(5) / 2.0);
+            bean.setId(i);
+            ret.add(bean);
+        }
+        return ret;
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XBean {
+        private int          id;
+        private String       name;
+        private int          count;
+        private long         total;
+        private double       ratio;
+        private List<String> tags;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public int getId() {
+            return this.id;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public double getRatio() {
+            return this.ratio;
+        }
+
+        public List<String> getTags() {
+            return this.tags;
+        }
+
+        public long getTotal() {
+            return this.total;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setId(final int pId) {
+            this.id = pId;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setRatio(final double pRatio) {
+            this.ratio = pRatio;
+        }
+
+        public void setTags(final List<String> pTags) {
+            this.tags = pTags;
+        }
+
+        public void setTotal(final long pTotal) {
+            this.total = pTotal;
+        }
+    }
+}
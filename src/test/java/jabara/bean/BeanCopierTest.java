@@ -0,0 +1,172 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.bean.annotation.Hidden;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BeanCopierTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _copy() {
+        final XSource source = new XSource();
+        source.setName("abc");
+        source.setCount(3);
+        source.setSecret("secret");
+
+        final XTarget target = new XTarget();
+        BeanCopier.getInstance(XSource.class, XTarget.class, BeanCopier.Option.SKIP_READ_ONLY).copy(source, target);
+
+        assertThat(target.getName(), is("abc"));
+        assertThat(target.getCount(), is(0L));
+        assertThat(target.getSecret(), is("secret"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _getPropertyNames() {
+        final BeanCopier sut = BeanCopier.getInstance(XSource.class, XTarget.class, BeanCopier.Option.SKIP_READ_ONLY);
+        // countはintからlongへは代入出来ないので対象外.
+        assertThat(sut.getPropertyNames(), is(Arrays.asList("name", "secret")));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test
+    public void _SKIP_HIDDEN() {
+        final XSource source = new XSource();
+        source.setSecret("secret"); //$NON-NLS-1$
+
+        final XTarget target = new XTarget();
+        BeanCopier.getInstance(XSource.class, XTarget.class, BeanCopier.Option.SKIP_READ_ONLY, BeanCopier.Option.SKIP_HIDDEN).copy(source, target);
+
+        assertThat(target.getSecret(), nullValue());
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _SKIP_NULL() {
+        final XTarget target = new XTarget();
+        target.setName("before");
+        BeanCopier.getInstance(XSource.class, XTarget.class, BeanCopier.Option.SKIP_READ_ONLY, BeanCopier.Option.SKIP_NULL).copy(new XSource(), target);
+
+        assertThat(target.getName(), is("before"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test(expected = IllegalStateException.class)
+    public void _コピー先が読み取り専用() {
+        BeanCopier.getInstance(XSource.class, XTarget.class);
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test
+    public void _同じ組み合わせには同じインスタンスが返る() {
+        final BeanCopier c0 = BeanCopier.getInstance(XSource.class, XTarget.class, BeanCopier.Option.SKIP_READ_ONLY, BeanCopier.Option.SKIP_NULL);
+        final BeanCopier c1 = BeanCopier.getInstance(XSource.class, XTarget.class, BeanCopier.Option.SKIP_NULL, BeanCopier.Option.SKIP_READ_ONLY);
+        assertThat(c0, sameInstance(c1));
+    }
+
+    @SuppressWarnings({ "javadoc" })
+    public static class XSource {
+        private String name;
+        private int    count;
+        private String secret;
+        private String readOnly;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public String getReadOnly() {
+            return this.readOnly;
+        }
+
+        @Hidden
+        public String getSecret() {
+            return this.secret;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setSecret(final String pSecret) {
+            this.secret = pSecret;
+        }
+    }
+
+    @SuppressWarnings({ "javadoc", "static-method" })
+    public static class XTarget {
+        private String name;
+        private long   count;
+        private String secret;
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public String getReadOnly() {
+            return null;
+        }
+
+        public String getSecret() {
+            return this.secret;
+        }
+
+        public void setCount(final long pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setSecret(final String pSecret) {
+            this.secret = pSecret;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.bean.annotation.Order;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BeanDifferTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _diff() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        final BeanDiffer sut = properties.getBeanDiffer();
+        assertThat(properties.getBeanDiffer(), sameInstance(sut));
+
+        final XBean oldBean = bean();
+        final XBean newBean = bean();
+        assertThat(sut.diff(oldBean, newBean).isEmpty(), is(true));
+        assertThat(sut.diff(oldBean, newBean), sameInstance(sut.diff(newBean, oldBean)));
+        assertThat(sut.diffMask(oldBean, newBean), is(0L));
+        assertThat(sut.equals(oldBean, newBean), is(true));
+
+        newBean.setCount(2);
+        newBean.setName("xyz");
+        final BeanDiffer.Changes changes = sut.diff(oldBean, newBean);
+        assertThat(changes.isEmpty(), is(false));
+        assertThat(changes.size(), is(2));
+        assertThat(changes.getProperties(), is(Arrays.asList(properties.get("name"), properties.get("count"))));
+        assertThat(changes.contains(0), is(true));
+        assertThat(changes.contains(2), is(false));
+        assertThat(changes.nextIndex(0), is(0));
+        assertThat(changes.nextIndex(1), is(1));
+        assertThat(changes.nextIndex(2), is(-1));
+        assertThat(changes.getOldValue(0), is((Object) "abc"));
+        assertThat(changes.getNewValue(0), is((Object) "xyz"));
+        assertThat(changes.getNewValue(1), is((Object) 2));
+        assertThat(changes.toString(), is("[name, count]"));
+        assertThat(sut.diffMask(oldBean, newBean), is(3L));
+        assertThat(sut.equals(oldBean, newBean), is(false));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _型ごとの比較() {
+        final BeanDiffer sut = BeanProperties.getInstance(XBean.class).getBeanDiffer();
+
+        final XBean oldBean = bean();
+        final XBean newBean = bean();
+        oldBean.setRatio(Double.NaN);
+        newBean.setRatio(Double.NaN);
+        // 配列は要素で比較する.
+        newBean.setCodes(new int[] { 1, 2, 3 });
+        newBean.setValue(new String[] { "a" });
+        assertThat(sut.equals(oldBean, newBean), is(true));
+        assertThat(sut.hashCode(oldBean), is(sut.hashCode(newBean)));
+
+        newBean.setActive(false);
+        newBean.setTotal(Long.valueOf(-1));
+        newBean.setCodes(new int[] { 1, 2 });
+        assertThat(sut.diff(oldBean, newBean).getProperties(),
+                is(BeanProperties.getInstance(XBean.class).select("active", "total", "codes").toList()));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _一部のプロパティ() {
+        final BeanDiffer sut = BeanProperties.getInstance(XBean.class).select("count", "name").getBeanDiffer();
+
+        final XBean oldBean = bean();
+        final XBean newBean = bean();
+        newBean.setActive(false);
+        assertThat(sut.equals(oldBean, newBean), is(true));
+        assertThat(sut.hashCode(newBean), is(Arrays.asList((Object) 1, "abc").hashCode()));
+
+        newBean.setCount(5);
+        assertThat(sut.diff(oldBean, newBean).getProperties(), is(Collections.singletonList(BeanProperties.getInstance(XBean.class).get("count"))));
+    }
+
+    @SuppressWarnings({ "nls", "boxing" })
+    private static XBean bean() {
+        final XBean ret = new XBean();
+        ret.setName("abc");
+        ret.setCount(1);
+        ret.setActive(true);
+        ret.setRatio(0.5);
+        ret.setTotal(100L);
+        ret.setCodes(new int[] { 1, 2, 3 });
+        ret.setValue(new String[] { "a" });
+        return ret;
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XBean {
+        private String  name;
+        private int     count;
+        private boolean active;
+        private double  ratio;
+        private Long    total;
+        private int[]   codes;
+        private Object  value;
+
+        @Order(60)
+        public int[] getCodes() {
+            return this.codes;
+        }
+
+        @Order(20)
+        public int getCount() {
+            return this.count;
+        }
+
+        @Order(10)
+        public String getName() {
+            return this.name;
+        }
+
+        @Order(40)
+        public double getRatio() {
+            return this.ratio;
+        }
+
+        @Order(50)
+        public Long getTotal() {
+            return this.total;
+        }
+
+        @Order(70)
+        public Object getValue() {
+            return this.value;
+        }
+
+        @Order(30)
+        public boolean isActive() {
+            return this.active;
+        }
+
+        public void setActive(final boolean pActive) {
+            this.active = pActive;
+        }
+
+        public void setCodes(final int[] pCodes) {
+            this.codes = pCodes;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setRatio(final double pRatio) {
+            this.ratio = pRatio;
+        }
+
+        public void setTotal(final Long pTotal) {
+            this.total = pTotal;
+        }
+
+        public void setValue(final Object pValue) {
+            this.value = pValue;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+/**
+ * @author jabaraster
+ */
+public class BeanMapTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _asMap_値の読み書き() {
+        final XBean bean = new XBean();
+        bean.setName("abc");
+        final Map<String, Object> sut = BeanProperties.getInstance(XBean.class).asMap(bean);
+
+        assertThat(sut.size(), is(3));
+        assertThat(sut.get("name"), is((Object) "abc"));
+        assertThat(sut.get("Name"), is((Object) "abc"));
+        assertThat(sut.get("count"), is((Object) 0));
+        assertThat(sut.containsKey("writeOnly"), is(false));
+        assertThat(sut.get("notExists"), nullValue());
+
+        assertThat(sut.put("count", 3), is((Object) 0));
+        assertThat(bean.getCount(), is(3));
+        bean.setName("def");
+        assertThat(sut.get("name"), is((Object) "def"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _asMap_HashMapと等価() {
+        final XBean bean = new XBean();
+        bean.setName("abc");
+        final Map<String, Object> expected = new HashMap<String, Object>();
+        expected.put("name", "abc");
+        expected.put("count", Integer.valueOf(0));
+        expected.put("readOnly", "readOnly");
+        final Map<String, Object> sut = BeanProperties.getInstance(XBean.class).asMap(bean);
+        assertThat(sut.equals(expected), is(true));
+        assertThat(expected.equals(sut), is(true));
+        assertThat(sut.hashCode(), is(expected.hashCode()));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = UnsupportedOperationException.class)
+    public void _asMap_読み取り専用のプロパティにput() {
+        BeanProperties.getInstance(XBean.class).asMap(new XBean()).put("readOnly", "x");
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _populate() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        for (int i = 0; i < 3; i++) {
+            final Map<String, Object> values = new LinkedHashMap<String, Object>();
+            values.put("Name", "n" + i);
+            values.put("count", i);
+            final XBean bean = new XBean();
+            properties.populate(bean, values);
+            assertThat(bean.getName(), is("n" + i));
+            assertThat(bean.getCount(), is(i));
+        }
+
+        final Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("count", 9);
+        values.put("writeOnly", "w");
+        final XBean bean = new XBean();
+        properties.populate(bean, values);
+        assertThat(bean.getCount(), is(9));
+        assertThat(bean.writeOnly, is("w"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _populate_存在しないキーがあれば何も書き込まない() {
+        final Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("count", 9);
+        values.put("notExists", "x");
+        final XBean bean = new XBean();
+        try {
+            BeanProperties.getInstance(XBean.class).populate(bean, values);
+        } catch (final IllegalArgumentException e) {
+            assertThat(bean.getCount(), is(0));
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XBean {
+        private String name;
+        private int    count;
+        String         writeOnly;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        @SuppressWarnings({ "static-method", "nls" })
+        public String getReadOnly() {
+            return "readOnly";
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setWriteOnly(final String pWriteOnly) {
+            this.writeOnly = pWriteOnly;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * @author jabaraster
+ */
+public class BeanMetadataTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _生成されたメタデータが使われる() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        assertThat(properties.size(), is(1));
+
+        final BeanProperty sut = properties.get("count");
+        assertThat(sut.isHidden(), is(true));
+        assertThat(sut.getOrderIndex(), is(1));
+        assertThat(sut.isReadOnly(), is(false));
+
+        final XBean bean = new XBean();
+        sut.setValue(bean, 3);
+        assertThat(sut.getInt(bean), is(300));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _名前が衝突する別の型のメタデータは使わない() {
+        // BeanMetadataTest_XBeanのメタデータの名前はBeanMetadataTest$XBeanのものと同じになる.
+        final BeanProperties properties = BeanProperties.getInstance(BeanMetadataTest_XBean.class);
+        assertThat(properties.size(), is(1));
+        assertThat(properties.get("name").isHidden(), is(false));
+    }
+
+    @SuppressWarnings({ "javadoc" })
+    public static class XBean {
+        private int count;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+    }
+}
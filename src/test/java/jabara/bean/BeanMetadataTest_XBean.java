@@ -0,0 +1,22 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+/**
+ * {@link BeanMetadataTest.XBean}とメタデータのクラス名が衝突するBeanです. <br>
+ * 
+ * @author jabaraster
+ */
+@SuppressWarnings("javadoc")
+public class BeanMetadataTest_XBean {
+    private String name;
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(final String pName) {
+        this.name = pName;
+    }
+}
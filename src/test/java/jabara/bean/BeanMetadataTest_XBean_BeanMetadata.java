@@ -0,0 +1,59 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link BeanMetadataTest.XBean}のメタデータ. jabara-bean-processorが生成するコードを模して手で書いたものです.
+ * 
+ * @author jabaraster
+ */
+public final class BeanMetadataTest_XBean_BeanMetadata implements BeanMetadata {
+
+    /**
+     * @see jabara.bean.BeanMetadata#getBeanType()
+     */
+    @Override
+    public Class<?> getBeanType() {
+        return BeanMetadataTest.XBean.class;
+    }
+
+    /**
+     * @see jabara.bean.BeanMetadata#getProperties()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public List<PropertyMetadata> getProperties() {
+        final List<PropertyMetadata> ret = new ArrayList<PropertyMetadata>();
+        ret.add(new PropertyMetadata("count", int.class, "getCount", "setCount", 1, true, false, false, null, new PropertyAccessor() {
+            @Override
+            public boolean canRead() {
+                return true;
+            }
+
+            @Override
+            public boolean canWrite() {
+                return true;
+            }
+
+            @Override
+            public Object get(final Object pBean) {
+                return Integer.valueOf(((BeanMetadataTest.XBean) pBean).getCount());
+            }
+
+            @Override
+            public int getInt(final Object pBean) {
+                return ((BeanMetadataTest.XBean) pBean).getCount() * 100; // 生成されたアクセサが使われていることを確かめるため.
+            }
+
+            @Override
+            public void set(final Object pBean, final Object pValue) {
+                ((BeanMetadataTest.XBean) pBean).setCount(((Integer) pValue).intValue());
+            }
+        }));
+        return ret;
+    }
+}
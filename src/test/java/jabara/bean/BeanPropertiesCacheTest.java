@@ -0,0 +1,163 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.general.ExceptionUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BeanPropertiesCacheTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings("static-method")
+    @Before
+    public void setUp() {
+        BeanPropertiesCache.remove(XBean.class);
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test
+    public void _2回目以降はキャッシュが返る() {
+        final BeanPropertiesCache.Statistics before = BeanPropertiesCache.getStatistics();
+        final BeanProperties p0 = BeanProperties.getInstance(XBean.class);
+        final BeanProperties p1 = BeanProperties.getInstance(XBean.class);
+        final BeanPropertiesCache.Statistics after = BeanPropertiesCache.getStatistics();
+
+        assertThat(p0, sameInstance(p1));
+        assertThat(after.getMissCount() - before.getMissCount(), is(1L));
+        assertThat(after.getHitCount() - before.getHitCount() >= 1L, is(true));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test
+    public void _removeで破棄() {
+        final BeanProperties p0 = BeanProperties.getInstance(XBean.class);
+        final long eviction = BeanPropertiesCache.getStatistics().getEvictionCount();
+
+        BeanPropertiesCache.remove(XBean.class);
+        final BeanProperties p1 = BeanProperties.getInstance(XBean.class);
+
+        assertThat(p0, not(sameInstance(p1)));
+        assertThat(p0, is(p1));
+        assertThat(BeanPropertiesCache.getStatistics().getEvictionCount() - eviction, is(1L));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void _クラスローダ指定で破棄() {
+        final BeanProperties p0 = BeanProperties.getInstance(XBean.class);
+        BeanPropertiesCache.remove(XBean.class.getClassLoader());
+        assertThat(p0, not(sameInstance(BeanProperties.getInstance(XBean.class))));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _派生キャッシュも同時に破棄される() {
+        final BeanCopier copier = BeanCopier.getInstance(XBean.class, XBean.class, BeanCopier.Option.SKIP_READ_ONLY);
+        final PropertyPath path = PropertyPath.getInstance(XBean.class, "name");
+        assertThat(BeanCopier.getInstance(XBean.class, XBean.class, BeanCopier.Option.SKIP_READ_ONLY), sameInstance(copier));
+        assertThat(PropertyPath.getInstance(XBean.class, "name"), sameInstance(path));
+
+        BeanPropertiesCache.remove(XBean.class);
+        final BeanCopier copier2 = BeanCopier.getInstance(XBean.class, XBean.class, BeanCopier.Option.SKIP_READ_ONLY);
+        final PropertyPath path2 = PropertyPath.getInstance(XBean.class, "name");
+        assertThat(copier2, not(sameInstance(copier)));
+        assertThat(path2, not(sameInstance(path)));
+
+        BeanPropertiesCache.remove(XBean.class.getClassLoader());
+        assertThat(BeanCopier.getInstance(XBean.class, XBean.class, BeanCopier.Option.SKIP_READ_ONLY), not(sameInstance(copier2)));
+        assertThat(PropertyPath.getInstance(XBean.class, "name"), not(sameInstance(path2)));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test
+    public void _同時に要求されても1度しか生成されない() {
+        final int threadCount = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final long miss = BeanPropertiesCache.getStatistics().getMissCount();
+            final List<Future<BeanProperties>> futures = new ArrayList<Future<BeanProperties>>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(new Callable<BeanProperties>() {
+                    @Override
+                    public BeanProperties call() throws Exception {
+                        start.await();
+                        return BeanProperties.getInstance(XBean.class);
+                    }
+                }));
+            }
+            start.countDown();
+
+            final BeanProperties first = futures.get(0).get();
+            for (final Future<BeanProperties> future : futures) {
+                assertThat(future.get(), sameInstance(first));
+            }
+            assertThat(BeanPropertiesCache.getStatistics().getMissCount() - miss, is(1L));
+
+        } catch (final Exception e) {
+            throw ExceptionUtil.rethrow(e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test(expected = UnsupportedOperationException.class)
+    public void _共有されるインスタンスはIteratorから変更できない() {
+        final Iterator<BeanProperty> it = BeanProperties.getInstance(XBean.class).iterator();
+        it.next();
+        it.remove();
+    }
+
+    @SuppressWarnings({ "javadoc", "static-method" })
+    public static class XBean {
+        public String getName() {
+            return null;
+        }
+
+        public int getValue() {
+            return 0;
+        }
+    }
+}
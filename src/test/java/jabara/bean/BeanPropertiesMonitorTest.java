@@ -0,0 +1,241 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.bean.annotation.Localized;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BeanPropertiesMonitorTest {
+
+    private final RecordingListener listener = new RecordingListener();
+
+    /**
+     * 
+     */
+    @Before
+    public void setUp() {
+        BeanPropertiesCache.remove(XBean.class);
+        BeanPropertiesMonitor.addListener(this.listener);
+    }
+
+    /**
+     * 
+     */
+    @After
+    public void tearDown() {
+        BeanPropertiesMonitor.removeListener(this.listener);
+        BeanPropertiesMonitor.unregisterMBean();
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "boxing", "nls" })
+    @Test
+    public void _リスナー() {
+        BeanProperties.getInstance(XBean.class);
+        BeanProperties.getInstance(XBean.class);
+        BeanProperties.getInstance(XBean.class).get("name").getLocalizedName(Locale.KOREAN);
+
+        assertThat(this.listener.events, is(list("beanInfoLoaded", //
+                "localizedNameBundleLoaded " + Locale.getDefault() + " false", // EAGERなので生成時に既定のロケールの名称を解決する.
+                "introspected 2", "cacheHit", "cacheHit", "localizedNameBundleLoaded ko false")));
+
+        BeanPropertiesMonitor.removeListener(this.listener);
+        BeanProperties.getInstance(XBean.class);
+        assertThat(this.listener.events.size(), is(6));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "boxing", "nls" })
+    @Test
+    public void _リスナーの例外は呼び出し元に伝えない() {
+        final BeanPropertiesListener failing = (BeanPropertiesListener) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { BeanPropertiesListener.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object pProxy, final Method pMethod, final Object[] pArgs) {
+                        throw new IllegalStateException(pMethod.getName());
+                    }
+                });
+        final Logger logger = Logger.getLogger(BeanPropertiesMonitor.class.getName());
+        final Level level = logger.getLevel();
+        logger.setLevel(Level.OFF);
+        // 先に登録したリスナーが失敗しても、後のリスナーには通知される.
+        BeanPropertiesMonitor.removeListener(this.listener);
+        BeanPropertiesMonitor.addListener(failing);
+        BeanPropertiesMonitor.addListener(this.listener);
+        try {
+            final BeanProperties first = BeanProperties.getInstance(XBean.class);
+            assertThat(BeanProperties.getInstance(XBean.class), sameInstance(first));
+            assertThat(first.size(), is(2));
+            assertThat(this.listener.events.contains("introspected 2"), is(true));
+            assertThat(this.listener.events.contains("cacheHit"), is(true));
+        } finally {
+            BeanPropertiesMonitor.removeListener(failing);
+            logger.setLevel(level);
+        }
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings("boxing")
+    @Test
+    public void _リスナーがなければ計測しない() {
+        BeanPropertiesMonitor.removeListener(this.listener);
+        assertThat(BeanPropertiesMonitor.isEnabled(), is(false));
+        BeanPropertiesMonitor.addListener(this.listener);
+        assertThat(BeanPropertiesMonitor.isEnabled(), is(true));
+    }
+
+    /**
+     * 
+     */
+    @Test(expected = IllegalStateException.class)
+    public void _同じリスナーは重複して登録出来ない() {
+        BeanPropertiesMonitor.addListener(this.listener);
+    }
+
+    /**
+     * @throws JMException -
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _MBean() throws JMException {
+        final BeanPropertiesStatistics sut = BeanPropertiesMonitor.registerMBean();
+        assertThat(BeanPropertiesMonitor.registerMBean(), sameInstance(sut));
+        assertThat(BeanPropertiesMonitor.getMBean(), sameInstance(sut));
+
+        BeanProperties.getInstance(XBean.class);
+        BeanProperties.getInstance(XBean.class).get("name").getLocalizedName(Locale.CHINESE);
+        assertThat(sut.getIntrospectionCount(), is(1L));
+        assertThat(sut.getIntrospectionFailureCount(), is(0L));
+        // 生成時の既定のロケールと、Locale.CHINESE.
+        assertThat(sut.getLocalizedNameBundleMissCount(), is(2L));
+        assertThat(sut.getTotalIntrospectionNanos() >= sut.getTotalBeanInfoNanos(), is(true));
+        assertThat(sut.getEstimatedRetainedBytes() >= BeanPropertiesStatistics.estimateRetainedBytes(BeanProperties.getInstance(XBean.class)),
+                is(true));
+
+        final List<BeanPropertiesStatistics.TypeStatistics> types = sut.getTypeStatistics();
+        assertThat(types.size(), is(1));
+        assertThat(types.get(0).getBeanTypeName(), is(XBean.class.getName()));
+        assertThat(types.get(0).getPropertyCount(), is(2));
+        assertThat(types.get(0).getCacheHitCount(), is(2L));
+        assertThat(types.get(0).getLocalizedNameBundleMissCount(), is(2L));
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(BeanPropertiesMonitor.OBJECT_NAME);
+        assertThat(server.getAttribute(name, "IntrospectionCount"), is((Object) 1L));
+        final CompositeData[] data = (CompositeData[]) server.getAttribute(name, "TypeStatistics");
+        assertThat(data[0].get("propertyCount"), is((Object) 2));
+
+        server.invoke(name, "reset", null, null);
+        assertThat(sut.getIntrospectionCount(), is(0L));
+
+        BeanPropertiesMonitor.unregisterMBean();
+        assertThat(server.isRegistered(name), is(false));
+        assertThat(BeanPropertiesMonitor.getMBean(), nullValue());
+    }
+
+    private static List<String> list(final String... pValues) {
+        final List<String> ret = new ArrayList<String>();
+        Collections.addAll(ret, pValues);
+        return ret;
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XBean {
+        private String name;
+        private int    count;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        @Localized
+        public String getName() {
+            return this.name;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private static class RecordingListener implements BeanPropertiesListener {
+        final List<String> events = new ArrayList<String>();
+
+        @Override
+        public void beanInfoLoaded(final Class<?> pBeanType, final long pElapsedNanos) {
+            record(pBeanType, "beanInfoLoaded");
+        }
+
+        @Override
+        public void cacheHit(final Class<?> pBeanType) {
+            record(pBeanType, "cacheHit");
+        }
+
+        @Override
+        public void introspected(final Class<?> pBeanType, final BeanProperties pProperties, final long pElapsedNanos) {
+            record(pBeanType, "introspected " + pProperties.size());
+        }
+
+        @Override
+        public void introspectionFailed(final Class<?> pBeanType, final Throwable pCause) {
+            record(pBeanType, "introspectionFailed");
+        }
+
+        @Override
+        public void localizedNameBundleLoaded(final Class<?> pBeanType, final Locale pLocale, final boolean pFound, final long pElapsedNanos) {
+            record(pBeanType, "localizedNameBundleLoaded " + pLocale + " " + pFound);
+        }
+
+        private void record(final Class<?> pBeanType, final String pEvent) {
+            // 他の型についてのイベントは無視する.
+            if (pBeanType == XBean.class) {
+                synchronized (this.events) {
+                    this.events.add(pEvent);
+                }
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.runner.RunWith;
 import static org.junit.Assert.assertThat;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 
 /**
  * @author jabaraster
@@ -147,6 +148,40 @@ public class BeanPropertiesTest {
             assertThat(s, is(sut));
         }
 
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method" })
+        @Test
+        public void 直列化から復元するとキャッシュされたインスタンスになる() {
+            final BeanProperties s = deserialize(serialize(new BeanProperties(XGetterOnly.class)));
+            assertThat(s, sameInstance(BeanProperties.getInstance(XGetterOnly.class)));
+        }
+
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "boxing", "nls" })
+        @Test
+        public void ビューを直列化() {
+            final BeanProperties sut = BeanProperties.getInstance(XGetterOnly.class).toVisiblePropertiesOnly();
+            final BeanProperties s = deserialize(serialize(sut));
+            assertThat(s, is(sut));
+            assertThat(s.contains("hidden"), is(false));
+            assertThat(deserialize(serialize(BeanProperties.getInstance(XGetterOnly.class).select("hidden", "getterOnly"))),
+                    sameInstance(BeanProperties.getInstance(XGetterOnly.class).select("hidden", "getterOnly")));
+        }
+
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "boxing" })
+        @Test
+        public void 直列化形式にはプロパティの情報を含まない() {
+            final int size = serialize(BeanProperties.getInstance(XGetterOnly.class)).length;
+            assertThat(size < 300, is(true));
+        }
+
         private static BeanProperties deserialize(final byte[] pData) {
             try {
                 final ByteArrayInputStream in = new ByteArrayInputStream(pData);
@@ -195,6 +230,21 @@ public class BeanPropertiesTest {
             BeanProperties.getInstance(XGetterOnly.class).get(propertyName);
         }
 
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "boxing", "nls" })
+        @Test
+        public void _find() {
+            final BeanProperties sut = BeanProperties.getInstance(XGetterOnly.class);
+            assertThat(sut.find("differType"), is(2));
+            assertThat(sut.find(new StringBuilder("DifferType")), is(2));
+            assertThat(sut.find("notExistsProperty"), is(-1));
+            assertThat(sut.find(""), is(-1));
+            assertThat(sut.toVisiblePropertiesOnly().find("hidden"), is(-1));
+            assertThat(sut.select("differType").find("differType"), is(0));
+        }
+
         /**
          * 
          */
@@ -226,6 +276,93 @@ public class BeanPropertiesTest {
         }
     }
 
+    /**
+     * @author jabaraster
+     */
+    public static class View {
+        private static final PropertyFilter READ_ONLY = new PropertyFilter() {
+                                                          @Override
+                                                          public boolean accept(final BeanProperty pProperty) {
+                                                              return pProperty.isReadOnly();
+                                                          }
+                                                      };
+
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "boxing", "nls" })
+        @Test
+        public void _filter() {
+            final BeanProperties sut = new BeanProperties(XGetterOnly.class).filter(READ_ONLY);
+            assertThat(sut.size(), is(5));
+            assertThat(sut.get(0).getName(), is("hasNoParameter"));
+            assertThat(sut.get(3).getName(), is("hidden"));
+            assertThat(sut.contains("hidden"), is(true));
+            assertThat(sut.toVisiblePropertiesOnly().size(), is(4));
+            assertThat(sut.toVisiblePropertiesOnly().contains("hidden"), is(false));
+        }
+
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "nls" })
+        @Test
+        public void _filterの結果はメモ化される() {
+            final BeanProperties sut = new BeanProperties(XGetterOnly.class);
+            assertThat(sut.filter(READ_ONLY), sameInstance(sut.filter(READ_ONLY)));
+            assertThat(sut.select("hidden", "getterOnly"), sameInstance(sut.select("hidden", "getterOnly")));
+            assertThat(sut.toVisiblePropertiesOnly(), sameInstance(sut.toVisiblePropertiesOnly()));
+        }
+
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "boxing", "nls" })
+        @Test
+        public void _select() {
+            final BeanProperties sut = new BeanProperties(XGetterOnly.class).select("Hidden", "getterOnly");
+            assertThat(sut.size(), is(2));
+            assertThat(sut.get(0).getName(), is("hidden"));
+            assertThat(sut.get(1).getName(), is("getterOnly"));
+            assertThat(sut.get("getterOnly").getName(), is("getterOnly"));
+            assertThat(sut.contains("differType"), is(false));
+        }
+
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "boxing", "nls" })
+        @Test
+        public void _ビューの等価性() {
+            final BeanProperties p0 = new BeanProperties(XGetterOnly.class);
+            final BeanProperties p1 = new BeanProperties(XGetterOnly.class);
+            assertThat(p0.equals(p1), is(true));
+            assertThat(p0.hashCode(), is(p1.hashCode()));
+            assertThat(p0.toVisiblePropertiesOnly().equals(p1.toVisiblePropertiesOnly()), is(true));
+            assertThat(p0.select("hidden", "getterOnly").equals(p0.select("getterOnly", "hidden")), is(false));
+            assertThat(p0.select("getterOnly", "hidden").equals(p1.select("getterOnly", "hidden")), is(true));
+            assertThat(p0.toVisiblePropertiesOnly().equals(p0), is(false));
+        }
+
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "nls" })
+        @Test(expected = IllegalArgumentException.class)
+        public void _selectでプロパティが重複() {
+            new BeanProperties(XGetterOnly.class).select("hidden", "Hidden");
+        }
+
+        /**
+         * 
+         */
+        @SuppressWarnings({ "static-method", "nls" })
+        @Test(expected = IllegalArgumentException.class)
+        public void _ビューに含まれないプロパティをget() {
+            new BeanProperties(XGetterOnly.class).toVisiblePropertiesOnly().get("hidden");
+        }
+    }
+
     @SuppressWarnings({ "javadoc", "static-method" })
     @Ignore
     public static class XGetterOnly {
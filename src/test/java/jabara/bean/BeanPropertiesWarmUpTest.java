@@ -0,0 +1,177 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BeanPropertiesWarmUpTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    /**
+     * 
+     */
+    @After
+    public void tearDown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "boxing", "unchecked" })
+    @Test
+    public void _型の一覧() {
+        BeanPropertiesCache.remove(XBean.class);
+        final BeanPropertiesWarmUp.Result result = BeanPropertiesWarmUp.run(Arrays.<Class<?>> asList(XBean.class, YBean.class), this.executor);
+
+        assertThat(result.isSucceeded(), is(true));
+        assertThat(result.getEntries().size(), is(2));
+        final BeanPropertiesWarmUp.Entry entry = result.getEntries().get(0);
+        assertThat(entry.getBeanType(), is((Object) XBean.class));
+        assertThat(entry.getClassName(), is(XBean.class.getName()));
+        assertThat(entry.getPropertyCount(), is(2));
+        assertThat(entry.getElapsedNanos() >= 0, is(true));
+        assertThat(result.getEntries().get(1).getPropertyCount(), is(1));
+
+        // キャッシュされている.
+        final long miss = BeanPropertiesCache.getStatistics().getMissCount();
+        BeanProperties.getInstance(XBean.class);
+        assertThat(BeanPropertiesCache.getStatistics().getMissCount(), is(miss));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "boxing", "nls" })
+    @Test
+    public void _クラス名の一覧_失敗は型ごとに記録される() {
+        final BeanPropertiesWarmUp.Result result = BeanPropertiesWarmUp.run(getClass().getClassLoader(),
+                Arrays.asList(XBean.class.getName(), "jabara.bean.NoSuchBean", YBean.class.getName()), this.executor);
+
+        assertThat(result.isSucceeded(), is(false));
+        assertThat(result.getEntries().size(), is(3));
+        assertThat(result.getEntries().get(0).isSucceeded(), is(true));
+        assertThat(result.getEntries().get(2).isSucceeded(), is(true));
+
+        assertThat(result.getFailures().size(), is(1));
+        final BeanPropertiesWarmUp.Entry failure = result.getFailures().get(0);
+        assertThat(failure, sameInstance(result.getEntries().get(1)));
+        assertThat(failure.getBeanType(), nullValue());
+        assertThat(failure.getPropertyCount(), is(-1));
+        assertThat(failure.getFailure() instanceof ClassNotFoundException, is(true));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "boxing", "nls" })
+    @Test
+    public void _パッケージ_ディレクトリ() {
+        final List<String> names = BeanPropertiesWarmUp.findClassNames(getClass().getClassLoader(), "jabara.bean");
+        assertThat(names.contains(BeanProperties.class.getName()), is(true));
+        assertThat(names.contains(XBean.class.getName()), is(true));
+        assertThat(names.contains("jabara.bean.annotation.Order"), is(true));
+        assertThat(names.contains("jabara.bean.package-info"), is(false));
+        for (final String name : names) {
+            assertThat(name.matches(".*\\$[0-9].*"), is(false));
+        }
+
+        final BeanPropertiesWarmUp.Result result = BeanPropertiesWarmUp.runPackage(getClass().getClassLoader(), "jabara.bean.annotation", this.executor);
+        assertThat(result.isSucceeded(), is(true));
+        assertThat(result.getEntries().size() >= 5, is(true));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "boxing", "nls" })
+    @Test
+    public void _パッケージ_jar() throws IOException {
+        final File jar = File.createTempFile("warmup", ".jar");
+        jar.deleteOnExit();
+        final JarOutputStream out = new JarOutputStream(new FileOutputStream(jar));
+        try {
+            for (final String name : Arrays.asList("x/y/", "x/y/Foo.class", "x/y/z/Bar$Baz.class", "x/y/Foo$1.class", "x/y/package-info.class",
+                    "x/Other.class", "x/y/readme.txt")) {
+                out.putNextEntry(new JarEntry(name));
+                // 中身は不正なクラスファイル.
+                out.write(new byte[] { 1, 2, 3 });
+                out.closeEntry();
+            }
+        } finally {
+            out.close();
+        }
+
+        final URLClassLoader loader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null);
+        assertThat(BeanPropertiesWarmUp.findClassNames(loader, "x.y"), is(Arrays.asList("x.y.Foo", "x.y.z.Bar$Baz")));
+
+        final BeanPropertiesWarmUp.Result result = BeanPropertiesWarmUp.runPackage(loader, "x.y", this.executor);
+        assertThat(result.getFailures().size(), is(2));
+        assertThat(result.getFailures().get(0).getFailure() instanceof LinkageError, is(true));
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XBean {
+        private String name;
+        private int    count;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class YBean {
+        private String value;
+
+        public String getValue() {
+            return this.value;
+        }
+
+        public void setValue(final String pValue) {
+            this.value = pValue;
+        }
+    }
+}
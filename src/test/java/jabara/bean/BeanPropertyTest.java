@@ -4,6 +4,8 @@
 package jabara.bean;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import jabara.bean.annotation.Hidden;
 import jabara.bean.annotation.Localized;
@@ -11,8 +13,18 @@ import jabara.general.ExceptionUtil;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 import org.junit.Test;
 
@@ -32,6 +44,54 @@ public class BeanPropertyTest {
         assertThat(sut.getType().equals(String.class), is(true));
     }
 
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test
+    public void _getInt_setInt() {
+        final XValueBean bean = new XValueBean();
+        final BeanProperty sut = BeanProperties.getInstance(XValueBean.class).get("count"); //$NON-NLS-1$
+        sut.setInt(bean, 5);
+        assertThat(bean.getCount(), is(5));
+        assertThat(sut.getInt(bean), is(5));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings("static-method")
+    @Test(expected = IllegalStateException.class)
+    public void _getLong_型が違う() {
+        BeanProperties.getInstance(XValueBean.class).get("count").getLong(new XValueBean()); //$NON-NLS-1$
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test
+    public void _getValue() {
+        final XValueBean bean = new XValueBean();
+        bean.setText("abc"); //$NON-NLS-1$
+        final BeanProperty sut = BeanProperties.getInstance(XValueBean.class).get("text"); //$NON-NLS-1$
+        assertThat(sut.getValue(bean), is((Object) "abc")); //$NON-NLS-1$
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "boxing", "static-method" })
+    @Test
+    public void _LAZYでもEAGERと同じ結果になる() {
+        final BeanProperties eager = new BeanProperties(XTestBean.class, BeanProperties.Resolution.EAGER);
+        final BeanProperties lazy = new BeanProperties(XTestBean.class, BeanProperties.Resolution.LAZY);
+        assertThat(lazy.get("fromResource").getLocalizedName(), is("getterのみ")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(lazy.get("hidden").isHidden(), is(true)); //$NON-NLS-1$
+        assertThat(lazy.hashCode(), is(eager.hashCode()));
+        assertThat(lazy, is(eager));
+    }
+
     /**
      * 
      */
@@ -64,6 +124,78 @@ public class BeanPropertyTest {
         assertThat(sut.getLocalizedName(), is("getterのみ")); //$NON-NLS-1$
     }
 
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _findAnnotation() {
+        final BeanProperties properties = BeanProperties.getInstance(XTestBean.class);
+        final BeanProperty sut = properties.get("hidden");
+        assertThat(sut.findAnnotation(Hidden.class) != null, is(true));
+        assertThat(sut.findAnnotation(Localized.class), nullValue());
+        assertThat(sut.findAnnotation(XMarker.class).value(), is("setter"));
+        assertThat(sut.isAnnotationPresent(XMarker.class), is(true));
+        assertThat(properties.get("readWrite").isAnnotationPresent(XMarker.class), is(false));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _findAnnotation_AnnotationKey() {
+        final BeanProperty before = new BeanProperties(XTestBean.class).get("hardCoding");
+        final AnnotationKey<XMarker> key = AnnotationKey.register(XMarker.class);
+        assertThat(AnnotationKey.register(XMarker.class), sameInstance(key));
+
+        final BeanProperty after = new BeanProperties(XTestBean.class).get("hardCoding");
+        assertThat(after.findAnnotation(key).value(), is("getter"));
+        assertThat(before.findAnnotation(key).value(), is("getter"));
+        assertThat(after.isAnnotationPresent(key), is(true));
+        assertThat(new BeanProperties(XTestBean.class).get("readWrite").isAnnotationPresent(key), is(false));
+    }
+
+    /**
+     * @throws ClassNotFoundException -
+     */
+    @SuppressWarnings({ "boxing", "nls" })
+    @Test
+    public void _AnnotationKeyの登録解除() throws ClassNotFoundException {
+        final ClassLoader child = new ChildFirstClassLoader(getClass().getClassLoader(), XChildBean.class.getName(), XChildMarker.class.getName());
+        final Class<?> beanType = child.loadClass(XChildBean.class.getName());
+        final AnnotationKey<?> key = AnnotationKey.register(child.loadClass(XChildMarker.class.getName()).asSubclass(Annotation.class));
+        final BeanProperty before = BeanProperties.getInstance(beanType).get("value");
+        assertThat(before.isAnnotationPresent(key), is(true));
+
+        BeanPropertiesCache.remove(child);
+        assertThat(AnnotationKey.getRegisteredKeys()[key.getIndex()], nullValue());
+
+        // 空いた位置は再利用されるが、以前に作られた表からも正しい結果が得られる.
+        final AnnotationKey<XOtherMarker> reused = AnnotationKey.register(XOtherMarker.class);
+        assertThat(reused.getIndex(), is(key.getIndex()));
+        assertThat(before.isAnnotationPresent(reused), is(false));
+        assertThat(before.isAnnotationPresent(key), is(true));
+
+        // jabara-beanと同じクラスローダの型は解除しない.
+        BeanPropertiesCache.remove(getClass().getClassLoader());
+        assertThat(AnnotationKey.register(XOtherMarker.class), sameInstance(reused));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void _Localized名をロケールを指定して取得() {
+        final BeanProperties sut = BeanProperties.getInstance(XTestBean.class);
+        assertThat(sut.get("fromResource").getLocalizedName(Locale.FRENCH), is("en français")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(sut.get("fromResource").getLocalizedName(Locale.GERMAN), is("getterのみ")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(sut.get("hardCoding").getLocalizedName(Locale.FRENCH), is("文字列")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(sut.get("notAnnotated").getLocalizedName(Locale.FRENCH), is("notAnnotated")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(sut.get("fromResource").getLocalizedName(), is("getterのみ")); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
     /**
      * 
      */
@@ -74,6 +206,29 @@ public class BeanPropertyTest {
         assertThat(sut.getLocalizedName(), is("文字列")); //$NON-NLS-1$
     }
 
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test
+    public void _setValue() {
+        final XValueBean bean = new XValueBean();
+        final BeanProperties properties = BeanProperties.getInstance(XValueBean.class);
+        properties.get("text").setValue(bean, "xyz"); //$NON-NLS-1$ //$NON-NLS-2$
+        properties.get("count").setValue(bean, 10); //$NON-NLS-1$
+        assertThat(bean.getText(), is("xyz")); //$NON-NLS-1$
+        assertThat(bean.getCount(), is(10));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings("static-method")
+    @Test(expected = IllegalStateException.class)
+    public void _setValue_読み取り専用() {
+        BeanProperties.getInstance(XValueBean.class).get("readOnly").setValue(new XValueBean(), "x"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
     /**
      * 
      */
@@ -86,6 +241,28 @@ public class BeanPropertyTest {
         assertThat(sut.equals(exp), is(true));
     }
 
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test
+    public void _直列化から復元後も値を読み書きできる() {
+        final XValueBean bean = new XValueBean();
+        final BeanProperty sut = serialize(BeanProperties.getInstance(XValueBean.class).get("count")); //$NON-NLS-1$
+        sut.setValue(bean, 3);
+        assertThat(sut.getValue(bean), is((Object) 3));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _直列化から復元するとキャッシュされたインスタンスになる() {
+        final BeanProperty cached = BeanProperties.getInstance(XValueBean.class).get("text");
+        assertThat(serialize(new BeanProperties(XValueBean.class).get("text")), sameInstance(cached));
+    }
+
     /**
      * 
      */
@@ -111,6 +288,35 @@ public class BeanPropertyTest {
         }
     }
 
+    @SuppressWarnings("javadoc")
+    @Target({ ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface XChildMarker {
+        //
+    }
+
+    @SuppressWarnings("javadoc")
+    @Target({ ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface XMarker {
+        String value();
+    }
+
+    @SuppressWarnings("javadoc")
+    @Target({ ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface XOtherMarker {
+        //
+    }
+
+    @SuppressWarnings({ "javadoc", "static-method" })
+    public static class XChildBean {
+        @XChildMarker
+        public String getValue() {
+            return null;
+        }
+    }
+
     @SuppressWarnings("javadoc")
     public static class XExTestBean extends XTestBean {
         @Override
@@ -129,6 +335,7 @@ public class BeanPropertyTest {
         }
 
         @Localized("文字列")
+        @XMarker("getter")
         public String getHardCoding() {
             return null;
         }
@@ -150,6 +357,7 @@ public class BeanPropertyTest {
         }
 
         @Hidden
+        @XMarker("setter")
         public void setHidden(final int i) {
             System.out.println(i);
         }
@@ -158,4 +366,82 @@ public class BeanPropertyTest {
             System.out.println(s);
         }
     }
+
+    @SuppressWarnings({ "javadoc", "static-method" })
+    public static class XValueBean {
+        private String text;
+        private int    count;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public String getReadOnly() {
+            return "readOnly"; //$NON-NLS-1$
+        }
+
+        public String getText() {
+            return this.text;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setText(final String pText) {
+            this.text = pText;
+        }
+    }
+
+    /**
+     * 指定の名前のクラスだけを親より先に自分でロードするクラスローダです. ホットデプロイされたWebアプリケーションのクラスローダを模します.
+     */
+    private static class ChildFirstClassLoader extends ClassLoader {
+        private final List<String> names;
+
+        ChildFirstClassLoader(final ClassLoader pParent, final String... pNames) {
+            super(pParent);
+            this.names = Arrays.asList(pNames);
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(final String pName, final boolean pResolve) throws ClassNotFoundException {
+            if (!this.names.contains(pName)) {
+                return super.loadClass(pName, pResolve);
+            }
+            Class<?> ret = findLoadedClass(pName);
+            if (ret == null) {
+                ret = findClass(pName);
+            }
+            if (pResolve) {
+                resolveClass(ret);
+            }
+            return ret;
+        }
+
+        @Override
+        protected Class<?> findClass(final String pName) throws ClassNotFoundException {
+            final InputStream in = getParent().getResourceAsStream(pName.replace('.', '/') + ".class"); //$NON-NLS-1$
+            if (in == null) {
+                throw new ClassNotFoundException(pName);
+            }
+            try {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[4096];
+                for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                    out.write(buffer, 0, read);
+                }
+                final byte[] bytes = out.toByteArray();
+                return defineClass(pName, bytes, 0, bytes.length);
+            } catch (final IOException e) {
+                throw new ClassNotFoundException(pName, e);
+            } finally {
+                try {
+                    in.close();
+                } catch (final IOException e) {
+                    // 無視.
+                }
+            }
+        }
+    }
 }
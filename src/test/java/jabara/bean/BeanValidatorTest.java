@@ -0,0 +1,192 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import jabara.bean.annotation.Nullable;
+import jabara.bean.annotation.Order;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BeanValidatorTest {
+
+    private static final ValidationRule<MaxLength> MAX_LENGTH = new ValidationRule<MaxLength>(MaxLength.class) {
+                                                                  @Override
+                                                                  public boolean isValid(final Object pValue, final MaxLength pAnnotation) {
+                                                                      return ((String) pValue).length() <= pAnnotation.value();
+                                                                  }
+                                                              };
+
+    private static final ValidationRule<Positive>  POSITIVE   = new ValidationRule<Positive>(Positive.class) {
+                                                                  @Override
+                                                                  public boolean isValid(final Object pValue, final Positive pAnnotation) {
+                                                                      return ((Number) pValue).intValue() > 0;
+                                                                  }
+                                                              };
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _nullの検証() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        final BeanValidator sut = properties.getBeanValidator();
+        assertThat(properties.getBeanValidator(), sameInstance(sut));
+
+        final XBean valid = bean("abc", null, 1);
+        assertThat(sut.isValid(valid), is(true));
+        assertThat(sut.validate(valid), sameInstance(Collections.<BeanValidator.Violation> emptyList()));
+
+        final XBean invalid = bean(null, null, -1);
+        assertThat(sut.isValid(invalid), is(false));
+        final List<BeanValidator.Violation> violations = sut.validate(invalid);
+        assertThat(violations.size(), is(1));
+        assertThat(violations.get(0).getProperty(), is(properties.get("name")));
+        assertThat(violations.get(0).isNullViolation(), is(true));
+        assertThat(violations.get(0).getAnnotation(), nullValue());
+        assertThat(violations.get(0).getBean(), is((Object) invalid));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _規則の検証() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        final BeanValidator sut = BeanValidator.getInstance(properties, MAX_LENGTH, POSITIVE);
+
+        assertThat(sut.isValid(bean("abc", "12345", 1)), is(true));
+        // nullには規則を適用しない.
+        assertThat(sut.isValid(bean("abc", null, 1)), is(true));
+
+        final List<BeanValidator.Violation> violations = sut.validate(bean("abcdef", "123456", 0));
+        assertThat(violations.size(), is(3));
+        assertThat(violations.get(0).getProperty(), is(properties.get("name")));
+        assertThat(violations.get(0).getAnnotation().annotationType(), is((Object) MaxLength.class));
+        assertThat(violations.get(1).getProperty(), is(properties.get("note")));
+        assertThat(violations.get(2).getProperty(), is(properties.get("count")));
+        assertThat(violations.get(2).isNullViolation(), is(false));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _複数のBean() {
+        final BeanValidator sut = BeanValidator.getInstance(BeanProperties.getInstance(XBean.class), MAX_LENGTH, POSITIVE);
+
+        final List<XBean> beans = new ArrayList<XBean>();
+        for (int i = 0; i < 100000; i++) {
+            beans.add(bean(i % 1000 == 0 ? null : "n" + (i % 100), null, i % 3000 == 0 ? 0 : 1));
+        }
+        final List<BeanValidator.Violation> sequential = sut.validateAll(beans);
+        assertThat(sequential.size(), is(100 + 34));
+        assertThat(sequential.get(0).getIndex(), is(0));
+        assertThat(sequential.get(1).getIndex(), is(0));
+        assertThat(sequential.get(2).getIndex(), is(1000));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<BeanValidator.Violation> parallel = sut.validateAll(beans, executor);
+            assertThat(parallel.size(), is(sequential.size()));
+            for (int i = 0; i < parallel.size(); i++) {
+                assertThat(parallel.get(i).getIndex(), is(sequential.get(i).getIndex()));
+                assertThat(parallel.get(i).getProperty(), is(sequential.get(i).getProperty()));
+            }
+            assertThat(sut.validateAll(beans.subList(1, 1000), executor).isEmpty(), is(true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static XBean bean(final String pName, final String pNote, final int pCount) {
+        final XBean ret = new XBean();
+        ret.setName(pName);
+        ret.setNote(pNote);
+        ret.setCount(pCount);
+        return ret;
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface MaxLength {
+        int value();
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface Positive {
+        //
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XBean {
+        private String name;
+        private String note;
+        private int    count;
+
+        @Order(30)
+        @Positive
+        public int getCount() {
+            return this.count;
+        }
+
+        @Order(10)
+        @MaxLength(5)
+        public String getName() {
+            return this.name;
+        }
+
+        @Order(20)
+        @Nullable
+        @MaxLength(5)
+        public String getNote() {
+            return this.note;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setNote(final String pNote) {
+            this.note = pNote;
+        }
+    }
+}
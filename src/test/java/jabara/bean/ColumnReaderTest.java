@@ -0,0 +1,165 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * @author jabaraster
+ */
+public class ColumnReaderTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _各型の列() {
+        final List<XBean> beans = beans(5);
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+
+        assertThat(Arrays.equals(properties.readIntColumn(beans, properties.get("intValue")), new int[] { 0, 1, 2, 3, 4 }), is(true));
+        assertThat(Arrays.equals(properties.readLongColumn(beans, properties.get("longValue")), new long[] { 0, 10, 20, 30, 40 }), is(true));
+        assertThat(Arrays.equals(properties.readDoubleColumn(beans, properties.get("doubleValue")), new double[] { 0, 0.5, 1, 1.5, 2 }), is(true));
+        assertThat(Arrays.equals(properties.readColumn(beans, properties.get("text")), new Object[] { "t0", "t1", "t2", "t3", "t4" }), is(true));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _RandomAccessでないIterable() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        final List<XBean> linked = new LinkedList<XBean>(beans(40));
+        final Iterable<XBean> iterable = new Iterable<XBean>() {
+            @Override
+            public java.util.Iterator<XBean> iterator() {
+                return linked.iterator();
+            }
+        };
+        final int[] column = properties.readIntColumn(iterable, properties.get("intValue"));
+        assertThat(column.length, is(40));
+        assertThat(column[39], is(39));
+        assertThat(properties.readIntColumn(linked, properties.get("intValue")).length, is(40));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _並列() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        final List<XBean> beans = beans(100000);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final long[] column = properties.readLongColumn(beans, properties.get("longValue"), executor);
+            for (int i = 0; i < column.length; i++) {
+                assertThat(column[i], is(i * 10L));
+            }
+            final Object[] texts = properties.readColumn(new LinkedList<XBean>(beans), properties.get("text"), executor);
+            assertThat(texts[99999], is((Object) "t99999"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IllegalStateException.class)
+    public void _型が違う() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        properties.readIntColumn(beans(1), properties.get("longValue"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IllegalArgumentException.class)
+    public void _別の型のプロパティ() {
+        BeanProperties.getInstance(XBean.class).readColumn(beans(1), BeanProperties.getInstance(BeanMapTest.XBean.class).get("name"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IllegalArgumentException.class)
+    public void _要素にnull() {
+        final BeanProperties properties = BeanProperties.getInstance(XBean.class);
+        properties.readColumn(Arrays.asList(new XBean(), null), properties.get("text"));
+    }
+
+    @SuppressWarnings("nls")
+    private static List<XBean> beans(final int pCount) {
+        final List<XBean> ret = new ArrayList<XBean>();
+        for (int i = 0; i < pCount; i++) {
+            final XBean bean = new XBean();
+            bean.setIntValue(i);
+            bean.setLongValue(i * 10L);
+            bean.setDoubleValue(i / 2.0);
+            bean.setText("t" + i);
+            ret.add(bean);
+        }
+        return ret;
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XBean {
+        private int    intValue;
+        private long   longValue;
+        private double doubleValue;
+        private String text;
+
+        public double getDoubleValue() {
+            return this.doubleValue;
+        }
+
+        public int getIntValue() {
+            return this.intValue;
+        }
+
+        public long getLongValue() {
+            return this.longValue;
+        }
+
+        public String getText() {
+            return this.text;
+        }
+
+        public void setDoubleValue(final double pDoubleValue) {
+            this.doubleValue = pDoubleValue;
+        }
+
+        public void setIntValue(final int pIntValue) {
+            this.intValue = pIntValue;
+        }
+
+        public void setLongValue(final long pLongValue) {
+            this.longValue = pLongValue;
+        }
+
+        public void setText(final String pText) {
+            this.text = pText;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * @author jabaraster
+ */
+public class LocalizedNameCacheTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings("static-method")
+    @After
+    public void tearDown() {
+        LocalizedNameCache.setMaxLocales(LocalizedNameCache.DEFAULT_MAX_LOCALES);
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _ResourceBundleにキーがなければLocalizedの値() {
+        final LocalizedNameCache sut = new LocalizedNameCache(BeanPropertyTest.XTestBean.class);
+        assertThat(sut.get("hardCoding", "文字列", Locale.FRENCH), is("文字列"));
+        assertThat(sut.get("hardCoding", "", Locale.FRENCH), is("hardCoding"));
+        assertThat(sut.get("fromResource", "", Locale.FRENCH), is("en français"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _ResourceBundleが存在しない() {
+        final LocalizedNameCache sut = new LocalizedNameCache(LocalizedNameCacheTest.class);
+        assertThat(sut.get("name", "名前", Locale.JAPANESE), is("名前"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _上限を超えると古いロケールから破棄される() {
+        LocalizedNameCache.setMaxLocales(2);
+        final LocalizedNameCache sut = new LocalizedNameCache(BeanPropertyTest.XTestBean.class);
+        sut.get("fromResource", "", Locale.FRENCH);
+        sut.get("fromResource", "", Locale.GERMAN);
+        sut.get("fromResource", "", Locale.GERMAN);
+        assertThat(sut.size(), is(2));
+
+        sut.get("fromResource", "", Locale.ITALIAN);
+        assertThat(sut.size(), is(2));
+        assertThat(sut.get("fromResource", "", Locale.FRENCH), is("en français"));
+        assertThat(sut.size(), is(2));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings("static-method")
+    @Test(expected = IllegalArgumentException.class)
+    public void _上限に0は指定出来ない() {
+        LocalizedNameCache.setMaxLocales(0);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * @author jabaraster
+ */
+public class PropertyNameIndexTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _先頭の大文字小文字を区別しない() {
+        final PropertyNameIndex sut = new PropertyNameIndex(new String[] { "name", "age", "URL" });
+        assertThat(sut.find("name"), is(0));
+        assertThat(sut.find("Name"), is(0));
+        assertThat(sut.find(new StringBuilder("Age")), is(1));
+        assertThat(sut.find("URL"), is(2));
+        assertThat(sut.find("uRL"), is(2));
+        assertThat(sut.find("NAME"), is(-1));
+        assertThat(sut.find("nam"), is(-1));
+        assertThat(sut.find(""), is(-1));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _完全に一致するものを優先する() {
+        final PropertyNameIndex sut = new PropertyNameIndex(new String[] { "xValue", "XValue" });
+        assertThat(sut.find("xValue"), is(0));
+        assertThat(sut.find("XValue"), is(1));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _多数のプロパティ() {
+        final String[] names = new String[100];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "property" + i;
+        }
+        final PropertyNameIndex sut = new PropertyNameIndex(names);
+        for (int i = 0; i < names.length; i++) {
+            assertThat(sut.find("Property" + i), is(i));
+        }
+        assertThat(sut.find("property100"), is(-1));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _プロパティが空() {
+        assertThat(new PropertyNameIndex(new String[0]).find("name"), is(-1));
+    }
+}
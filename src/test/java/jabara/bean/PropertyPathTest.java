@@ -0,0 +1,207 @@
+/**
+ * 
+ */
+package jabara.bean;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class PropertyPathTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _解決() {
+        final PropertyPath sut = PropertyPath.getInstance(XOrder.class, "customer.Address.city");
+        assertThat(sut.getPath(), is("customer.Address.city"));
+        assertThat(sut.getRootType(), is((Object) XOrder.class));
+        assertThat(sut.getType(), is((Object) String.class));
+        assertThat(sut.getLeafProperty(), is(BeanProperties.getInstance(XAddress.class).get("city")));
+        assertThat(sut.getProperties().size(), is(3));
+        assertThat(sut.getProperties().get(1), is(BeanProperties.getInstance(XCustomer.class).get("address")));
+
+        assertThat(PropertyPath.getInstance(XOrder.class, "customer.Address.city"), sameInstance(sut));
+        assertThat(PropertyPath.getInstance(XOrder.class, "customer.Address.city", PropertyPath.NullHandling.THROW), not(sameInstance(sut)));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _読み書き() {
+        final XOrder order = order();
+
+        assertThat(PropertyPath.getInstance(XOrder.class, "customer.address.city").getValue(order), is((Object) "Tokyo"));
+        assertThat(PropertyPath.getInstance(XOrder.class, "customer.address.zip").getInt(order), is(1000001));
+        assertThat(PropertyPath.getInstance(XOrder.class, "customer.name").getValue(order), is((Object) "abc"));
+        assertThat(PropertyPath.getInstance(XOrder.class, "amount").getLong(order), is(100L));
+
+        assertThat(PropertyPath.getInstance(XOrder.class, "customer.address.city").setValue(order, "Osaka"), is(true));
+        assertThat(order.getCustomer().getAddress().getCity(), is("Osaka"));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _途中がnull_RETURN_NULL() {
+        final XOrder order = order();
+        order.getCustomer().setAddress(null);
+
+        final PropertyPath sut = PropertyPath.getInstance(XOrder.class, "customer.address.city");
+        assertThat(sut.getNullHandling(), is(PropertyPath.NullHandling.RETURN_NULL));
+        assertThat(sut.getValue(order), nullValue());
+        assertThat(sut.setValue(order, "Osaka"), is(false));
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = NullPointerException.class)
+    public void _途中がnull_THROW() {
+        final XOrder order = order();
+        order.setCustomer(null);
+        PropertyPath.getInstance(XOrder.class, "customer.address.city", PropertyPath.NullHandling.THROW).getValue(order);
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = NullPointerException.class)
+    public void _途中がnull_プリミティブ型() {
+        final XOrder order = order();
+        order.getCustomer().setAddress(null);
+        PropertyPath.getInstance(XOrder.class, "customer.address.zip").getInt(order);
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _解決出来ないパス() {
+        for (final String path : Arrays.asList("customer.unknown", "customer..name", "customer.", "amount.value")) {
+            try {
+                PropertyPath.getInstance(XOrder.class, path);
+                throw new AssertionError(path);
+            } catch (final IllegalArgumentException e) {
+                // OK
+            }
+        }
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IllegalStateException.class)
+    public void _型が違う() {
+        PropertyPath.getInstance(XOrder.class, "customer.name").getInt(order());
+    }
+
+    @SuppressWarnings("nls")
+    private static XOrder order() {
+        final XAddress address = new XAddress();
+        address.setCity("Tokyo");
+        address.setZip(1000001);
+        final XCustomer customer = new XCustomer();
+        customer.setName("abc");
+        customer.setAddress(address);
+        final XOrder ret = new XOrder();
+        ret.setCustomer(customer);
+        ret.setAmount(100);
+        return ret;
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XAddress {
+        private String city;
+        private int    zip;
+
+        public String getCity() {
+            return this.city;
+        }
+
+        public int getZip() {
+            return this.zip;
+        }
+
+        public void setCity(final String pCity) {
+            this.city = pCity;
+        }
+
+        public void setZip(final int pZip) {
+            this.zip = pZip;
+        }
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XCustomer {
+        private String   name;
+        private XAddress address;
+
+        public XAddress getAddress() {
+            return this.address;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setAddress(final XAddress pAddress) {
+            this.address = pAddress;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class XOrder {
+        private XCustomer customer;
+        private long      amount;
+
+        public long getAmount() {
+            return this.amount;
+        }
+
+        public XCustomer getCustomer() {
+            return this.customer;
+        }
+
+        public void setAmount(final long pAmount) {
+            this.amount = pAmount;
+        }
+
+        public void setCustomer(final XCustomer pCustomer) {
+            this.customer = pCustomer;
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.annotation.Hidden;
+import jabara.bean.annotation.Order;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class BinaryTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _プロパティの構成() {
+        final BinaryCodec<XBean> codec = BinaryCodec.getInstance(XBean.class);
+        assertThat(codec.getPropertyNames(), is(Arrays.asList("name", "count", "total", "ratio", "active", "price", "kind", "removed")));
+        assertThat(BinaryCodec.getInstance(XBean.class), sameInstance(codec));
+        assertThat(Boolean.valueOf(codec.getFingerprint() == BinaryCodec.getInstance(YBean.class).getFingerprint()), is(Boolean.FALSE));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _往復() throws IOException {
+        final BinaryCodec<XBean> codec = BinaryCodec.getInstance(XBean.class);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024 * 1024);
+        codec.writeSchema(buffer);
+        for (int i = 0; i < 5000; i++) {
+            codec.write(bean(i), buffer);
+        }
+        buffer.flip();
+
+        final BinaryReader<XBean> reader = codec.newReader(buffer, BinaryCodec.Mismatch.REJECT);
+        for (int i = 0; i < 5000; i++) {
+            final XBean expected = bean(i);
+            final XBean actual = reader.read(buffer);
+            assertThat(actual.getName(), is(expected.getName()));
+            assertThat(actual.getCount(), is(expected.getCount()));
+            assertThat(actual.getTotal(), is(expected.getTotal()));
+            assertThat(actual.getRatio(), is(expected.getRatio()));
+            assertThat(actual.isActive(), is(expected.isActive()));
+            assertThat(actual.getPrice(), is(expected.getPrice()));
+            assertThat(actual.getKind(), is(expected.getKind()));
+            assertThat(actual.getSecret(), nullValue());
+        }
+        assertThat(buffer.remaining(), is(0));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _Serializableより小さい() throws IOException {
+        final XBean bean = bean(12345);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        BinaryCodec.getInstance(XBean.class).write(bean, buffer);
+
+        final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(serialized);
+        out.writeObject(bean);
+        out.close();
+
+        assertThat(buffer.position() < 50, is(true));
+        assertThat(buffer.position() * 10 < serialized.size(), is(true));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _スキーマの違いを吸収() throws IOException {
+        final BinaryCodec<XBean> writer = BinaryCodec.getInstance(XBean.class);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        writer.writeSchema(buffer);
+        final XBean bean = bean(4);
+        bean.setKind(Kind.C);
+        writer.write(bean, buffer);
+        bean.setKind(Kind.A);
+        bean.setTotal(null);
+        writer.write(bean, buffer);
+        buffer.flip();
+
+        final BinaryReader<YBean> reader = BinaryCodec.getInstance(YBean.class).newReader(buffer, BinaryCodec.Mismatch.ADAPT);
+        final YBean first = reader.read(buffer);
+        assertThat(first.getName(), is(bean.getName()));
+        assertThat(first.getCount(), is(bean.getCount()));
+        assertThat(first.getTotal(), is(4000000000L));
+        assertThat(first.getRatio(), nullValue()); // 型が違うので読み飛ばす.
+        assertThat(first.getKind(), nullValue()); // Cは存在しない.
+        assertThat(first.getAdded(), is("default"));
+
+        final YBean second = reader.read(buffer);
+        assertThat(second.getKind(), is(Kind2.A));
+        assertThat(second.getTotal(), is(0L)); // nullはプリミティブ型には設定しない.
+        assertThat(buffer.remaining(), is(0));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test(expected = IOException.class)
+    public void _スキーマの違いを拒否() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        BinaryCodec.getInstance(XBean.class).writeSchema(buffer);
+        buffer.flip();
+        BinaryCodec.getInstance(YBean.class).newReader(buffer, BinaryCodec.Mismatch.REJECT);
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test(expected = IOException.class)
+    public void _壊れたスキーマ() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        BinaryCodec.getInstance(XBean.class).writeSchema(buffer);
+        buffer.put(12, (byte) (buffer.get(12) + 1));
+        buffer.flip();
+        BinaryCodec.getInstance(XBean.class).newReader(buffer, BinaryCodec.Mismatch.ADAPT);
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test(expected = IOException.class)
+    public void _短すぎるスキーマ() throws IOException {
+        BinaryCodec.getInstance(XBean.class).newReader(ByteBuffer.wrap(new byte[] { 1, 0 }), BinaryCodec.Mismatch.ADAPT);
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method" })
+    @Test(expected = IOException.class)
+    public void _途中で切れたスキーマ() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        BinaryCodec.getInstance(XBean.class).writeSchema(buffer);
+        buffer.limit(buffer.position() - 3);
+        buffer.position(0);
+        BinaryCodec.getInstance(XBean.class).newReader(buffer, BinaryCodec.Mismatch.ADAPT);
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _範囲外のコードポイント() throws IOException {
+        final BinaryCodec<XBean> codec = BinaryCodec.getInstance(XBean.class);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        codec.writeSchema(buffer);
+        final int rowStart = buffer.position();
+        final XBean bean = bean(0);
+        bean.setName("wxyz");
+        codec.write(bean, buffer);
+        buffer.flip();
+        // nameの4バイトを、0x10FFFFを超えるコードポイントを表す4バイトに置き換える.
+        for (int i = rowStart; i + 4 <= buffer.limit(); i++) {
+            if (buffer.get(i) == 'w' && buffer.get(i + 1) == 'x' && buffer.get(i + 2) == 'y' && buffer.get(i + 3) == 'z') {
+                buffer.put(i, (byte) 0xf7).put(i + 1, (byte) 0xbf).put(i + 2, (byte) 0xbf).put(i + 3, (byte) 0xbf);
+                break;
+            }
+        }
+        codec.newReader(buffer, BinaryCodec.Mismatch.REJECT).read(buffer);
+    }
+
+    @SuppressWarnings("nls")
+    private static XBean bean(final int pIndex) {
+        final XBean ret = new XBean();
+        ret.setName(pIndex % 5 == 0 ? null : "名前" + pIndex + (pIndex % 7 == 0 ? "😀" : ""));
+        ret.setCount(pIndex % 2 == 0 ? -pIndex * 1000 : pIndex);
+        ret.setTotal(pIndex % 3 == 0 ? null : Long.valueOf(pIndex * 1000000000L));
+        ret.setRatio(pIndex / 7.0);
+        ret.setActive(pIndex % 2 == 0);
+        ret.setPrice(pIndex % 4 == 0 ? null : new BigDecimal(pIndex).movePointLeft(2).negate());
+        ret.setKind(Kind.values()[pIndex % 3]);
+        ret.setSecret("secret");
+        return ret;
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public enum Kind {
+        A, B, C
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public enum Kind2 {
+        B, A
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings({ "javadoc", "serial" })
+    public static class XBean implements Serializable {
+        private String     name;
+        private int        count;
+        private Long       total;
+        private double     ratio;
+        private boolean    active;
+        private BigDecimal price;
+        private Kind       kind;
+        private String     secret;
+
+        @Order(10)
+        public String getName() {
+            return this.name;
+        }
+
+        @Order(20)
+        public int getCount() {
+            return this.count;
+        }
+
+        @Order(30)
+        public Long getTotal() {
+            return this.total;
+        }
+
+        @Order(40)
+        public double getRatio() {
+            return this.ratio;
+        }
+
+        @Order(50)
+        public boolean isActive() {
+            return this.active;
+        }
+
+        @Order(60)
+        public BigDecimal getPrice() {
+            return this.price;
+        }
+
+        @Order(70)
+        public Kind getKind() {
+            return this.kind;
+        }
+
+        @Order(80)
+        public String getRemoved() {
+            return "removed"; //$NON-NLS-1$
+        }
+
+        @Hidden
+        public String getSecret() {
+            return this.secret;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setTotal(final Long pTotal) {
+            this.total = pTotal;
+        }
+
+        public void setRatio(final double pRatio) {
+            this.ratio = pRatio;
+        }
+
+        public void setActive(final boolean pActive) {
+            this.active = pActive;
+        }
+
+        public void setPrice(final BigDecimal pPrice) {
+            this.price = pPrice;
+        }
+
+        public void setKind(final Kind pKind) {
+            this.kind = pKind;
+        }
+
+        public void setSecret(final String pSecret) {
+            this.secret = pSecret;
+        }
+    }
+
+    /**
+     * {@link XBean}の後継. 順番の入れ替え、型の変更(total: Long→long、ratio: double→String)、プロパティの追加と削除、列挙型の変更.
+     * 
+     * @author jabaraster
+     */
+    @SuppressWarnings({ "javadoc", "nls" })
+    public static class YBean {
+        private String name;
+        private int    count;
+        private long   total;
+        private String ratio;
+        private Kind2  kind;
+        private String added = "default";
+
+        @Order(10)
+        public int getCount() {
+            return this.count;
+        }
+
+        @Order(20)
+        public String getName() {
+            return this.name;
+        }
+
+        @Order(30)
+        public long getTotal() {
+            return this.total;
+        }
+
+        @Order(40)
+        public String getRatio() {
+            return this.ratio;
+        }
+
+        @Order(50)
+        public Kind2 getKind() {
+            return this.kind;
+        }
+
+        @Order(60)
+        public String getAdded() {
+            return this.added;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setTotal(final long pTotal) {
+            this.total = pTotal;
+        }
+
+        public void setRatio(final String pRatio) {
+            this.ratio = pRatio;
+        }
+
+        public void setKind(final Kind2 pKind) {
+            this.kind = pKind;
+        }
+
+        public void setAdded(final String pAdded) {
+            this.added = pAdded;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.annotation.Hidden;
+import jabara.bean.annotation.Order;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class CsvTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _列の構成() {
+        final CsvSchema<XBean> schema = CsvSchema.getInstance(XBean.class);
+        assertThat(schema.getColumnNames(), is(Arrays.asList("name", "count", "total", "ratio", "active", "price", "kind", "label")));
+        assertThat(CsvSchema.getInstance(XBean.class), sameInstance(schema));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _書き出し() throws IOException {
+        final StringWriter out = new StringWriter();
+        final CsvWriter<XBean> writer = CsvSchema.getInstance(XBean.class).newWriter(out, CsvFormat.CSV);
+        writer.write(bean("a", Integer.MIN_VALUE, Long.valueOf(Long.MIN_VALUE)));
+        writer.write(bean("b,\"c\"\nd", 0, null));
+        writer.write(bean("", 123, Long.valueOf(-45)));
+        writer.close();
+
+        assertThat(out.toString(), is("" //
+                + "name,count,total,ratio,active,price,kind,label\r\n" //
+                + "a,-2147483648,-9223372036854775808,0.5,true,1.25,B,L\r\n" //
+                + "\"b,\"\"c\"\"\nd\",0,,0.5,true,1.25,B,L\r\n" //
+                + "\"\",123,-45,0.5,true,1.25,B,L\r\n"));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _ヘッダのみ() throws IOException {
+        final StringWriter out = new StringWriter();
+        CsvSchema.getInstance(XBean.class).newWriter(out, CsvFormat.TSV).close();
+        assertThat(out.toString(), is("name\tcount\ttotal\tratio\tactive\tprice\tkind\tlabel\n"));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _往復() throws IOException {
+        final List<XBean> beans = new ArrayList<XBean>();
+        for (int i = 0; i < 5000; i++) {
+            beans.add(bean("n" + i + (i % 7 == 0 ? ",\"x\"\r\n" : ""), i * 31 - 77777, i % 3 == 0 ? null : Long.valueOf(i * 1000000007L)));
+        }
+        beans.get(1).setName(null);
+        beans.get(2).setName("");
+        beans.get(3).setKind(null);
+
+        for (final CsvFormat format : new CsvFormat[] { CsvFormat.CSV, CsvFormat.TSV, CsvFormat.CSV.withHeader(false) }) {
+            final StringWriter out = new StringWriter();
+            final CsvWriter<XBean> writer = CsvSchema.getInstance(XBean.class).newWriter(out, format);
+            writer.writeAll(beans);
+            writer.close();
+
+            final CsvReader<XBean> reader = CsvSchema.getInstance(XBean.class).newReader(new StringReader(out.toString()), format);
+            for (final XBean expected : beans) {
+                final XBean actual = reader.read();
+                assertThat(actual.getName(), is(expected.getName()));
+                assertThat(actual.getCount(), is(expected.getCount()));
+                assertThat(actual.getTotal(), is(expected.getTotal()));
+                assertThat(actual.getRatio(), is(expected.getRatio()));
+                assertThat(actual.isActive(), is(expected.isActive()));
+                assertThat(actual.getPrice(), is(expected.getPrice()));
+                assertThat(actual.getKind(), is(expected.getKind()));
+                assertThat(actual.getSecret(), nullValue());
+            }
+            assertThat(reader.read(), nullValue());
+            reader.close();
+        }
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _列が1つでnullの値を往復() throws IOException {
+        final String[] values = { null, "a", null };
+        for (final CsvFormat format : new CsvFormat[] { CsvFormat.CSV, CsvFormat.TSV, CsvFormat.CSV.withHeader(false) }) {
+            final StringWriter out = new StringWriter();
+            final CsvWriter<YBean> writer = CsvSchema.getInstance(YBean.class).newWriter(out, format);
+            for (final String value : values) {
+                final YBean bean = new YBean();
+                bean.setName(value);
+                writer.write(bean);
+            }
+            writer.close();
+
+            final CsvReader<YBean> reader = CsvSchema.getInstance(YBean.class).newReader(new StringReader(out.toString()), format);
+            for (final String value : values) {
+                assertThat(reader.read().getName(), is(value));
+            }
+            assertThat(reader.read(), nullValue());
+            reader.close();
+        }
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _ヘッダで対応付け() throws IOException {
+        final String csv = "" //
+                + "Kind,unknown,count,name\n" //
+                + "\n" //
+                + "C,x,10,abc\n" //
+                + "A,y,,\"\"\n" //
+                + ",z,-1"; // 末尾に改行なし. nameの列が足りない.
+        final CsvReader<XBean> reader = CsvSchema.getInstance(XBean.class).newReader(new StringReader(csv), CsvFormat.CSV);
+
+        final XBean first = reader.read();
+        assertThat(first.getKind(), is(Kind.C));
+        assertThat(first.getCount(), is(10));
+        assertThat(first.getName(), is("abc"));
+        assertThat(first.getTotal(), nullValue());
+
+        final XBean second = reader.read();
+        assertThat(second.getKind(), is(Kind.A));
+        assertThat(second.getCount(), is(0));
+        assertThat(second.getName(), is(""));
+
+        final XBean third = reader.read();
+        assertThat(third.getKind(), nullValue());
+        assertThat(third.getCount(), is(-1));
+        assertThat(third.getName(), nullValue());
+
+        assertThat(reader.read(), nullValue());
+        assertThat(reader.getLineNumber(), is(5));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _大きなデータでも一定のメモリ() throws IOException {
+        final int rows = 200000;
+        final Reader in = new Reader() {
+            private final char[] row  = "x,1,2,0.5,true,1.25,B,L\n".toCharArray();
+            private int          produced;
+            private int          offset;
+
+            @Override
+            public void close() {
+                //
+            }
+
+            @Override
+            public int read(final char[] pBuffer, final int pOffset, final int pLength) {
+                if (this.produced == rows) {
+                    return -1;
+                }
+                int count = 0;
+                while (count < pLength && this.produced < rows) {
+                    pBuffer[pOffset + count++] = this.row[this.offset++];
+                    if (this.offset == this.row.length) {
+                        this.offset = 0;
+                        this.produced++;
+                    }
+                }
+                return count;
+            }
+        };
+        final CsvReader<XBean> reader = CsvSchema.getInstance(XBean.class).newReader(in, CsvFormat.CSV.withHeader(false));
+        int count = 0;
+        while (reader.read() != null) {
+            count++;
+        }
+        assertThat(count, is(rows));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _数値でない() throws IOException {
+        CsvSchema.getInstance(XBean.class).newReader(new StringReader("count\nabc\n"), CsvFormat.CSV).read();
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _intの範囲外() throws IOException {
+        CsvSchema.getInstance(XBean.class).newReader(new StringReader("count\n2147483648\n"), CsvFormat.CSV).read();
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _クォートされた空のint() throws IOException {
+        CsvSchema.getInstance(XBean.class).newReader(new StringReader("count,name\r\n\"\",1\r\n"), CsvFormat.CSV).read();
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _クォートされた空のLong() throws IOException {
+        CsvSchema.getInstance(XBean.class).newReader(new StringReader("total,name\r\n\"\",1\r\n"), CsvFormat.CSV).read();
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _閉じていないクォート() throws IOException {
+        CsvSchema.getInstance(XBean.class).newReader(new StringReader("name\n\"abc\n"), CsvFormat.CSV).read();
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "unused" })
+    @Test(expected = IllegalArgumentException.class)
+    public void _不正な区切り文字() {
+        new CsvFormat('"', "\n", true); //$NON-NLS-1$
+    }
+
+    @SuppressWarnings("nls")
+    private static XBean bean(final String pName, final int pCount, final Long pTotal) {
+        final XBean ret = new XBean();
+        ret.setName(pName);
+        ret.setCount(pCount);
+        ret.setTotal(pTotal);
+        ret.setRatio(0.5);
+        ret.setActive(true);
+        ret.setPrice(new BigDecimal("1.25"));
+        ret.setKind(Kind.B);
+        ret.setSecret("secret");
+        return ret;
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public enum Kind {
+        A, B, C
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings({ "javadoc", "nls" })
+    public static class XBean {
+        private String       name;
+        private int          count;
+        private Long         total;
+        private double       ratio;
+        private boolean      active;
+        private BigDecimal   price;
+        private Kind         kind;
+        private String       secret;
+        private List<String> tags;
+
+        @Order(10)
+        public String getName() {
+            return this.name;
+        }
+
+        @Order(20)
+        public int getCount() {
+            return this.count;
+        }
+
+        @Order(30)
+        public Long getTotal() {
+            return this.total;
+        }
+
+        @Order(40)
+        public double getRatio() {
+            return this.ratio;
+        }
+
+        @Order(50)
+        public boolean isActive() {
+            return this.active;
+        }
+
+        @Order(60)
+        public BigDecimal getPrice() {
+            return this.price;
+        }
+
+        @Order(70)
+        public Kind getKind() {
+            return this.kind;
+        }
+
+        @Order(80)
+        public String getLabel() {
+            return "L";
+        }
+
+        @Hidden
+        public String getSecret() {
+            return this.secret;
+        }
+
+        public List<String> getTags() {
+            return this.tags;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setTotal(final Long pTotal) {
+            this.total = pTotal;
+        }
+
+        public void setRatio(final double pRatio) {
+            this.ratio = pRatio;
+        }
+
+        public void setActive(final boolean pActive) {
+            this.active = pActive;
+        }
+
+        public void setPrice(final BigDecimal pPrice) {
+            this.price = pPrice;
+        }
+
+        public void setKind(final Kind pKind) {
+            this.kind = pKind;
+        }
+
+        public void setSecret(final String pSecret) {
+            this.secret = pSecret;
+        }
+
+        public void setTags(final List<String> pTags) {
+            this.tags = pTags;
+        }
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public static class YBean {
+        private String name;
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+    }
+}
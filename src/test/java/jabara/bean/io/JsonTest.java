@@ -0,0 +1,397 @@
+/**
+ * 
+ */
+package jabara.bean.io;
+
+import jabara.bean.annotation.Hidden;
+import jabara.bean.annotation.Nullable;
+import jabara.bean.annotation.Order;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertThat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * @author jabaraster
+ */
+public class JsonTest {
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _プロパティの構成() {
+        final JsonCodec<XBean> codec = JsonCodec.getInstance(XBean.class);
+        assertThat(codec.getPropertyNames(), is(Arrays.asList("name", "count", "total", "ratio", "active", "big", "kind", "note", "label")));
+        assertThat(JsonCodec.getInstance(XBean.class), sameInstance(codec));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _書き出し() throws IOException {
+        final XBean bean = bean("a\"b\\c\nあ😀\u0001", Integer.MIN_VALUE, Long.valueOf(Long.MIN_VALUE));
+        bean.setNote(null);
+        bean.setRatio(Double.NaN);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final JsonWriter<XBean> writer = JsonCodec.getInstance(XBean.class).newWriter(out);
+        writer.write(bean);
+        writer.close();
+
+        assertThat(new String(out.toByteArray(), "UTF-8"), is("" //
+                + "{\"name\":\"a\\\"b\\\\c\\nあ😀\\u0001\",\"count\":-2147483648,\"total\":-9223372036854775808," //
+                + "\"ratio\":\"NaN\",\"active\":true,\"big\":12345678901234567890,\"kind\":\"B\",\"note\":null,\"label\":\"L\"}\n"));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _往復() throws IOException {
+        final List<XBean> beans = new ArrayList<XBean>();
+        for (int i = 0; i < 3000; i++) {
+            final XBean bean = bean("n" + i + (i % 7 == 0 ? "\"éあ😀\t" : ""), i * 31 - 77777, Long.valueOf(i * 1000000007L));
+            bean.setRatio(i / 3.0);
+            bean.setNote(i % 2 == 0 ? null : "note" + i);
+            beans.add(bean);
+        }
+
+        final ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        final JsonWriter<XBean> writer = JsonCodec.getInstance(XBean.class).newWriter(lines);
+        for (final XBean bean : beans) {
+            writer.write(bean);
+        }
+        writer.close();
+        assertRead(beans, lines.toByteArray());
+
+        final ByteArrayOutputStream array = new ByteArrayOutputStream();
+        final JsonWriter<XBean> arrayWriter = JsonCodec.getInstance(XBean.class).newWriter(array);
+        arrayWriter.writeArray(beans);
+        arrayWriter.close();
+        assertRead(beans, array.toByteArray());
+
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        JsonCodec.getInstance(XBean.class).write(beans.get(7), buffer);
+        buffer.put((byte) ' ');
+        buffer.flip();
+        assertEquals(beans.get(7), JsonCodec.getInstance(XBean.class).read(buffer));
+        assertThat(buffer.remaining(), is(1));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _順不同と未知のキー() throws IOException {
+        final String json = "[ {\"kind\" : \"C\", \"unknown\": {\"a\": [1, 2.5e3, \"x\\\"}\", null, true]}, \"n\\u0061me\": \"abc\", \"count\": 10,"
+                + " \"label\": \"ignored\", \"secret\": \"s\"},\n {\"name\": \"\", \"count\": -1} ]";
+        final JsonReader<XBean> reader = JsonCodec.getInstance(XBean.class).newReader(new ByteArrayInputStream(json.getBytes("UTF-8")));
+
+        final XBean first = reader.read();
+        assertThat(first.getKind(), is(Kind.C));
+        assertThat(first.getName(), is("abc"));
+        assertThat(first.getCount(), is(10));
+        assertThat(first.getSecret(), nullValue());
+
+        final XBean second = reader.read();
+        assertThat(second.getName(), is(""));
+        assertThat(second.getCount(), is(-1));
+
+        assertThat(reader.read(), nullValue());
+        assertThat(reader.read(), nullValue());
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _Nullableでないプロパティにnull() throws IOException {
+        read("{\"name\": null}");
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _Nullableでないプロパティがない() throws IOException {
+        read("{\"count\": 1}");
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _intに小数() throws IOException {
+        read("{\"name\": \"a\", \"count\": 1.5}");
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _閉じていないオブジェクト() throws IOException {
+        read("{\"name\": \"a\", ");
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _範囲外のコードポイント() throws IOException {
+        final byte[] prefix = "{\"name\": \"".getBytes("UTF-8");
+        final byte[] json = Arrays.copyOf(prefix, prefix.length + 6);
+        json[prefix.length] = (byte) 0xf7;
+        json[prefix.length + 1] = (byte) 0xbf;
+        json[prefix.length + 2] = (byte) 0xbf;
+        json[prefix.length + 3] = (byte) 0xbf;
+        json[prefix.length + 4] = '"';
+        json[prefix.length + 5] = '}';
+        JsonCodec.getInstance(XBean.class).read(ByteBuffer.wrap(json));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test
+    public void _未知のキーの入れ子() throws IOException {
+        assertThat(read("{\"unknown\": " + nest(JsonInput.MAX_DEPTH) + ", \"name\": \"a\"}").getName(), is("a"));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "nls" })
+    @Test(expected = IOException.class)
+    public void _未知のキーの入れ子が深すぎる() throws IOException {
+        read("{\"unknown\": " + nest(100000) + ", \"name\": \"a\"}");
+    }
+
+    /**
+     * 
+     */
+    @SuppressWarnings({ "static-method", "boxing" })
+    @Test(expected = IllegalStateException.class)
+    public void _Nullableでないプロパティのnullを書き出し() {
+        JsonCodec.getInstance(XBean.class).write(bean(null, 0, null), ByteBuffer.allocate(1024));
+    }
+
+    /**
+     * @throws IOException -
+     */
+    @SuppressWarnings({ "static-method", "boxing", "nls" })
+    @Test
+    public void _Nullableでないプロパティのnullは書き出す前に検出する() throws IOException {
+        // キーまで書き出してから失敗しないこと.
+        final XBean bean = bean(null, 0, null);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        try {
+            JsonCodec.getInstance(XBean.class).write(bean, buffer);
+        } catch (final IllegalStateException e) {
+            // 想定通り.
+        }
+        assertThat(buffer.position(), is(0));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final JsonWriter<XBean> writer = JsonCodec.getInstance(XBean.class).newWriter(out);
+        try {
+            writer.writeArray(Arrays.asList(bean("a", 1, null), bean));
+        } catch (final IllegalStateException e) {
+            // 想定通り.
+        }
+        writer.flush();
+        assertThat(new String(out.toByteArray(), "UTF-8").endsWith("}"), is(true));
+    }
+
+    private static void assertEquals(final XBean pExpected, final XBean pActual) {
+        assertThat(pActual.getName(), is(pExpected.getName()));
+        assertThat(Integer.valueOf(pActual.getCount()), is(Integer.valueOf(pExpected.getCount())));
+        assertThat(pActual.getTotal(), is(pExpected.getTotal()));
+        assertThat(Double.valueOf(pActual.getRatio()), is(Double.valueOf(pExpected.getRatio())));
+        assertThat(Boolean.valueOf(pActual.isActive()), is(Boolean.valueOf(pExpected.isActive())));
+        assertThat(pActual.getBig(), is(pExpected.getBig()));
+        assertThat(pActual.getKind(), is(pExpected.getKind()));
+        assertThat(pActual.getNote(), is(pExpected.getNote()));
+        assertThat(pActual.getSecret(), nullValue());
+    }
+
+    private static void assertRead(final List<XBean> pExpected, final byte[] pJson) throws IOException {
+        final JsonReader<XBean> reader = JsonCodec.getInstance(XBean.class).newReader(new ByteArrayInputStream(pJson));
+        for (final XBean expected : pExpected) {
+            assertEquals(expected, reader.read());
+        }
+        assertThat(reader.read(), nullValue());
+        reader.close();
+    }
+
+    @SuppressWarnings("nls")
+    private static XBean bean(final String pName, final int pCount, final Long pTotal) {
+        final XBean ret = new XBean();
+        ret.setName(pName);
+        ret.setCount(pCount);
+        ret.setTotal(pTotal);
+        ret.setRatio(0.5);
+        ret.setActive(true);
+        ret.setBig(new BigInteger("12345678901234567890"));
+        ret.setKind(Kind.B);
+        ret.setNote("note");
+        ret.setSecret("secret");
+        return ret;
+    }
+
+    @SuppressWarnings("nls")
+    private static String nest(final int pDepth) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < pDepth; i++) {
+            sb.append(i % 2 == 0 ? "[" : "{\"k\":");
+        }
+        sb.append('0');
+        for (int i = pDepth - 1; i >= 0; i--) {
+            sb.append(i % 2 == 0 ? "]" : "}");
+        }
+        return sb.toString();
+    }
+
+    private static XBean read(final String pJson) throws IOException {
+        return JsonCodec.getInstance(XBean.class).read(ByteBuffer.wrap(pJson.getBytes("UTF-8"))); //$NON-NLS-1$
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings("javadoc")
+    public enum Kind {
+        A, B, C
+    }
+
+    /**
+     * @author jabaraster
+     */
+    @SuppressWarnings({ "javadoc", "nls" })
+    public static class XBean {
+        private String     name;
+        private int        count;
+        private Long       total;
+        private double     ratio;
+        private boolean    active;
+        private BigInteger big;
+        private Kind       kind;
+        private String     note;
+        private String     secret;
+
+        @Order(50)
+        public boolean isActive() {
+            return this.active;
+        }
+
+        @Order(60)
+        @Nullable
+        public BigInteger getBig() {
+            return this.big;
+        }
+
+        @Order(20)
+        public int getCount() {
+            return this.count;
+        }
+
+        @Order(70)
+        @Nullable
+        public Kind getKind() {
+            return this.kind;
+        }
+
+        @Order(90)
+        public String getLabel() {
+            return "L";
+        }
+
+        @Order(10)
+        public String getName() {
+            return this.name;
+        }
+
+        @Order(80)
+        @Nullable
+        public String getNote() {
+            return this.note;
+        }
+
+        @Order(40)
+        public double getRatio() {
+            return this.ratio;
+        }
+
+        @Hidden
+        @Nullable
+        public String getSecret() {
+            return this.secret;
+        }
+
+        @Order(30)
+        @Nullable
+        public Long getTotal() {
+            return this.total;
+        }
+
+        public void setActive(final boolean pActive) {
+            this.active = pActive;
+        }
+
+        public void setBig(final BigInteger pBig) {
+            this.big = pBig;
+        }
+
+        public void setCount(final int pCount) {
+            this.count = pCount;
+        }
+
+        public void setKind(final Kind pKind) {
+            this.kind = pKind;
+        }
+
+        public void setName(final String pName) {
+            this.name = pName;
+        }
+
+        public void setNote(final String pNote) {
+            this.note = pNote;
+        }
+
+        public void setRatio(final double pRatio) {
+            this.ratio = pRatio;
+        }
+
+        public void setSecret(final String pSecret) {
+            this.secret = pSecret;
+        }
+
+        public void setTotal(final Long pTotal) {
+            this.total = pTotal;
+        }
+    }
+}